@@ -0,0 +1,82 @@
+package com.codingcat.aipersonalfinance.domain.recurring;
+
+import com.codingcat.aipersonalfinance.domain.budget.Budget;
+import com.codingcat.aipersonalfinance.domain.budget.BudgetPeriod;
+import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
+import com.codingcat.aipersonalfinance.domain.ledger.PaymentMethod;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 현금 흐름 예측 계산 벤치마크 (DB 조회 제외)
+ * 반복 주기가 섞인 정기 거래 schedules 건과 월별 예산 12건으로 months 개월을 예측합니다.
+ */
+@State(Scope.Benchmark)
+public class CashFlowProjectionBenchmark {
+
+  private static final LocalDate TODAY = LocalDate.of(2024, 3, 10);
+  private static final RecurrencePattern[] PATTERNS = RecurrencePattern.values();
+
+  @Param({"200"})
+  public int schedules;
+
+  @Param({"1", "24"})
+  public int months;
+
+  private List<RecurringTransaction> recurrings;
+  private List<Budget> budgets;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    recurrings = new ArrayList<>(schedules);
+    for (int i = 0; i < schedules; i++) {
+      LocalDate next = TODAY.plusDays(random.nextInt(30));
+      recurrings.add(
+          RecurringTransaction.builder()
+              .name("정기 거래 " + i)
+              .type(i % 10 == 0 ? LedgerType.INCOME : LedgerType.EXPENSE)
+              .amount(BigDecimal.valueOf(1000 + random.nextInt(100_000)))
+              .description("정기 거래")
+              .category(Category.values()[i % Category.values().length])
+              .paymentMethod(PaymentMethod.CARD)
+              .recurrencePattern(PATTERNS[i % PATTERNS.length])
+              .recurrenceInterval(1 + random.nextInt(2))
+              .startDate(next)
+              .nextExecutionDate(next)
+              .executionDayOfMonth(next.getDayOfMonth())
+              .build());
+    }
+
+    budgets = new ArrayList<>();
+    for (int i = 0; i < 12; i++) {
+      LocalDate start = TODAY.withDayOfMonth(1).plusMonths(i);
+      budgets.add(
+          Budget.builder()
+              .name("월 예산 " + i)
+              .budgetPeriod(BudgetPeriod.MONTHLY)
+              .startDate(start)
+              .endDate(start.plusMonths(1).minusDays(1))
+              .amount(BigDecimal.valueOf(2_000_000))
+              .build());
+    }
+  }
+
+  @Benchmark
+  public Object project() {
+    CashFlowProjection projection =
+        new CashFlowProjection(TODAY, TODAY.plusMonths(months).minusDays(1));
+    recurrings.forEach(projection::addRecurring);
+    budgets.forEach(projection::addBudget);
+    return projection.toResponse(BigDecimal.valueOf(5_000_000));
+  }
+}
@@ -0,0 +1,61 @@
+package com.codingcat.aipersonalfinance.domain.recurring;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 정기 거래 실행 대기열 벤치마크
+ * - pollAndReschedule : 실행할 정기 거래 한 페이지를 꺼내고 다음 실행일로 다시 등록 (실행기 한 페이지 분량)
+ * - reschedule : 실행 전에 다음 실행일이 바뀌는 경우 (수정, 지연 삭제 원소 누적)
+ * 정기 거래 100만 건이 1년에 걸쳐 흩어져 있는 상태에서 측정합니다.
+ */
+@State(Scope.Benchmark)
+public class RecurringDueHeapBenchmark {
+
+  private static final LocalDate BASE = LocalDate.of(2024, 1, 1);
+
+  @Param({"1000000"})
+  public int schedules;
+
+  @Param({"500"})
+  public int pageSize;
+
+  private RecurringDueHeap heap;
+  private Random random;
+  private LocalDate today;
+
+  @Setup
+  public void setUp() {
+    random = new Random(42);
+    heap = new RecurringDueHeap(schedules);
+    for (long idx = 1; idx <= schedules; idx++) {
+      heap.put(idx, BASE.plusDays(random.nextInt(365)));
+    }
+    today = BASE;
+  }
+
+  @Benchmark
+  public void pollAndReschedule(Blackhole blackhole) {
+    List<Long> due = heap.pollDue(today, pageSize);
+    if (due.size() < pageSize) {
+      today = today.plusDays(1);
+    }
+    for (Long idx : due) {
+      heap.put(idx, today.plusMonths(1));
+    }
+    blackhole.consume(due);
+  }
+
+  @Benchmark
+  public void reschedule() {
+    long idx = 1 + random.nextInt(schedules);
+    heap.put(idx, BASE.plusDays(random.nextInt(365)));
+  }
+}
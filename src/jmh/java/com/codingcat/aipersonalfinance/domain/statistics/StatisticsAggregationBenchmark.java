@@ -0,0 +1,158 @@
+package com.codingcat.aipersonalfinance.domain.statistics;
+
+import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerDailyAgg;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
+import com.codingcat.aipersonalfinance.domain.ledger.PaymentMethod;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.CategorySummary;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.MonthlySummary;
+import com.codingcat.aipersonalfinance.module.model.Money;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 통계 집계 금액 연산 벤치마크 (-Pjmh.profilers=gc 로 할당량 비교)
+ * - bigDecimal : 기존 방식 (BigDecimal 누적, reduce 합계, divide/multiply/setScale 비율)
+ * - money : Money(1/100 단위 long) 누적과 long 비율 계산 (StatisticsAccumulator 경로, 결제수단/트렌드 누적 포함)
+ * 일간 집계 행은 실제 가계부처럼 식비/카페/교통 위주로 섞인 카테고리, 결제수단, 수입 약 5% 로 만듭니다.
+ * 카테고리 비율, 월별 합계, 전월 대비 증감율까지 계산합니다.
+ */
+@State(Scope.Benchmark)
+public class StatisticsAggregationBenchmark {
+
+  private static final LocalDate START = LocalDate.of(2024, 1, 1);
+  private static final LocalDate END = LocalDate.of(2024, 12, 31);
+  // 카테고리 가중치 (FOOD, TRANSPORT, CAFE, SHOPPING, LIVING, ...)
+  private static final int[] CATEGORY_WEIGHTS = {30, 12, 15, 10, 8, 5, 4, 3, 6, 7};
+  private static final BigDecimal HUNDRED = new BigDecimal("100");
+
+  @Param({"300", "3000"})
+  public int rows;
+
+  private List<LedgerDailyAgg> aggRows;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    Category[] categories = Category.values();
+    PaymentMethod[] methods = PaymentMethod.values();
+    int weightSum = 0;
+    for (int i = 0; i < categories.length; i++) {
+      weightSum += CATEGORY_WEIGHTS[i % CATEGORY_WEIGHTS.length];
+    }
+
+    aggRows = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      boolean income = random.nextInt(100) < 5;
+      aggRows.add(
+          LedgerDailyAgg.builder()
+              .userIdx(1L)
+              .aggDate(START.plusDays(random.nextInt(366)))
+              .type(income ? LedgerType.INCOME : LedgerType.EXPENSE)
+              .category(pickCategory(random, categories, weightSum))
+              .paymentMethod(methods[random.nextInt(methods.length)])
+              // 100원 단위 금액, 드물게 소수점 금액
+              .totalAmount(
+                  BigDecimal.valueOf((income ? 100_000 : 50) + random.nextInt(2_000), 0)
+                      .multiply(HUNDRED)
+                      .add(BigDecimal.valueOf(random.nextInt(10) == 0 ? random.nextInt(100) : 0, 2)))
+              .txCount(1L + random.nextInt(3))
+              .build());
+    }
+  }
+
+  @Benchmark
+  public void bigDecimal(Blackhole blackhole) {
+    Map<YearMonth, BigDecimal[]> monthly = new TreeMap<>();
+    Map<Category, BigDecimal> categories = new EnumMap<>(Category.class);
+    for (LedgerDailyAgg row : aggRows) {
+      BigDecimal[] sums =
+          monthly.computeIfAbsent(
+              YearMonth.from(row.getAggDate()),
+              key -> new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO});
+      int slot = row.getType() == LedgerType.INCOME ? 0 : 1;
+      sums[slot] = sums[slot].add(row.getTotalAmount());
+      if (row.getType() == LedgerType.EXPENSE) {
+        categories.merge(row.getCategory(), row.getTotalAmount(), BigDecimal::add);
+      }
+    }
+
+    BigDecimal total = categories.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    for (BigDecimal amount : categories.values()) {
+      blackhole.consume(
+          amount
+              .divide(total, 4, RoundingMode.HALF_UP)
+              .multiply(HUNDRED)
+              .setScale(2, RoundingMode.HALF_UP));
+    }
+    BigDecimal previous = null;
+    for (BigDecimal[] sums : monthly.values()) {
+      BigDecimal net = sums[0].subtract(sums[1]);
+      blackhole.consume(net);
+      if (previous != null && previous.signum() != 0) {
+        blackhole.consume(
+            sums[1]
+                .subtract(previous)
+                .divide(previous, 4, RoundingMode.HALF_UP)
+                .multiply(HUNDRED)
+                .setScale(2, RoundingMode.HALF_UP));
+      }
+      previous = sums[1];
+    }
+  }
+
+  @Benchmark
+  public void money(Blackhole blackhole) {
+    StatisticsAccumulator accumulator = new StatisticsAccumulator(START, END, START, END);
+    for (LedgerDailyAgg row : aggRows) {
+      accumulator.accept(row);
+    }
+
+    List<CategorySummary> summaries = accumulator.categorySummaries();
+    long[] amounts = new long[summaries.size()];
+    long total = 0;
+    for (int i = 0; i < amounts.length; i++) {
+      amounts[i] = Money.toMinor(summaries.get(i).getTotalAmount());
+      total = Math.addExact(total, amounts[i]);
+    }
+    for (long amount : amounts) {
+      blackhole.consume(Money.percentage(amount, total));
+    }
+    long previous = 0;
+    boolean first = true;
+    for (MonthlySummary summary : accumulator.monthlySummaries()) {
+      blackhole.consume(summary.getNetAmount());
+      long expense = Money.toMinor(summary.getTotalExpense());
+      if (!first && previous != 0) {
+        blackhole.consume(Money.changeRate(previous, expense));
+      }
+      previous = expense;
+      first = false;
+    }
+  }
+
+  private static Category pickCategory(Random random, Category[] categories, int weightSum) {
+    int pick = random.nextInt(weightSum);
+    for (int i = 0; i < categories.length; i++) {
+      pick -= CATEGORY_WEIGHTS[i % CATEGORY_WEIGHTS.length];
+      if (pick < 0) {
+        return categories[i];
+      }
+    }
+    return categories[categories.length - 1];
+  }
+}
@@ -0,0 +1,79 @@
+package com.codingcat.aipersonalfinance.module.security.filter;
+
+import com.codingcat.aipersonalfinance.module.model.ServiceType;
+import com.codingcat.aipersonalfinance.module.security.AuthDto;
+import com.codingcat.aipersonalfinance.module.security.token.TokenProperties;
+import com.codingcat.aipersonalfinance.module.security.token.TokenProvider;
+import com.codingcat.aipersonalfinance.module.security.token.TokenRevocationRegistry;
+import com.codingcat.aipersonalfinance.module.security.token.TokenType;
+import com.codingcat.aipersonalfinance.module.security.token.VerifiedTokenCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * JwtFilter 인증 경로 벤치마크
+ * - legacyTripleParse : 기존 방식 (검증, 헤더 파싱, 클레임 파싱을 각각 수행)
+ * - filter(cacheSize=0) : 한 번의 파싱으로 검증과 클레임 추출
+ * - filter(cacheSize=10000) : 같은 토큰 재요청 시 검증 캐시 사용
+ * Principal 은 토큰 클레임으로 만들어지므로 DB 없이 필터 전체 경로를 측정합니다.
+ */
+@State(Scope.Benchmark)
+public class JwtFilterBenchmark {
+
+  @Param({"0", "10000"})
+  public int cacheSize;
+
+  private TokenProvider tokenProvider;
+  private JwtFilter jwtFilter;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    TokenProperties properties = new TokenProperties();
+    properties.setISSUER("benchmark");
+    properties.setADMIN_SECRET("secretAdmin123secretAdmin123secretAdmin123secretAdmin12");
+    properties.setUSER_SECRET("secretUser123secretUser123secretUser123secretUser12");
+    properties.setACCESS_EXPIRE_TIME(3_600_000L);
+    properties.setREFRESH_EXPIRE_TIME(3_600_000L);
+
+    tokenProvider = new TokenProvider();
+    ReflectionTestUtils.setField(tokenProvider, "tokenProperties", properties);
+    ReflectionTestUtils.setField(tokenProvider, "verifiedTokenCache", new VerifiedTokenCache(cacheSize));
+    tokenProvider.afterPropertiesSet();
+
+    AuthDto auth =
+        AuthDto.builder().userIdx(1L).email("test@test.com").serviceType(ServiceType.USER).build();
+    token = tokenProvider.makeToken(TokenType.ACCESS, auth, System.currentTimeMillis()).token();
+
+    jwtFilter = new JwtFilter(tokenProvider, new TokenRevocationRegistry(null));
+  }
+
+  @Benchmark
+  public void filter(Blackhole blackhole) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/client/ledgers");
+    request.setServletPath("/api/v1/client/ledgers");
+    request.addHeader("Authorization", "Bearer " + token);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    jwtFilter.doFilter(request, response, new MockFilterChain());
+    blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+    SecurityContextHolder.clearContext();
+  }
+
+  @Benchmark
+  public void legacyTripleParse(Blackhole blackhole) {
+    blackhole.consume(tokenProvider.validateToken(token));
+    blackhole.consume(tokenProvider.getServiceTypeByToken(token));
+    // 기존 getAuthIdxFromToken 과 같은 서명 검증 + 클레임 파싱 비용
+    blackhole.consume(tokenProvider.getAuthIdFromToken(token));
+  }
+}
@@ -2,6 +2,7 @@ package com.codingcat.aipersonalfinance.controller;
 
 import com.codingcat.aipersonalfinance.domain.budget.dto.BudgetCreateRequest;
 import com.codingcat.aipersonalfinance.domain.budget.dto.BudgetUpdateRequest;
+import com.codingcat.aipersonalfinance.domain.budget.BudgetAlertEngine;
 import com.codingcat.aipersonalfinance.domain.budget.BudgetService;
 import com.codingcat.aipersonalfinance.module.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
@@ -26,6 +27,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 public class BudgetController {
   private final BudgetService budgetService;
+  private final BudgetAlertEngine budgetAlertEngine;
 
   @PostMapping("/api/v1/client/budgets")
   @Operation(summary = "예산 생성", description = "새로운 예산을 생성합니다")
@@ -43,6 +45,13 @@ public class BudgetController {
     return budgetService.getBudget(userPrincipal.getAuthDto(), budgetId);
   }
 
+  @GetMapping("/api/v1/client/budgets/usage")
+  @Operation(summary = "예산 사용 현황 목록 조회", description = "활성화된 모든 예산의 사용 현황을 한 번에 조회합니다")
+  public ResponseEntity<?> getBudgetUsageList(
+      @AuthenticationPrincipal UserPrincipal userPrincipal) {
+    return budgetService.getBudgetUsageList(userPrincipal.getAuthDto());
+  }
+
   @GetMapping("/api/v1/client/budgets/{budgetId}/usage")
   @Operation(summary = "예산 사용 현황 조회", description = "예산 대비 실제 지출 현황을 조회합니다")
   public ResponseEntity<?> getBudgetUsage(
@@ -76,4 +85,10 @@ public class BudgetController {
       @AuthenticationPrincipal UserPrincipal userPrincipal) {
     return budgetService.getBudgetList(userPrincipal.getAuthDto());
   }
+
+  @GetMapping("/api/v1/admin/budgets/alerts/stats")
+  @Operation(summary = "예산 알림 엔진 현황 조회", description = "알림 평가 실행 횟수, 평가한 예산 수, 알림 건수와 마지막 실행 처리량을 조회합니다")
+  public ResponseEntity<?> getAlertStats() {
+    return budgetAlertEngine.getStats();
+  }
 }
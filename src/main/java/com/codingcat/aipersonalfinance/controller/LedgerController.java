@@ -1,5 +1,7 @@
 package com.codingcat.aipersonalfinance.controller;
 
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerExportService;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerImportService;
 import com.codingcat.aipersonalfinance.domain.ledger.LedgerService;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerCreateRequest;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerSearchRequest;
@@ -9,11 +11,14 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,7 +27,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /***거래 내역(Ledger) 컨트롤러*/
 @Slf4j
@@ -32,6 +41,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class LedgerController {
 
   private final LedgerService ledgerService;
+  private final LedgerExportService ledgerExportService;
+  private final LedgerImportService ledgerImportService;
 
   @PostMapping("/api/v1/client/ledgers")
   @Operation(summary = "거래 내역 생성", description = "새로운 거래 내역을 생성합니다")
@@ -42,6 +53,26 @@ public class LedgerController {
     return ledgerService.createLedger(userPrincipal.getAuthDto(), request);
   }
 
+  // 헤더: recorded_date,type,category,payment_method,amount,desc,place (내보내기 CSV 형식과 동일)
+  @PostMapping(value = "/api/v1/client/ledgers/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  @Operation(summary = "거래 내역 가져오기", description = "CSV 파일의 거래 내역을 일괄 등록하고, 실패한 행은 줄 번호와 사유를 반환합니다")
+  public ResponseEntity<?> importLedgers(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @RequestPart("file") MultipartFile file) {
+    return ledgerImportService.importLedgers(userPrincipal.getAuthDto(), file);
+  }
+
+  // format=csv|ndjson, startDate/endDate 생략 시 전체 기간
+  @GetMapping("/api/v1/client/ledgers/export")
+  @Operation(summary = "거래 내역 내보내기", description = "거래 내역을 CSV 또는 NDJSON 파일로 스트리밍합니다")
+  public ResponseEntity<StreamingResponseBody> exportLedgers(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @RequestParam(defaultValue = "csv") String format,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+    return ledgerExportService.exportLedgers(userPrincipal.getAuthDto(), format, startDate, endDate);
+  }
+
   @GetMapping("/api/v1/client/ledgers/{ledgerId}")
   @Operation(summary = "거래 내역 조회", description = "특정 거래 내역의 상세 정보를 조회합니다")
   public ResponseEntity<?> getLedger(
@@ -68,8 +99,9 @@ public class LedgerController {
   }
 
   // page=1&size=10&sort=createdAt,desc
+  // 커서 페이징: cursor=&size=10 (다음 페이지는 응답의 nextCursor를 cursor로 전달)
   @GetMapping("/api/v1/client/ledgers")
-  @Operation(summary = "거래 내역 목록 조회", description = "거래 내역 목록을 조회합니다 (페이징, 필터링)")
+  @Operation(summary = "거래 내역 목록 조회", description = "거래 내역 목록을 조회합니다 (페이징, 필터링). cursor 파라미터를 전달하면 전체 개수 없이 커서 방식으로 조회합니다")
   public ResponseEntity<?> getLedgerList(
     @AuthenticationPrincipal UserPrincipal userPrincipal,
     @Valid LedgerSearchRequest request,
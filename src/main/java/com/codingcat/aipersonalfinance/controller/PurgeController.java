@@ -0,0 +1,33 @@
+package com.codingcat.aipersonalfinance.controller;
+
+import com.codingcat.aipersonalfinance.domain.SoftDeletePurgeJob;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 논리 삭제 행 영구 삭제 현황 API 컨트롤러 (영구 삭제 작업을 사용할 때만 등록, 관리자 토큰만 호출 가능)
+ */
+@Tag(name = "Purge", description = "논리 삭제 행 영구 삭제 현황 API")
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "purge.enabled", havingValue = "true")
+public class PurgeController {
+
+  private final SoftDeletePurgeJob softDeletePurgeJob;
+
+  /**
+   * 영구 삭제 현황 조회
+   */
+  @Operation(
+      summary = "영구 삭제 현황 조회",
+      description = "테이블별 누적 영구 삭제/건너뜀 행 수와 마지막 실행 결과를 조회합니다.")
+  @GetMapping("/api/v1/admin/purge/stats")
+  public ResponseEntity<?> getPurgeStats() {
+    return softDeletePurgeJob.getStats();
+  }
+}
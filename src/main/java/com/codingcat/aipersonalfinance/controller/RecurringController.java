@@ -0,0 +1,32 @@
+package com.codingcat.aipersonalfinance.controller;
+
+import com.codingcat.aipersonalfinance.domain.recurring.RecurringProjectionService;
+import com.codingcat.aipersonalfinance.module.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Recurring", description = "정기 거래 API")
+@Schema(description = "정기 거래(RecurringTransaction) 컨트롤러")
+@RequiredArgsConstructor
+@RestController
+public class RecurringController {
+  private final RecurringProjectionService recurringProjectionService;
+
+  @GetMapping("/api/v1/client/recurring/projection")
+  @Operation(
+      summary = "현금 흐름 예측 조회",
+      description = "정기 거래의 앞으로의 회차와 예산으로 날짜별 예상 잔액을 계산합니다")
+  public ResponseEntity<?> getProjection(
+      @AuthenticationPrincipal UserPrincipal userPrincipal,
+      @Parameter(description = "예측 기간 (개월, 1~24)") @RequestParam(defaultValue = "1") int months) {
+    return recurringProjectionService.getProjection(userPrincipal.getAuthDto(), months);
+  }
+}
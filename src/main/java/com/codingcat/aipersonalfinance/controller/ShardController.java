@@ -0,0 +1,52 @@
+package com.codingcat.aipersonalfinance.controller;
+
+import static com.codingcat.aipersonalfinance.module.response.ApiResponseUtil.sendApiOK;
+
+import com.codingcat.aipersonalfinance.module.shard.ShardMigrationService;
+import com.codingcat.aipersonalfinance.module.shard.ShardRoutingDataSource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 사용자 샤드 관리 API 컨트롤러 (샤딩을 사용할 때만 등록, 관리자 토큰만 호출 가능)
+ */
+@Tag(name = "Shard", description = "사용자 샤드 관리 API")
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "datasource.sharding.enabled", havingValue = "true")
+public class ShardController {
+
+  private final ShardRoutingDataSource shardRoutingDataSource;
+  private final ShardMigrationService shardMigrationService;
+
+  /**
+   * 샤드별 현황 조회
+   */
+  @Operation(summary = "샤드 현황 조회", description = "샤드별 디렉터리 사용자 수, 연결 수, 연결 풀 상태를 조회합니다.")
+  @GetMapping("/api/v1/admin/shards")
+  public ResponseEntity<?> getShardStats() {
+    return sendApiOK(shardRoutingDataSource.stats());
+  }
+
+  /**
+   * 사용자 샤드 이동
+   */
+  @Operation(
+      summary = "사용자 샤드 이동",
+      description = "사용자의 데이터를 대상 샤드로 옮깁니다. 대상 샤드를 비우면 일관된 해시 링이 정한 샤드로 옮깁니다.")
+  @PostMapping("/api/v1/admin/shards/migrations")
+  public ResponseEntity<?> migrateUser(
+      @RequestParam Long userIdx, @RequestParam(required = false) String targetShard) {
+    return sendApiOK(
+        targetShard != null
+            ? shardMigrationService.migrate(userIdx, targetShard)
+            : shardMigrationService.rebalance(userIdx));
+  }
+}
@@ -84,4 +84,36 @@ public class StatisticsController {
             @RequestParam(defaultValue = "5") int limit) {
         return statisticsService.getTopCategories(userPrincipal.getAuthDto(), startDate, endDate, limit);
     }
+
+    /**
+     * 대시보드 통계 조회
+     */
+    @Operation(summary = "대시보드 통계 조회", description = "월별/카테고리별/결제수단별/트렌드/Top N 통계를 한 번의 집계 조회로 반환합니다.")
+    @GetMapping("/api/v1/client/statistics/dashboard")
+    public ResponseEntity<?> getDashboard(
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate targetMonth,
+            @RequestParam(defaultValue = "5") int limit) {
+        return statisticsService.getDashboard(userPrincipal.getAuthDto(), startDate, endDate, targetMonth, limit);
+    }
+
+    /**
+     * 통계 캐시 현황 조회
+     */
+    @Operation(summary = "통계 캐시 현황 조회", description = "통계 캐시의 적중/미스/축출/무효화 건수와 현재 크기를 조회합니다.")
+    @GetMapping("/api/v1/admin/statistics/cache")
+    public ResponseEntity<?> getCacheStats() {
+        return statisticsService.getCacheStats();
+    }
+
+    /**
+     * 거래 내역 스냅샷 저장소 현황 조회
+     */
+    @Operation(summary = "거래 내역 스냅샷 현황 조회", description = "통계용 열 기반 거래 내역 스냅샷의 사용자 수, 메모리, 생성/축출/반영 건수를 조회합니다.")
+    @GetMapping("/api/v1/admin/statistics/columnar")
+    public ResponseEntity<?> getColumnarStats() {
+        return statisticsService.getColumnarStats();
+    }
 }
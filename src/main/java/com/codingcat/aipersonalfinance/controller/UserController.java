@@ -55,6 +55,14 @@ public class UserController {
   ){
     return userService.getUser(idx);
   }
+
+  @Operation(summary = "유저 토큰 무효화", description = "계정 정지 등으로 해당 유저에게 발급된 토큰을 모두 무효화합니다.")
+  @PostMapping("/api/v1/admin/users/{idx}/revoke-tokens")
+  public ResponseEntity<?> revokeTokens(
+    @PathVariable(value = "idx") Long idx
+  ){
+    return userService.revokeTokens(idx);
+  }
 }
 
 
@@ -46,4 +46,12 @@ public abstract class BaseEntity {
   public void restore() {
     this.deletedAt = null;
   }
+
+  /**
+   * 다른 테이블(보관 테이블 등)에 옮겨 둔 생성/수정 시각을 그대로 옮겨 옵니다.
+   */
+  protected void copyAuditTimes(LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    this.createdAt = createdAt;
+    this.modifiedAt = modifiedAt;
+  }
 }
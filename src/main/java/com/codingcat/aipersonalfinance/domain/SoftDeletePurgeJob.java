@@ -0,0 +1,261 @@
+package com.codingcat.aipersonalfinance.domain;
+
+import static com.codingcat.aipersonalfinance.module.response.ApiResponseUtil.sendApiOK;
+
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerBulkRemovedEvent;
+import com.codingcat.aipersonalfinance.module.lock.JobLease;
+import com.codingcat.aipersonalfinance.module.shard.EachShard;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 논리 삭제 행 영구 삭제 작업
+ * 삭제(sDelete) 후 retention-days 가 지난 거래 내역/예산/정기 거래를 PK 순서로 batch-size 건씩 실제로 삭제합니다.
+ * 묶음마다 짧은 트랜잭션 하나로 지우고 batch-pause 만큼 쉬어서 잠금을 오래 잡거나 복제 지연을 만들지 않습니다.
+ * 엔티티 조회에는 @SQLRestriction("deleted_at IS NULL") 이 붙으므로 대상 조회와 삭제는 네이티브 SQL 로 합니다.
+ *
+ * 일간 집계(ledger_daily_agg)와 예산 지출 누계는 논리 삭제 시점에 이미 빠졌고(LedgerChangedEvent),
+ * 재구축/보정도 삭제된 행을 읽지 않으므로 영구 삭제로 바뀌는 집계는 없습니다.
+ * 남아 있는 거래 내역이 지우는 정기 거래를 가리키면 같은 트랜잭션에서 참조(recurring_transaction_idx)를 비웁니다.
+ * 거래 내역을 지운 묶음은 커밋 후 해당 사용자로 LedgerBulkRemovedEvent 를 발행해서 통계 스냅샷을 버리게 합니다.
+ * dry-run 이면 같은 순서로 대상만 세고 아무것도 지우지 않습니다.
+ * 테이블별 누적 삭제/건너뜀 건수와 마지막 실행 결과는 /api/v1/admin/purge/stats 로 조회합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "purge.enabled", havingValue = "true")
+public class SoftDeletePurgeJob {
+
+  // 정기 거래를 가리키는 거래 내역을 먼저 지워서 참조를 비울 행을 줄인다
+  private static final List<PurgeTable> TABLES =
+      List.of(
+          new PurgeTable("ledger", "ledger_idx"),
+          new PurgeTable("budget", "budget_idx"),
+          new PurgeTable("recurring_transaction", "recurring_transaction_idx"));
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final int retentionDays;
+  private final int batchSize;
+  private final Duration batchPause;
+  private final boolean dryRun;
+
+  // 테이블별 누적 지표 (dry-run 실행은 제외)
+  private final AtomicLong runs = new AtomicLong();
+  private final Map<String, AtomicLong> purgedRows = counters();
+  private final Map<String, AtomicLong> skippedRows = counters();
+  private volatile RunResult lastRun;
+
+  public SoftDeletePurgeJob(
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${purge.retention-days:30}") int retentionDays,
+      @Value("${purge.batch-size:500}") int batchSize,
+      @Value("${purge.batch-pause:PT0.1S}") Duration batchPause,
+      @Value("${purge.dry-run:false}") boolean dryRun) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.eventPublisher = eventPublisher;
+    this.retentionDays = retentionDays;
+    this.batchSize = batchSize;
+    this.batchPause = batchPause;
+    this.dryRun = dryRun;
+  }
+
+  // 여러 서버 중 임대를 얻은 한 서버에서만, 샤드마다 실행한다
+  @JobLease(name = "soft-delete-purge", leaseFor = "PT1H")
+  @EachShard
+  @Scheduled(cron = "${purge.cron:0 0 5 * * *}")
+  public void purgeScheduled() {
+    purge(LocalDateTime.now());
+  }
+
+  /**
+   * 기준 시각에서 retention-days 를 뺀 시각보다 먼저 삭제된 행을 모두 영구 삭제합니다.
+   *
+   * @param now 기준 시각
+   * @return 이번 실행 결과
+   */
+  public RunResult purge(LocalDateTime now) {
+    long started = System.nanoTime();
+    LocalDateTime cutoff = now.minusDays(retentionDays);
+    Map<String, Long> purged = new LinkedHashMap<>();
+    Map<String, Long> skipped = new LinkedHashMap<>();
+    int batches = 0;
+    long clearedReferences = 0;
+
+    for (PurgeTable table : TABLES) {
+      long count = 0;
+      long skippedCount = 0;
+      long afterIdx = 0;
+      while (true) {
+        List<Long> ids = findExpiredIds(table, cutoff, afterIdx);
+        if (ids.isEmpty()) {
+          break;
+        }
+        if (dryRun) {
+          count += ids.size();
+        } else {
+          BatchResult result = transactionTemplate.execute(status -> deleteBatch(table, ids, cutoff));
+          if (result != null) {
+            count += result.deleted();
+            // 조회 후 복구된 행
+            skippedCount += ids.size() - result.deleted();
+            clearedReferences += result.clearedReferences();
+            if (!result.ledgerUserIdxs().isEmpty()) {
+              eventPublisher.publishEvent(
+                  new LedgerBulkRemovedEvent(new HashSet<>(result.ledgerUserIdxs())));
+            }
+          }
+        }
+        batches++;
+        afterIdx = ids.get(ids.size() - 1);
+        if (ids.size() < batchSize) {
+          break;
+        }
+        pause();
+      }
+      purged.put(table.name(), count);
+      skipped.put(table.name(), skippedCount);
+    }
+
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    RunResult result =
+        new RunResult(cutoff, dryRun, purged, skipped, batches, clearedReferences, elapsedMillis);
+    if (!dryRun) {
+      runs.incrementAndGet();
+      purged.forEach((table, count) -> purgedRows.get(table).addAndGet(count));
+      skipped.forEach((table, count) -> skippedRows.get(table).addAndGet(count));
+    }
+    lastRun = result;
+    log.info(
+        "논리 삭제 행 영구 삭제 {}: {} 이전 삭제분, {} (건너뜀 {}, {}회, 정기 거래 참조 해제 {}건, {}ms)",
+        dryRun ? "(dry-run) 대상 집계 완료" : "완료",
+        cutoff, purged, skipped, batches, clearedReferences, elapsedMillis);
+    return result;
+  }
+
+  public Stats stats() {
+    return new Stats(runs.get(), snapshot(purgedRows), snapshot(skippedRows), lastRun);
+  }
+
+  public ResponseEntity<?> getStats() {
+    return sendApiOK(stats());
+  }
+
+  // 잠그지 않는 일반 SELECT 로 PK 뒤쪽만 읽는다 (keyset)
+  private List<Long> findExpiredIds(PurgeTable table, LocalDateTime cutoff, long afterIdx) {
+    return jdbcTemplate.queryForList(
+        "SELECT " + table.idColumn() + " FROM " + table.name()
+            + " WHERE deleted_at < ? AND " + table.idColumn() + " > ?"
+            + " ORDER BY " + table.idColumn() + " LIMIT ?",
+        Long.class, Timestamp.valueOf(cutoff), afterIdx, batchSize);
+  }
+
+  // 조회 후 복구(restore)된 행은 deleted_at 조건에서 빠지므로 지우지 않는다
+  private BatchResult deleteBatch(PurgeTable table, List<Long> ids, LocalDateTime cutoff) {
+    String in = String.join(",", Collections.nCopies(ids.size(), "?"));
+    List<Object> args = new ArrayList<>(ids);
+    args.add(Timestamp.valueOf(cutoff));
+
+    int clearedReferences = 0;
+    List<Long> ledgerUserIdxs = List.of();
+    if (table.name().equals("ledger")) {
+      ledgerUserIdxs =
+          jdbcTemplate.queryForList(
+              "SELECT DISTINCT user_idx FROM ledger WHERE ledger_idx IN (" + in + ")"
+                  + " AND deleted_at < ?",
+              Long.class, args.toArray());
+    }
+    if (table.name().equals("recurring_transaction")) {
+      clearedReferences =
+          jdbcTemplate.update(
+              "UPDATE ledger SET recurring_transaction_idx = NULL"
+                  + " WHERE recurring_transaction_idx IN (SELECT recurring_transaction_idx"
+                  + " FROM recurring_transaction WHERE recurring_transaction_idx IN (" + in + ")"
+                  + " AND deleted_at < ?)",
+              args.toArray());
+    }
+    int deleted =
+        jdbcTemplate.update(
+            "DELETE FROM " + table.name() + " WHERE " + table.idColumn() + " IN (" + in + ")"
+                + " AND deleted_at < ?",
+            args.toArray());
+    return new BatchResult(deleted, clearedReferences, ledgerUserIdxs);
+  }
+
+  private void pause() {
+    if (batchPause.isZero() || batchPause.isNegative()) {
+      return;
+    }
+    try {
+      Thread.sleep(batchPause.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("논리 삭제 행 영구 삭제 중 중단되었습니다.", e);
+    }
+  }
+
+  private static Map<String, AtomicLong> counters() {
+    Map<String, AtomicLong> counters = new LinkedHashMap<>();
+    TABLES.forEach(table -> counters.put(table.name(), new AtomicLong()));
+    return Collections.unmodifiableMap(counters);
+  }
+
+  private static Map<String, Long> snapshot(Map<String, AtomicLong> counters) {
+    Map<String, Long> values = new LinkedHashMap<>();
+    counters.forEach((table, counter) -> values.put(table, counter.get()));
+    return values;
+  }
+
+  private record PurgeTable(String name, String idColumn) {}
+
+  private record BatchResult(int deleted, int clearedReferences, List<Long> ledgerUserIdxs) {}
+
+  /**
+   * 한 번의 실행 결과
+   *
+   * @param cutoff 이 시각 이전에 삭제된 행이 대상
+   * @param dryRun true 면 삭제하지 않고 대상 수만 셈
+   * @param purged 테이블별 영구 삭제한(dry-run 이면 대상) 행 수
+   * @param skipped 테이블별 대상으로 읽었지만 삭제 전에 복구되어 건너뛴 행 수
+   * @param batches 실행한 묶음 수
+   * @param clearedReferences 정기 거래 참조를 비운 거래 내역 수
+   * @param elapsedMillis 소요 시간 (묶음 사이 대기 포함)
+   */
+  public record RunResult(
+      LocalDateTime cutoff, boolean dryRun, Map<String, Long> purged, Map<String, Long> skipped,
+      int batches, long clearedReferences, long elapsedMillis) {}
+
+  /**
+   * 누적 지표 (dry-run 실행 제외)
+   *
+   * @param runs 실행 횟수
+   * @param purged 테이블별 누적 영구 삭제 행 수
+   * @param skipped 테이블별 누적 건너뜀(복구) 행 수
+   * @param lastRun 마지막 실행 결과 (dry-run 포함)
+   */
+  public record Stats(
+      long runs, Map<String, Long> purged, Map<String, Long> skipped, RunResult lastRun) {}
+}
@@ -4,6 +4,7 @@ import com.codingcat.aipersonalfinance.domain.BaseEntity;
 import com.codingcat.aipersonalfinance.domain.budget.dto.BudgetUpdateRequest;
 import com.codingcat.aipersonalfinance.domain.ledger.Category;
 import com.codingcat.aipersonalfinance.domain.user.User;
+import com.codingcat.aipersonalfinance.module.model.Money;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -35,7 +36,8 @@ import org.hibernate.annotations.SQLRestriction;
     name = "budget",
     indexes = {
       @Index(name = "idx_budget_user_period", columnList = "user_idx, start_date, end_date"),
-      @Index(name = "idx_budget_category", columnList = "category")
+      @Index(name = "idx_budget_category", columnList = "category"),
+      @Index(name = "idx_budget_alert_scan", columnList = "is_alert_sent, is_active, budget_idx")
     })
 @Getter
 @NoArgsConstructor
@@ -76,6 +78,12 @@ public class Budget extends BaseEntity {
   @Schema(description = "예산 금액")
   private BigDecimal amount;
 
+  // 엔티티 flush 가 다른 트랜잭션의 증분(addSpent)을 덮어쓰지 않도록 INSERT 때만 쓰고, 이후에는 UPDATE 쿼리로만 바꾼다
+  @Column(name = "spent_amount", nullable = false, updatable = false, precision = 15, scale = 2)
+  @Schema(description = "기간 내 지출 누계 (거래 내역 변경 시 증분 갱신)")
+  @Builder.Default
+  private BigDecimal spentAmount = BigDecimal.ZERO;
+
   @Enumerated(EnumType.STRING)
   @Column(length = 50)
   @Schema(description = "특정 카테고리 예산 (null이면 전체 예산)")
@@ -91,7 +99,8 @@ public class Budget extends BaseEntity {
   @Builder.Default
   private BigDecimal alertThreshold = new BigDecimal("80.00");
 
-  @Column(name = "is_alert_sent", nullable = false)
+  // 조건부 UPDATE(markAlertSentIfNotSent)로만 바꾼다 (엔티티 flush 로 되돌아가면 알림이 중복 발송됨)
+  @Column(name = "is_alert_sent", nullable = false, updatable = false)
   @Schema(description = "알림 발송 여부 (이벤트 중복 방지)")
   @Builder.Default
   private Boolean isAlertSent = false;
@@ -116,24 +125,31 @@ public class Budget extends BaseEntity {
   }
 
   /**
-   * 예산을 비활성화합니다.
+   * 지출 누계의 예산 대비 사용률(%)을 소수점 2자리로 계산합니다.
+   * 예산 금액이 0이면 지출이 있을 때 100%로 봅니다.
    */
-  public void deactivate() {
-    this.isActive = false;
+  public static BigDecimal calculateUsagePercentage(BigDecimal spentAmount, BigDecimal amount) {
+    if (amount.signum() == 0) {
+      return spentAmount.signum() > 0 ? new BigDecimal("100.00") : new BigDecimal("0.00");
+    }
+    // 소수점 4자리 비율을 반올림(HALF_UP)한 퍼센트, long 연산
+    return Money.percentage(Money.toMinor(spentAmount), Money.toMinor(amount));
   }
 
   /**
-   * 알림이 발송되었음을 표시합니다.
+   * 예산을 비활성화합니다.
    */
-  public void markAlertSent() {
-    this.isAlertSent = true;
+  public void deactivate() {
+    this.isActive = false;
   }
 
   /**
-   * 알림 플래그를 리셋합니다.
+   * 지출 누계를 다시 계산한 값으로 바꿉니다.
+   * 컬럼은 INSERT 때만 쓰이므로 저장 전 초기값 설정에 사용하고, 저장된 예산은 BudgetRepository.resetSpent 로 바꾼 뒤
+   * 응답에 반영할 때만 호출합니다. 운영 중 증분 갱신은 BudgetRepository.addSpent 로 DB 에서 원자적으로 처리합니다.
    */
-  public void resetAlert() {
-    this.isAlertSent = false;
+  public void resetSpentAmount(BigDecimal spentAmount) {
+    this.spentAmount = spentAmount;
   }
 
   /**
@@ -0,0 +1,209 @@
+package com.codingcat.aipersonalfinance.domain.budget;
+
+import static com.codingcat.aipersonalfinance.module.response.ApiResponseUtil.sendApiOK;
+
+import com.codingcat.aipersonalfinance.domain.budget.dto.BudgetAlertCandidate;
+import com.codingcat.aipersonalfinance.module.lock.JobLease;
+import com.codingcat.aipersonalfinance.module.shard.EachShard;
+import com.codingcat.aipersonalfinance.module.shard.ShardContext;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 예산 알림 평가 엔진
+ * 주기적으로 알림 대상 예산을 예산 ID 순서의 청크(keyset)로 읽고, 청크마다 사용률을 평가해서
+ * 임계값에 도달한 예산의 is_alert_sent 를 조건부 UPDATE 로 바꾼 뒤 BudgetAlertEvent 를 발행합니다.
+ * 청크 평가는 크기가 고정된 스레드 풀에서 병렬로 처리하며, 큐가 차면 조회 스레드가 직접 처리해서 속도를 맞춥니다.
+ */
+@Slf4j
+@Service
+public class BudgetAlertEngine implements DisposableBean {
+
+  private final BudgetRepository budgetRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final ThreadPoolExecutor executor;
+  private final int chunkSize;
+
+  private final AtomicLong runs = new AtomicLong();
+  private final AtomicLong budgetsScanned = new AtomicLong();
+  private final AtomicLong chunksProcessed = new AtomicLong();
+  private final AtomicLong chunksFailed = new AtomicLong();
+  private final AtomicLong alertsSent = new AtomicLong();
+  private volatile RunResult lastRun;
+
+  public BudgetAlertEngine(
+      BudgetRepository budgetRepository,
+      ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager,
+      @Value("${budget.alert.chunk-size:500}") int chunkSize,
+      @Value("${budget.alert.parallelism:4}") int parallelism) {
+    this.budgetRepository = budgetRepository;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+    this.executor =
+        new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(parallelism * 2),
+            new CustomizableThreadFactory("budget-alert-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  // 여러 서버 중 임대를 얻은 한 서버에서만, 샤드마다 평가한다
+  @JobLease(name = "budget-alert-evaluate", leaseFor = "PT5M")
+  @EachShard
+  @Scheduled(cron = "${budget.alert.cron:0 */10 * * * *}")
+  public void evaluateScheduled() {
+    evaluate(LocalDate.now());
+  }
+
+  /**
+   * 오늘 기간에 해당하는 활성 예산 전체를 평가합니다.
+   *
+   * @return 이번 실행 결과
+   */
+  public RunResult evaluate(LocalDate today) {
+    long started = System.nanoTime();
+    List<Future<Integer>> futures = new ArrayList<>();
+    long scanned = 0;
+    long afterIdx = 0;
+    // 평가 스레드도 같은 샤드를 사용하도록 넘긴다
+    String shardId = ShardContext.current();
+
+    while (true) {
+      List<BudgetAlertCandidate> chunk =
+          budgetRepository.findAlertCandidates(today, afterIdx, PageRequest.of(0, chunkSize));
+      if (chunk.isEmpty()) {
+        break;
+      }
+      scanned += chunk.size();
+      afterIdx = chunk.get(chunk.size() - 1).budgetIdx();
+      futures.add(executor.submit(() -> ShardContext.callOn(shardId, () -> processChunk(chunk))));
+      if (chunk.size() < chunkSize) {
+        break;
+      }
+    }
+
+    int alerted = 0;
+    int failed = 0;
+    for (Future<Integer> future : futures) {
+      try {
+        alerted += future.get();
+      } catch (ExecutionException e) {
+        failed++;
+        log.error("예산 알림 청크 평가 실패", e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        failed++;
+      }
+    }
+
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    RunResult result = RunResult.of(today, scanned, futures.size(), failed, alerted, elapsedMillis);
+    runs.incrementAndGet();
+    budgetsScanned.addAndGet(scanned);
+    chunksProcessed.addAndGet(futures.size() - failed);
+    chunksFailed.addAndGet(failed);
+    alertsSent.addAndGet(alerted);
+    lastRun = result;
+    log.info(
+        "예산 알림 평가 완료 : 예산 {}건, 청크 {}개 (실패 {}), 알림 {}건, {}ms",
+        scanned, futures.size(), failed, alerted, elapsedMillis);
+    return result;
+  }
+
+  /**
+   * 한 청크의 사용률을 평가하고, 임계값에 도달한 예산만 한 트랜잭션에서 알림 발송으로 표시합니다.
+   *
+   * @return 이 노드가 알림을 보낸 예산 수
+   */
+  private int processChunk(List<BudgetAlertCandidate> chunk) {
+    List<BudgetAlertCandidate> reached =
+        chunk.stream().filter(BudgetAlertCandidate::isThresholdReached).toList();
+    if (reached.isEmpty()) {
+      return 0;
+    }
+    Integer sent =
+        transactionTemplate.execute(
+            status -> {
+              int count = 0;
+              for (BudgetAlertCandidate candidate : reached) {
+                // 다른 노드가 먼저 표시했으면 0 이 반환되므로 알림을 보내지 않는다
+                if (budgetRepository.markAlertSentIfNotSent(candidate.budgetIdx()) == 1) {
+                  eventPublisher.publishEvent(
+                      new BudgetAlertEvent(
+                          candidate.budgetIdx(), candidate.userIdx(), candidate.usagePercentage()));
+                  count++;
+                }
+              }
+              return count;
+            });
+    return sent != null ? sent : 0;
+  }
+
+  public Stats stats() {
+    return new Stats(
+        runs.get(),
+        budgetsScanned.get(),
+        chunksProcessed.get(),
+        chunksFailed.get(),
+        alertsSent.get(),
+        lastRun);
+  }
+
+  public ResponseEntity<?> getStats() {
+    return sendApiOK(stats());
+  }
+
+  @Override
+  public void destroy() {
+    executor.shutdown();
+  }
+
+  /**
+   * 한 번의 평가 결과
+   *
+   * @param budgetsPerSecond 초당 평가한 예산 수 (처리량)
+   */
+  public record RunResult(
+      LocalDate today, long budgetsScanned, int chunks, int failedChunks, int alertsSent,
+      long elapsedMillis, long budgetsPerSecond) {
+
+    static RunResult of(
+        LocalDate today, long budgetsScanned, int chunks, int failedChunks, int alertsSent,
+        long elapsedMillis) {
+      long perSecond = budgetsScanned * 1000 / Math.max(elapsedMillis, 1);
+      return new RunResult(
+          today, budgetsScanned, chunks, failedChunks, alertsSent, elapsedMillis, perSecond);
+    }
+  }
+
+  /**
+   * 누적 처리량 지표
+   */
+  public record Stats(
+      long runs, long budgetsScanned, long chunksProcessed, long chunksFailed, long alertsSent,
+      RunResult lastRun) {}
+}
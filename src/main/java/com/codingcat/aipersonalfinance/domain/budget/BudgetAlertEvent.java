@@ -0,0 +1,13 @@
+package com.codingcat.aipersonalfinance.domain.budget;
+
+import java.math.BigDecimal;
+
+/**
+ * 예산 사용률 알림 이벤트
+ * 알림 엔진이 조건부 UPDATE 로 is_alert_sent 를 바꾼 노드에서만, 예산마다 한 번 발행됩니다.
+ *
+ * @param budgetIdx 예산 ID
+ * @param userIdx 사용자 ID
+ * @param usagePercentage 평가 시점의 사용률 (%)
+ */
+public record BudgetAlertEvent(Long budgetIdx, Long userIdx, BigDecimal usagePercentage) {}
@@ -1,11 +1,16 @@
 package com.codingcat.aipersonalfinance.domain.budget;
 
+import com.codingcat.aipersonalfinance.domain.budget.dto.BudgetAlertCandidate;
 import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
 import com.codingcat.aipersonalfinance.domain.user.User;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,6 +21,14 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
 
+  /**
+   * 소유자 조건을 포함해서 예산 한 건을 조회합니다. (사용자 테이블 조인 없음)
+   * @param idx 예산 ID
+   * @param userIdx 소유자 ID
+   * @return 본인의 예산 (없거나 다른 사용자의 것이면 empty)
+   */
+  Optional<Budget> findByIdxAndUser_Idx(Long idx, Long userIdx);
+
   /**
    * 사용자의 활성화된 예산 목록을 조회합니다.
    * @param user 사용자
@@ -56,4 +69,134 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
     AND BUDGET.startDate <= :today AND BUDGET.endDate >= :today
   """)
   List<Budget> findActiveBudgetsForAlertCheck(@Param("today") LocalDate today);
+
+  /**
+   * 알림 체크가 필요한 예산을 예산 ID 순서로 한 청크씩 조회합니다. (keyset 페이징)
+   * idx_budget_alert_scan (is_alert_sent, is_active, budget_idx) 인덱스 순서대로 읽으므로 OFFSET 없이 이어서 조회합니다.
+   * @param today 오늘 날짜
+   * @param afterIdx 이전 청크의 마지막 예산 ID (처음이면 0)
+   * @param pageable 청크 크기 (정렬은 쿼리에 고정)
+   * @return 알림 평가 대상 목록
+   */
+  @Query("""
+    SELECT new com.codingcat.aipersonalfinance.domain.budget.dto.BudgetAlertCandidate(
+      BUDGET.idx, BUDGET.user.idx, BUDGET.amount, BUDGET.spentAmount, BUDGET.alertThreshold)
+    FROM Budget AS BUDGET
+    WHERE BUDGET.isAlertSent = false AND BUDGET.isActive = true AND BUDGET.idx > :afterIdx
+    AND BUDGET.startDate <= :today AND BUDGET.endDate >= :today
+    ORDER BY BUDGET.idx
+  """)
+  List<BudgetAlertCandidate> findAlertCandidates(
+      @Param("today") LocalDate today, @Param("afterIdx") Long afterIdx, Pageable pageable);
+
+  /**
+   * 아직 알림을 보내지 않은 예산만 알림 발송으로 표시합니다.
+   * 여러 서버가 같은 예산을 동시에 평가해도 1을 돌려받은 한 곳만 알림을 보냅니다.
+   * @param budgetIdx 예산 ID
+   * @return 표시된 행 수 (이미 발송되었으면 0)
+   */
+  @Modifying
+  @Query("""
+    UPDATE Budget BUDGET SET BUDGET.isAlertSent = true
+    WHERE BUDGET.idx = :budgetIdx AND BUDGET.isAlertSent = false
+  """)
+  int markAlertSentIfNotSent(@Param("budgetIdx") Long budgetIdx);
+
+  /**
+   * 날짜와 카테고리가 맞는 예산들의 지출 누계에 금액을 원자적으로 더합니다.
+   * 카테고리가 없는 예산(전체 예산)은 모든 카테고리의 지출을 누적합니다.
+   * 행 잠금은 갱신 대상 예산에만 걸리며, idx_budget_user_period 인덱스로 대상을 찾습니다.
+   *
+   * @param userIdx 사용자 ID
+   * @param category 지출 카테고리
+   * @param date 지출 날짜
+   * @param delta 더할 금액 (취소/삭제면 음수)
+   * @return 갱신된 예산 수
+   */
+  @Modifying
+  @Query("""
+    UPDATE Budget BUDGET
+    SET BUDGET.spentAmount = BUDGET.spentAmount + :delta
+    WHERE BUDGET.user.idx = :userIdx
+    AND BUDGET.startDate <= :date AND BUDGET.endDate >= :date
+    AND (BUDGET.category IS NULL OR BUDGET.category = :category)
+    AND BUDGET.deletedAt IS NULL
+  """)
+  int addSpent(
+      @Param("userIdx") Long userIdx,
+      @Param("category") Category category,
+      @Param("date") LocalDate date,
+      @Param("delta") BigDecimal delta);
+
+  /**
+   * 예산의 지출 누계를 다시 계산한 값으로 바꿉니다. (기간/카테고리 수정 시)
+   * spent_amount 는 엔티티 flush 로는 바뀌지 않으므로 이 쿼리로만 다시 씁니다.
+   *
+   * @param budgetIdx 예산 ID
+   * @param spentAmount 새 지출 누계
+   * @return 갱신된 예산 수
+   */
+  @Modifying
+  @Query("""
+    UPDATE Budget BUDGET SET BUDGET.spentAmount = :spentAmount
+    WHERE BUDGET.idx = :budgetIdx
+  """)
+  int resetSpent(@Param("budgetIdx") Long budgetIdx, @Param("spentAmount") BigDecimal spentAmount);
+
+  /**
+   * 종료일이 기준일 이후인 예산 중 가장 이른 시작일을 조회합니다. (보정 작업의 거래 내역 하한)
+   *
+   * @param since 이 날짜 이후에 끝나는 예산만 대상
+   * @return 가장 이른 시작일 (대상 예산이 없으면 null)
+   */
+  @Query("""
+    SELECT MIN(BUDGET.startDate) FROM Budget BUDGET
+    WHERE BUDGET.endDate >= :since AND BUDGET.deletedAt IS NULL
+  """)
+  LocalDate findEarliestStartDate(@Param("since") LocalDate since);
+
+  /**
+   * 종료일이 기준일 이후인 예산의 지출 누계를 거래 내역 합계와 비교해서, 다른 경우에만 다시 씁니다.
+   * 예산 기간 조건은 예산 컬럼과 비교하는 상관 조건이라 파티션을 고를 수 없으므로,
+   * 상수 하한(from)을 함께 걸어서 그 이전 월 파티션은 읽지 않게 합니다.
+   * 보관 작업이 ledger 에서 옮긴 행(ledger_archive)도 지출에 포함되므로 두 테이블의 합계를 더합니다.
+   *
+   * @param type 집계할 거래 유형 (지출)
+   * @param since 이 날짜 이후에 끝나는 예산만 대상
+   * @param from 거래 내역 하한 (대상 예산의 가장 이른 시작일)
+   * @return 보정된 예산 수 (누계가 어긋나 있던 예산 수)
+   */
+  @Modifying
+  @Query("""
+    UPDATE Budget BUDGET
+    SET BUDGET.spentAmount = (
+      SELECT COALESCE(SUM(LEDGER.amount), 0) FROM Ledger AS LEDGER
+      WHERE LEDGER.user.idx = BUDGET.user.idx AND LEDGER.type = :type
+      AND LEDGER.recordedDate >= :from
+      AND LEDGER.recordedDate BETWEEN BUDGET.startDate AND BUDGET.endDate
+      AND (BUDGET.category IS NULL OR LEDGER.category = BUDGET.category)
+      AND LEDGER.deletedAt IS NULL) + (
+      SELECT COALESCE(SUM(ARCHIVE.amount), 0) FROM LedgerArchive AS ARCHIVE
+      WHERE ARCHIVE.userIdx = BUDGET.user.idx AND ARCHIVE.type = :type
+      AND ARCHIVE.recordedDate >= :from
+      AND ARCHIVE.recordedDate BETWEEN BUDGET.startDate AND BUDGET.endDate
+      AND (BUDGET.category IS NULL OR ARCHIVE.category = BUDGET.category))
+    WHERE BUDGET.endDate >= :since AND BUDGET.deletedAt IS NULL
+    AND BUDGET.spentAmount <> (
+      SELECT COALESCE(SUM(LEDGER.amount), 0) FROM Ledger AS LEDGER
+      WHERE LEDGER.user.idx = BUDGET.user.idx AND LEDGER.type = :type
+      AND LEDGER.recordedDate >= :from
+      AND LEDGER.recordedDate BETWEEN BUDGET.startDate AND BUDGET.endDate
+      AND (BUDGET.category IS NULL OR LEDGER.category = BUDGET.category)
+      AND LEDGER.deletedAt IS NULL) + (
+      SELECT COALESCE(SUM(ARCHIVE.amount), 0) FROM LedgerArchive AS ARCHIVE
+      WHERE ARCHIVE.userIdx = BUDGET.user.idx AND ARCHIVE.type = :type
+      AND ARCHIVE.recordedDate >= :from
+      AND ARCHIVE.recordedDate BETWEEN BUDGET.startDate AND BUDGET.endDate
+      AND (BUDGET.category IS NULL OR ARCHIVE.category = BUDGET.category))
+  """)
+  int reconcileSpent(
+      @Param("type") LedgerType type,
+      @Param("since") LocalDate since,
+      @Param("from") LocalDate from);
 }
@@ -4,7 +4,7 @@ import com.codingcat.aipersonalfinance.domain.budget.dto.BudgetCreateRequest;
 import com.codingcat.aipersonalfinance.domain.budget.dto.BudgetResponse;
 import com.codingcat.aipersonalfinance.domain.budget.dto.BudgetUpdateRequest;
 import com.codingcat.aipersonalfinance.domain.budget.dto.BudgetUsageResponse;
-import com.codingcat.aipersonalfinance.domain.ledger.LedgerRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerDailyAggRepository;
 import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
 import com.codingcat.aipersonalfinance.domain.user.User;
 import com.codingcat.aipersonalfinance.domain.user.UserRepository;
@@ -14,8 +14,8 @@ import com.codingcat.aipersonalfinance.module.security.AuthDto;
 
 import static com.codingcat.aipersonalfinance.module.response.ApiResponseUtil.sendApiOK;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -34,85 +34,64 @@ public class BudgetService {
 
   private final BudgetRepository budgetRepository;
   private final UserRepository userRepository;
-  private final LedgerRepository ledgerRepository;
+  private final LedgerDailyAggRepository ledgerDailyAggRepository;
 
   // 예상 생성
   @Transactional
   public ResponseEntity<?> createBudget(AuthDto authDto, BudgetCreateRequest request) {
-    User user = findUserByEmail(authDto.getEmail());
+    User user = getUserReference(authDto);
 
     // 같은 카테고리, 같은 기간에 예산이 이미 존재하는지 확인
     validateDuplicatePeriod(user, request);
 
     Budget budget = request.toEntity(user);
+    // 이미 기록된 기간 내 지출로 누계 초기화, 이후에는 거래 내역 이벤트로 증분 갱신 (누계 컬럼은 INSERT 때만 씀)
+    budget.resetSpentAmount(calculateSpent(authDto.getUserIdx(), budget));
     Budget savedBudget = budgetRepository.save(budget);
     return sendApiOK(BudgetResponse.from(savedBudget));
   }
 
   // 예산 조회
   public ResponseEntity<?> getBudget(AuthDto authDto, Long budgetId) {
-    Budget budget = findBudgetById(budgetId);
-
-    // 예산 소유자 검사
-    validateBudgetOwnership(authDto.getEmail(), budget);
+    // 예산 소유자 조건을 포함해서 조회
+    Budget budget = findOwnedBudget(authDto, budgetId);
     return sendApiOK(BudgetResponse.from(budget));
   }
 
   // 예산 사용 현황 조회
   public ResponseEntity<?> getBudgetUsage(AuthDto authDto, Long budgetId) {
-    Budget budget = findBudgetById(budgetId);
-    validateBudgetOwnership(authDto.getEmail(), budget);
-
-    // 해당 기간 내 실제 지출 집계
-    BigDecimal totalSpent =
-        ledgerRepository.calculateTotalByTypeAndDateRange(
-            budget.getUser(),
-            LedgerType.EXPENSE,
-            budget.getStartDate(),
-            budget.getEndDate());
-
-    // 남은 예산 계산
-    BigDecimal remainingAmount = budget.getAmount().subtract(totalSpent);
-
-    // 사용률 계산 (%)
-    BigDecimal usagePercentage =
-        totalSpent
-          // 소수점 4자리까지 계산, 반올림 방식: HALF_UP (일반적인 반올림)
-            .divide(budget.getAmount(), 4, RoundingMode.HALF_UP)
-            .multiply(new BigDecimal("100"))
-
-            // 소수점 2자리로 정리
-            .setScale(2, RoundingMode.HALF_UP);
-
-    // 예산 초과 여부
-    boolean isExceeded = totalSpent.compareTo(budget.getAmount()) > 0;
+    Budget budget = findOwnedBudget(authDto, budgetId);
 
-    // 알림 발송 필요 여부 (사용률이 임계값 초과 && 아직 알림 미발송)
-    boolean shouldAlert =
-        usagePercentage.compareTo(budget.getAlertThreshold()) >= 0
-            && !budget.getIsAlertSent();
+    // 지출 누계는 예산 행에 유지되므로 추가 집계 없이 계산
+    return sendApiOK(toUsageResponse(budget));
+  }
 
-    BudgetUsageResponse response =
-        BudgetUsageResponse.builder()
-            .budget(BudgetResponse.from(budget))
-            .totalSpent(totalSpent)
-            .remainingAmount(remainingAmount)
-            .usagePercentage(usagePercentage)
-            .isExceeded(isExceeded)
-            .shouldAlert(shouldAlert)
-            .build();
-
-    return sendApiOK(response);
+  // 활성 예산 전체의 사용 현황 조회
+  public ResponseEntity<?> getBudgetUsageList(AuthDto authDto) {
+    User user = getUserReference(authDto);
+    List<Budget> budgets = budgetRepository.findByUserAndIsActiveTrue(user);
+    List<BudgetUsageResponse> responses =
+        budgets.stream().map(this::toUsageResponse).collect(Collectors.toList());
+    return sendApiOK(responses);
   }
 
   // 예산 수정
   @Transactional
   public ResponseEntity<?> updateBudget(
       AuthDto authDto, Long budgetId, BudgetUpdateRequest request) {
-    Budget budget = findBudgetById(budgetId);
-    validateBudgetOwnership(authDto.getEmail(), budget);
+    Budget budget = findOwnedBudget(authDto, budgetId);
 
+    // 기간이나 카테고리가 바뀌면 누계를 다시 계산
+    boolean spendingScopeChanged =
+        !Objects.equals(budget.getStartDate(), request.getStartDate())
+            || !Objects.equals(budget.getEndDate(), request.getEndDate())
+            || budget.getCategory() != request.getCategory();
     budget.update(request);
+    if (spendingScopeChanged) {
+      BigDecimal spentAmount = calculateSpent(authDto.getUserIdx(), budget);
+      budgetRepository.resetSpent(budget.getIdx(), spentAmount);
+      budget.resetSpentAmount(spentAmount);
+    }
 
     return sendApiOK(BudgetResponse.from(budget));
   }
@@ -120,15 +99,14 @@ public class BudgetService {
   // 예산 삭제
   @Transactional
   public ResponseEntity<?> sDeleteBudget(AuthDto authDto, Long budgetId) {
-    Budget budget = findBudgetById(budgetId);
-    validateBudgetOwnership(authDto.getEmail(), budget);
+    Budget budget = findOwnedBudget(authDto, budgetId);
     budget.sDelete();
     return sendApiOK(null);
   }
 
   // 예산 목록 조회
   public ResponseEntity<?> getBudgetList(AuthDto authDto) {
-    User user = findUserByEmail(authDto.getEmail());
+    User user = getUserReference(authDto);
     List<Budget> budgets = budgetRepository.findByUserAndIsActiveTrue(user);
     List<BudgetResponse> responses =
         budgets.stream()
@@ -152,40 +130,73 @@ public class BudgetService {
   }
 
   /**
-   * 이메일로 사용자를 찾습니다.
+   * 일간 집계에서 예산 기간, 카테고리의 지출 합계를 계산합니다.
    */
-  private User findUserByEmail(String email) {
-    return userRepository
-        .findByEmail(email)
-        .orElseThrow(
-            () ->
-                new CustomException(
-                    HttpStatus.BAD_REQUEST,
-                    "sm.common.fail.user_not_found",
-                    "올바르지 않은 사용자 정보입니다."));
+  private BigDecimal calculateSpent(Long userIdx, Budget budget) {
+    List<Object[]> rows =
+        ledgerDailyAggRepository.sumByDateAndCategory(
+            userIdx, LedgerType.EXPENSE, budget.getStartDate(), budget.getEndDate());
+    return new BudgetSpending(rows).spentFor(budget);
   }
 
   /**
-   * 예산 ID로 예산을 찾습니다.
+   * 예산의 지출 누계로 사용 현황을 계산합니다.
    */
-  private Budget findBudgetById(Long budgetId) {
-    return budgetRepository
-        .findById(budgetId)
-        .orElseThrow(
-            () ->
-                new CustomException(
-                    HttpStatus.NOT_FOUND, "sm.budget.fail.not_found", "예산을 찾을 수 없습니다"));
+  private BudgetUsageResponse toUsageResponse(Budget budget) {
+    BigDecimal totalSpent = budget.getSpentAmount();
+
+    // 남은 예산 계산
+    BigDecimal remainingAmount = budget.getAmount().subtract(totalSpent);
+
+    // 사용률 계산 (%)
+    BigDecimal usagePercentage = Budget.calculateUsagePercentage(totalSpent, budget.getAmount());
+
+    // 예산 초과 여부
+    boolean isExceeded = totalSpent.compareTo(budget.getAmount()) > 0;
+
+    // 알림 발송 필요 여부 (사용률이 임계값 초과 && 아직 알림 미발송)
+    boolean shouldAlert =
+        usagePercentage.compareTo(budget.getAlertThreshold()) >= 0
+            && !budget.getIsAlertSent();
+
+    return BudgetUsageResponse.builder()
+        .budget(BudgetResponse.from(budget))
+        .totalSpent(totalSpent)
+        .remainingAmount(remainingAmount)
+        .usagePercentage(usagePercentage)
+        .isExceeded(isExceeded)
+        .shouldAlert(shouldAlert)
+        .build();
   }
 
   /**
-   * 예산의 소유자를 검증합니다.
+   * 토큰의 userIdx 로 사용자 참조를 가져옵니다. (사용자 테이블 조회 없음)
    */
-  private void validateBudgetOwnership(String email, Budget budget) {
-    if (!budget.getUser().getEmail().equals(email)) {
+  private User getUserReference(AuthDto authDto) {
+    if (authDto == null || authDto.getUserIdx() == null) {
       throw new CustomException(
-          HttpStatus.FORBIDDEN,
-          "sm.budget.fail.access_denied",
-          "본인의 예산만 접근할 수 있습니다");
+          HttpStatus.BAD_REQUEST,
+          "sm.common.fail.user_not_found",
+          "올바르지 않은 사용자 정보입니다.");
     }
+    return userRepository.getReferenceById(authDto.getUserIdx());
+  }
+
+  /**
+   * 본인의 예산을 한 번의 SELECT 로 찾습니다.
+   * 조회되지 않은 경우에만 존재 여부를 다시 확인해서 404 와 403 을 구분합니다.
+   */
+  private Budget findOwnedBudget(AuthDto authDto, Long budgetId) {
+    return budgetRepository
+        .findByIdxAndUser_Idx(budgetId, authDto.getUserIdx())
+        .orElseThrow(
+            () ->
+                budgetRepository.existsById(budgetId)
+                    ? new CustomException(
+                        HttpStatus.FORBIDDEN,
+                        "sm.budget.fail.access_denied",
+                        "본인의 예산만 접근할 수 있습니다")
+                    : new CustomException(
+                        HttpStatus.NOT_FOUND, "sm.budget.fail.not_found", "예산을 찾을 수 없습니다"));
   }
 }
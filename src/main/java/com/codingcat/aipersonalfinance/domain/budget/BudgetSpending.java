@@ -0,0 +1,63 @@
+package com.codingcat.aipersonalfinance.domain.budget;
+
+import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.module.model.Money;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예산 지출 계산용 일별 지출 인덱스
+ * 한 번 조회한 (날짜, 카테고리)별 지출 합계로 여러 예산의 지출을 메모리에서 계산합니다.
+ * 카테고리가 없는 예산은 전체 지출을, 카테고리 예산은 해당 카테고리 지출만 합산합니다.
+ * 금액은 조회 범위의 날짜 인덱스 배열에 1/100 단위 long 으로 보관합니다. (Money)
+ */
+class BudgetSpending {
+
+  private final long firstDay;
+  private final long[] total;
+  private final Map<Category, long[]> byCategory = new EnumMap<>(Category.class);
+
+  /**
+   * @param rows [날짜, 카테고리, 합계] 배열 목록
+   */
+  BudgetSpending(List<Object[]> rows) {
+    long minDay = Long.MAX_VALUE;
+    long maxDay = Long.MIN_VALUE;
+    for (Object[] row : rows) {
+      long day = ((LocalDate) row[0]).toEpochDay();
+      minDay = Math.min(minDay, day);
+      maxDay = Math.max(maxDay, day);
+    }
+    firstDay = rows.isEmpty() ? 0 : minDay;
+    int days = rows.isEmpty() ? 0 : Math.toIntExact(maxDay - minDay + 1);
+    total = new long[days];
+
+    for (Object[] row : rows) {
+      int index = (int) (((LocalDate) row[0]).toEpochDay() - firstDay);
+      Category category = (Category) row[1];
+      long amount = Money.toMinor((BigDecimal) row[2]);
+      total[index] = Math.addExact(total[index], amount);
+      byCategory.computeIfAbsent(category, key -> new long[days])[index] = amount;
+    }
+  }
+
+  /**
+   * 예산 기간(시작일, 종료일 포함)과 카테고리에 해당하는 지출 합계를 반환합니다.
+   */
+  BigDecimal spentFor(Budget budget) {
+    long[] daily = budget.getCategory() == null ? total : byCategory.get(budget.getCategory());
+    if (daily == null) {
+      return BigDecimal.ZERO;
+    }
+    long from = Math.max(budget.getStartDate().toEpochDay() - firstDay, 0);
+    long to = Math.min(budget.getEndDate().toEpochDay() - firstDay, daily.length - 1L);
+    long sum = 0;
+    for (long index = from; index <= to; index++) {
+      sum = Math.addExact(sum, daily[(int) index]);
+    }
+    return Money.toAmount(sum);
+  }
+}
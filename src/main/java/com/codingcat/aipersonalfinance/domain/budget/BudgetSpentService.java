@@ -0,0 +1,111 @@
+package com.codingcat.aipersonalfinance.domain.budget;
+
+import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerBatchCreatedEvent;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerChangedEvent;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerSnapshot;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
+import com.codingcat.aipersonalfinance.module.lock.JobLease;
+import com.codingcat.aipersonalfinance.module.shard.EachShard;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 예산 지출 누계(budget.spent_amount) 유지 서비스
+ * 지출 거래 내역의 생성/수정/삭제 이벤트를 받아 같은 트랜잭션에서 해당 예산들의 누계를 증분 갱신하고,
+ * 주기적으로 거래 내역 합계와 비교해서 어긋난 누계를 보정합니다.
+ */
+@Slf4j
+@Service
+public class BudgetSpentService {
+
+  private final BudgetRepository budgetRepository;
+
+  // 종료일이 오늘 기준 이 일수 이내인 예산까지만 보정 (지난 예산의 과거 거래 수정은 드묾)
+  private final int reconcileLookbackDays;
+
+  public BudgetSpentService(
+      BudgetRepository budgetRepository,
+      @Value("${budget.spent.reconcile-lookback-days:90}") int reconcileLookbackDays) {
+    this.budgetRepository = budgetRepository;
+    this.reconcileLookbackDays = reconcileLookbackDays;
+  }
+
+  // 변경 전 지출은 빼고, 변경 후 지출은 더한다
+  @EventListener
+  public void onLedgerChanged(LedgerChangedEvent event) {
+    LedgerSnapshot before = expenseOrNull(event.before());
+    LedgerSnapshot after = expenseOrNull(event.after());
+    if (before != null && after != null && sameSpending(before, after)) {
+      return; // 결제수단, 설명/장소만 바뀐 경우 누계 변화 없음
+    }
+    if (before != null) {
+      budgetRepository.addSpent(
+          before.userIdx(), before.category(), before.recordedDate(), before.amount().negate());
+    }
+    if (after != null) {
+      budgetRepository.addSpent(
+          after.userIdx(), after.category(), after.recordedDate(), after.amount());
+    }
+  }
+
+  /**
+   * 일괄 생성된 지출을 (날짜, 카테고리)별로 먼저 합산한 뒤 키마다 한 번씩만 반영합니다.
+   */
+  @EventListener
+  public void onLedgerBatchCreated(LedgerBatchCreatedEvent event) {
+    Map<SpentKey, BigDecimal> deltas = new LinkedHashMap<>();
+    for (LedgerSnapshot snapshot : event.snapshots()) {
+      if (snapshot.type() == LedgerType.EXPENSE) {
+        deltas.merge(
+            new SpentKey(snapshot.recordedDate(), snapshot.category()),
+            snapshot.amount(),
+            BigDecimal::add);
+      }
+    }
+    deltas.forEach(
+        (key, amount) ->
+            budgetRepository.addSpent(event.userIdx(), key.category(), key.date(), amount));
+  }
+
+  /**
+   * 지출 누계를 거래 내역 합계로 다시 계산해서 어긋난 예산만 보정합니다.
+   * 증분 갱신이 누락되었거나(직접 DB 수정, 생성 직후 경합 등) 값이 틀어진 경우를 복구합니다.
+   * 여러 서버 중 임대를 얻은 한 서버에서만, 샤드마다 따로 실행됩니다.
+   */
+  @JobLease(name = "budget-spent-reconcile", leaseFor = "PT30M")
+  @EachShard
+  @Transactional
+  @Scheduled(cron = "${budget.spent.reconcile-cron:0 30 3 * * *}")
+  public void reconcile() {
+    LocalDate since = LocalDate.now().minusDays(reconcileLookbackDays);
+    LocalDate from = budgetRepository.findEarliestStartDate(since);
+    if (from == null) {
+      return;
+    }
+    int repaired = budgetRepository.reconcileSpent(LedgerType.EXPENSE, since, from);
+    if (repaired > 0) {
+      log.warn("예산 지출 누계 보정 : {}건 (종료일 {} 이후 예산)", repaired, since);
+    }
+  }
+
+  private static LedgerSnapshot expenseOrNull(LedgerSnapshot snapshot) {
+    return snapshot != null && snapshot.type() == LedgerType.EXPENSE ? snapshot : null;
+  }
+
+  private static boolean sameSpending(LedgerSnapshot before, LedgerSnapshot after) {
+    return before.category() == after.category()
+        && before.recordedDate().equals(after.recordedDate())
+        && before.amount().compareTo(after.amount()) == 0;
+  }
+
+  private record SpentKey(LocalDate date, Category category) {}
+}
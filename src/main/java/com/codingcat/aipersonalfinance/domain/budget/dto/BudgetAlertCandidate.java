@@ -0,0 +1,31 @@
+package com.codingcat.aipersonalfinance.domain.budget.dto;
+
+import com.codingcat.aipersonalfinance.domain.budget.Budget;
+import java.math.BigDecimal;
+
+/**
+ * 알림 평가 대상 예산
+ * 알림 엔진이 청크 단위로 읽는 생성자 프로젝션으로, 사용률 계산에 필요한 값만 담습니다.
+ */
+public record BudgetAlertCandidate(
+    Long budgetIdx,
+    Long userIdx,
+    BigDecimal amount,
+    BigDecimal spentAmount,
+    BigDecimal alertThreshold
+) {
+
+  private static final BigDecimal DEFAULT_THRESHOLD = new BigDecimal("80.00");
+
+  public BigDecimal usagePercentage() {
+    return Budget.calculateUsagePercentage(spentAmount, amount);
+  }
+
+  /**
+   * 사용률이 알림 임계값 이상인지 확인합니다. (임계값이 비어 있으면 80%)
+   */
+  public boolean isThresholdReached() {
+    BigDecimal threshold = alertThreshold != null ? alertThreshold : DEFAULT_THRESHOLD;
+    return usagePercentage().compareTo(threshold) >= 0;
+  }
+}
@@ -25,6 +25,7 @@ public class BudgetResponse {
   private LocalDate startDate;
   private LocalDate endDate;
   private BigDecimal amount;
+  private BigDecimal spentAmount;
   private Category category;
   private Boolean isActive;
   private BigDecimal alertThreshold;
@@ -43,6 +44,7 @@ public class BudgetResponse {
         .startDate(budget.getStartDate())
         .endDate(budget.getEndDate())
         .amount(budget.getAmount())
+        .spentAmount(budget.getSpentAmount())
         .category(budget.getCategory())
         .isActive(budget.getIsActive())
         .alertThreshold(budget.getAlertThreshold())
@@ -12,9 +12,14 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.PastOrPresent;
 import jakarta.validation.constraints.PositiveOrZero;
 import java.math.BigDecimal;
@@ -31,15 +36,42 @@ import org.hibernate.annotations.SQLRestriction;
  * 사용자의 수입/지출 거래 정보를 관리합니다.
  */
 @Entity
-@Table(name = "ledger")
+@Table(
+    name = "ledger",
+    indexes = {
+      // 목록/기간 조회, 커서 페이징 (deleted_at 은 @SQLRestriction 조건)
+      @Index(
+          name = "idx_ledger_user_date",
+          columnList = "user_idx, deleted_at, recorded_date, ledger_idx"),
+      // 유형별 기간 합계 (SUM 대상 컬럼까지 포함한 커버링 인덱스)
+      @Index(
+          name = "idx_ledger_user_type_date_cover",
+          columnList = "user_idx, deleted_at, type, recorded_date, category, payment_method, amount"),
+      @Index(
+          name = "idx_ledger_user_category_date",
+          columnList = "user_idx, deleted_at, category, recorded_date"),
+      // 유형별 월 단위 조회 (연월 컬럼, V2)
+      @Index(name = "idx_ledger_user_type_ym", columnList = "user_idx, type, recorded_year_month"),
+      // 통계 스냅샷 최신 여부 확인 (사용자별 마지막 수정 시각)
+      @Index(name = "idx_ledger_user_modified", columnList = "user_idx, modified_at")
+    },
+    uniqueConstraints = {
+      // 정기 거래 한 회차당 거래 내역은 하나 (직접 입력한 거래는 recurring_transaction_idx 가 NULL)
+      @UniqueConstraint(
+          name = "uk_ledger_recurring_date",
+          columnNames = {"recurring_transaction_idx", "recorded_date"})
+    })
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @SQLRestriction("deleted_at IS NULL")
 public class Ledger extends BaseEntity {
+  // IDENTITY 는 INSERT 마다 키를 받아와야 해서 JDBC 배치가 불가능하므로 pooled 시퀀스를 사용한다
+  // (시퀀스가 없는 MySQL 에서는 Hibernate 가 ledger_seq 테이블로 대체)
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ledger_seq")
+  @SequenceGenerator(name = "ledger_seq", sequenceName = "ledger_seq", allocationSize = 50)
   @Column(name = "ledger_idx")
   private Long idx;
 
@@ -78,6 +110,10 @@ public class Ledger extends BaseEntity {
   @Column(name = "recorded_date", nullable = false)
   private LocalDate recordedDate;
 
+  @Schema(description = "거래 연월 (yyyyMM), recordedDate 로부터 계산")
+  @Column(name = "recorded_year_month", nullable = false)
+  private Integer recordedYearMonth;
+
   @Schema(description = "정기 거래로부터 자동 생성되었는지 여부")
   @Column(name = "is_auto_generated", nullable = false)
   @Builder.Default
@@ -128,6 +164,47 @@ public class Ledger extends BaseEntity {
     }
     if (recordedDate != null) {
       this.recordedDate = recordedDate;
+      this.recordedYearMonth = toYearMonth(recordedDate);
+    }
+  }
+
+  /**
+   * 날짜를 yyyyMM 형태의 정수로 변환합니다. (예: 2026-02-15 → 202602)
+   * 월별 집계를 함수 호출 없이 컬럼 그대로 그룹핑하기 위해 사용합니다.
+   */
+  public static int toYearMonth(LocalDate date) {
+    return date.getYear() * 100 + date.getMonthValue();
+  }
+
+  /**
+   * 보관 테이블(ledger_archive)의 행을 조회 응답용 거래 내역으로 바꿉니다.
+   * 영속 상태가 아니므로 수정/삭제에는 사용할 수 없습니다.
+   */
+  static Ledger fromArchive(LedgerArchive archive, User user) {
+    Ledger ledger =
+        Ledger.builder()
+            .idx(archive.getIdx())
+            .user(user)
+            .type(archive.getType())
+            .amount(archive.getAmount())
+            .desc(archive.getDesc())
+            .place(archive.getPlace())
+            .category(archive.getCategory())
+            .paymentMethod(archive.getPaymentMethod())
+            .recordedDate(archive.getRecordedDate())
+            .recordedYearMonth(archive.getRecordedYearMonth())
+            .isAutoGenerated(archive.getIsAutoGenerated())
+            .build();
+    ledger.copyAuditTimes(archive.getCreatedAt(), archive.getModifiedAt());
+    return ledger;
+  }
+
+  // 빌더로 생성된 경우에도 저장 시점에 거래 연월을 맞춘다
+  @PrePersist
+  @PreUpdate
+  void syncRecordedYearMonth() {
+    if (recordedDate != null) {
+      this.recordedYearMonth = toYearMonth(recordedDate);
     }
   }
 }
\ No newline at end of file
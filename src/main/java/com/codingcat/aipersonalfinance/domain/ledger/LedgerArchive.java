@@ -0,0 +1,83 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관된(오래된) 거래 내역 엔티티
+ * 보관 작업(LedgerArchiveJob)이 ledger 에서 옮겨 온 행이며 ledger_idx 를 그대로 유지합니다.
+ * 읽기 전용이고, 목록/커서/내보내기 조회는 기간이 보관 연도에 걸치면 ledger 와 합쳐서 보여줍니다.
+ * 인덱스는 (사용자, 날짜) 하나만 두어 테이블을 작게 유지합니다.
+ */
+@Entity
+@Table(
+    name = "ledger_archive",
+    indexes = {
+      @Index(
+          name = "idx_ledger_archive_user_date",
+          columnList = "user_idx, recorded_date, ledger_idx")
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LedgerArchive {
+
+  @Id
+  @Column(name = "ledger_idx")
+  private Long idx;
+
+  @Column(name = "user_idx", nullable = false)
+  @Schema(description = "가계부 소유자 ID")
+  private Long userIdx;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private LedgerType type;
+
+  @Column(nullable = false, precision = 15, scale = 2)
+  private BigDecimal amount;
+
+  @Column(nullable = false, length = 255)
+  private String desc;
+
+  @Column(length = 100)
+  private String place;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 50)
+  private Category category;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "payment_method", nullable = false, length = 50)
+  private PaymentMethod paymentMethod;
+
+  @Column(name = "recorded_date", nullable = false)
+  private LocalDate recordedDate;
+
+  @Column(name = "recorded_year_month", nullable = false)
+  private Integer recordedYearMonth;
+
+  @Column(name = "is_auto_generated", nullable = false)
+  private Boolean isAutoGenerated;
+
+  @Column(name = "recurring_transaction_idx")
+  @Schema(description = "원본 정기 거래 ID (자동 생성된 경우)")
+  private Long recurringTransactionIdx;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(name = "modified_at")
+  private LocalDateTime modifiedAt;
+}
@@ -0,0 +1,132 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import com.codingcat.aipersonalfinance.module.lock.JobLease;
+import com.codingcat.aipersonalfinance.module.shard.EachShard;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 오래된 거래 내역 보관 작업
+ * 거래 날짜가 min-age 보다 오래된 연도의 거래 내역을 batch-size 건씩 보관 테이블(ledger_archive)로 옮깁니다.
+ * 한 묶음(복사, 삭제, 보관 연도 기록)은 한 트랜잭션이라 중간에 멈춰도 거래 내역이 두 테이블에 나뉘어 남지 않습니다.
+ * 연도 단위로 옮기고 그 연도의 일간 집계는 그대로 두므로, 보관된 기간의 통계도 원본 행을 읽지 않고 계산됩니다.
+ * 삭제된 거래 내역은 옮기지 않습니다.
+ * 묶음이 커밋될 때마다 옮긴 사용자로 LedgerBulkRemovedEvent 를 발행해서 통계 스냅샷을 버리게 합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.archive.enabled", havingValue = "true")
+public class LedgerArchiveJob {
+
+  private final LedgerArchiveRepository ledgerArchiveRepository;
+  private final LedgerArchiveYearRepository ledgerArchiveYearRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final Period minAge;
+  private final int batchSize;
+
+  public LedgerArchiveJob(
+      LedgerArchiveRepository ledgerArchiveRepository,
+      LedgerArchiveYearRepository ledgerArchiveYearRepository,
+      PlatformTransactionManager transactionManager,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${ledger.archive.min-age:P2Y}") Period minAge,
+      @Value("${ledger.archive.batch-size:1000}") int batchSize) {
+    this.ledgerArchiveRepository = ledgerArchiveRepository;
+    this.ledgerArchiveYearRepository = ledgerArchiveYearRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.eventPublisher = eventPublisher;
+    this.minAge = minAge;
+    this.batchSize = batchSize;
+  }
+
+  // 여러 서버 중 임대를 얻은 한 서버에서만, 샤드마다 실행한다
+  @JobLease(name = "ledger-archive", leaseFor = "PT30M")
+  @EachShard
+  @Scheduled(cron = "${ledger.archive.cron:0 40 4 * * *}")
+  public void archiveScheduled() {
+    archive(LocalDate.now());
+  }
+
+  /**
+   * 기준일에서 min-age 를 뺀 날짜가 속한 연도 이전의 거래 내역을 모두 보관합니다.
+   *
+   * @param today 기준일
+   * @return 이번 실행 결과
+   */
+  public RunResult archive(LocalDate today) {
+    LocalDate archiveBefore = LocalDate.of(today.minus(minAge).getYear(), 1, 1);
+    long archived = 0;
+    int batches = 0;
+    long afterIdx = 0;
+
+    while (true) {
+      long from = afterIdx;
+      Set<Long> userIdxs = new HashSet<>();
+      List<Long> ledgerIds =
+          transactionTemplate.execute(status -> moveBatch(archiveBefore, from, userIdxs));
+      if (ledgerIds == null || ledgerIds.isEmpty()) {
+        break;
+      }
+      eventPublisher.publishEvent(new LedgerBulkRemovedEvent(userIdxs));
+      archived += ledgerIds.size();
+      batches++;
+      afterIdx = ledgerIds.get(ledgerIds.size() - 1);
+      if (ledgerIds.size() < batchSize) {
+        break;
+      }
+    }
+
+    log.info("거래 내역 보관 완료 : {} 이전, {}건 ({}회)", archiveBefore, archived, batches);
+    return new RunResult(archiveBefore, archived, batches);
+  }
+
+  // 보관 연도를 먼저 기록해야 조회가 옮긴 행을 놓치지 않는다 (같은 트랜잭션이라 커밋 시점은 같음)
+  private List<Long> moveBatch(LocalDate archiveBefore, long afterIdx, Set<Long> userIdxs) {
+    List<Long> ledgerIds =
+        ledgerArchiveRepository.findLedgerIdsRecordedBefore(
+            archiveBefore, afterIdx, PageRequest.ofSize(batchSize));
+    if (ledgerIds.isEmpty()) {
+      return ledgerIds;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    for (Object[] userYear : ledgerArchiveRepository.findLedgerUserYears(ledgerIds)) {
+      Long userIdx = (Long) userYear[0];
+      userIdxs.add(userIdx);
+      Integer year = ((Number) userYear[1]).intValue();
+      if (!ledgerArchiveYearRepository.existsByUserIdxAndArchiveYear(userIdx, year)) {
+        ledgerArchiveYearRepository.save(new LedgerArchiveYear(userIdx, year, now));
+      }
+    }
+    int copied = ledgerArchiveRepository.copyFromLedger(ledgerIds);
+    int deleted = ledgerArchiveRepository.deleteLedgers(ledgerIds);
+    if (copied != ledgerIds.size() || deleted != ledgerIds.size()) {
+      throw new IllegalStateException(
+          "보관 중 거래 내역이 변경되었습니다. (대상 " + ledgerIds.size() + ", 복사 " + copied
+              + ", 삭제 " + deleted + ")");
+    }
+    return ledgerIds;
+  }
+
+  /**
+   * 보관 작업 실행 결과
+   *
+   * @param archiveBefore 이 날짜 이전의 거래 내역을 보관
+   * @param archived 보관한 거래 내역 수
+   * @param batches 실행한 묶음 수
+   */
+  public record RunResult(LocalDate archiveBefore, long archived, int batches) {}
+}
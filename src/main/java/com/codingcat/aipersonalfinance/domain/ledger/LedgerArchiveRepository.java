@@ -0,0 +1,111 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerExportRow;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * LedgerArchive Repository
+ * 거래 내역을 보관 테이블로 옮기는 쿼리와 보관된 거래 내역 조회 기능을 제공합니다.
+ */
+public interface LedgerArchiveRepository extends JpaRepository<LedgerArchive, Long> {
+
+  /**
+   * 기준일 이전 날짜의 (삭제되지 않은) 거래 내역 ID 를 ID 순서로 조회합니다.
+   * 삭제된 거래 내역은 보관하지 않고 ledger 에 남겨 둡니다.
+   *
+   * @param before 이 날짜 미만의 거래를 조회
+   * @param afterIdx 이 ID 보다 큰 거래부터 조회 (keyset)
+   * @param pageable 조회 개수
+   * @return 거래 내역 ID 목록
+   */
+  @Query(
+      """
+      SELECT l.idx FROM Ledger l
+      WHERE l.recordedDate < :before AND l.idx > :afterIdx
+      ORDER BY l.idx
+      """)
+  List<Long> findLedgerIdsRecordedBefore(
+      @Param("before") LocalDate before, @Param("afterIdx") Long afterIdx, Pageable pageable);
+
+  /**
+   * 거래 내역의 (사용자 ID, 거래 연도) 목록을 조회합니다.
+   *
+   * @return [사용자 ID, 연도] 배열 목록
+   */
+  @Query(
+      """
+      SELECT DISTINCT l.user.idx, YEAR(l.recordedDate) FROM Ledger l
+      WHERE l.idx IN :ledgerIds
+      """)
+  List<Object[]> findLedgerUserYears(@Param("ledgerIds") List<Long> ledgerIds);
+
+  /**
+   * 거래 내역을 ID 와 생성/수정 시각까지 그대로 보관 테이블에 복사합니다.
+   *
+   * @return 복사된 행 수
+   */
+  @Modifying
+  @Query(
+      """
+      INSERT INTO LedgerArchive (
+        idx, userIdx, type, amount, desc, place, category, paymentMethod,
+        recordedDate, recordedYearMonth, isAutoGenerated, recurringTransactionIdx,
+        createdAt, modifiedAt)
+      SELECT
+        l.idx, l.user.idx, l.type, l.amount, l.desc, l.place, l.category, l.paymentMethod,
+        l.recordedDate, l.recordedYearMonth, l.isAutoGenerated, r.idx,
+        l.createdAt, l.modifiedAt
+      FROM Ledger l LEFT JOIN l.recurringTransaction r
+      WHERE l.idx IN :ledgerIds
+      """)
+  int copyFromLedger(@Param("ledgerIds") List<Long> ledgerIds);
+
+  /**
+   * 보관 테이블로 복사한 거래 내역을 ledger 에서 삭제합니다.
+   * 일간 집계는 그대로 두어야 하므로 변경 이벤트 없이 벌크 삭제합니다.
+   *
+   * @return 삭제된 행 수
+   */
+  @Modifying
+  @Query("DELETE FROM Ledger l WHERE l.idx IN :ledgerIds")
+  int deleteLedgers(@Param("ledgerIds") List<Long> ledgerIds);
+
+  /**
+   * 내보내기용 보관 거래 내역을 (recorded_date, ledger_idx) 순서로 스트리밍합니다.
+   * LedgerRepository.streamExportRows 와 같은 순서라서 두 스트림을 병합할 수 있습니다.
+   *
+   * @param userIdx 사용자 ID
+   * @param startDate 시작 날짜
+   * @param endDate 종료 날짜
+   * @return 거래 내역 행 스트림
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  @Query(
+      """
+      SELECT new com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerExportRow(
+        a.idx, a.recordedDate, a.type, a.category, a.paymentMethod,
+        a.amount, a.desc, a.place, a.isAutoGenerated)
+      FROM LedgerArchive a
+      WHERE a.userIdx = :userIdx
+        AND a.recordedDate BETWEEN :startDate AND :endDate
+      ORDER BY a.recordedDate, a.idx
+      """)
+  Stream<LedgerExportRow> streamExportRows(
+      @Param("userIdx") Long userIdx,
+      @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate);
+}
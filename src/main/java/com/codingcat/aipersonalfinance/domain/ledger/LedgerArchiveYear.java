@@ -0,0 +1,56 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 보관 연도 엔티티
+ * 거래 내역을 보관 테이블(ledger_archive)로 옮긴 (사용자, 연도)마다 한 행이 있으며,
+ * 조회 기간이 보관 연도에 걸치는지(보관 테이블도 읽어야 하는지) 판단하는 데 사용합니다.
+ * 보관 연도의 일간 집계(ledger_daily_agg)는 지우지 않으므로 통계는 보관된 행을 읽지 않습니다.
+ */
+@Entity
+@Table(
+    name = "ledger_archive_year",
+    uniqueConstraints = {
+      @UniqueConstraint(
+          name = "uk_ledger_archive_year",
+          columnNames = {"user_idx", "archive_year"})
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LedgerArchiveYear {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "ledger_archive_year_idx")
+  private Long idx;
+
+  @Column(name = "user_idx", nullable = false)
+  @Schema(description = "사용자 ID")
+  private Long userIdx;
+
+  @Column(name = "archive_year", nullable = false)
+  @Schema(description = "보관 연도")
+  private Integer archiveYear;
+
+  @Column(name = "archived_at", nullable = false)
+  @Schema(description = "처음 보관한 시각")
+  private LocalDateTime archivedAt;
+
+  public LedgerArchiveYear(Long userIdx, Integer archiveYear, LocalDateTime archivedAt) {
+    this.userIdx = userIdx;
+    this.archiveYear = archiveYear;
+    this.archivedAt = archivedAt;
+  }
+}
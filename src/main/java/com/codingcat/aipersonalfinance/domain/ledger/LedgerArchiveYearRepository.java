@@ -0,0 +1,35 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import java.time.LocalDate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * LedgerArchiveYear Repository
+ */
+public interface LedgerArchiveYearRepository extends JpaRepository<LedgerArchiveYear, Long> {
+
+  boolean existsByUserIdxAndArchiveYear(Long userIdx, Integer archiveYear);
+
+  /**
+   * 사용자의 마지막 보관 연도를 조회합니다. (uk_ledger_archive_year 인덱스만 읽음)
+   *
+   * @param userIdx 사용자 ID
+   * @return 마지막 보관 연도 (보관된 거래 내역이 없으면 null)
+   */
+  @Query("SELECT MAX(y.archiveYear) FROM LedgerArchiveYear y WHERE y.userIdx = :userIdx")
+  Integer findLastArchiveYear(@Param("userIdx") Long userIdx);
+
+  /**
+   * 사용자의 보관된 거래 내역이 모두 이 날짜 이전에 있다는 경계(마지막 보관 연도의 다음 해 1월 1일)를 반환합니다.
+   * 조회 시작일이 경계 이후이면 보관 테이블을 읽지 않아도 됩니다.
+   *
+   * @param userIdx 사용자 ID
+   * @return 보관 경계 날짜 (보관된 거래 내역이 없으면 null)
+   */
+  default LocalDate findArchivedBefore(Long userIdx) {
+    Integer lastYear = findLastArchiveYear(userIdx);
+    return lastYear == null ? null : LocalDate.of(lastYear + 1, 1, 1);
+  }
+}
@@ -0,0 +1,23 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 거래 내역 일괄 생성 이벤트 (CSV 가져오기 등)
+ * 건별 LedgerChangedEvent 대신 배치 단위로 한 번 발행해서, 파생 데이터도 배치 단위로 갱신하도록 합니다.
+ *
+ * @param userIdx 사용자 ID
+ * @param snapshots 생성된 거래 내역 스냅샷
+ */
+public record LedgerBatchCreatedEvent(Long userIdx, List<LedgerSnapshot> snapshots) {
+
+  /**
+   * 생성된 거래 내역의 날짜 목록 (중복 제거)
+   */
+  public Set<LocalDate> recordedDates() {
+    return snapshots.stream().map(LedgerSnapshot::recordedDate).collect(Collectors.toSet());
+  }
+}
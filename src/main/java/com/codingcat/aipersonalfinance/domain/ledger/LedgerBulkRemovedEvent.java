@@ -0,0 +1,24 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import java.util.Set;
+
+/**
+ * 거래 내역 일괄 제거 이벤트 (보관, 영구 삭제, 파티션 정리)
+ * 배치 작업이 변경 이벤트 없이 ledger 에서 행을 지운 뒤 커밋 후에 발행하며,
+ * 거래 내역을 메모리에 들고 있는 파생 데이터(통계 스냅샷)를 버리는 데 사용합니다.
+ *
+ * @param userIdxs 행이 지워진 사용자 ID (null 이면 모든 사용자)
+ */
+public record LedgerBulkRemovedEvent(Set<Long> userIdxs) {
+
+  /**
+   * 파티션 정리처럼 사용자를 가리지 않고 지운 경우
+   */
+  public static LedgerBulkRemovedEvent allUsers() {
+    return new LedgerBulkRemovedEvent(null);
+  }
+
+  public boolean isAllUsers() {
+    return userIdxs == null;
+  }
+}
@@ -0,0 +1,30 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+/**
+ * 거래 내역 생성/수정/삭제 이벤트
+ * 같은 트랜잭션 안에서 발행되며, 집계 테이블 등 파생 데이터를 갱신하는 데 사용합니다.
+ *
+ * @param before 변경 전 값 (생성이면 null)
+ * @param after 변경 후 값 (삭제면 null)
+ */
+public record LedgerChangedEvent(LedgerSnapshot before, LedgerSnapshot after) {
+
+  public static LedgerChangedEvent created(Ledger ledger) {
+    return new LedgerChangedEvent(null, LedgerSnapshot.of(ledger));
+  }
+
+  public static LedgerChangedEvent updated(LedgerSnapshot before, Ledger ledger) {
+    return new LedgerChangedEvent(before, LedgerSnapshot.of(ledger));
+  }
+
+  public static LedgerChangedEvent deleted(Ledger ledger) {
+    return new LedgerChangedEvent(LedgerSnapshot.of(ledger), null);
+  }
+
+  /**
+   * 이벤트 대상 사용자 ID
+   */
+  public Long userIdx() {
+    return after != null ? after.userIdx() : before.userIdx();
+  }
+}
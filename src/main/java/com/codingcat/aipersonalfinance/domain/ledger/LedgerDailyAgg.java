@@ -0,0 +1,103 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 일간 거래 집계 엔티티
+ * (사용자, 날짜, 유형, 카테고리, 결제수단) 단위로 금액 합계와 건수를 보관합니다.
+ * 거래 내역이 변경될 때 같은 트랜잭션에서 증분 갱신되며, 통계 조회는 이 테이블을 읽습니다.
+ */
+@Entity
+@Table(
+    name = "ledger_daily_agg",
+    uniqueConstraints = {
+      @UniqueConstraint(
+          name = "uk_ledger_daily_agg_key",
+          columnNames = {"user_idx", "agg_date", "type", "category", "payment_method"})
+    },
+    indexes = {
+      @Index(name = "idx_ledger_daily_agg_user_ym", columnList = "user_idx, agg_year_month, type")
+    })
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerDailyAgg {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "ledger_daily_agg_idx")
+  private Long idx;
+
+  @Column(name = "user_idx", nullable = false)
+  @Schema(description = "사용자 ID")
+  private Long userIdx;
+
+  @Column(name = "agg_date", nullable = false)
+  @Schema(description = "집계 날짜 (거래 날짜)")
+  private LocalDate aggDate;
+
+  @Column(name = "agg_year_month", nullable = false)
+  @Schema(description = "집계 연월 (yyyyMM)")
+  private Integer aggYearMonth;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private LedgerType type;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 50)
+  private Category category;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "payment_method", nullable = false, length = 50)
+  private PaymentMethod paymentMethod;
+
+  @Column(name = "total_amount", nullable = false, precision = 17, scale = 2)
+  @Schema(description = "금액 합계")
+  private BigDecimal totalAmount;
+
+  @Column(name = "tx_count", nullable = false)
+  @Schema(description = "거래 건수")
+  private Long txCount;
+
+  /**
+   * 스냅샷 값으로 집계 행을 생성합니다.
+   */
+  public static LedgerDailyAgg of(LedgerSnapshot snapshot) {
+    return LedgerDailyAgg.builder()
+        .userIdx(snapshot.userIdx())
+        .aggDate(snapshot.recordedDate())
+        .aggYearMonth(Ledger.toYearMonth(snapshot.recordedDate()))
+        .type(snapshot.type())
+        .category(snapshot.category())
+        .paymentMethod(snapshot.paymentMethod())
+        .totalAmount(snapshot.amount())
+        .txCount(1L)
+        .build();
+  }
+
+  /**
+   * 저장 전 집계 행에 금액과 건수를 더합니다. (일괄 반영 시 같은 키를 메모리에서 합산할 때 사용)
+   */
+  public void addDelta(BigDecimal amount, long count) {
+    this.totalAmount = this.totalAmount.add(amount);
+    this.txCount = this.txCount + count;
+  }
+}
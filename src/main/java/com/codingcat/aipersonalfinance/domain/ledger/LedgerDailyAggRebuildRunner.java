@@ -0,0 +1,27 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일간 집계 재구축 커맨드
+ * 애플리케이션을 --rebuild-ledger-daily-agg 옵션으로 실행하면 기존 거래 내역으로 집계 테이블을 백필합니다.
+ * 예) java -jar app.jar --rebuild-ledger-daily-agg
+ */
+@Component
+@RequiredArgsConstructor
+public class LedgerDailyAggRebuildRunner implements ApplicationRunner {
+
+  public static final String OPTION = "rebuild-ledger-daily-agg";
+
+  private final LedgerDailyAggService ledgerDailyAggService;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (args.containsOption(OPTION)) {
+      ledgerDailyAggService.rebuildAll();
+    }
+  }
+}
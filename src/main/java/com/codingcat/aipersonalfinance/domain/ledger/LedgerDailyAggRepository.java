@@ -0,0 +1,198 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * LedgerDailyAgg Repository
+ * 일간 집계 행의 증분 갱신과 재구축 기능을 제공합니다.
+ */
+public interface LedgerDailyAggRepository extends JpaRepository<LedgerDailyAgg, Long> {
+
+  /**
+   * 사용자의 기간 내 집계 행을 모두 조회합니다.
+   * 대시보드처럼 여러 통계를 한 번에 계산할 때 사용합니다.
+   *
+   * @param userIdx 사용자 ID
+   * @param startDate 시작일
+   * @param endDate 종료일
+   * @return 건수가 0보다 큰 집계 행 목록
+   */
+  @Query(
+      """
+      SELECT a FROM LedgerDailyAgg a
+      WHERE a.userIdx = :userIdx
+        AND a.aggDate BETWEEN :startDate AND :endDate
+        AND a.txCount > 0
+      """)
+  List<LedgerDailyAgg> findRowsInRange(
+      @Param("userIdx") Long userIdx,
+      @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate);
+
+  /**
+   * 기간 내 거래 유형의 (날짜, 카테고리)별 합계를 조회합니다.
+   * uk_ledger_daily_agg_key (user_idx, agg_date, ...) 범위 스캔 한 번으로
+   * 기간과 카테고리가 서로 다른 여러 예산의 지출을 함께 계산할 때 사용합니다.
+   *
+   * @param userIdx 사용자 ID
+   * @param type 거래 유형
+   * @param startDate 시작일
+   * @param endDate 종료일
+   * @return [날짜, 카테고리, 합계] 배열 목록
+   */
+  @Query(
+      """
+      SELECT a.aggDate, a.category, SUM(a.totalAmount)
+      FROM LedgerDailyAgg a
+      WHERE a.userIdx = :userIdx
+        AND a.type = :type
+        AND a.aggDate BETWEEN :startDate AND :endDate
+      GROUP BY a.aggDate, a.category
+      """)
+  List<Object[]> sumByDateAndCategory(
+      @Param("userIdx") Long userIdx,
+      @Param("type") LedgerType type,
+      @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate);
+
+  /**
+   * 기준일까지 사용자의 거래 유형별 합계를 조회합니다. (현금 흐름 예측의 시작 잔액)
+   *
+   * @param userIdx 사용자 ID
+   * @param date 기준일 (포함)
+   * @return [거래 유형, 합계] 배열 목록
+   */
+  @Query(
+      """
+      SELECT a.type, SUM(a.totalAmount)
+      FROM LedgerDailyAgg a
+      WHERE a.userIdx = :userIdx
+        AND a.aggDate <= :date
+      GROUP BY a.type
+      """)
+  List<Object[]> sumByTypeUntil(@Param("userIdx") Long userIdx, @Param("date") LocalDate date);
+
+  /**
+   * 집계 행에 금액과 건수 변화량을 더합니다.
+   *
+   * @return 갱신된 행 수 (행이 없으면 0)
+   */
+  @Modifying
+  @Query(
+      """
+      UPDATE LedgerDailyAgg a
+      SET a.totalAmount = a.totalAmount + :amount,
+          a.txCount = a.txCount + :count
+      WHERE a.userIdx = :userIdx
+        AND a.aggDate = :aggDate
+        AND a.type = :type
+        AND a.category = :category
+        AND a.paymentMethod = :paymentMethod
+      """)
+  int addDelta(
+      @Param("userIdx") Long userIdx,
+      @Param("aggDate") LocalDate aggDate,
+      @Param("type") LedgerType type,
+      @Param("category") Category category,
+      @Param("paymentMethod") PaymentMethod paymentMethod,
+      @Param("amount") BigDecimal amount,
+      @Param("count") long count);
+
+  /**
+   * 집계 행에 금액과 건수를 더하고, 행이 없으면 만듭니다.
+   * 조회 후 삽입과 달리 한 문장으로 처리되므로 같은 키의 첫 반영이 동시에 들어와도
+   * uk_ledger_daily_agg_key 충돌 없이 모두 누적됩니다.
+   * (MySQL 은 INSERT ... ON DUPLICATE KEY UPDATE, H2 는 MERGE 로 변환)
+   *
+   * @return 삽입 또는 갱신된 행 수
+   */
+  @Modifying
+  @Query(
+      """
+      INSERT INTO LedgerDailyAgg
+        (userIdx, aggDate, aggYearMonth, type, category, paymentMethod, totalAmount, txCount)
+      VALUES
+        (:userIdx, :aggDate, :aggYearMonth, :type, :category, :paymentMethod, :amount, :count)
+      ON CONFLICT (userIdx, aggDate, type, category, paymentMethod) DO UPDATE
+      SET totalAmount = totalAmount + excluded.totalAmount,
+          txCount = txCount + excluded.txCount
+      """)
+  int upsertDelta(
+      @Param("userIdx") Long userIdx,
+      @Param("aggDate") LocalDate aggDate,
+      @Param("aggYearMonth") Integer aggYearMonth,
+      @Param("type") LedgerType type,
+      @Param("category") Category category,
+      @Param("paymentMethod") PaymentMethod paymentMethod,
+      @Param("amount") BigDecimal amount,
+      @Param("count") long count);
+
+  /**
+   * 사용자의 집계 행을 모두 삭제합니다.
+   */
+  @Modifying
+  @Query("DELETE FROM LedgerDailyAgg a WHERE a.userIdx = :userIdx")
+  int deleteByUserIdx(@Param("userIdx") Long userIdx);
+
+  /**
+   * 전체 집계 행을 삭제합니다.
+   */
+  @Modifying
+  @Query("DELETE FROM LedgerDailyAgg a")
+  int deleteAllRows();
+
+  /**
+   * 삭제되지 않은 거래 내역과 보관된 거래 내역으로 사용자의 집계 행을 다시 만듭니다.
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO ledger_daily_agg
+            (user_idx, agg_date, agg_year_month, type, category, payment_method, total_amount, tx_count)
+          SELECT user_idx, recorded_date, recorded_year_month, type, category, payment_method,
+                 SUM(amount), COUNT(*)
+          FROM (
+            SELECT user_idx, recorded_date, recorded_year_month, type, category, payment_method, amount
+            FROM ledger
+            WHERE deleted_at IS NULL AND user_idx = :userIdx
+            UNION ALL
+            SELECT user_idx, recorded_date, recorded_year_month, type, category, payment_method, amount
+            FROM ledger_archive
+            WHERE user_idx = :userIdx
+          ) l
+          GROUP BY user_idx, recorded_date, recorded_year_month, type, category, payment_method
+          """,
+      nativeQuery = true)
+  int rebuildByUserIdx(@Param("userIdx") Long userIdx);
+
+  /**
+   * 삭제되지 않은 전체 거래 내역과 보관된 거래 내역으로 집계 행을 다시 만듭니다.
+   */
+  @Modifying
+  @Query(
+      value =
+          """
+          INSERT INTO ledger_daily_agg
+            (user_idx, agg_date, agg_year_month, type, category, payment_method, total_amount, tx_count)
+          SELECT user_idx, recorded_date, recorded_year_month, type, category, payment_method,
+                 SUM(amount), COUNT(*)
+          FROM (
+            SELECT user_idx, recorded_date, recorded_year_month, type, category, payment_method, amount
+            FROM ledger
+            WHERE deleted_at IS NULL
+            UNION ALL
+            SELECT user_idx, recorded_date, recorded_year_month, type, category, payment_method, amount
+            FROM ledger_archive
+          ) l
+          GROUP BY user_idx, recorded_date, recorded_year_month, type, category, payment_method
+          """,
+      nativeQuery = true)
+  int rebuildAll();
+}
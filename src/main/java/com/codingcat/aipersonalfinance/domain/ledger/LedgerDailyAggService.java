@@ -0,0 +1,127 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 일간 집계(ledger_daily_agg) 유지 서비스
+ * 거래 내역 변경 이벤트를 받아 같은 트랜잭션에서 집계 행을 증분 갱신합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerDailyAggService {
+
+  private final LedgerDailyAggRepository ledgerDailyAggRepository;
+
+  // 변경 전 값은 빼고, 변경 후 값은 더한다
+  @EventListener
+  public void onLedgerChanged(LedgerChangedEvent event) {
+    if (event.after() != null && event.after().sameAggregateAs(event.before())) {
+      return; // 설명/장소만 바뀐 경우 집계 변화 없음
+    }
+    if (event.before() != null) {
+      subtract(event.before());
+    }
+    if (event.after() != null) {
+      add(event.after());
+    }
+  }
+
+  /**
+   * 일괄 생성된 거래 내역을 집계 키별로 먼저 합산한 뒤 키마다 한 번씩만 반영합니다.
+   */
+  @EventListener
+  public void onLedgerBatchCreated(LedgerBatchCreatedEvent event) {
+    Map<AggKey, LedgerDailyAgg> deltas = new LinkedHashMap<>();
+    for (LedgerSnapshot snapshot : event.snapshots()) {
+      AggKey key = AggKey.of(snapshot);
+      LedgerDailyAgg delta = deltas.get(key);
+      if (delta == null) {
+        deltas.put(key, LedgerDailyAgg.of(snapshot));
+      } else {
+        delta.addDelta(snapshot.amount(), 1);
+      }
+    }
+
+    for (LedgerDailyAgg delta : deltas.values()) {
+      upsert(delta);
+    }
+  }
+
+  /**
+   * 사용자의 집계 행을 거래 내역으로부터 다시 만듭니다.
+   *
+   * @return 생성된 집계 행 수
+   */
+  @Transactional
+  public int rebuild(Long userIdx) {
+    ledgerDailyAggRepository.deleteByUserIdx(userIdx);
+    return ledgerDailyAggRepository.rebuildByUserIdx(userIdx);
+  }
+
+  /**
+   * 전체 집계 행을 거래 내역으로부터 다시 만듭니다. (기존 데이터 백필용)
+   *
+   * @return 생성된 집계 행 수
+   */
+  @Transactional
+  public int rebuildAll() {
+    int deleted = ledgerDailyAggRepository.deleteAllRows();
+    int inserted = ledgerDailyAggRepository.rebuildAll();
+    log.info("ledger_daily_agg 재구축 완료 : 삭제 {}건, 생성 {}건", deleted, inserted);
+    return inserted;
+  }
+
+  // 없는 키의 첫 반영이 동시에 들어올 수 있으므로 갱신 후 삽입 대신 한 문장으로 upsert 한다
+  private void add(LedgerSnapshot snapshot) {
+    upsert(LedgerDailyAgg.of(snapshot));
+  }
+
+  // 빼는 쪽은 더할 때 만든 행이 항상 있으므로 갱신만 한다
+  private void subtract(LedgerSnapshot snapshot) {
+    ledgerDailyAggRepository.addDelta(
+        snapshot.userIdx(),
+        snapshot.recordedDate(),
+        snapshot.type(),
+        snapshot.category(),
+        snapshot.paymentMethod(),
+        snapshot.amount().negate(),
+        -1);
+  }
+
+  private void upsert(LedgerDailyAgg delta) {
+    ledgerDailyAggRepository.upsertDelta(
+        delta.getUserIdx(),
+        delta.getAggDate(),
+        delta.getAggYearMonth(),
+        delta.getType(),
+        delta.getCategory(),
+        delta.getPaymentMethod(),
+        delta.getTotalAmount(),
+        delta.getTxCount());
+  }
+
+  private record AggKey(
+      Long userIdx,
+      LocalDate aggDate,
+      LedgerType type,
+      Category category,
+      PaymentMethod paymentMethod) {
+
+    static AggKey of(LedgerSnapshot snapshot) {
+      return new AggKey(
+          snapshot.userIdx(),
+          snapshot.recordedDate(),
+          snapshot.type(),
+          snapshot.category(),
+          snapshot.paymentMethod());
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerExportRow;
+import com.codingcat.aipersonalfinance.module.exception.CustomException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+/**
+ * 거래 내역 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LedgerExportFormat {
+  CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)) {
+    @Override
+    void writeHeader(Writer writer, ObjectMapper objectMapper) throws IOException {
+      writer.write(
+          "ledger_idx,recorded_date,type,category,payment_method,amount,desc,place,is_auto_generated\n");
+    }
+
+    @Override
+    void writeRow(Writer writer, ObjectMapper objectMapper, LedgerExportRow row) throws IOException {
+      writer.write(String.valueOf(row.ledgerIdx()));
+      writer.write(',');
+      writer.write(String.valueOf(row.recordedDate()));
+      writer.write(',');
+      writer.write(row.type().name());
+      writer.write(',');
+      writer.write(row.category().name());
+      writer.write(',');
+      writer.write(row.paymentMethod().name());
+      writer.write(',');
+      writer.write(row.amount().toPlainString());
+      writer.write(',');
+      writer.write(escape(row.desc()));
+      writer.write(',');
+      writer.write(escape(row.place()));
+      writer.write(',');
+      writer.write(String.valueOf(row.isAutoGenerated()));
+      writer.write('\n');
+    }
+  },
+  NDJSON("ndjson", new MediaType("application", "x-ndjson")) {
+    @Override
+    void writeHeader(Writer writer, ObjectMapper objectMapper) {
+      // 헤더 없음
+    }
+
+    @Override
+    void writeRow(Writer writer, ObjectMapper objectMapper, LedgerExportRow row) throws IOException {
+      writer.write(objectMapper.writeValueAsString(row));
+      writer.write('\n');
+    }
+  };
+
+  private final String extension;
+  private final MediaType mediaType;
+
+  abstract void writeHeader(Writer writer, ObjectMapper objectMapper) throws IOException;
+
+  abstract void writeRow(Writer writer, ObjectMapper objectMapper, LedgerExportRow row)
+      throws IOException;
+
+  /**
+   * 요청 파라미터로 형식을 찾습니다. (대소문자 무시, 기본값 csv)
+   */
+  public static LedgerExportFormat from(String format) {
+    if (format == null || format.isBlank()) {
+      return CSV;
+    }
+    try {
+      return valueOf(format.trim().toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new CustomException(
+          HttpStatus.BAD_REQUEST,
+          "sm.ledger.fail.invalid_export_format",
+          "지원하지 않는 내보내기 형식입니다. (csv, ndjson)");
+    }
+  }
+
+  // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 쓴다
+  private static String escape(String value) {
+    if (value == null) {
+      return "";
+    }
+    if (value.indexOf(',') < 0
+        && value.indexOf('"') < 0
+        && value.indexOf('\n') < 0
+        && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
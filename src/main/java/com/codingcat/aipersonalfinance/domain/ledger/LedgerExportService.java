@@ -0,0 +1,176 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerExportRow;
+import com.codingcat.aipersonalfinance.module.exception.CustomException;
+import com.codingcat.aipersonalfinance.module.security.AuthDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 거래 내역 내보내기 서비스
+ * 거래 내역을 페이지 단위로 모으지 않고 DB 커서에서 읽는 즉시 응답 스트림으로 씁니다.
+ * 행 수와 관계없이 메모리 사용량은 fetch size 와 버퍼 크기로 고정됩니다.
+ * 기간이 보관 연도에 걸치면 보관 테이블 스트림을 같은 순서로 함께 열어 병합하며 씁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerExportService {
+
+  // 기간을 지정하지 않으면 전체 기간을 내보낸다 (MySQL DATE 범위 안의 값)
+  private static final LocalDate MIN_DATE = LocalDate.of(1000, 1, 1);
+  private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+  private static final int FLUSH_INTERVAL = 1000;
+
+  private final LedgerRepository ledgerRepository;
+  private final LedgerArchiveRepository ledgerArchiveRepository;
+  private final LedgerArchiveYearRepository ledgerArchiveYearRepository;
+  private final PlatformTransactionManager transactionManager;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 거래 내역을 CSV 또는 NDJSON 으로 내보냅니다.
+   * 사용자 확인은 요청 스레드에서 먼저 수행해서 오류가 일반 API 응답으로 나가도록 하고,
+   * 실제 조회와 쓰기는 응답 스트리밍 시점에 읽기 전용 트랜잭션 안에서 수행합니다.
+   */
+  public ResponseEntity<StreamingResponseBody> exportLedgers(
+      AuthDto authDto, String format, LocalDate startDate, LocalDate endDate) {
+    LedgerExportFormat exportFormat = LedgerExportFormat.from(format);
+    Long userIdx = requireUserIdx(authDto);
+    LocalDate from = startDate != null ? startDate : MIN_DATE;
+    LocalDate to = endDate != null ? endDate : MAX_DATE;
+
+    StreamingResponseBody body = out -> writeRows(userIdx, from, to, exportFormat, out);
+
+    ContentDisposition disposition =
+        ContentDisposition.attachment()
+            .filename("ledgers." + exportFormat.getExtension())
+            .build();
+    return ResponseEntity.ok()
+        .contentType(exportFormat.getMediaType())
+        .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+        .body(body);
+  }
+
+  /**
+   * 스트림의 행을 순서대로 씁니다.
+   * 일정 행마다 flush 해서 클라이언트가 바로 받기 시작할 수 있게 합니다.
+   */
+  void writeRows(
+      Long userIdx, LocalDate from, LocalDate to, LedgerExportFormat format, OutputStream out)
+      throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setReadOnly(true);
+
+    try {
+      Long written =
+          transactionTemplate.execute(
+              status -> {
+                LocalDate archivedBefore = ledgerArchiveYearRepository.findArchivedBefore(userIdx);
+                boolean readsArchive = archivedBefore != null && from.isBefore(archivedBefore);
+                try (Stream<LedgerExportRow> rows =
+                        ledgerRepository.streamExportRows(userIdx, from, to);
+                    Stream<LedgerExportRow> archivedRows =
+                        readsArchive
+                            ? ledgerArchiveRepository.streamExportRows(userIdx, from, to)
+                            : Stream.empty()) {
+                  format.writeHeader(writer, objectMapper);
+                  long count = 0;
+                  Iterator<LedgerExportRow> iterator =
+                      new MergingIterator(rows.iterator(), archivedRows.iterator());
+                  while (iterator.hasNext()) {
+                    format.writeRow(writer, objectMapper, iterator.next());
+                    if (++count % FLUSH_INTERVAL == 0) {
+                      writer.flush();
+                    }
+                  }
+                  return count;
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              });
+      writer.flush();
+      log.info("거래 내역 내보내기 완료 : userIdx={}, format={}, rows={}", userIdx, format, written);
+    } catch (UncheckedIOException e) {
+      // 클라이언트가 다운로드를 중단한 경우 등
+      throw e.getCause();
+    }
+  }
+
+  // 토큰의 userIdx 를 그대로 사용한다 (사용자 테이블 조회 없음)
+  private Long requireUserIdx(AuthDto authDto) {
+    if (authDto == null || authDto.getUserIdx() == null) {
+      throw new CustomException(
+          HttpStatus.BAD_REQUEST,
+          "sm.common.fail.user_not_found",
+          "올바르지 않은 사용자 정보입니다.");
+    }
+    return authDto.getUserIdx();
+  }
+
+  /**
+   * (recordedDate, ledgerIdx) 순서로 정렬된 두 행 스트림을 같은 순서로 병합합니다.
+   */
+  private static final class MergingIterator implements Iterator<LedgerExportRow> {
+
+    private static final Comparator<LedgerExportRow> ORDER =
+        Comparator.comparing(LedgerExportRow::recordedDate)
+            .thenComparing(LedgerExportRow::ledgerIdx);
+
+    private final Iterator<LedgerExportRow> left;
+    private final Iterator<LedgerExportRow> right;
+    private LedgerExportRow nextLeft;
+    private LedgerExportRow nextRight;
+
+    private MergingIterator(Iterator<LedgerExportRow> left, Iterator<LedgerExportRow> right) {
+      this.left = left;
+      this.right = right;
+      this.nextLeft = left.hasNext() ? left.next() : null;
+      this.nextRight = right.hasNext() ? right.next() : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return nextLeft != null || nextRight != null;
+    }
+
+    @Override
+    public LedgerExportRow next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      LedgerExportRow row;
+      if (nextRight == null || (nextLeft != null && ORDER.compare(nextLeft, nextRight) <= 0)) {
+        row = nextLeft;
+        nextLeft = left.hasNext() ? left.next() : null;
+      } else {
+        row = nextRight;
+        nextRight = right.hasNext() ? right.next() : null;
+      }
+      return row;
+    }
+  }
+}
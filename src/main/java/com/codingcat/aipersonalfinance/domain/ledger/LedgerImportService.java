@@ -0,0 +1,282 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import static com.codingcat.aipersonalfinance.module.response.ApiResponseUtil.sendApiOK;
+
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerCreateRequest;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerImportResponse;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerImportResponse.RowError;
+import com.codingcat.aipersonalfinance.domain.user.User;
+import com.codingcat.aipersonalfinance.domain.user.UserRepository;
+import com.codingcat.aipersonalfinance.module.exception.CustomException;
+import com.codingcat.aipersonalfinance.module.security.AuthDto;
+import com.codingcat.aipersonalfinance.module.util.CsvReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 거래 내역 가져오기 서비스
+ * 업로드된 CSV 를 한 행씩 읽어 LedgerCreateRequest 규칙으로 검증하고,
+ * 배치 크기만큼 모아서 배치마다 하나의 트랜잭션으로 저장합니다. (JDBC 배치 INSERT)
+ * 헤더는 내보내기(CSV) 형식과 같으며, ledger_idx 와 is_auto_generated 컬럼은 무시합니다.
+ */
+@Slf4j
+@Service
+public class LedgerImportService {
+
+  private static final int MAX_REPORTED_ERRORS = 1000;
+  private static final Set<String> REQUIRED_COLUMNS =
+      Set.of("recorded_date", "type", "category", "payment_method", "amount", "desc");
+
+  private final LedgerRepository ledgerRepository;
+  private final UserRepository userRepository;
+  private final Validator validator;
+  private final EntityManager entityManager;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+
+  public LedgerImportService(
+      LedgerRepository ledgerRepository,
+      UserRepository userRepository,
+      Validator validator,
+      EntityManager entityManager,
+      ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager,
+      @Value("${ledger.import.batch-size:500}") int batchSize) {
+    this.ledgerRepository = ledgerRepository;
+    this.userRepository = userRepository;
+    this.validator = validator;
+    this.entityManager = entityManager;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * CSV 파일로 거래 내역을 가져옵니다.
+   * 검증에 실패한 행은 건너뛰고 줄 번호와 사유를 결과에 담습니다.
+   */
+  public ResponseEntity<?> importLedgers(AuthDto authDto, MultipartFile file) {
+    if (file == null || file.isEmpty()) {
+      throw new CustomException(
+          HttpStatus.BAD_REQUEST, "sm.ledger.fail.empty_import_file", "가져올 파일이 비어 있습니다.");
+    }
+    Long userIdx = requireUserIdx(authDto);
+
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+      return sendApiOK(importRecords(userIdx, new CsvReader(reader)));
+    } catch (IOException e) {
+      throw new CustomException(
+          HttpStatus.BAD_REQUEST, "sm.ledger.fail.import_read", "파일을 읽을 수 없습니다.");
+    }
+  }
+
+  private LedgerImportResponse importRecords(Long userIdx, CsvReader csv) throws IOException {
+    Map<String, Integer> columns = parseHeader(csv.readRecord());
+
+    long totalRows = 0;
+    long importedRows = 0;
+    long failedRows = 0;
+    List<RowError> errors = new ArrayList<>();
+    List<LedgerCreateRequest> batch = new ArrayList<>(batchSize);
+
+    long started = System.currentTimeMillis();
+    long line = csv.getLineNumber() + 1;
+    List<String> record;
+    while ((record = csv.readRecord()) != null) {
+      if (isBlank(record)) {
+        line = csv.getLineNumber() + 1;
+        continue;
+      }
+      totalRows++;
+
+      String error;
+      try {
+        LedgerCreateRequest request = toRequest(record, columns);
+        error = validate(request);
+        if (error == null) {
+          batch.add(request);
+        }
+      } catch (IllegalArgumentException | DateTimeParseException e) {
+        error = e.getMessage();
+      }
+
+      if (error != null) {
+        failedRows++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+          errors.add(new RowError(line, error));
+        }
+      }
+      if (batch.size() >= batchSize) {
+        importedRows += persist(userIdx, batch);
+        batch.clear();
+      }
+      line = csv.getLineNumber() + 1;
+    }
+    if (!batch.isEmpty()) {
+      importedRows += persist(userIdx, batch);
+    }
+
+    log.info(
+        "거래 내역 가져오기 완료 : userIdx={}, total={}, imported={}, failed={}, {}ms",
+        userIdx, totalRows, importedRows, failedRows, System.currentTimeMillis() - started);
+
+    return LedgerImportResponse.builder()
+        .totalRows(totalRows)
+        .importedRows(importedRows)
+        .failedRows(failedRows)
+        .errors(errors)
+        .errorsTruncated(failedRows > errors.size())
+        .build();
+  }
+
+  /**
+   * 한 배치를 하나의 트랜잭션으로 저장합니다.
+   * flush 후 clear 해서 영속성 컨텍스트가 배치 크기 이상으로 커지지 않게 하고,
+   * 파생 데이터(일간 집계, 통계 캐시)는 배치 이벤트 한 번으로 갱신합니다.
+   */
+  private int persist(Long userIdx, List<LedgerCreateRequest> requests) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+          User user = userRepository.getReferenceById(userIdx);
+
+          List<Ledger> ledgers =
+              ledgerRepository.saveAll(
+                  requests.stream().map(request -> request.toEntity(user)).toList());
+          List<LedgerSnapshot> snapshots = ledgers.stream().map(LedgerSnapshot::of).toList();
+          eventPublisher.publishEvent(new LedgerBatchCreatedEvent(userIdx, snapshots));
+
+          entityManager.flush();
+          entityManager.clear();
+        });
+    return requests.size();
+  }
+
+  private Map<String, Integer> parseHeader(List<String> header) {
+    if (header == null) {
+      throw new CustomException(
+          HttpStatus.BAD_REQUEST, "sm.ledger.fail.empty_import_file", "가져올 파일이 비어 있습니다.");
+    }
+    Map<String, Integer> columns = new HashMap<>();
+    for (int i = 0; i < header.size(); i++) {
+      // 엑셀에서 저장한 UTF-8 BOM 제거
+      String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+      columns.put(name, i);
+    }
+    if (!columns.keySet().containsAll(REQUIRED_COLUMNS)) {
+      throw new CustomException(
+          HttpStatus.BAD_REQUEST,
+          "sm.ledger.fail.invalid_import_header",
+          "CSV 헤더에 필수 컬럼이 없습니다. " + REQUIRED_COLUMNS);
+    }
+    return columns;
+  }
+
+  private LedgerCreateRequest toRequest(List<String> record, Map<String, Integer> columns) {
+    String amount = value(record, columns, "amount");
+    return LedgerCreateRequest.builder()
+        .type(parseEnum(LedgerType.class, "type", value(record, columns, "type")))
+        .amount(amount == null ? null : parseAmount(amount))
+        .desc(value(record, columns, "desc"))
+        .place(value(record, columns, "place"))
+        .category(parseEnum(Category.class, "category", value(record, columns, "category")))
+        .paymentMethod(
+            parseEnum(PaymentMethod.class, "payment_method", value(record, columns, "payment_method")))
+        .recordedDate(parseDate(value(record, columns, "recorded_date")))
+        .build();
+  }
+
+  private String validate(LedgerCreateRequest request) {
+    Set<ConstraintViolation<LedgerCreateRequest>> violations = validator.validate(request);
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream()
+        .map(ConstraintViolation::getMessage)
+        .sorted()
+        .collect(Collectors.joining(", "));
+  }
+
+  // 빈 값은 null 로 처리해서 필수값 검증 메시지가 나오도록 한다
+  private static String value(List<String> record, Map<String, Integer> columns, String column) {
+    Integer index = columns.get(column);
+    if (index == null || index >= record.size()) {
+      return null;
+    }
+    String value = record.get(index).trim();
+    return value.isEmpty() ? null : value;
+  }
+
+  private static <E extends Enum<E>> E parseEnum(Class<E> type, String column, String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(column + " 값이 올바르지 않습니다: " + value);
+    }
+  }
+
+  // 카드 명세서의 천 단위 구분 쉼표 허용 (예: "12,000")
+  private static BigDecimal parseAmount(String value) {
+    try {
+      return new BigDecimal(value.replace(",", ""));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("amount 값이 올바르지 않습니다: " + value);
+    }
+  }
+
+  private static LocalDate parseDate(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return LocalDate.parse(value);
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("recorded_date 는 yyyy-MM-dd 형식이어야 합니다: " + value);
+    }
+  }
+
+  private static boolean isBlank(List<String> record) {
+    return record.stream().allMatch(String::isBlank);
+  }
+
+  // 토큰의 userIdx 를 그대로 사용한다 (사용자 테이블 조회 없음)
+  private Long requireUserIdx(AuthDto authDto) {
+    if (authDto == null || authDto.getUserIdx() == null) {
+      throw new CustomException(
+          HttpStatus.BAD_REQUEST,
+          "sm.common.fail.user_not_found",
+          "올바르지 않은 사용자 정보입니다.");
+    }
+    return authDto.getUserIdx();
+  }
+}
@@ -0,0 +1,29 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 거래 내역 테이블의 월 단위 RANGE 파티션
+ *
+ * @param name 파티션 이름 (p202601, 마지막은 pmax)
+ * @param upperBound 이 날짜 미만의 거래 날짜를 담음 (MAXVALUE 파티션이면 null)
+ */
+public record LedgerPartition(String name, LocalDate upperBound) {
+
+  public static final String MAX_PARTITION = "pmax";
+
+  private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+  /**
+   * 한 달치 파티션 (해당 월 1일 ~ 말일)
+   */
+  public static LedgerPartition ofMonth(YearMonth month) {
+    return new LedgerPartition(month.format(NAME_FORMAT), month.plusMonths(1).atDay(1));
+  }
+
+  public boolean isMaxValue() {
+    return upperBound == null;
+  }
+}
@@ -0,0 +1,32 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import java.util.List;
+
+/**
+ * 거래 내역 파티션 DDL 전략
+ * 파티션 관리 작업(LedgerPartitionMaintenanceJob)은 DB 종류와 무관하게 이 인터페이스로만 파티션을 다룹니다.
+ * 운영(MySQL)은 MySqlLedgerPartitionDdl 을 사용하고, 파티션을 지원하지 않는 DB 에서는 다른 구현으로 바꿔 끼웁니다.
+ */
+public interface LedgerPartitionDdl {
+
+  /**
+   * 거래 내역 테이블의 파티션 목록 (상한 오름차순, MAXVALUE 파티션은 마지막)
+   * 파티션되어 있지 않으면 빈 목록을 반환합니다.
+   */
+  List<LedgerPartition> listPartitions();
+
+  /**
+   * 마지막 파티션 뒤에 파티션을 추가합니다. MAXVALUE 파티션이 있으면 그 앞에 나눠 넣습니다.
+   */
+  void addPartition(LedgerPartition partition);
+
+  /**
+   * 파티션과 그 안의 거래 내역을 삭제합니다.
+   */
+  void dropPartition(LedgerPartition partition);
+
+  /**
+   * 파티션의 (삭제되지 않은) 거래 내역을 보관 테이블(ledger_archive)로 옮기고 파티션을 삭제합니다.
+   */
+  void archivePartition(LedgerPartition partition);
+}
@@ -0,0 +1,135 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import com.codingcat.aipersonalfinance.module.lock.JobLease;
+import com.codingcat.aipersonalfinance.module.shard.EachShard;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거래 내역 월 파티션 관리 작업
+ * 이번 달부터 months-ahead 개월 뒤까지의 파티션을 미리 만들어서, 새 거래가 MAXVALUE 파티션에 쌓이지 않게 합니다.
+ * retention-months 를 지정하면 그보다 오래된 월 파티션을 삭제(DROP)하거나 별도 테이블로 보관(ARCHIVE)합니다.
+ * 일간 집계(ledger_daily_agg)는 그대로 두므로 지운 기간의 통계는 유지되지만, 집계를 다시 만들면 사라집니다.
+ * 파티션을 정리하면 모든 사용자의 통계 스냅샷을 버리도록 LedgerBulkRemovedEvent 를 발행합니다.
+ * 파티션되어 있지 않은 테이블(H2 개발 DB, V11 적용 전)이면 아무것도 하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.partition.enabled", havingValue = "true")
+public class LedgerPartitionMaintenanceJob {
+
+  private final LedgerPartitionDdl partitionDdl;
+  private final ApplicationEventPublisher eventPublisher;
+  private final int monthsAhead;
+  private final int retentionMonths;
+  private final ExpiredAction expiredAction;
+
+  public LedgerPartitionMaintenanceJob(
+      LedgerPartitionDdl partitionDdl,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${ledger.partition.months-ahead:3}") int monthsAhead,
+      @Value("${ledger.partition.retention-months:0}") int retentionMonths,
+      @Value("${ledger.partition.expired-action:ARCHIVE}") ExpiredAction expiredAction) {
+    this.partitionDdl = partitionDdl;
+    this.eventPublisher = eventPublisher;
+    this.monthsAhead = monthsAhead;
+    this.retentionMonths = retentionMonths;
+    this.expiredAction = expiredAction;
+  }
+
+  // 여러 서버 중 임대를 얻은 한 서버에서만, 샤드마다 실행한다
+  @JobLease(name = "ledger-partition-maintenance", leaseFor = "PT30M")
+  @EachShard
+  @Scheduled(cron = "${ledger.partition.cron:0 20 4 * * *}")
+  public void maintainScheduled() {
+    maintain(LocalDate.now());
+  }
+
+  /**
+   * 기준일에 맞춰 앞으로 쓸 파티션을 만들고 보관 기간이 지난 파티션을 정리합니다.
+   *
+   * @param today 기준일
+   * @return 이번 실행 결과
+   */
+  public RunResult maintain(LocalDate today) {
+    List<LedgerPartition> partitions = partitionDdl.listPartitions();
+    if (partitions.isEmpty()) {
+      log.warn("거래 내역 테이블이 파티션되어 있지 않아 파티션 관리를 건너뜀");
+      return new RunResult(today, List.of(), List.of());
+    }
+
+    YearMonth currentMonth = YearMonth.from(today);
+    List<String> created = new ArrayList<>();
+    // 월 파티션은 마지막 상한 뒤에만 붙일 수 있다 (그 이전 기간은 이미 어떤 파티션에 속함)
+    LocalDate lastBound =
+        partitions.stream()
+            .map(LedgerPartition::upperBound)
+            .filter(bound -> bound != null)
+            .max(LocalDate::compareTo)
+            .orElse(LocalDate.MIN);
+    // 작업이 한동안 실행되지 않았으면 비어 있는 달부터 채운다
+    YearMonth month =
+        lastBound.equals(LocalDate.MIN) || YearMonth.from(lastBound).isAfter(currentMonth)
+            ? currentMonth
+            : YearMonth.from(lastBound);
+    for (; !month.isAfter(currentMonth.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+      LedgerPartition partition = LedgerPartition.ofMonth(month);
+      if (partition.upperBound().isAfter(lastBound)) {
+        partitionDdl.addPartition(partition);
+        created.add(partition.name());
+        lastBound = partition.upperBound();
+      }
+    }
+
+    List<String> expired = new ArrayList<>();
+    if (retentionMonths > 0) {
+      LocalDate cutoff = currentMonth.minusMonths(retentionMonths).atDay(1);
+      for (LedgerPartition partition : partitions) {
+        if (partition.isMaxValue() || partition.upperBound().isAfter(cutoff)) {
+          continue;
+        }
+        if (expiredAction == ExpiredAction.DROP) {
+          partitionDdl.dropPartition(partition);
+        } else {
+          partitionDdl.archivePartition(partition);
+        }
+        expired.add(partition.name());
+      }
+      if (!expired.isEmpty()) {
+        eventPublisher.publishEvent(LedgerBulkRemovedEvent.allUsers());
+      }
+    }
+
+    log.info(
+        "거래 내역 파티션 관리 완료 : 기준일 {}, 생성 {}, {} {}",
+        today, created, expiredAction, expired);
+    return new RunResult(today, created, expired);
+  }
+
+  /**
+   * 보관 기간이 지난 파티션 처리 방식
+   */
+  public enum ExpiredAction {
+    // 파티션과 거래 내역을 삭제
+    DROP,
+    // 거래 내역을 보관 테이블(ledger_archive)로 옮긴 뒤 파티션을 삭제
+    ARCHIVE
+  }
+
+  /**
+   * 파티션 관리 실행 결과
+   *
+   * @param today 기준일
+   * @param created 새로 만든 파티션
+   * @param expired 삭제 또는 보관한 파티션
+   */
+  public record RunResult(LocalDate today, List<String> created, List<String> expired) {}
+}
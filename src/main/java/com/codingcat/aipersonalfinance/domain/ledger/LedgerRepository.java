@@ -1,11 +1,19 @@
 package com.codingcat.aipersonalfinance.domain.ledger;
 
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerExportRow;
 import com.codingcat.aipersonalfinance.domain.user.User;
+import jakarta.persistence.QueryHint;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 /**
@@ -14,6 +22,17 @@ import org.springframework.data.repository.query.Param;
  */
 public interface LedgerRepository extends JpaRepository<Ledger, Long>, LedgerRepositoryCustom {
 
+  /**
+   * 소유자 조건을 포함해서 거래 내역 한 건을 조회합니다.
+   * user_idx 외래키만 비교하므로 사용자 테이블을 조인하지 않습니다.
+   * @SQLRestriction에 의해 삭제된 항목은 자동 제외됩니다.
+   *
+   * @param idx 거래 내역 ID
+   * @param userIdx 소유자 ID
+   * @return 본인의 거래 내역 (없거나 다른 사용자의 것이면 empty)
+   */
+  Optional<Ledger> findByIdxAndUser_Idx(Long idx, Long userIdx);
+
   /**
    * 사용자의 활성 거래 내역을 조회합니다.
    * @SQLRestriction에 의해 삭제된 항목은 자동 제외됩니다.
@@ -123,4 +142,100 @@ public interface LedgerRepository extends JpaRepository<Ledger, Long>, LedgerRep
       @Param("type") LedgerType type,
       @Param("startDate") LocalDate startDate,
       @Param("endDate") LocalDate endDate);
+
+  /**
+   * 내보내기용 거래 내역을 전진 전용 커서로 스트리밍합니다.
+   * 생성자 프로젝션이라 영속성 컨텍스트에 엔티티가 쌓이지 않으며, 트랜잭션 안에서 소비한 뒤 닫아야 합니다.
+   * (recorded_date, ledger_idx) 순서는 idx_ledger_user_date 인덱스 순서와 같아 정렬 비용이 없습니다.
+   *
+   * @param userIdx 사용자 ID
+   * @param startDate 시작 날짜
+   * @param endDate 종료 날짜
+   * @return 거래 내역 행 스트림
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  @Query(
+      """
+      SELECT new com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerExportRow(
+        l.idx, l.recordedDate, l.type, l.category, l.paymentMethod,
+        l.amount, l.desc, l.place, l.isAutoGenerated)
+      FROM Ledger l
+      WHERE l.user.idx = :userIdx
+        AND l.recordedDate BETWEEN :startDate AND :endDate
+      ORDER BY l.recordedDate, l.idx
+      """)
+  Stream<LedgerExportRow> streamExportRows(
+      @Param("userIdx") Long userIdx,
+      @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate);
+
+  /**
+   * 통계용 열 기반 스냅샷(LedgerColumnarSnapshot)을 만들기 위해 사용자의 거래 내역 전체를 스트리밍합니다.
+   * 집계에 필요한 값만 읽고, (recorded_date, ledger_idx) 순서라 스냅샷 배열 끝에 그대로 붙습니다.
+   *
+   * @param userIdx 사용자 ID
+   * @return 거래 내역 스냅샷 스트림
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+  })
+  @Query(
+      """
+      SELECT new com.codingcat.aipersonalfinance.domain.ledger.LedgerSnapshot(
+        l.idx, l.user.idx, l.type, l.category, l.paymentMethod, l.recordedDate, l.amount)
+      FROM Ledger l
+      WHERE l.user.idx = :userIdx
+      ORDER BY l.recordedDate, l.idx
+      """)
+  Stream<LedgerSnapshot> streamSnapshots(@Param("userIdx") Long userIdx);
+
+  /**
+   * 사용자의 거래 내역 중 가장 최근 수정 시각을 조회합니다. (통계 스냅샷의 최신 여부 확인용)
+   * 논리 삭제도 수정 시각을 바꾸므로 삭제된 행까지 포함하도록 네이티브 쿼리로 읽습니다.
+   * idx_ledger_user_modified 인덱스 끝값 하나만 읽습니다.
+   *
+   * @param userIdx 사용자 ID
+   * @return 가장 최근 수정 시각 (거래 내역이 없으면 null)
+   */
+  @Query(
+      value = "SELECT MAX(modified_at) FROM ledger WHERE user_idx = :userIdx",
+      nativeQuery = true)
+  LocalDateTime findLastModifiedAt(@Param("userIdx") Long userIdx);
+
+  /**
+   * 주어진 거래 내역 중 가장 최근 수정 시각을 조회합니다. (커밋된 변경을 스냅샷에 반영한 뒤 최신 여부 기준을 올릴 때 사용)
+   * 논리 삭제된 행도 포함합니다.
+   *
+   * @param ledgerIds 거래 내역 ID 목록
+   * @return 가장 최근 수정 시각 (해당 행이 없으면 null)
+   */
+  @Query(
+      value = "SELECT MAX(modified_at) FROM ledger WHERE ledger_idx IN (:ledgerIds)",
+      nativeQuery = true)
+  LocalDateTime findLastModifiedAtOf(@Param("ledgerIds") Collection<Long> ledgerIds);
+
+  /**
+   * 사용자의 거래 내역 중 기준 시각 이후에 수정된, 주어진 ID 외의 행 수를 조회합니다.
+   * idx_ledger_user_modified 인덱스에서 기준 시각 이후 범위만 읽습니다.
+   *
+   * @param userIdx 사용자 ID
+   * @param since 기준 시각 (이 시각보다 나중에 수정된 행만 셈)
+   * @param ledgerIds 제외할 거래 내역 ID 목록
+   * @return 행 수
+   */
+  @Query(
+      value =
+          "SELECT COUNT(*) FROM ledger WHERE user_idx = :userIdx AND modified_at > :since"
+              + " AND ledger_idx NOT IN (:ledgerIds)",
+      nativeQuery = true)
+  long countModifiedSinceExcept(
+      @Param("userIdx") Long userIdx,
+      @Param("since") LocalDateTime since,
+      @Param("ledgerIds") Collection<Long> ledgerIds);
 }
@@ -1,6 +1,7 @@
 package com.codingcat.aipersonalfinance.domain.ledger;
 
 import com.codingcat.aipersonalfinance.domain.ledger.dto.CategorySummary;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerCursor;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerSearchRequest;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.MonthlySummary;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.PaymentMethodSummary;
@@ -25,6 +26,18 @@ public interface LedgerRepositoryCustom {
      */
     Page<Ledger> findByPageInLedger(User user, LedgerSearchRequest condition, Pageable pageable);
 
+    /**
+     * 검색 조건에 따라 거래 내역을 커서(keyset) 방식으로 조회합니다.
+     * (recordedDate DESC, idx DESC) 순서로 정렬하며 count 쿼리를 실행하지 않습니다.
+     *
+     * @param user 사용자
+     * @param condition 검색 조건
+     * @param cursor 이전 페이지의 마지막 위치 (첫 페이지면 null)
+     * @param limit 조회 개수
+     * @return 커서 이후의 거래 내역 목록
+     */
+    List<Ledger> findBySliceInLedger(User user, LedgerSearchRequest condition, LedgerCursor cursor, int limit);
+
     /**
      * 사용자의 월별 수입/지출 요약 조회
      *
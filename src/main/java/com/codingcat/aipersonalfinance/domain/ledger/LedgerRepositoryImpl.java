@@ -2,30 +2,53 @@ package com.codingcat.aipersonalfinance.domain.ledger;
 
 import static com.codingcat.aipersonalfinance.module.response.PageResponse.getOrderSpecifiers;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.CategorySummary;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerCursor;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerSearchRequest;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.MonthlySummary;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.PaymentMethodSummary;
 import com.codingcat.aipersonalfinance.domain.user.User;
+import com.codingcat.aipersonalfinance.module.exception.CustomException;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 
 /**
  * 통계 조회를 위한 커스텀 Repository 구현
  * QueryDSL을 사용한 복잡한 집계 쿼리
+ * 목록/커서 조회는 기간이 사용자의 보관 연도(ledger_archive_year)에 걸치면 보관 테이블도 함께 읽어서 합칩니다.
  */
 @RequiredArgsConstructor
 public class LedgerRepositoryImpl implements LedgerRepositoryCustom {
 
+    // 커서 조회 순서 (보관 테이블과 합칠 때 사용)
+    private static final Sort CURSOR_SORT =
+      Sort.by(Sort.Order.desc("recordedDate"), Sort.Order.desc("idx"));
+
+    // 보관 테이블과 병합할 수 있는 정렬 속성
+    // 날짜/숫자만 허용: 문자열과 열거형은 DB 콜레이션 순서와 자바 비교 순서가 달라 페이지 경계가 어긋난다
+    // null 은 MySQL 과 같이 오름차순에서 앞에 온다
+    private static final Map<String, Comparator<Ledger>> MERGE_SORT_KEYS = Map.of(
+      "recordedDate", Comparator.comparing(Ledger::getRecordedDate, Comparator.nullsFirst(Comparator.naturalOrder())),
+      "amount", Comparator.comparing(Ledger::getAmount, Comparator.nullsFirst(Comparator.naturalOrder())),
+      "createdAt", Comparator.comparing(Ledger::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())),
+      "idx", Comparator.comparing(Ledger::getIdx, Comparator.nullsFirst(Comparator.naturalOrder())));
+
     private final JPAQueryFactory queryFactory;
 
     // 조건에 맞는 거래 내역 가져오기
@@ -35,21 +58,13 @@ public class LedgerRepositoryImpl implements LedgerRepositoryCustom {
       LedgerSearchRequest condition,
       Pageable pageable
     ) {
+      if (archivedBefore(user, condition) != null) {
+        return findByPageWithArchive(user, condition, pageable);
+      }
+
       QLedger qLedger = QLedger.ledger;
 
-      BooleanBuilder builder = new BooleanBuilder();
-      builder.and(qLedger.user.eq(user));
-
-      if (condition.getType() != null) builder.and(qLedger.type.eq(condition.getType()));
-      if (condition.getCategory() != null) builder.and(qLedger.category.eq(condition.getCategory()));
-      if (condition.getStartDate() != null && condition.getEndDate() != null) {
-        builder.and(
-          qLedger.recordedDate.between(
-            condition.getStartDate(),
-            condition.getEndDate()
-          )
-        );
-      }
+      BooleanBuilder builder = searchCondition(qLedger, user, condition);
 
       // 🔥 Sort 변환
       List<OrderSpecifier<?>> orders =
@@ -76,98 +91,289 @@ public class LedgerRepositoryImpl implements LedgerRepositoryCustom {
       return new PageImpl<>(content, pageable, total == null ? 0 : total);
     }
 
+    /**
+     * 거래 내역과 보관 거래 내역을 같은 순서로 (offset + size)건씩 읽어서 병합한 뒤 페이지만큼 잘라냅니다.
+     * 메모리 병합 순서가 DB 정렬과 같도록 정렬은 MERGE_SORT_KEYS 속성으로 제한합니다.
+     * 보관된 행은 조회 응답용으로만 변환되며 영속 상태가 아닙니다.
+     */
+    private Page<Ledger> findByPageWithArchive(
+      User user,
+      LedgerSearchRequest condition,
+      Pageable pageable
+    ) {
+      QLedger qLedger = QLedger.ledger;
+      QLedgerArchive qArchive = QLedgerArchive.ledgerArchive;
+      // 같은 값의 행도 두 테이블에서 같은 순서가 되도록 ID 역순을 마지막 정렬 조건으로 붙인다
+      Sort sort = (pageable.getSort().isSorted() ? pageable.getSort() : Sort.by(Sort.Order.desc("recordedDate")))
+        .and(Sort.by(Sort.Order.desc("idx")));
+      requireMergeableSort(sort);
+      Pageable merged = PageRequest.of(0, 1, sort);
+      long fetchSize = pageable.getOffset() + pageable.getPageSize();
+
+      BooleanBuilder hotCondition = searchCondition(qLedger, user, condition);
+      BooleanBuilder archiveCondition = archiveSearchCondition(qArchive, user, condition);
+
+      List<Ledger> hot = queryFactory
+        .selectFrom(qLedger)
+        .where(hotCondition)
+        .limit(fetchSize)
+        .orderBy(getOrderSpecifiers(merged, Ledger.class, "ledger").toArray(new OrderSpecifier[0]))
+        .fetch();
+      List<Ledger> archived = queryFactory
+        .selectFrom(qArchive)
+        .where(archiveCondition)
+        .limit(fetchSize)
+        .orderBy(getOrderSpecifiers(merged, LedgerArchive.class, "ledgerArchive").toArray(new OrderSpecifier[0]))
+        .fetch()
+        .stream()
+        .map(archive -> Ledger.fromArchive(archive, user))
+        .toList();
+
+      List<Ledger> content = Stream.concat(hot.stream(), archived.stream())
+        .sorted(comparatorOf(sort))
+        .skip(pageable.getOffset())
+        .limit(pageable.getPageSize())
+        .toList();
+
+      Long hotTotal = queryFactory.select(qLedger.count()).from(qLedger).where(hotCondition).fetchOne();
+      Long archiveTotal = queryFactory.select(qArchive.count()).from(qArchive).where(archiveCondition).fetchOne();
+      long total = (hotTotal == null ? 0 : hotTotal) + (archiveTotal == null ? 0 : archiveTotal);
+
+      return new PageImpl<>(content, pageable, total);
+    }
+
+    // 커서 이후의 거래 내역 가져오기 (offset, count 없이 seek)
+    @Override
+    public List<Ledger> findBySliceInLedger(
+      User user,
+      LedgerSearchRequest condition,
+      LedgerCursor cursor,
+      int limit
+    ) {
+      QLedger qLedger = QLedger.ledger;
+
+      BooleanBuilder builder = searchCondition(qLedger, user, condition);
+      if (cursor != null) {
+        // recordedDate <= 커서 날짜 조건을 함께 걸어서 인덱스 range scan 시작 위치를 커서로 맞춘다
+        builder.and(qLedger.recordedDate.loe(cursor.recordedDate()));
+        builder.and(
+          qLedger.recordedDate.lt(cursor.recordedDate())
+            .or(qLedger.recordedDate.eq(cursor.recordedDate()).and(qLedger.idx.lt(cursor.idx())))
+        );
+      }
+
+      List<Ledger> hot = queryFactory
+        .selectFrom(qLedger)
+        .where(builder)
+        .orderBy(qLedger.recordedDate.desc(), qLedger.idx.desc())
+        .limit(limit)
+        .fetch();
+
+      // 최근 거래로 한 페이지가 채워졌고 마지막 거래가 보관 경계 이후라면 보관 테이블에는 더 앞선 행이 없다
+      LocalDate archivedBefore = archivedBefore(user, condition);
+      if (archivedBefore == null
+          || (hot.size() == limit && !hot.get(hot.size() - 1).getRecordedDate().isBefore(archivedBefore))) {
+        return hot;
+      }
+
+      QLedgerArchive qArchive = QLedgerArchive.ledgerArchive;
+      BooleanBuilder archiveBuilder = archiveSearchCondition(qArchive, user, condition);
+      if (cursor != null) {
+        archiveBuilder.and(qArchive.recordedDate.loe(cursor.recordedDate()));
+        archiveBuilder.and(
+          qArchive.recordedDate.lt(cursor.recordedDate())
+            .or(qArchive.recordedDate.eq(cursor.recordedDate()).and(qArchive.idx.lt(cursor.idx())))
+        );
+      }
+      List<Ledger> archived = queryFactory
+        .selectFrom(qArchive)
+        .where(archiveBuilder)
+        .orderBy(qArchive.recordedDate.desc(), qArchive.idx.desc())
+        .limit(limit)
+        .fetch()
+        .stream()
+        .map(archive -> Ledger.fromArchive(archive, user))
+        .toList();
+
+      return Stream.concat(hot.stream(), archived.stream())
+        .sorted(comparatorOf(CURSOR_SORT))
+        .limit(limit)
+        .toList();
+    }
+
+    // 목록 조회 공통 검색 조건
+    private BooleanBuilder searchCondition(QLedger qLedger, User user, LedgerSearchRequest condition) {
+      BooleanBuilder builder = new BooleanBuilder();
+      builder.and(qLedger.user.eq(user));
+      if (condition == null) return builder;
+
+      if (condition.getType() != null) builder.and(qLedger.type.eq(condition.getType()));
+      if (condition.getCategory() != null) builder.and(qLedger.category.eq(condition.getCategory()));
+      if (condition.getStartDate() != null && condition.getEndDate() != null) {
+        builder.and(
+          qLedger.recordedDate.between(
+            condition.getStartDate(),
+            condition.getEndDate()
+          )
+        );
+      }
+      return builder;
+    }
+
+    // 보관 거래 내역 검색 조건 (searchCondition 과 같은 조건)
+    private BooleanBuilder archiveSearchCondition(
+      QLedgerArchive qArchive, User user, LedgerSearchRequest condition) {
+      BooleanBuilder builder = new BooleanBuilder();
+      builder.and(qArchive.userIdx.eq(user.getIdx()));
+      if (condition == null) return builder;
+
+      if (condition.getType() != null) builder.and(qArchive.type.eq(condition.getType()));
+      if (condition.getCategory() != null) builder.and(qArchive.category.eq(condition.getCategory()));
+      if (condition.getStartDate() != null && condition.getEndDate() != null) {
+        builder.and(qArchive.recordedDate.between(condition.getStartDate(), condition.getEndDate()));
+      }
+      return builder;
+    }
+
+    /**
+     * 사용자의 보관 경계 날짜(마지막 보관 연도의 다음 해 1월 1일)를 반환합니다.
+     * 보관된 거래 내역이 없거나 검색 시작일이 경계 이후여서 보관 테이블을 읽을 필요가 없으면 null 입니다.
+     */
+    private LocalDate archivedBefore(User user, LedgerSearchRequest condition) {
+      QLedgerArchiveYear year = QLedgerArchiveYear.ledgerArchiveYear;
+      Integer lastYear = queryFactory
+        .select(year.archiveYear.max())
+        .from(year)
+        .where(year.userIdx.eq(user.getIdx()))
+        .fetchOne();
+      if (lastYear == null) return null;
+
+      LocalDate archivedBefore = LocalDate.of(lastYear + 1, 1, 1);
+      boolean hasRange = condition != null && condition.getStartDate() != null && condition.getEndDate() != null;
+      return hasRange && !condition.getStartDate().isBefore(archivedBefore) ? null : archivedBefore;
+    }
+
+    // 보관 테이블과 병합할 수 없는 정렬이면 거절한다
+    private static void requireMergeableSort(Sort sort) {
+      for (Sort.Order order : sort) {
+        if (!MERGE_SORT_KEYS.containsKey(order.getProperty())) {
+          throw new CustomException(
+            HttpStatus.BAD_REQUEST,
+            "sm.ledger.fail.unsupported_archive_sort",
+            "보관된 기간이 포함된 조회는 거래 날짜, 금액, 등록 시각 정렬만 지원합니다.");
+        }
+      }
+    }
+
+    // 병합 정렬용 비교자 (QueryDSL 정렬과 같은 속성 이름을 사용)
+    private static Comparator<Ledger> comparatorOf(Sort sort) {
+      Comparator<Ledger> comparator = (a, b) -> 0;
+      for (Sort.Order order : sort) {
+        Comparator<Ledger> byProperty = MERGE_SORT_KEYS.get(order.getProperty());
+        comparator = comparator.thenComparing(order.isAscending() ? byProperty : byProperty.reversed());
+      }
+      return comparator;
+    }
+
+    // 통계는 일간 집계(ledger_daily_agg)를 읽으므로 비용이 거래 건수가 아닌 기간 일수에 비례한다
     @Override
     public List<MonthlySummary> getMonthlySummary(User user, LocalDate startDate, LocalDate endDate) {
-        QLedger ledger = QLedger.ledger;
+        QLedgerDailyAgg agg = QLedgerDailyAgg.ledgerDailyAgg;
+
+        NumberExpression<BigDecimal> income = Expressions.cases()
+                .when(agg.type.eq(LedgerType.INCOME)).then(agg.totalAmount)
+                .otherwise(BigDecimal.ZERO)
+                .sum().coalesce(BigDecimal.ZERO);
+        NumberExpression<BigDecimal> expense = Expressions.cases()
+                .when(agg.type.eq(LedgerType.EXPENSE)).then(agg.totalAmount)
+                .otherwise(BigDecimal.ZERO)
+                .sum().coalesce(BigDecimal.ZERO);
 
-        // 월별로 수입과 지출을 각각 합산
+        // 연월(yyyyMM) 컬럼으로 그룹핑/정렬 → YEAR(), MONTH() 함수 없이 인덱스 순서 그대로 사용
+        // 연월 범위 조건은 인덱스 탐색용, 날짜 조건은 월 중간에서 시작/종료하는 기간을 위해 유지
         return queryFactory
-                .select(Projections.constructor(MonthlySummary.class,
-                        ledger.recordedDate.year(),
-                        ledger.recordedDate.month(),
-                        // 수입 합계 (INCOME인 경우만)
-                        Expressions.cases()
-                                .when(ledger.type.eq(LedgerType.INCOME)).then(ledger.amount)
-                                .otherwise(BigDecimal.ZERO)
-                                .sum().coalesce(BigDecimal.ZERO),
-                        // 지출 합계 (EXPENSE인 경우만)
-                        Expressions.cases()
-                                .when(ledger.type.eq(LedgerType.EXPENSE)).then(ledger.amount)
-                                .otherwise(BigDecimal.ZERO)
-                                .sum().coalesce(BigDecimal.ZERO),
-                        // 순액 (수입 - 지출)
-                        Expressions.cases()
-                                .when(ledger.type.eq(LedgerType.INCOME)).then(ledger.amount)
-                                .otherwise(BigDecimal.ZERO)
-                                .sum().coalesce(BigDecimal.ZERO)
-                                .subtract(
-                                        Expressions.cases()
-                                                .when(ledger.type.eq(LedgerType.EXPENSE)).then(ledger.amount)
-                                                .otherwise(BigDecimal.ZERO)
-                                                .sum().coalesce(BigDecimal.ZERO)
-                                )
-                ))
-                .from(ledger)
-                .where(ledger.user.eq(user)
-                        .and(ledger.recordedDate.between(startDate, endDate)))
-                .groupBy(ledger.recordedDate.year(), ledger.recordedDate.month())
-                .orderBy(ledger.recordedDate.year().asc(), ledger.recordedDate.month().asc())
-                .fetch();
+                .select(agg.aggYearMonth, income, expense)
+                .from(agg)
+                .where(agg.userIdx.eq(user.getIdx())
+                        .and(agg.aggYearMonth.between(
+                                Ledger.toYearMonth(startDate), Ledger.toYearMonth(endDate)))
+                        .and(agg.aggDate.between(startDate, endDate))
+                        .and(agg.txCount.gt(0L)))
+                .groupBy(agg.aggYearMonth)
+                .orderBy(agg.aggYearMonth.asc())
+                .fetch()
+                .stream()
+                .map(tuple -> {
+                    int yearMonth = tuple.get(agg.aggYearMonth);
+                    BigDecimal totalIncome = tuple.get(income);
+                    BigDecimal totalExpense = tuple.get(expense);
+                    return MonthlySummary.builder()
+                            .year(yearMonth / 100)
+                            .month(yearMonth % 100)
+                            .totalIncome(totalIncome)
+                            .totalExpense(totalExpense)
+                            .netAmount(totalIncome.subtract(totalExpense))
+                            .build();
+                })
+                .toList();
     }
 
     @Override
     public List<CategorySummary> getCategorySummary(User user, LocalDate startDate, LocalDate endDate) {
-        QLedger ledger = QLedger.ledger;
+        QLedgerDailyAgg agg = QLedgerDailyAgg.ledgerDailyAgg;
 
         return queryFactory
                 .select(Projections.constructor(CategorySummary.class,
-                        ledger.category,
-                        ledger.amount.sum(),
-                        ledger.count()
+                        agg.category,
+                        agg.totalAmount.sum(),
+                        agg.txCount.sum()
                 ))
-                .from(ledger)
-                .where(ledger.user.eq(user)
-                        .and(ledger.type.eq(LedgerType.EXPENSE))
-                        .and(ledger.recordedDate.between(startDate, endDate)))
-                .groupBy(ledger.category)
-                .orderBy(ledger.amount.sum().desc())
+                .from(agg)
+                .where(agg.userIdx.eq(user.getIdx())
+                        .and(agg.type.eq(LedgerType.EXPENSE))
+                        .and(agg.aggDate.between(startDate, endDate))
+                        .and(agg.txCount.gt(0L)))
+                .groupBy(agg.category)
+                .orderBy(agg.totalAmount.sum().desc())
                 .fetch();
     }
 
     @Override
     public List<PaymentMethodSummary> getPaymentMethodSummary(User user, LocalDate startDate, LocalDate endDate) {
-        QLedger ledger = QLedger.ledger;
+        QLedgerDailyAgg agg = QLedgerDailyAgg.ledgerDailyAgg;
 
         return queryFactory
                 .select(Projections.constructor(PaymentMethodSummary.class,
-                        ledger.paymentMethod,
-                        ledger.amount.sum(),
-                        ledger.count()
+                        agg.paymentMethod,
+                        agg.totalAmount.sum(),
+                        agg.txCount.sum()
                 ))
-                .from(ledger)
-                .where(ledger.user.eq(user)
-                        .and(ledger.recordedDate.between(startDate, endDate)))
-                .groupBy(ledger.paymentMethod)
-                .orderBy(ledger.amount.sum().desc())
+                .from(agg)
+                .where(agg.userIdx.eq(user.getIdx())
+                        .and(agg.aggDate.between(startDate, endDate))
+                        .and(agg.txCount.gt(0L)))
+                .groupBy(agg.paymentMethod)
+                .orderBy(agg.totalAmount.sum().desc())
                 .fetch();
     }
 
     @Override
     public List<CategorySummary> getTopCategories(User user, LocalDate startDate, LocalDate endDate, int limit) {
-        QLedger ledger = QLedger.ledger;
+        QLedgerDailyAgg agg = QLedgerDailyAgg.ledgerDailyAgg;
 
         return queryFactory
                 .select(Projections.constructor(CategorySummary.class,
-                        ledger.category,
-                        ledger.amount.sum(),
-                        ledger.count()
+                        agg.category,
+                        agg.totalAmount.sum(),
+                        agg.txCount.sum()
                 ))
-                .from(ledger)
-                .where(ledger.user.eq(user)
-                        .and(ledger.type.eq(LedgerType.EXPENSE))
-                        .and(ledger.recordedDate.between(startDate, endDate)))
-                .groupBy(ledger.category)
-                .orderBy(ledger.amount.sum().desc())
+                .from(agg)
+                .where(agg.userIdx.eq(user.getIdx())
+                        .and(agg.type.eq(LedgerType.EXPENSE))
+                        .and(agg.aggDate.between(startDate, endDate))
+                        .and(agg.txCount.gt(0L)))
+                .groupBy(agg.category)
+                .orderBy(agg.totalAmount.sum().desc())
                 .limit(limit)
                 .fetch();
     }
@@ -1,6 +1,7 @@
 package com.codingcat.aipersonalfinance.domain.ledger;
 
 import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerCreateRequest;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerCursor;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerResponse;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerSearchRequest;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerUpdateRequest;
@@ -12,7 +13,9 @@ import com.codingcat.aipersonalfinance.module.security.AuthDto;
 
 import static com.codingcat.aipersonalfinance.module.response.ApiResponseUtil.sendApiOK;
 
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -29,20 +32,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class LedgerService {
   private final LedgerRepository ledgerRepository;
   private final UserRepository userRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   // 거래 내역 생성
   @Transactional
   public ResponseEntity<?> createLedger(AuthDto authDto, LedgerCreateRequest request) {
-    User user = findUserByEmail(authDto.getEmail());
+    User user = getUserReference(authDto);
     Ledger ledger = request.toEntity(user);
     Ledger savedLedger = ledgerRepository.save(ledger);
+    eventPublisher.publishEvent(LedgerChangedEvent.created(savedLedger));
     return sendApiOK(LedgerResponse.from(savedLedger));
   }
 
   // 거래 내역 조회
   public ResponseEntity<?> getLedger(AuthDto authDto, Long ledgerId) {
-    Ledger ledger = findLedgerById(ledgerId);
-    validateLedgerOwnership(authDto.getEmail(), ledger);
+    Ledger ledger = findOwnedLedger(authDto, ledgerId);
     return sendApiOK(LedgerResponse.from(ledger));
   }
 
@@ -50,9 +54,9 @@ public class LedgerService {
   @Transactional
   public ResponseEntity<?> updateLedger(
       AuthDto authDto, Long ledgerId, LedgerUpdateRequest request) {
-    Ledger ledger = findLedgerById(ledgerId);
-    validateLedgerOwnership(authDto.getEmail(), ledger);
+    Ledger ledger = findOwnedLedger(authDto, ledgerId);
 
+    LedgerSnapshot before = LedgerSnapshot.of(ledger);
     ledger.update(
         request.getType(),
         request.getAmount(),
@@ -61,64 +65,79 @@ public class LedgerService {
         request.getCategory(),
         request.getPaymentMethod(),
         request.getRecordedDate());
+    eventPublisher.publishEvent(LedgerChangedEvent.updated(before, ledger));
 
     return sendApiOK(LedgerResponse.from(ledger));
   }
 
   @Transactional
   public ResponseEntity<?> deleteLedger(AuthDto authDto, Long ledgerId) {
-    Ledger ledger = findLedgerById(ledgerId);
-    validateLedgerOwnership(authDto.getEmail(), ledger);
+    Ledger ledger = findOwnedLedger(authDto, ledgerId);
     ledger.sDelete();
+    eventPublisher.publishEvent(LedgerChangedEvent.deleted(ledger));
     return sendApiOK(null);
   }
 
   // 거래 내역 목록 조회
   public ResponseEntity<?> getLedgerList(
       AuthDto authDto, LedgerSearchRequest condition, Pageable pageable) {
-    User user = findUserByEmail(authDto.getEmail());
+    User user = getUserReference(authDto);
+    if (condition != null && condition.isCursorMode()) {
+      return getLedgerListByCursor(user, condition, pageable.getPageSize());
+    }
     Page<Ledger> ledgers = ledgerRepository.findByPageInLedger(user, condition, pageable);
     Page<LedgerResponse> responses = ledgers.map(LedgerResponse::from);
     return sendApiOK(PageResponse.from(responses));
   }
 
   /**
-   * 이메일로 사용자를 찾습니다.
+   * 커서(keyset) 방식으로 거래 내역 목록을 조회합니다.
+   * 한 건을 더 조회해서 다음 페이지 존재 여부를 판단하고, count 쿼리는 실행하지 않습니다.
+   * 정렬은 (recordedDate DESC, idx DESC)로 고정됩니다.
    */
-  private User findUserByEmail(String email) {
-    return userRepository
-        .findByEmail(email)
-        .orElseThrow(
-            () ->
-                new CustomException(
-                    HttpStatus.BAD_REQUEST,
-                    "sm.common.fail.user_not_found",
-                    "올바르지 않은 사용자 정보입니다."));
+  private ResponseEntity<?> getLedgerListByCursor(
+      User user, LedgerSearchRequest condition, int size) {
+    LedgerCursor cursor = LedgerCursor.decode(condition.getCursor());
+    List<Ledger> ledgers = ledgerRepository.findBySliceInLedger(user, condition, cursor, size + 1);
+
+    boolean hasNext = ledgers.size() > size;
+    List<Ledger> content = hasNext ? ledgers.subList(0, size) : ledgers;
+    String nextCursor = hasNext ? LedgerCursor.from(content.get(content.size() - 1)).encode() : null;
+
+    List<LedgerResponse> responses = content.stream().map(LedgerResponse::from).toList();
+    return sendApiOK(PageResponse.ofCursor(responses, nextCursor));
   }
 
   /**
-   * 거래 내역 ID로 거래를 찾습니다.
+   * 토큰의 userIdx 로 사용자 참조를 가져옵니다. (사용자 테이블 조회 없음)
    */
-  private Ledger findLedgerById(Long ledgerId) {
-    return ledgerRepository
-        .findById(ledgerId)
-        .orElseThrow(
-            () ->
-                new CustomException(
-                    HttpStatus.NOT_FOUND,
-                    "sm.ledger.fail.not_found",
-                    "거래 내역을 찾을 수 없습니다."));
+  private User getUserReference(AuthDto authDto) {
+    if (authDto == null || authDto.getUserIdx() == null) {
+      throw new CustomException(
+          HttpStatus.BAD_REQUEST,
+          "sm.common.fail.user_not_found",
+          "올바르지 않은 사용자 정보입니다.");
+    }
+    return userRepository.getReferenceById(authDto.getUserIdx());
   }
 
   /**
-   * 거래 내역의 소유자를 검증합니다.
+   * 본인의 거래 내역을 한 번의 SELECT 로 찾습니다. (사용자 테이블 조인 없음)
+   * 조회되지 않은 경우에만 존재 여부를 다시 확인해서 404 와 403 을 구분합니다.
    */
-  private void validateLedgerOwnership(String email, Ledger ledger) {
-    if (!ledger.getUser().getEmail().equals(email)) {
-      throw new CustomException(
-          HttpStatus.FORBIDDEN,
-          "sm.ledger.fail.access_denied",
-          "본인의 거래 내역만 접근할 수 있습니다.");
-    }
+  private Ledger findOwnedLedger(AuthDto authDto, Long ledgerId) {
+    return ledgerRepository
+        .findByIdxAndUser_Idx(ledgerId, authDto.getUserIdx())
+        .orElseThrow(
+            () ->
+                ledgerRepository.existsById(ledgerId)
+                    ? new CustomException(
+                        HttpStatus.FORBIDDEN,
+                        "sm.ledger.fail.access_denied",
+                        "본인의 거래 내역만 접근할 수 있습니다.")
+                    : new CustomException(
+                        HttpStatus.NOT_FOUND,
+                        "sm.ledger.fail.not_found",
+                        "거래 내역을 찾을 수 없습니다."));
   }
 }
@@ -0,0 +1,43 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 집계에 영향을 주는 거래 내역 값의 스냅샷
+ * 수정 전/후 값을 비교해서 집계를 증분 갱신할 때 사용합니다.
+ */
+public record LedgerSnapshot(
+    Long ledgerIdx,
+    Long userIdx,
+    LedgerType type,
+    Category category,
+    PaymentMethod paymentMethod,
+    LocalDate recordedDate,
+    BigDecimal amount
+) {
+
+  public static LedgerSnapshot of(Ledger ledger) {
+    return new LedgerSnapshot(
+        ledger.getIdx(),
+        ledger.getUser().getIdx(),
+        ledger.getType(),
+        ledger.getCategory(),
+        ledger.getPaymentMethod(),
+        ledger.getRecordedDate(),
+        ledger.getAmount());
+  }
+
+  /**
+   * 집계 키(사용자, 날짜, 유형, 카테고리, 결제수단)와 금액이 모두 같은지 확인합니다.
+   */
+  public boolean sameAggregateAs(LedgerSnapshot other) {
+    return other != null
+        && userIdx.equals(other.userIdx)
+        && type == other.type
+        && category == other.category
+        && paymentMethod == other.paymentMethod
+        && recordedDate.equals(other.recordedDate)
+        && amount.compareTo(other.amount) == 0;
+  }
+}
@@ -0,0 +1,111 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * MySQL 거래 내역 파티션 DDL (RANGE COLUMNS(recorded_date), V11 마이그레이션으로 파티션된 테이블)
+ * 새 파티션은 비어 있는 MAXVALUE 파티션을 나누는 REORGANIZE 로 추가하므로 데이터 복사가 거의 없습니다.
+ * 보관은 파티션의 행을 보관 테이블(ledger_archive)로 복사해서 목록/내보내기 조회에서 계속 보이게 합니다.
+ * 보관 작업(LedgerArchiveJob)이 먼저 실행되고 있다면 보관 기간이 지난 파티션에는 남은 행이 거의 없습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.partition.enabled", havingValue = "true")
+public class MySqlLedgerPartitionDdl implements LedgerPartitionDdl {
+
+  private static final String TABLE = "ledger";
+  // DDL 에 그대로 들어가므로 파티션 이름은 이 형식만 허용한다
+  private static final Pattern PARTITION_NAME = Pattern.compile("p\\d{6}|pmax");
+  private static final String ARCHIVE_COLUMNS =
+      "ledger_idx, user_idx, type, amount, `desc`, place, category, payment_method, recorded_date,"
+          + " recorded_year_month, is_auto_generated, recurring_transaction_idx, created_at, modified_at";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+
+  public MySqlLedgerPartitionDdl(
+      JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Override
+  public List<LedgerPartition> listPartitions() {
+    return jdbcTemplate.query(
+        """
+        SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+        FROM information_schema.PARTITIONS
+        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+        ORDER BY PARTITION_ORDINAL_POSITION
+        """,
+        (rs, rowNum) ->
+            new LedgerPartition(
+                rs.getString("PARTITION_NAME"), parseUpperBound(rs.getString("PARTITION_DESCRIPTION"))),
+        TABLE);
+  }
+
+  @Override
+  public void addPartition(LedgerPartition partition) {
+    String definition =
+        "PARTITION " + name(partition) + " VALUES LESS THAN ('" + partition.upperBound() + "')";
+    boolean hasMaxValue = listPartitions().stream().anyMatch(LedgerPartition::isMaxValue);
+    execute(
+        hasMaxValue
+            ? "ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + LedgerPartition.MAX_PARTITION
+                + " INTO (" + definition + ", PARTITION " + LedgerPartition.MAX_PARTITION
+                + " VALUES LESS THAN (MAXVALUE))"
+            : "ALTER TABLE " + TABLE + " ADD PARTITION (" + definition + ")");
+  }
+
+  @Override
+  public void dropPartition(LedgerPartition partition) {
+    execute("ALTER TABLE " + TABLE + " DROP PARTITION " + name(partition));
+  }
+
+  @Override
+  public void archivePartition(LedgerPartition partition) {
+    String source = TABLE + " PARTITION (" + name(partition) + ")";
+    // 이전 시도에서 복사한 뒤 파티션 삭제만 실패했다면 이미 보관된 행은 건너뛴다 (INSERT IGNORE)
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          jdbcTemplate.update(
+              "INSERT IGNORE INTO ledger_archive_year (user_idx, archive_year, archived_at)"
+                  + " SELECT DISTINCT user_idx, YEAR(recorded_date), NOW(6) FROM " + source
+                  + " WHERE deleted_at IS NULL");
+          int archived =
+              jdbcTemplate.update(
+                  "INSERT IGNORE INTO ledger_archive (" + ARCHIVE_COLUMNS + ") SELECT "
+                      + ARCHIVE_COLUMNS + " FROM " + source + " WHERE deleted_at IS NULL");
+          log.info("거래 내역 파티션 보관 : {} {}건", partition.name(), archived);
+        });
+    execute("ALTER TABLE " + TABLE + " DROP PARTITION " + name(partition));
+  }
+
+  // PARTITION_DESCRIPTION 은 RANGE COLUMNS 이면 '2026-02-01' 처럼 따옴표로 감싸져 있다
+  static LocalDate parseUpperBound(String description) {
+    if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+      return null;
+    }
+    return LocalDate.parse(description.replace("'", "").trim());
+  }
+
+  private void execute(String ddl) {
+    log.info("거래 내역 파티션 변경 : {}", ddl);
+    jdbcTemplate.execute(ddl);
+  }
+
+  private static String name(LedgerPartition partition) {
+    if (!PARTITION_NAME.matcher(partition.name()).matches()) {
+      throw new IllegalArgumentException("잘못된 파티션 이름 : " + partition.name());
+    }
+    return partition.name();
+  }
+}
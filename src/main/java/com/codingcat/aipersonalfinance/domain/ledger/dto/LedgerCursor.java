@@ -0,0 +1,60 @@
+package com.codingcat.aipersonalfinance.domain.ledger.dto;
+
+import com.codingcat.aipersonalfinance.domain.ledger.Ledger;
+import com.codingcat.aipersonalfinance.module.exception.CustomException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+
+/**
+ * 거래 내역 커서 페이징용 커서
+ * (recordedDate, idx) 조합을 클라이언트에는 불투명한 문자열로 전달합니다.
+ *
+ * @param recordedDate 마지막으로 조회된 거래 날짜
+ * @param idx 마지막으로 조회된 거래 ID
+ */
+public record LedgerCursor(LocalDate recordedDate, Long idx) {
+
+  private static final String DELIMITER = ":";
+
+  /**
+   * 페이지의 마지막 거래 내역으로 다음 커서를 생성합니다.
+   */
+  public static LedgerCursor from(Ledger ledger) {
+    return new LedgerCursor(ledger.getRecordedDate(), ledger.getIdx());
+  }
+
+  /**
+   * 커서를 URL-safe Base64 문자열로 인코딩합니다.
+   */
+  public String encode() {
+    String raw = recordedDate + DELIMITER + idx;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 클라이언트가 전달한 커서 문자열을 해석합니다.
+   * 빈 값이면 첫 페이지로 간주하여 null을 반환합니다.
+   *
+   * @param cursor 인코딩된 커서
+   * @return 해석된 커서 (첫 페이지면 null)
+   */
+  public static LedgerCursor decode(String cursor) {
+    if (!StringUtils.hasText(cursor)) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split(DELIMITER);
+      return new LedgerCursor(LocalDate.parse(parts[0]), Long.valueOf(parts[1]));
+    } catch (RuntimeException e) {
+      throw new CustomException(
+          HttpStatus.BAD_REQUEST,
+          "sm.ledger.fail.invalid_cursor",
+          "올바르지 않은 커서 정보입니다.");
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.codingcat.aipersonalfinance.domain.ledger.dto;
+
+import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
+import com.codingcat.aipersonalfinance.domain.ledger.PaymentMethod;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 거래 내역 내보내기 행
+ * 엔티티가 아닌 생성자 프로젝션으로 조회하므로 영속성 컨텍스트에 쌓이지 않습니다.
+ */
+public record LedgerExportRow(
+    Long ledgerIdx,
+    LocalDate recordedDate,
+    LedgerType type,
+    Category category,
+    PaymentMethod paymentMethod,
+    BigDecimal amount,
+    String desc,
+    String place,
+    Boolean isAutoGenerated
+) {}
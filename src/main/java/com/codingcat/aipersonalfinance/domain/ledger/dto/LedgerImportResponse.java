@@ -0,0 +1,39 @@
+package com.codingcat.aipersonalfinance.domain.ledger.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 거래 내역 가져오기 결과 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerImportResponse {
+
+  private Long totalRows; // 헤더를 제외한 전체 행 수
+
+  private Long importedRows; // 저장된 행 수
+
+  private Long failedRows; // 검증 실패 행 수
+
+  private List<RowError> errors; // 행별 오류 (최대 개수까지만)
+
+  private Boolean errorsTruncated; // 오류가 너무 많아 일부만 포함되었는지 여부
+
+  /**
+   * 행별 오류
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class RowError {
+
+    private Long line; // 파일 기준 줄 번호
+
+    private String message;
+  }
+}
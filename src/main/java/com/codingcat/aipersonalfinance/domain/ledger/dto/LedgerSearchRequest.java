@@ -22,4 +22,15 @@ public class LedgerSearchRequest {
 
   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
   private LocalDate endDate;
+
+  // 커서 페이징용 커서 (이전 응답의 nextCursor, 첫 페이지는 cursor= 처럼 빈 값으로 전달)
+  private String cursor;
+
+  /**
+   * 커서 페이징 모드인지 확인합니다.
+   * cursor 파라미터가 전달되면(빈 값 포함) 커서 모드로 동작합니다.
+   */
+  public boolean isCursorMode() {
+    return cursor != null;
+  }
 }
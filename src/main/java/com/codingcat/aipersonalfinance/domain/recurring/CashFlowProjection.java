@@ -0,0 +1,154 @@
+package com.codingcat.aipersonalfinance.domain.recurring;
+
+import com.codingcat.aipersonalfinance.domain.budget.Budget;
+import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
+import com.codingcat.aipersonalfinance.domain.recurring.dto.CashFlowProjectionResponse;
+import com.codingcat.aipersonalfinance.domain.recurring.dto.DailyCashFlow;
+import com.codingcat.aipersonalfinance.module.model.Money;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정기 거래 회차와 예산을 날짜별로 합쳐서 예상 잔액을 계산합니다.
+ * 금액은 1/100 단위 long(Money)으로 바꿔 날짜 인덱스 배열에 더하므로 회차마다 객체를 만들지 않습니다.
+ * - 정기 거래: 아직 실행되지 않은 회차(밀린 회차는 첫날로)를 수입/확정 지출로 더합니다.
+ * - 예산: 남은 예산에서 같은 범위(카테고리)의 확정 지출을 뺀 금액을 남은 기간에 나눠 예상 지출로 더합니다.
+ *   전체 예산이 있는 날은 전체 예산만, 없는 날은 카테고리 예산의 합을 사용합니다.
+ * 정기 거래를 모두 더한 뒤 예산을 더해야 합니다.
+ */
+final class CashFlowProjection {
+
+  private static final Category[] CATEGORIES = Category.values();
+
+  private final LocalDate from;
+  private final long fromDay;
+  private final int days;
+
+  private final long[] income;
+  private final long[] committed;
+  // 카테고리별 확정 지출 (예산 범위에서 빼기 위해)
+  private final long[][] committedByCategory;
+  private final long[] overallBudgeted;
+  private final boolean[] overallCovered;
+  private final long[] categoryBudgeted;
+
+  private final RecurringOccurrenceIterator occurrences = new RecurringOccurrenceIterator();
+
+  CashFlowProjection(LocalDate from, LocalDate to) {
+    this.from = from;
+    this.fromDay = from.toEpochDay();
+    this.days = (int) (to.toEpochDay() - fromDay + 1);
+    this.income = new long[days];
+    this.committed = new long[days];
+    this.committedByCategory = new long[CATEGORIES.length][days];
+    this.overallBudgeted = new long[days];
+    this.overallCovered = new boolean[days];
+    this.categoryBudgeted = new long[days];
+  }
+
+  /**
+   * 정기 거래의 기간 내 회차를 더합니다.
+   */
+  void addRecurring(RecurringTransaction recurring) {
+    long amount = Money.toMinor(recurring.getAmount());
+    boolean isIncome = recurring.getType() == LedgerType.INCOME;
+    long[] byCategory = committedByCategory[recurring.getCategory().ordinal()];
+
+    occurrences.reset(recurring, fromDay + days - 1);
+    while (occurrences.hasNext()) {
+      // 아직 실행되지 않은 지난 회차는 실행기가 처리할 예정이므로 첫날에 반영
+      int day = (int) Math.max(occurrences.nextLong() - fromDay, 0);
+      if (isIncome) {
+        income[day] += amount;
+      } else {
+        committed[day] += amount;
+        byCategory[day] += amount;
+      }
+    }
+  }
+
+  /**
+   * 예산의 남은 금액 중 확정 지출을 뺀 만큼을 남은 기간에 고르게 나눠 더합니다.
+   */
+  void addBudget(Budget budget) {
+    long startDay = Math.max(budget.getStartDate().toEpochDay(), fromDay);
+    long endDay = budget.getEndDate().toEpochDay();
+    if (endDay < startDay || startDay >= fromDay + days) {
+      return;
+    }
+    int first = (int) (startDay - fromDay);
+    int last = (int) Math.min(endDay - fromDay, days - 1);
+
+    long committedInScope = 0;
+    for (int day = first; day <= last; day++) {
+      committedInScope +=
+          budget.getCategory() == null
+              ? committed[day]
+              : committedByCategory[budget.getCategory().ordinal()][day];
+    }
+    long discretionary =
+        Money.toMinor(budget.getAmount())
+            - Money.toMinor(budget.getSpentAmount())
+            - committedInScope;
+
+    long[] target = budget.getCategory() == null ? overallBudgeted : categoryBudgeted;
+    long periodDays = endDay - startDay + 1;
+    long perDay = Math.max(discretionary, 0) / periodDays;
+    long remainder = Math.max(discretionary, 0) % periodDays;
+    for (int day = first; day <= last; day++) {
+      // 나머지는 앞쪽 날짜부터 1씩
+      target[day] += perDay + (day - first < remainder ? 1 : 0);
+      if (budget.getCategory() == null) {
+        overallCovered[day] = true;
+      }
+    }
+  }
+
+  /**
+   * 시작 잔액에서 날짜별 순변동을 누적해서 응답을 만듭니다.
+   */
+  CashFlowProjectionResponse toResponse(BigDecimal startingBalance) {
+    long balance = Money.toMinor(startingBalance);
+    long lowest = Long.MAX_VALUE;
+    int lowestDay = 0;
+    long totalIncome = 0;
+    long totalCommitted = 0;
+    long totalBudgeted = 0;
+
+    List<DailyCashFlow> daily = new ArrayList<>(days);
+    for (int day = 0; day < days; day++) {
+      long budgeted = overallCovered[day] ? overallBudgeted[day] : categoryBudgeted[day];
+      balance += income[day] - committed[day] - budgeted;
+      totalIncome += income[day];
+      totalCommitted += committed[day];
+      totalBudgeted += budgeted;
+      if (balance < lowest) {
+        lowest = balance;
+        lowestDay = day;
+      }
+      daily.add(
+          new DailyCashFlow(
+              from.plusDays(day),
+              Money.toAmount(income[day]),
+              Money.toAmount(committed[day]),
+              Money.toAmount(budgeted),
+              Money.toAmount(balance)));
+    }
+
+    return CashFlowProjectionResponse.builder()
+        .fromDate(from)
+        .toDate(from.plusDays(days - 1L))
+        .startingBalance(Money.toAmount(Money.toMinor(startingBalance)))
+        .totalIncome(Money.toAmount(totalIncome))
+        .totalCommittedExpense(Money.toAmount(totalCommitted))
+        .totalBudgetedExpense(Money.toAmount(totalBudgeted))
+        .endingBalance(Money.toAmount(balance))
+        .lowestBalance(Money.toAmount(lowest))
+        .lowestBalanceDate(from.plusDays(lowestDay))
+        .days(daily)
+        .build();
+  }
+}
@@ -0,0 +1,291 @@
+package com.codingcat.aipersonalfinance.domain.recurring;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정기 거래 다음 실행일 최소 힙 (동기화 없음, RecurringDueIndex 가 잠금을 관리)
+ * 힙 원소는 (다음 실행일, 정기 거래 ID)를 long 하나로 묶어서 객체 없이 배열에 보관하고,
+ * 정기 거래 ID → 현재 실행일은 개방 주소법 해시(long[] / int[])로 보관합니다.
+ * 실행일이 바뀌면 새 원소를 넣고 이전 원소는 꺼낼 때 해시와 비교해서 버립니다. (지연 삭제)
+ * 버려질 원소가 살아 있는 원소보다 많아지면 해시로부터 힙을 다시 만듭니다.
+ * 정기 거래 하나당 힙 8 바이트 + 해시 12 바이트 / 적재율을 사용합니다. (100만 건에 약 33MB)
+ */
+final class RecurringDueHeap {
+
+  // epochDay 를 0 이상으로 옮겨서 22 비트에 담는다 (기원전 ~ 9999년)
+  private static final int DAY_OFFSET = 1_000_000;
+  private static final int ID_BITS = 41;
+  private static final long ID_MASK = (1L << ID_BITS) - 1;
+  private static final int ABSENT = -1;
+  private static final float LOAD_FACTOR = 0.6f;
+  private static final int MIN_CAPACITY = 16;
+
+  private long[] heap;
+  private int heapSize;
+
+  // 키 0 은 빈 칸 (정기 거래 ID 는 1 부터 시작)
+  private long[] keys;
+  private int[] days;
+  private int size;
+  private int mask;
+
+  RecurringDueHeap() {
+    this(MIN_CAPACITY);
+  }
+
+  RecurringDueHeap(int expectedSize) {
+    int capacity = tableCapacity(expectedSize);
+    keys = new long[capacity];
+    days = new int[capacity];
+    mask = capacity - 1;
+    heap = new long[Math.max(expectedSize, MIN_CAPACITY)];
+  }
+
+  /**
+   * 정기 거래의 다음 실행일을 등록하거나 바꿉니다. O(log n)
+   */
+  void put(long idx, LocalDate nextExecutionDate) {
+    if (idx <= 0 || idx > ID_MASK) {
+      throw new IllegalArgumentException("지원하지 않는 정기 거래 ID: " + idx);
+    }
+    int day = toDay(nextExecutionDate);
+    if (get(idx) == day) {
+      return;
+    }
+    mapPut(idx, day);
+    push(((long) day << ID_BITS) | idx);
+    compactIfNeeded();
+  }
+
+  /**
+   * 정기 거래를 제외합니다. (비활성화, 삭제, 종료) 힙 원소는 꺼낼 때 버려집니다.
+   */
+  void remove(long idx) {
+    if (mapRemove(idx)) {
+      compactIfNeeded();
+    }
+  }
+
+  /**
+   * 다음 실행일이 기준일 이전인 정기 거래를 실행일 순서로 최대 limit 개 꺼냅니다. 꺼낸 정기 거래는 제외됩니다.
+   * 개당 O(log n)이며, 실행 후 다음 실행일이 다시 등록됩니다.
+   */
+  List<Long> pollDue(LocalDate date, int limit) {
+    int limitDay = toDay(date);
+    List<Long> due = new ArrayList<>(Math.min(limit, size));
+    while (heapSize > 0 && due.size() < limit && dayOf(heap[0]) <= limitDay) {
+      long entry = pop();
+      long idx = entry & ID_MASK;
+      if (get(idx) == dayOf(entry)) {
+        mapRemove(idx);
+        due.add(idx);
+      }
+    }
+    return due;
+  }
+
+  /**
+   * 가장 이른 다음 실행일 (없으면 null)
+   */
+  LocalDate peekNextDate() {
+    while (heapSize > 0) {
+      long entry = heap[0];
+      if (get(entry & ID_MASK) == dayOf(entry)) {
+        return LocalDate.ofEpochDay(dayOf(entry) - (long) DAY_OFFSET);
+      }
+      pop();
+    }
+    return null;
+  }
+
+  /**
+   * 등록된 다음 실행일 (없으면 null)
+   */
+  LocalDate nextDateOf(long idx) {
+    int day = get(idx);
+    return day == ABSENT ? null : LocalDate.ofEpochDay(day - (long) DAY_OFFSET);
+  }
+
+  /** 등록된 정기 거래 수 */
+  int size() {
+    return size;
+  }
+
+  /** 지연 삭제된 원소를 포함한 힙 원소 수 */
+  int heapEntries() {
+    return heapSize;
+  }
+
+  /** 배열이 차지하는 메모리 (바이트) */
+  long memoryBytes() {
+    return heap.length * 8L + keys.length * 8L + days.length * 4L;
+  }
+
+  // ===== 힙 =====
+
+  private void push(long entry) {
+    if (heapSize == heap.length) {
+      long[] grown = new long[heap.length + (heap.length >> 1)];
+      System.arraycopy(heap, 0, grown, 0, heapSize);
+      heap = grown;
+    }
+    int i = heapSize++;
+    while (i > 0) {
+      int parent = (i - 1) >>> 1;
+      if (heap[parent] <= entry) {
+        break;
+      }
+      heap[i] = heap[parent];
+      i = parent;
+    }
+    heap[i] = entry;
+  }
+
+  private long pop() {
+    long top = heap[0];
+    long last = heap[--heapSize];
+    if (heapSize > 0) {
+      siftDown(0, last);
+    }
+    return top;
+  }
+
+  private void siftDown(int i, long entry) {
+    int half = heapSize >>> 1;
+    while (i < half) {
+      int child = 2 * i + 1;
+      if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+        child++;
+      }
+      if (entry <= heap[child]) {
+        break;
+      }
+      heap[i] = heap[child];
+      i = child;
+    }
+    heap[i] = entry;
+  }
+
+  // 버려질 원소가 절반을 넘으면 살아 있는 원소만으로 힙을 다시 만든다 O(n)
+  private void compactIfNeeded() {
+    if (heapSize <= MIN_CAPACITY || heapSize <= size * 2) {
+      return;
+    }
+    long[] rebuilt = new long[Math.max(size + (size >> 1), MIN_CAPACITY)];
+    int n = 0;
+    for (int slot = 0; slot < keys.length; slot++) {
+      if (keys[slot] != 0) {
+        rebuilt[n++] = ((long) days[slot] << ID_BITS) | keys[slot];
+      }
+    }
+    heap = rebuilt;
+    heapSize = n;
+    for (int i = (n >>> 1) - 1; i >= 0; i--) {
+      siftDown(i, heap[i]);
+    }
+  }
+
+  private static int dayOf(long entry) {
+    return (int) (entry >>> ID_BITS);
+  }
+
+  private static int toDay(LocalDate date) {
+    return (int) (date.toEpochDay() + DAY_OFFSET);
+  }
+
+  // ===== 해시 (선형 탐사, 삭제 시 뒤 원소를 당겨 채움) =====
+
+  private int get(long idx) {
+    int slot = slot(idx);
+    while (keys[slot] != 0) {
+      if (keys[slot] == idx) {
+        return days[slot];
+      }
+      slot = (slot + 1) & mask;
+    }
+    return ABSENT;
+  }
+
+  private void mapPut(long idx, int day) {
+    int slot = slot(idx);
+    while (keys[slot] != 0) {
+      if (keys[slot] == idx) {
+        days[slot] = day;
+        return;
+      }
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = idx;
+    days[slot] = day;
+    if (++size > keys.length * LOAD_FACTOR) {
+      rehash(keys.length * 2);
+    }
+  }
+
+  private boolean mapRemove(long idx) {
+    int slot = slot(idx);
+    while (keys[slot] != 0) {
+      if (keys[slot] == idx) {
+        shiftKeys(slot);
+        size--;
+        return true;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return false;
+  }
+
+  private void shiftKeys(int pos) {
+    while (true) {
+      int last = pos;
+      pos = (pos + 1) & mask;
+      long key;
+      while (true) {
+        key = keys[pos];
+        if (key == 0) {
+          keys[last] = 0;
+          return;
+        }
+        int ideal = slot(key);
+        // ideal 이 (last, pos] 구간에 있으면 last 로 옮길 수 없다
+        if (last <= pos ? last >= ideal || ideal > pos : last >= ideal && ideal > pos) {
+          break;
+        }
+        pos = (pos + 1) & mask;
+      }
+      keys[last] = key;
+      days[last] = days[pos];
+    }
+  }
+
+  private void rehash(int capacity) {
+    long[] oldKeys = keys;
+    int[] oldDays = days;
+    keys = new long[capacity];
+    days = new int[capacity];
+    mask = capacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      long key = oldKeys[i];
+      if (key != 0) {
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        days[slot] = oldDays[i];
+      }
+    }
+  }
+
+  private int slot(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32)) & mask;
+  }
+
+  private static int tableCapacity(int expectedSize) {
+    int needed = (int) Math.ceil(Math.max(expectedSize, MIN_CAPACITY) / LOAD_FACTOR);
+    return Integer.highestOneBit(needed - 1) << 1;
+  }
+}
@@ -0,0 +1,287 @@
+package com.codingcat.aipersonalfinance.domain.recurring;
+
+import com.codingcat.aipersonalfinance.domain.recurring.dto.RecurringSchedule;
+import com.codingcat.aipersonalfinance.module.shard.EachShard;
+import com.codingcat.aipersonalfinance.module.shard.ShardContext;
+import com.codingcat.aipersonalfinance.module.shard.ShardRouter;
+import com.codingcat.aipersonalfinance.module.shard.UserShardMovedEvent;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 정기 거래 실행 대기열 (서버 메모리)
+ * 다음 실행일 기준 최소 힙으로, 실행기는 DB 를 훑지 않고 실행할 정기 거래만 O(log n)에 꺼냅니다.
+ * 처음 사용할 때 DB 에서 읽어 채우고, 이후에는 정기 거래가 저장될 때마다(생성, 수정, 실행, 비활성화, 삭제)
+ * 커밋 후 반영합니다. 벌크 UPDATE 등 엔티티를 거치지 않은 변경은 주기적으로 DB 를 다시 읽어 맞춥니다.
+ * 사용자 샤딩을 사용하면 샤드마다 대기열을 따로 두고, 현재 샤드(ShardRouter)의 대기열을 사용합니다.
+ */
+@Slf4j
+@Component
+public class RecurringDueIndex {
+
+  private final RecurringTransactionRepository recurringTransactionRepository;
+  private final ShardRouter shardRouter;
+  private final int loadPageSize;
+
+  // 샤드 ID -> 대기열 (샤드마다 정기 거래 ID 와 DB 가 따로이므로 대기열도 나눈다)
+  private final Map<String, ShardQueue> queues = new ConcurrentHashMap<>();
+
+  public RecurringDueIndex(
+      RecurringTransactionRepository recurringTransactionRepository,
+      ShardRouter shardRouter,
+      @Value("${recurring.due-index.load-page-size:10000}") int loadPageSize) {
+    this.recurringTransactionRepository = recurringTransactionRepository;
+    this.shardRouter = shardRouter;
+    this.loadPageSize = loadPageSize;
+  }
+
+  /**
+   * 다음 실행일이 기준일 이전인 정기 거래 ID 를 실행일 순서로 최대 limit 개 꺼냅니다. (현재 샤드)
+   * 꺼낸 정기 거래는 대기열에서 빠지고, 실행이 커밋되면 새 다음 실행일로 다시 들어옵니다.
+   * 실행에 실패한 정기 거래는 다음 DB 대조 때 다시 들어옵니다.
+   */
+  public List<Long> pollDue(LocalDate date, int limit) {
+    return currentQueue().pollDue(date, limit);
+  }
+
+  /**
+   * 저장된 정기 거래의 다음 실행일을 반영합니다.
+   * 트랜잭션 안이면 커밋된 뒤에 반영하고, 롤백되면 반영하지 않습니다.
+   */
+  public void track(RecurringTransaction recurring) {
+    LocalDate nextExecutionDate = isScheduled(recurring) ? recurring.getNextExecutionDate() : null;
+    Change change = new Change(recurring.getIdx(), nextExecutionDate);
+    // 커밋 후 콜백에서는 샤드를 알 수 없으므로 저장 시점의 대기열을 잡아 둔다
+    ShardQueue queue = currentQueue();
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      queue.apply(change);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            queue.apply(change);
+          }
+        });
+  }
+
+  /**
+   * 삭제된 정기 거래를 대기열에서 뺍니다.
+   */
+  public void untrack(Long idx) {
+    currentQueue().apply(new Change(idx, null));
+  }
+
+  /**
+   * 대기열에서 꺼냈지만 DB 기준으로는 실행 대상이 아니었던 정기 거래를 DB 값으로 다시 맞춥니다.
+   */
+  public void refresh(List<Long> ids) {
+    Map<Long, LocalDate> schedules = new HashMap<>();
+    for (RecurringSchedule schedule : recurringTransactionRepository.findSchedulesByIdxIn(ids)) {
+      schedules.put(schedule.idx(), schedule.nextExecutionDate());
+    }
+    ShardQueue queue = currentQueue();
+    ids.forEach(idx -> queue.apply(new Change(idx, schedules.get(idx))));
+  }
+
+  /**
+   * 주기적으로 DB 를 다시 읽어 대기열을 맞춥니다. 아직 한 번도 사용하지 않은 샤드는 건너뜁니다.
+   */
+  @EachShard
+  @Scheduled(
+      fixedDelayString = "${recurring.due-index.reconcile-interval:PT1H}",
+      initialDelayString = "${recurring.due-index.reconcile-interval:PT1H}")
+  public void reconcile() {
+    ShardQueue queue = currentQueue();
+    if (queue.loaded) {
+      queue.reload();
+    }
+  }
+
+  /**
+   * 사용자가 샤드를 옮기면 두 샤드의 대기열을 DB 에서 다시 읽습니다.
+   */
+  @EventListener
+  public void onUserShardMoved(UserShardMovedEvent event) {
+    ShardContext.runOn(event.fromShard(), this::reconcile);
+    ShardContext.runOn(event.toShard(), this::reconcile);
+  }
+
+  /**
+   * 현재 샤드의 대기열을 DB 에서 keyset 페이지로 읽어 새 힙을 만든 뒤 교체합니다.
+   */
+  public void reload() {
+    currentQueue().reload();
+  }
+
+  /** 대기열에 있는 정기 거래 수 (전체 샤드) */
+  public int size() {
+    return queues.values().stream().mapToInt(ShardQueue::size).sum();
+  }
+
+  /** 대기열이 차지하는 메모리 (바이트, 전체 샤드) */
+  public long memoryBytes() {
+    return queues.values().stream().mapToLong(ShardQueue::memoryBytes).sum();
+  }
+
+  private ShardQueue currentQueue() {
+    return queues.computeIfAbsent(shardRouter.currentShard(), ShardQueue::new);
+  }
+
+  private RecurringDueHeap readSchedules(int expectedSize) {
+    RecurringDueHeap fresh = new RecurringDueHeap(expectedSize);
+    long afterIdx = 0;
+    while (true) {
+      List<RecurringSchedule> page =
+          recurringTransactionRepository.findSchedules(afterIdx, PageRequest.of(0, loadPageSize));
+      page.forEach(schedule -> fresh.put(schedule.idx(), schedule.nextExecutionDate()));
+      if (page.size() < loadPageSize) {
+        return fresh;
+      }
+      afterIdx = page.get(page.size() - 1).idx();
+    }
+  }
+
+  /**
+   * 한 샤드의 대기열
+   * 다시 읽는 동안 생긴 변경은 모아 두었다가 새 힙에 다시 적용해서 잃지 않습니다.
+   */
+  private final class ShardQueue {
+
+    private final String shardId;
+    // 다시 읽기는 한 번에 하나만
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final Object lock = new Object();
+
+    private RecurringDueHeap heap = new RecurringDueHeap();
+    private volatile boolean loaded;
+    // 다시 읽는 동안의 변경 (null 이면 읽는 중이 아님)
+    private List<Change> pendingChanges;
+
+    private ShardQueue(String shardId) {
+      this.shardId = shardId;
+    }
+
+    List<Long> pollDue(LocalDate date, int limit) {
+      ensureLoaded();
+      synchronized (lock) {
+        List<Long> due = heap.pollDue(date, limit);
+        if (pendingChanges != null) {
+          due.forEach(idx -> pendingChanges.add(new Change(idx, null)));
+        }
+        return due;
+      }
+    }
+
+    // 다시 읽기는 이 샤드를 지정한 상태에서 실행한다
+    void reload() {
+      loadLock.lock();
+      try {
+        int expectedSize;
+        synchronized (lock) {
+          pendingChanges = new ArrayList<>();
+          expectedSize = heap.size();
+        }
+        long started = System.nanoTime();
+        RecurringDueHeap fresh;
+        try {
+          fresh = ShardContext.callOn(shardId, () -> readSchedules(expectedSize));
+        } catch (RuntimeException e) {
+          synchronized (lock) {
+            pendingChanges = null;
+          }
+          throw e;
+        }
+
+        int drift;
+        synchronized (lock) {
+          pendingChanges.forEach(change -> change.applyTo(fresh));
+          drift = fresh.size() - heap.size();
+          heap = fresh;
+          pendingChanges = null;
+          loaded = true;
+        }
+        log.info(
+            "정기 거래 대기열 로드 : {} {}건 (이전 대비 {}), 메모리 {}KB, {}ms",
+            shardId, fresh.size(), drift, fresh.memoryBytes() / 1024,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+      } finally {
+        loadLock.unlock();
+      }
+    }
+
+    int size() {
+      synchronized (lock) {
+        return heap.size();
+      }
+    }
+
+    long memoryBytes() {
+      synchronized (lock) {
+        return heap.memoryBytes();
+      }
+    }
+
+    void apply(Change change) {
+      synchronized (lock) {
+        if (pendingChanges != null) {
+          pendingChanges.add(change);
+        }
+        if (loaded) {
+          change.applyTo(heap);
+        }
+      }
+    }
+
+    private void ensureLoaded() {
+      if (loaded) {
+        return;
+      }
+      loadLock.lock();
+      try {
+        if (!loaded) {
+          reload();
+        }
+      } finally {
+        loadLock.unlock();
+      }
+    }
+  }
+
+  // 실행할 회차가 남은 정기 거래만 대기열에 둔다
+  private static boolean isScheduled(RecurringTransaction recurring) {
+    return Boolean.TRUE.equals(recurring.getIsActive())
+        && !recurring.isDeleted()
+        && (recurring.getEndDate() == null
+            || !recurring.getNextExecutionDate().isAfter(recurring.getEndDate()));
+  }
+
+  /**
+   * 대기열 변경 (nextExecutionDate 가 null 이면 제외)
+   */
+  private record Change(Long idx, LocalDate nextExecutionDate) {
+
+    void applyTo(RecurringDueHeap target) {
+      if (nextExecutionDate == null) {
+        target.remove(idx);
+      } else {
+        target.put(idx, nextExecutionDate);
+      }
+    }
+  }
+}
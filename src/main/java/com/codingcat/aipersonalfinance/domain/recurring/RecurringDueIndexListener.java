@@ -0,0 +1,30 @@
+package com.codingcat.aipersonalfinance.domain.recurring;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 정기 거래가 저장/삭제될 때 실행 대기열에 알리는 엔티티 리스너
+ * Hibernate 가 스프링 빈 컨테이너로 생성하며, 대기열 빈이 없는 컨텍스트(슬라이스 테스트 등)에서는 아무것도 하지 않습니다.
+ */
+public class RecurringDueIndexListener {
+
+  private final ObjectProvider<RecurringDueIndex> dueIndex;
+
+  public RecurringDueIndexListener(ObjectProvider<RecurringDueIndex> dueIndex) {
+    this.dueIndex = dueIndex;
+  }
+
+  @PostPersist
+  @PostUpdate
+  void onSaved(RecurringTransaction recurring) {
+    dueIndex.ifAvailable(index -> index.track(recurring));
+  }
+
+  @PostRemove
+  void onRemoved(RecurringTransaction recurring) {
+    dueIndex.ifAvailable(index -> index.untrack(recurring.getIdx()));
+  }
+}
@@ -0,0 +1,80 @@
+package com.codingcat.aipersonalfinance.domain.recurring;
+
+import java.time.LocalDate;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * 정기 거래의 아직 실행되지 않은 회차를 다음 실행일부터 차례로 만들어 내는 반복자 (저장하지 않음)
+ * 회차는 epochDay(long)로 돌려주고, reset 으로 정기 거래마다 다시 사용해서 회차당 객체를 만들지 않습니다.
+ * DAILY, WEEKLY 는 날짜 덧셈과 같으므로 epochDay 로 바로 계산하고,
+ * MONTHLY, YEARLY 는 RecurringTransaction.nextExecutionDate 규칙을 그대로 따릅니다.
+ */
+final class RecurringOccurrenceIterator implements PrimitiveIterator.OfLong {
+
+  private static final long DONE = Long.MAX_VALUE;
+
+  private RecurrencePattern pattern;
+  private int interval;
+  private Integer executionDayOfMonth;
+  private long lastDay;
+
+  private long nextDay = DONE;
+  // MONTHLY, YEARLY 는 날짜 단위 계산이 필요하다
+  private LocalDate nextDate;
+
+  /**
+   * 정기 거래의 다음 실행일부터 종료일과 toDay 중 이른 날까지 회차를 만들도록 초기화합니다.
+   * 비활성화된 정기 거래는 회차가 없습니다.
+   *
+   * @param recurring 정기 거래
+   * @param toDay 마지막 날 (epochDay, 포함)
+   * @return this
+   */
+  RecurringOccurrenceIterator reset(RecurringTransaction recurring, long toDay) {
+    pattern = recurring.getRecurrencePattern();
+    interval = recurring.getRecurrenceInterval();
+    executionDayOfMonth = recurring.getExecutionDayOfMonth();
+    lastDay =
+        recurring.getEndDate() == null
+            ? toDay
+            : Math.min(recurring.getEndDate().toEpochDay(), toDay);
+    nextDate = recurring.getNextExecutionDate();
+    nextDay = Boolean.TRUE.equals(recurring.getIsActive()) ? nextDate.toEpochDay() : DONE;
+    return this;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return nextDay <= lastDay;
+  }
+
+  @Override
+  public long nextLong() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    long current = nextDay;
+    advance(current);
+    return current;
+  }
+
+  private void advance(long current) {
+    long next;
+    switch (pattern) {
+      case DAILY:
+        next = current + interval;
+        break;
+      case WEEKLY:
+        next = current + 7L * interval;
+        break;
+      default:
+        nextDate =
+            RecurringTransaction.nextExecutionDate(
+                nextDate, pattern, interval, executionDayOfMonth);
+        next = nextDate.toEpochDay();
+    }
+    // 반복 간격이 0 이하인 잘못된 데이터는 한 회차만 만든다
+    nextDay = next > current ? next : DONE;
+  }
+}
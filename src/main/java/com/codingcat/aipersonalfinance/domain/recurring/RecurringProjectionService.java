@@ -0,0 +1,93 @@
+package com.codingcat.aipersonalfinance.domain.recurring;
+
+import static com.codingcat.aipersonalfinance.module.response.ApiResponseUtil.sendApiOK;
+
+import com.codingcat.aipersonalfinance.domain.budget.BudgetRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerDailyAggRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
+import com.codingcat.aipersonalfinance.domain.user.User;
+import com.codingcat.aipersonalfinance.domain.user.UserRepository;
+import com.codingcat.aipersonalfinance.module.exception.CustomException;
+import com.codingcat.aipersonalfinance.module.security.AuthDto;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 현금 흐름 예측 서비스
+ * 정기 거래의 앞으로의 회차를 저장하지 않고 계산해서 예산과 합친 날짜별 예상 잔액을 제공합니다.
+ * 조회는 정기 거래, 예산, 시작 잔액 세 번이며 회차 계산은 메모리에서만 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RecurringProjectionService {
+
+  // 최대 예측 기간 (개월)
+  static final int MAX_MONTHS = 24;
+
+  private final RecurringTransactionRepository recurringTransactionRepository;
+  private final BudgetRepository budgetRepository;
+  private final LedgerDailyAggRepository ledgerDailyAggRepository;
+  private final UserRepository userRepository;
+
+  // 현금 흐름 예측 조회
+  public ResponseEntity<?> getProjection(AuthDto authDto, int months) {
+    return getProjection(authDto, months, LocalDate.now());
+  }
+
+  /**
+   * 오늘부터 months 개월 동안의 날짜별 예상 현금 흐름을 계산합니다.
+   *
+   * @param authDto 인증 정보
+   * @param months 예측 기간 (1 ~ 24개월)
+   * @param today 기준일
+   */
+  public ResponseEntity<?> getProjection(AuthDto authDto, int months, LocalDate today) {
+    if (months < 1 || months > MAX_MONTHS) {
+      throw new CustomException(
+          HttpStatus.BAD_REQUEST,
+          "sm.recurring.fail.invalid_months",
+          "예측 기간은 1개월 이상 " + MAX_MONTHS + "개월 이하로 입력해주세요");
+    }
+    User user = getUserReference(authDto);
+
+    CashFlowProjection projection =
+        new CashFlowProjection(today, today.plusMonths(months).minusDays(1));
+    recurringTransactionRepository.findByUserAndIsActiveTrue(user)
+        .forEach(projection::addRecurring);
+    // 예산은 확정 지출을 뺀 나머지만 반영하므로 정기 거래 다음에 더한다
+    budgetRepository.findByUserAndIsActiveTrue(user).forEach(projection::addBudget);
+
+    return sendApiOK(projection.toResponse(calculateBalance(authDto.getUserIdx(), today)));
+  }
+
+  /**
+   * 일간 집계에서 기준일까지의 수입 - 지출을 계산합니다.
+   */
+  private BigDecimal calculateBalance(Long userIdx, LocalDate today) {
+    BigDecimal balance = BigDecimal.ZERO;
+    for (Object[] row : ledgerDailyAggRepository.sumByTypeUntil(userIdx, today)) {
+      BigDecimal amount = (BigDecimal) row[1];
+      balance = row[0] == LedgerType.INCOME ? balance.add(amount) : balance.subtract(amount);
+    }
+    return balance;
+  }
+
+  /**
+   * 토큰의 userIdx 로 사용자 참조를 가져옵니다. (사용자 테이블 조회 없음)
+   */
+  private User getUserReference(AuthDto authDto) {
+    if (authDto == null || authDto.getUserIdx() == null) {
+      throw new CustomException(
+          HttpStatus.BAD_REQUEST,
+          "sm.common.fail.user_not_found",
+          "올바르지 않은 사용자 정보입니다.");
+    }
+    return userRepository.getReferenceById(authDto.getUserIdx());
+  }
+}
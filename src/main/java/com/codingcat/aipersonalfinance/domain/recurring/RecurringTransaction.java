@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -48,6 +49,7 @@ import org.hibernate.annotations.SQLRestriction;
 @AllArgsConstructor
 @Builder
 @SQLRestriction("deleted_at IS NULL")
+@EntityListeners(RecurringDueIndexListener.class)
 public class RecurringTransaction extends BaseEntity {
 
   @Id
@@ -154,32 +156,57 @@ public class RecurringTransaction extends BaseEntity {
     return isActive && !isExpired() && today.equals(nextExecutionDate);
   }
 
+  /**
+   * 기준일까지 실행되지 않은 회차가 남아 있는지 확인합니다.
+   * 서버가 멈춰 있던 동안 지나간 회차도 포함하며, 종료일 이후 회차는 제외합니다.
+   *
+   * @param date 기준일
+   * @return 다음 실행일이 기준일 이전이고 종료일을 넘지 않았으면 true
+   */
+  public boolean isDueOn(LocalDate date) {
+    return isActive
+        && !nextExecutionDate.isAfter(date)
+        && (endDate == null || !nextExecutionDate.isAfter(endDate));
+  }
+
   /**
    * 다음 실행일을 계산합니다.
    */
   public void calculateNextExecutionDate() {
     LocalDate base = (lastExecutionDate != null) ? lastExecutionDate : startDate;
+    this.nextExecutionDate =
+        nextExecutionDate(base, recurrencePattern, recurrenceInterval, executionDayOfMonth);
+  }
 
-    switch (recurrencePattern) {
+  /**
+   * 기준일 다음 회차의 실행일을 계산합니다. (실행, 현금 흐름 예측 공통 규칙)
+   * MONTHLY 는 executionDayOfMonth 가 있으면 그 날짜로 맞추고, 달에 없는 날짜면 말일로 맞춥니다.
+   *
+   * @param base 마지막 실행일 (없으면 시작일)
+   * @param pattern 반복 주기
+   * @param interval 반복 간격
+   * @param executionDayOfMonth 매월 실행 일자 (null 가능)
+   * @return 다음 실행일
+   */
+  public static LocalDate nextExecutionDate(
+      LocalDate base, RecurrencePattern pattern, int interval, Integer executionDayOfMonth) {
+    switch (pattern) {
       case DAILY:
-        this.nextExecutionDate = base.plusDays(recurrenceInterval);
-        break;
+        return base.plusDays(interval);
       case WEEKLY:
-        this.nextExecutionDate = base.plusWeeks(recurrenceInterval);
-        break;
+        return base.plusWeeks(interval);
       case MONTHLY:
-        LocalDate nextMonth = base.plusMonths(recurrenceInterval);
+        LocalDate nextMonth = base.plusMonths(interval);
         if (executionDayOfMonth != null) {
           int maxDay = nextMonth.lengthOfMonth();
           int day = Math.min(executionDayOfMonth, maxDay);
-          this.nextExecutionDate = nextMonth.withDayOfMonth(day);
-        } else {
-          this.nextExecutionDate = nextMonth;
+          return nextMonth.withDayOfMonth(day);
         }
-        break;
+        return nextMonth;
       case YEARLY:
-        this.nextExecutionDate = base.plusYears(recurrenceInterval);
-        break;
+        return base.plusYears(interval);
+      default:
+        throw new IllegalArgumentException("지원하지 않는 반복 주기: " + pattern);
     }
   }
 
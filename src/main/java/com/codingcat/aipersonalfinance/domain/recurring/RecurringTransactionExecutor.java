@@ -0,0 +1,199 @@
+package com.codingcat.aipersonalfinance.domain.recurring;
+
+import com.codingcat.aipersonalfinance.domain.ledger.Ledger;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerBatchCreatedEvent;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerSnapshot;
+import com.codingcat.aipersonalfinance.module.lock.JobLease;
+import com.codingcat.aipersonalfinance.module.shard.EachShard;
+import jakarta.persistence.EntityManager;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 정기 거래 실행 서비스
+ * 매일 실행 대기열(RecurringDueIndex)에서 실행할 정기 거래를 페이지 크기만큼 꺼내고, 페이지마다 하나의 트랜잭션에서
+ * 밀린 회차까지 거래 내역을 만들어 JDBC 배치로 저장한 뒤 다음 실행일을 옮깁니다.
+ * 거래 내역 저장과 다음 실행일 변경이 같은 트랜잭션이라 다시 실행해도 이미 처리한 회차는 대상이 아니며,
+ * (정기 거래, 거래 날짜) 유니크 키와 생성 이력 조회로 같은 회차가 두 번 만들어지지 않습니다.
+ */
+@Slf4j
+@Service
+public class RecurringTransactionExecutor {
+
+  private final RecurringTransactionRepository recurringTransactionRepository;
+  private final RecurringDueIndex dueIndex;
+  private final LedgerRepository ledgerRepository;
+  private final EntityManager entityManager;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final int pageSize;
+
+  public RecurringTransactionExecutor(
+      RecurringTransactionRepository recurringTransactionRepository,
+      RecurringDueIndex dueIndex,
+      LedgerRepository ledgerRepository,
+      EntityManager entityManager,
+      ApplicationEventPublisher eventPublisher,
+      PlatformTransactionManager transactionManager,
+      @Value("${recurring.execution.page-size:500}") int pageSize) {
+    this.recurringTransactionRepository = recurringTransactionRepository;
+    this.dueIndex = dueIndex;
+    this.ledgerRepository = ledgerRepository;
+    this.entityManager = entityManager;
+    this.eventPublisher = eventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.pageSize = pageSize;
+  }
+
+  // 여러 서버 중 임대를 얻은 한 서버에서만, 샤드마다 실행한다
+  @JobLease(name = "recurring-execution", leaseFor = "PT30M")
+  @EachShard
+  @Scheduled(cron = "${recurring.execution.cron:0 10 0 * * *}")
+  public void executeScheduled() {
+    execute(LocalDate.now());
+  }
+
+  /**
+   * 기준일까지 실행할 회차가 남은 정기 거래를 모두 실행합니다.
+   * 실패한 페이지는 로그만 남기고 다음 페이지를 계속 처리하며, 대기열의 DB 대조 이후 다시 대상이 됩니다.
+   *
+   * @param today 기준일
+   * @return 이번 실행 결과
+   */
+  public RunResult execute(LocalDate today) {
+    long started = System.nanoTime();
+    long processed = 0;
+    long generated = 0;
+    int failedPages = 0;
+
+    while (true) {
+      // 꺼낸 정기 거래는 실행이 커밋되면 새 다음 실행일로 대기열에 다시 들어온다
+      List<Long> ids = dueIndex.pollDue(today, pageSize);
+      if (ids.isEmpty()) {
+        break;
+      }
+      try {
+        PageResult page = transactionTemplate.execute(status -> executePage(ids, today));
+        if (page != null) {
+          processed += page.processed();
+          generated += page.generated();
+        }
+      } catch (RuntimeException e) {
+        failedPages++;
+        log.error("정기 거래 실행 실패 : {}", ids, e);
+      }
+      if (ids.size() < pageSize) {
+        break;
+      }
+    }
+
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    log.info(
+        "정기 거래 실행 완료 : 기준일 {}, 정기 거래 {}건, 거래 내역 {}건 생성, 실패 페이지 {}개, {}ms",
+        today, processed, generated, failedPages, elapsedMillis);
+    return new RunResult(today, processed, generated, failedPages, elapsedMillis);
+  }
+
+  /**
+   * 한 페이지의 정기 거래를 밀린 회차까지 실행합니다.
+   * flush 후 clear 해서 영속성 컨텍스트가 페이지 크기 이상으로 커지지 않게 하고,
+   * 파생 데이터(일간 집계, 예산 누계, 통계 캐시)는 사용자별 배치 이벤트로 갱신합니다.
+   */
+  private PageResult executePage(List<Long> ids, LocalDate today) {
+    entityManager.unwrap(Session.class).setJdbcBatchSize(pageSize);
+    List<RecurringTransaction> due = recurringTransactionRepository.findDueByIdxIn(ids, today);
+    if (due.size() < ids.size()) {
+      // 대기열이 DB 보다 앞서거나 뒤처진 경우 (다른 경로의 변경) DB 값으로 다시 맞춘다
+      List<Long> dueIds = due.stream().map(RecurringTransaction::getIdx).toList();
+      dueIndex.refresh(ids.stream().filter(idx -> !dueIds.contains(idx)).toList());
+    }
+    if (due.isEmpty()) {
+      return new PageResult(0, 0);
+    }
+    Set<String> existing = findGeneratedOccurrences(due);
+
+    List<Ledger> ledgers = new ArrayList<>();
+    for (RecurringTransaction recurring : due) {
+      while (recurring.isDueOn(today)) {
+        LocalDate occurrence = recurring.getNextExecutionDate();
+        if (!existing.contains(occurrenceKey(recurring.getIdx(), occurrence))) {
+          ledgers.add(recurring.createLedgerFromRecurring(occurrence));
+        }
+        recurring.markExecuted(occurrence);
+        if (!recurring.getNextExecutionDate().isAfter(occurrence)) {
+          // 반복 간격이 0 이하인 잘못된 데이터는 무한 반복하지 않도록 비활성화한다
+          log.warn("정기 거래 다음 실행일 계산 오류로 비활성화 : idx={}", recurring.getIdx());
+          recurring.deactivate();
+        }
+      }
+    }
+
+    List<Ledger> saved = ledgerRepository.saveAll(ledgers);
+    Map<Long, List<LedgerSnapshot>> snapshotsByUser = new LinkedHashMap<>();
+    for (Ledger ledger : saved) {
+      snapshotsByUser
+          .computeIfAbsent(ledger.getUser().getIdx(), key -> new ArrayList<>())
+          .add(LedgerSnapshot.of(ledger));
+    }
+    snapshotsByUser.forEach(
+        (userIdx, snapshots) ->
+            eventPublisher.publishEvent(new LedgerBatchCreatedEvent(userIdx, snapshots)));
+
+    entityManager.flush();
+    entityManager.clear();
+    return new PageResult(due.size(), saved.size());
+  }
+
+  // 이번에 만들 회차 중 이미 생성된(삭제 포함) 회차
+  private Set<String> findGeneratedOccurrences(List<RecurringTransaction> due) {
+    LocalDate fromDate =
+        due.stream()
+            .map(RecurringTransaction::getNextExecutionDate)
+            .min(LocalDate::compareTo)
+            .orElseThrow();
+    List<Long> ids = due.stream().map(RecurringTransaction::getIdx).toList();
+
+    Set<String> existing = new HashSet<>();
+    for (Object[] row : recurringTransactionRepository.findGeneratedOccurrences(ids, fromDate)) {
+      existing.add(occurrenceKey(((Number) row[0]).longValue(), toLocalDate(row[1])));
+    }
+    return existing;
+  }
+
+  private static String occurrenceKey(Long recurringIdx, LocalDate date) {
+    return recurringIdx + ":" + date;
+  }
+
+  // native query 의 DATE 컬럼은 드라이버에 따라 java.sql.Date 로 반환된다
+  private static LocalDate toLocalDate(Object value) {
+    return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+  }
+
+  private record PageResult(int processed, int generated) {}
+
+  /**
+   * 한 번의 실행 결과
+   *
+   * @param recurringProcessed 실행한 정기 거래 수
+   * @param ledgersGenerated 생성한 거래 내역 수 (밀린 회차 포함)
+   */
+  public record RunResult(
+      LocalDate today, long recurringProcessed, long ledgersGenerated, int failedPages,
+      long elapsedMillis) {}
+}
@@ -1,9 +1,11 @@
 package com.codingcat.aipersonalfinance.domain.recurring;
 
 import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.domain.recurring.dto.RecurringSchedule;
 import com.codingcat.aipersonalfinance.domain.user.User;
 import java.time.LocalDate;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -37,6 +39,66 @@ public interface RecurringTransactionRepository extends JpaRepository<RecurringT
           + "AND (rt.endDate IS NULL OR rt.endDate >= :date)")
   List<RecurringTransaction> findTransactionsToExecute(@Param("date") LocalDate date);
 
+  /**
+   * 실행할 회차가 남은 정기 거래의 실행 일정을 ID 순서로 한 페이지씩 조회합니다. (keyset 페이징)
+   * 종료일이 지났더라도 종료일 이전의 밀린 회차가 있으면 포함합니다.
+   *
+   * @param afterIdx 이전 페이지의 마지막 ID (첫 페이지는 0)
+   * @param pageable 페이지 크기 (offset 은 항상 0)
+   * @return 실행 일정 목록
+   */
+  @Query(
+      "SELECT new com.codingcat.aipersonalfinance.domain.recurring.dto.RecurringSchedule("
+          + "rt.idx, rt.nextExecutionDate) "
+          + "FROM RecurringTransaction rt WHERE rt.isActive = true "
+          + "AND (rt.endDate IS NULL OR rt.nextExecutionDate <= rt.endDate) "
+          + "AND rt.idx > :afterIdx ORDER BY rt.idx")
+  List<RecurringSchedule> findSchedules(@Param("afterIdx") Long afterIdx, Pageable pageable);
+
+  /**
+   * ID 목록 중 실행할 회차가 남은 정기 거래의 실행 일정을 조회합니다.
+   *
+   * @param ids 정기 거래 ID 목록
+   * @return 실행 일정 목록 (비활성화, 삭제, 종료된 정기 거래는 제외)
+   */
+  @Query(
+      "SELECT new com.codingcat.aipersonalfinance.domain.recurring.dto.RecurringSchedule("
+          + "rt.idx, rt.nextExecutionDate) "
+          + "FROM RecurringTransaction rt WHERE rt.idx IN :ids AND rt.isActive = true "
+          + "AND (rt.endDate IS NULL OR rt.nextExecutionDate <= rt.endDate)")
+  List<RecurringSchedule> findSchedulesByIdxIn(@Param("ids") List<Long> ids);
+
+  /**
+   * ID 목록 중 아직 실행할 회차가 남은 정기 거래를 조회합니다.
+   * 페이지 트랜잭션 안에서 다시 조회하므로, 그 사이 다른 실행이 처리한 정기 거래는 제외됩니다.
+   *
+   * @param ids 정기 거래 ID 목록
+   * @param date 기준일
+   * @return 실행할 정기 거래 목록
+   */
+  @Query(
+      "SELECT rt FROM RecurringTransaction rt WHERE rt.idx IN :ids AND rt.isActive = true "
+          + "AND rt.nextExecutionDate <= :date "
+          + "AND (rt.endDate IS NULL OR rt.nextExecutionDate <= rt.endDate)")
+  List<RecurringTransaction> findDueByIdxIn(
+      @Param("ids") List<Long> ids, @Param("date") LocalDate date);
+
+  /**
+   * 정기 거래들로 이미 생성된 거래 내역의 (정기 거래 ID, 거래 날짜)를 조회합니다.
+   * 삭제된 거래 내역도 포함해서, 사용자가 지운 회차를 다시 만들지 않도록 합니다. (native query)
+   *
+   * @param ids 정기 거래 ID 목록
+   * @param fromDate 조회 시작일 (가장 이른 다음 실행일)
+   * @return [recurring_transaction_idx, recorded_date] 목록
+   */
+  @Query(
+      value =
+          "SELECT recurring_transaction_idx, recorded_date FROM ledger "
+              + "WHERE recurring_transaction_idx IN (:ids) AND recorded_date >= :fromDate",
+      nativeQuery = true)
+  List<Object[]> findGeneratedOccurrences(
+      @Param("ids") List<Long> ids, @Param("fromDate") LocalDate fromDate);
+
   /**
    * 사용자의 특정 카테고리 정기 거래 목록을 조회합니다.
    * @SQLRestriction에 의해 삭제된 항목은 자동 제외됩니다.
@@ -0,0 +1,50 @@
+package com.codingcat.aipersonalfinance.domain.recurring.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 현금 흐름 예측 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CashFlowProjectionResponse {
+
+  @Schema(description = "예측 시작일 (오늘)")
+  private LocalDate fromDate;
+
+  @Schema(description = "예측 종료일")
+  private LocalDate toDate;
+
+  @Schema(description = "시작 잔액 (오늘까지 기록된 수입 - 지출)")
+  private BigDecimal startingBalance;
+
+  @Schema(description = "정기 거래 예상 수입 합계")
+  private BigDecimal totalIncome;
+
+  @Schema(description = "정기 거래 확정 지출 합계")
+  private BigDecimal totalCommittedExpense;
+
+  @Schema(description = "예산 기준 예상 지출 합계 (확정 지출 제외)")
+  private BigDecimal totalBudgetedExpense;
+
+  @Schema(description = "예측 종료일 예상 잔액")
+  private BigDecimal endingBalance;
+
+  @Schema(description = "기간 중 가장 낮은 예상 잔액")
+  private BigDecimal lowestBalance;
+
+  @Schema(description = "가장 낮은 예상 잔액이 되는 날짜")
+  private LocalDate lowestBalanceDate;
+
+  @Schema(description = "날짜별 예상 현금 흐름")
+  private List<DailyCashFlow> days;
+}
@@ -0,0 +1,32 @@
+package com.codingcat.aipersonalfinance.domain.recurring.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 하루의 예상 현금 흐름
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyCashFlow {
+
+  @Schema(description = "날짜")
+  private LocalDate date;
+
+  @Schema(description = "정기 거래 예상 수입")
+  private BigDecimal income;
+
+  @Schema(description = "정기 거래 확정 지출")
+  private BigDecimal committedExpense;
+
+  @Schema(description = "예산 기준 예상 지출")
+  private BigDecimal budgetedExpense;
+
+  @Schema(description = "그날까지의 예상 잔액")
+  private BigDecimal balance;
+}
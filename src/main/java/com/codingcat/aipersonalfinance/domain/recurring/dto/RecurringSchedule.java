@@ -0,0 +1,12 @@
+package com.codingcat.aipersonalfinance.domain.recurring.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 정기 거래 실행 일정
+ * 실행 대기열(RecurringDueIndex)을 DB 로부터 채울 때 쓰는 생성자 프로젝션입니다.
+ */
+public record RecurringSchedule(
+    Long idx,
+    LocalDate nextExecutionDate
+) {}
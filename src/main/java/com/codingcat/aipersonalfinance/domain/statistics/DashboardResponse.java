@@ -0,0 +1,37 @@
+package com.codingcat.aipersonalfinance.domain.statistics;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대시보드 통계 응답 DTO
+ * 월별/카테고리별/결제수단별/트렌드/Top N 통계를 한 번에 반환합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardResponse {
+
+    @Schema(description = "월별 통계")
+    private List<MonthlyStatsResponse> monthly;
+
+    @Schema(description = "카테고리별 지출 통계")
+    private List<CategoryStatsResponse> categories;
+
+    @Schema(description = "결제수단별 통계")
+    private List<PaymentMethodStatsResponse> paymentMethods;
+
+    @Schema(description = "전월 대비 트렌드")
+    private TrendResponse trend;
+
+    @Schema(description = "지출 Top N 카테고리")
+    private List<CategoryStatsResponse> topCategories;
+
+    @Schema(description = "DB 조회에 걸린 시간 (ms)")
+    private Long dbTimeMs;
+}
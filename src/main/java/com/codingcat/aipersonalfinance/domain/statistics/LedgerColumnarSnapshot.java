@@ -0,0 +1,210 @@
+package com.codingcat.aipersonalfinance.domain.statistics;
+
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerSnapshot;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
+import com.codingcat.aipersonalfinance.module.model.Money;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 한 사용자의 거래 내역 열 기반 스냅샷 (서버 메모리)
+ * 거래 내역을 (날짜, ID) 순서로 정렬해서 열마다 기본형 배열에 보관합니다.
+ * 기간 통계는 이진 탐색으로 시작 위치를 찾은 뒤 배열을 순서대로 읽어 누적하므로 DB 를 거치지 않습니다.
+ * 거래 내역 한 건당 23 바이트(ID 8, 금액 8, 날짜 4, 유형/카테고리/결제수단 각 1)를 사용합니다.
+ * (날짜, ID) 순서로 읽은 행은 배열 끝에 붙고, 변경은 (날짜, ID) 위치에 끼워 넣거나 빼는 방식이며, 같은 ID 는 한 번만 들어가도록 해서 다시 적용해도 결과가 같습니다.
+ * 모든 접근은 this 로 동기화합니다.
+ */
+final class LedgerColumnarSnapshot {
+
+  static final int BYTES_PER_ROW = 23;
+  private static final int MIN_CAPACITY = 16;
+
+  private long[] ids;
+  private int[] days;
+  private long[] amounts;
+  private byte[] types;
+  private byte[] categories;
+  private byte[] paymentMethods;
+  private int size;
+
+  LedgerColumnarSnapshot() {
+    allocate(MIN_CAPACITY);
+  }
+
+  /**
+   * 기간(시작일, 종료일 포함)의 거래 내역을 누적합니다.
+   */
+  synchronized void scan(LocalDate startDate, LocalDate endDate, StatisticsAccumulator target) {
+    int endDay = (int) endDate.toEpochDay();
+    for (int i = lowerBound((int) startDate.toEpochDay(), Long.MIN_VALUE);
+        i < size && days[i] <= endDay;
+        i++) {
+      target.add(
+          days[i],
+          types[i] == LedgerType.INCOME.ordinal(),
+          categories[i],
+          paymentMethods[i],
+          amounts[i],
+          1);
+    }
+  }
+
+  /**
+   * 거래 내역을 추가합니다. 같은 ID 가 이미 같은 날짜에 있으면 값을 바꿉니다.
+   */
+  synchronized void upsert(LedgerSnapshot row) {
+    int day = (int) row.recordedDate().toEpochDay();
+    int position = lowerBound(day, row.ledgerIdx());
+    if (position < size && days[position] == day && ids[position] == row.ledgerIdx()) {
+      set(position, row);
+      return;
+    }
+    if (size == ids.length) {
+      grow(size + (size >> 1));
+    }
+    shift(position, position + 1, size - position);
+    set(position, row);
+    size++;
+  }
+
+  /**
+   * 여러 거래 내역을 한 번에 추가합니다. (일괄 생성)
+   * 정렬한 뒤 기존 배열과 병합하므로 건수가 많아도 O(n + m) 입니다.
+   */
+  synchronized void upsertAll(List<LedgerSnapshot> rows) {
+    if (rows.size() < MIN_CAPACITY) {
+      rows.forEach(this::upsert);
+      return;
+    }
+    LedgerSnapshot[] added = rows.toArray(LedgerSnapshot[]::new);
+    Arrays.sort(
+        added,
+        Comparator.comparing(LedgerSnapshot::recordedDate).thenComparing(LedgerSnapshot::ledgerIdx));
+
+    long[] oldIds = ids;
+    int[] oldDays = days;
+    long[] oldAmounts = amounts;
+    byte[] oldTypes = types;
+    byte[] oldCategories = categories;
+    byte[] oldPaymentMethods = paymentMethods;
+    int oldSize = size;
+    allocate(Math.max(oldSize + added.length, MIN_CAPACITY));
+    size = 0;
+
+    int i = 0;
+    int j = 0;
+    while (i < oldSize || j < added.length) {
+      int compare;
+      if (i == oldSize) {
+        compare = 1;
+      } else if (j == added.length) {
+        compare = -1;
+      } else {
+        int addedDay = (int) added[j].recordedDate().toEpochDay();
+        compare =
+            oldDays[i] != addedDay
+                ? Integer.compare(oldDays[i], addedDay)
+                : Long.compare(oldIds[i], added[j].ledgerIdx());
+      }
+      if (compare < 0) {
+        ids[size] = oldIds[i];
+        days[size] = oldDays[i];
+        amounts[size] = oldAmounts[i];
+        types[size] = oldTypes[i];
+        categories[size] = oldCategories[i];
+        paymentMethods[size] = oldPaymentMethods[i];
+        size++;
+        i++;
+      } else {
+        // 같은 위치의 기존 값은 새 값으로 바꾼다
+        if (compare == 0) {
+          i++;
+        }
+        set(size++, added[j++]);
+      }
+    }
+  }
+
+  /**
+   * 거래 내역을 뺍니다. (삭제, 날짜 변경 전 값) 없으면 아무것도 하지 않습니다.
+   */
+  synchronized void remove(LedgerSnapshot row) {
+    int day = (int) row.recordedDate().toEpochDay();
+    int position = lowerBound(day, row.ledgerIdx());
+    if (position < size && days[position] == day && ids[position] == row.ledgerIdx()) {
+      shift(position + 1, position, size - position - 1);
+      size--;
+    }
+  }
+
+  /**
+   * 남는 배열 공간을 줄입니다. (DB 에서 다 읽은 뒤 한 번 호출)
+   */
+  synchronized void trimToSize() {
+    if (size < ids.length) {
+      grow(Math.max(size, MIN_CAPACITY));
+    }
+  }
+
+  synchronized int size() {
+    return size;
+  }
+
+  /** 배열이 차지하는 메모리 (바이트) */
+  synchronized long memoryBytes() {
+    return (long) ids.length * BYTES_PER_ROW;
+  }
+
+  // (day, id) 이상인 첫 위치
+  private int lowerBound(int day, long id) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (days[mid] < day || (days[mid] == day && ids[mid] < id)) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private void set(int position, LedgerSnapshot row) {
+    ids[position] = row.ledgerIdx();
+    days[position] = (int) row.recordedDate().toEpochDay();
+    amounts[position] = Money.toMinor(row.amount());
+    types[position] = (byte) row.type().ordinal();
+    categories[position] = (byte) row.category().ordinal();
+    paymentMethods[position] = (byte) row.paymentMethod().ordinal();
+  }
+
+  private void shift(int from, int to, int length) {
+    System.arraycopy(ids, from, ids, to, length);
+    System.arraycopy(days, from, days, to, length);
+    System.arraycopy(amounts, from, amounts, to, length);
+    System.arraycopy(types, from, types, to, length);
+    System.arraycopy(categories, from, categories, to, length);
+    System.arraycopy(paymentMethods, from, paymentMethods, to, length);
+  }
+
+  private void allocate(int capacity) {
+    ids = new long[capacity];
+    days = new int[capacity];
+    amounts = new long[capacity];
+    types = new byte[capacity];
+    categories = new byte[capacity];
+    paymentMethods = new byte[capacity];
+  }
+
+  private void grow(int capacity) {
+    ids = Arrays.copyOf(ids, capacity);
+    days = Arrays.copyOf(days, capacity);
+    amounts = Arrays.copyOf(amounts, capacity);
+    types = Arrays.copyOf(types, capacity);
+    categories = Arrays.copyOf(categories, capacity);
+    paymentMethods = Arrays.copyOf(paymentMethods, capacity);
+  }
+}
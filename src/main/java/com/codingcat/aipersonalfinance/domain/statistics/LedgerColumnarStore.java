@@ -0,0 +1,327 @@
+package com.codingcat.aipersonalfinance.domain.statistics;
+
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerBatchCreatedEvent;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerBulkRemovedEvent;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerChangedEvent;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerSnapshot;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 사용자별 거래 내역 열 기반 스냅샷 저장소 (서버 메모리)
+ * 통계 조회 시 사용자의 스냅샷이 없으면 DB 에서 한 번 읽어 만들고, 이후 기간 통계는 DB 를 거치지 않고 계산합니다.
+ * 거래 내역 변경은 커밋 후 이벤트로 스냅샷에 반영하고, 만드는 도중의 변경은 모아 두었다가 다시 적용합니다.
+ * 전체 메모리가 한도를 넘으면 가장 오래 사용하지 않은 사용자부터 제거(LRU)합니다.
+ * 커밋 후 이벤트는 이 서버의 변경만 받으므로, 조회마다 사용자의 마지막 수정 시각(MAX(modified_at))을
+ * 스냅샷을 만들 때의 값과 비교해서 다른 서버의 변경이나 이벤트를 거치지 않은 변경이 있으면 다시 만듭니다.
+ * 이 서버의 변경을 반영할 때는 그 사이 다른 행이 수정되지 않았으면 비교 기준을 반영한 행의 수정 시각으로 올립니다.
+ * 수정 시각을 바꾸지 않는 일괄 제거(보관, 영구 삭제, 파티션 정리)는 작업이 도는 서버에서 이벤트로 스냅샷을 버리고,
+ * 다른 서버의 스냅샷은 TTL 안에 다시 만들어집니다.
+ * 서버가 하나뿐이면 statistics.columnar.verify-freshness 를 끄고 이벤트 반영과 TTL 만 사용할 수 있습니다.
+ * statistics.columnar.enabled 가 false(기본값)이면 스냅샷을 만들지 않고 통계는 일간 집계 테이블에서 계산합니다.
+ */
+@Slf4j
+@Component
+public class LedgerColumnarStore {
+
+  // 거래 내역이 없던 사용자의 비교 기준 (MySQL DATETIME 최솟값)
+  static final LocalDateTime NO_LEDGER = LocalDateTime.of(1000, 1, 1, 0, 0);
+
+  private final LedgerRepository ledgerRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+  private final boolean verifyFreshness;
+  private final long maxMemoryBytes;
+  private final long ttlMillis;
+  private final Clock clock;
+
+  // accessOrder = true 로 LRU 순서 유지, 모든 접근은 this 로 동기화
+  private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  // 스냅샷을 만드는 중인 사용자의 변경 (커밋 순서대로)
+  private final Map<Long, List<Consumer<LedgerColumnarSnapshot>>> pendingChanges = new HashMap<>();
+  private long memoryBytes;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong builds = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+  private final AtomicLong patches = new AtomicLong();
+
+  @Autowired
+  public LedgerColumnarStore(
+      LedgerRepository ledgerRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${statistics.columnar.enabled:false}") boolean enabled,
+      @Value("${statistics.columnar.verify-freshness:true}") boolean verifyFreshness,
+      @Value("${statistics.columnar.max-memory:64MB}") DataSize maxMemory,
+      @Value("${statistics.columnar.ttl:PT1H}") Duration ttl) {
+    this(ledgerRepository, transactionManager, enabled, verifyFreshness, maxMemory, ttl, Clock.systemUTC());
+  }
+
+  public LedgerColumnarStore(
+      LedgerRepository ledgerRepository,
+      PlatformTransactionManager transactionManager,
+      boolean enabled,
+      boolean verifyFreshness,
+      DataSize maxMemory,
+      Duration ttl,
+      Clock clock) {
+    this.ledgerRepository = ledgerRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.enabled = enabled;
+    this.verifyFreshness = verifyFreshness;
+    this.maxMemoryBytes = maxMemory.toBytes();
+    this.ttlMillis = ttl.toMillis();
+    this.clock = clock;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 사용자의 스냅샷을 반환하고, 없거나 만료되었거나 DB 의 마지막 수정 시각이 달라졌으면 DB 에서 읽어 만듭니다.
+   * 한도보다 큰 스냅샷은 이번 조회에만 사용하고 보관하지 않습니다.
+   *
+   * @param userIdx 사용자 ID
+   * @return 스냅샷 (사용하지 않도록 설정되어 있으면 null)
+   */
+  LedgerColumnarSnapshot snapshotOf(Long userIdx) {
+    if (!enabled) {
+      return null;
+    }
+    // 스트리밍보다 먼저 읽으므로 만드는 동안의 변경은 다음 조회에서 다시 감지된다
+    LocalDateTime lastModifiedAt = verifyFreshness ? ledgerRepository.findLastModifiedAt(userIdx) : null;
+    synchronized (this) {
+      Entry entry = entries.get(userIdx);
+      if (entry != null) {
+        if (entry.expiresAt > clock.millis()
+            && Objects.equals(entry.lastModifiedAt, lastModifiedAt)) {
+          hits.incrementAndGet();
+          return entry.snapshot;
+        }
+        remove(userIdx);
+        evictions.incrementAndGet();
+      }
+      pendingChanges.putIfAbsent(userIdx, new ArrayList<>());
+    }
+
+    long started = System.nanoTime();
+    LedgerColumnarSnapshot snapshot;
+    try {
+      snapshot = transactionTemplate.execute(status -> read(userIdx));
+    } catch (RuntimeException e) {
+      synchronized (this) {
+        pendingChanges.remove(userIdx);
+      }
+      throw e;
+    }
+    builds.incrementAndGet();
+
+    synchronized (this) {
+      // 읽는 동안 커밋된 변경을 다시 적용 (이미 읽힌 변경이어도 결과는 같다)
+      List<Consumer<LedgerColumnarSnapshot>> changes = pendingChanges.remove(userIdx);
+      if (changes != null) {
+        changes.forEach(change -> change.accept(snapshot));
+      }
+      Entry current = entries.get(userIdx);
+      if (current != null) {
+        // 동시에 만든 다른 요청의 스냅샷이 먼저 저장되어 이후 변경을 받고 있으면 그것을 사용한다
+        return current.snapshot;
+      }
+      if (snapshot.memoryBytes() <= maxMemoryBytes) {
+        entries.put(userIdx, new Entry(snapshot, lastModifiedAt, clock.millis() + ttlMillis));
+        memoryBytes += snapshot.memoryBytes();
+        evictOverBudget(userIdx);
+      }
+    }
+    log.debug(
+        "거래 내역 스냅샷 생성 : userIdx={}, {}건, 메모리 {}KB, {}ms",
+        userIdx, snapshot.size(), snapshot.memoryBytes() / 1024,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    return snapshot;
+  }
+
+  /**
+   * 커밋된 거래 내역 변경을 스냅샷에 반영합니다. (변경 전 값을 빼고 변경 후 값을 넣음)
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onLedgerCommitted(LedgerChangedEvent event) {
+    patch(
+        event.userIdx(),
+        Stream.of(event.before(), event.after())
+            .filter(Objects::nonNull)
+            .map(LedgerSnapshot::ledgerIdx)
+            .distinct()
+            .toList(),
+        snapshot -> {
+          if (event.before() != null) {
+            snapshot.remove(event.before());
+          }
+          if (event.after() != null) {
+            snapshot.upsert(event.after());
+          }
+        });
+  }
+
+  /**
+   * 커밋된 일괄 생성(CSV 가져오기, 정기 거래 실행)을 스냅샷에 한 번에 병합합니다.
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onLedgerBatchCommitted(LedgerBatchCreatedEvent event) {
+    patch(
+        event.userIdx(),
+        event.snapshots().stream().map(LedgerSnapshot::ledgerIdx).toList(),
+        snapshot -> snapshot.upsertAll(event.snapshots()));
+  }
+
+  /**
+   * 배치 작업이 ledger 에서 지운 사용자의 스냅샷을 제거합니다.
+   */
+  @EventListener
+  public synchronized void onLedgerBulkRemoved(LedgerBulkRemovedEvent event) {
+    if (event.isAllUsers()) {
+      entries.clear();
+      memoryBytes = 0;
+      return;
+    }
+    event.userIdxs().forEach(this::remove);
+  }
+
+  /**
+   * 사용자의 스냅샷을 제거합니다.
+   */
+  public synchronized void invalidateUser(Long userIdx) {
+    remove(userIdx);
+  }
+
+  public synchronized Stats stats() {
+    return new Stats(
+        enabled, hits.get(), builds.get(), evictions.get(), patches.get(), entries.size(),
+        memoryBytes, maxMemoryBytes);
+  }
+
+  private LedgerColumnarSnapshot read(Long userIdx) {
+    LedgerColumnarSnapshot snapshot = new LedgerColumnarSnapshot();
+    try (Stream<LedgerSnapshot> rows = ledgerRepository.streamSnapshots(userIdx)) {
+      rows.forEach(snapshot::upsert);
+    }
+    snapshot.trimToSize();
+    return snapshot;
+  }
+
+  private void patch(
+      Long userIdx, List<Long> ledgerIds, Consumer<LedgerColumnarSnapshot> change) {
+    Entry patched;
+    synchronized (this) {
+      List<Consumer<LedgerColumnarSnapshot>> pending = pendingChanges.get(userIdx);
+      if (pending != null) {
+        pending.add(change);
+      }
+      Entry entry = entries.get(userIdx);
+      if (entry == null) {
+        return;
+      }
+      long before = entry.snapshot.memoryBytes();
+      change.accept(entry.snapshot);
+      memoryBytes += entry.snapshot.memoryBytes() - before;
+      patches.incrementAndGet();
+      evictOverBudget(userIdx);
+      patched = entries.get(userIdx);
+    }
+    if (verifyFreshness && patched != null && !ledgerIds.isEmpty()) {
+      advanceStamp(userIdx, patched, ledgerIds);
+    }
+  }
+
+  // 반영한 행 말고는 비교 기준 이후 수정된 행이 없을 때만 기준을 올린다 (있으면 다른 서버의 변경이므로 다시 만든다)
+  private void advanceStamp(Long userIdx, Entry patched, List<Long> ledgerIds) {
+    LocalDateTime since = patched.lastModifiedAt != null ? patched.lastModifiedAt : NO_LEDGER;
+    boolean modifiedElsewhere;
+    LocalDateTime committedAt;
+    try {
+      modifiedElsewhere = ledgerRepository.countModifiedSinceExcept(userIdx, since, ledgerIds) > 0;
+      committedAt = ledgerRepository.findLastModifiedAtOf(ledgerIds);
+    } catch (RuntimeException e) {
+      log.warn("거래 내역 스냅샷 수정 시각 확인 실패, 스냅샷 제거 : userIdx={}", userIdx, e);
+      invalidateUser(userIdx);
+      return;
+    }
+
+    synchronized (this) {
+      Entry current = entries.get(userIdx);
+      // 그 사이 다시 만들어졌거나 제거되었으면 그대로 둔다
+      if (current == null || current.snapshot != patched.snapshot) {
+        return;
+      }
+      if (modifiedElsewhere) {
+        remove(userIdx);
+        evictions.incrementAndGet();
+      } else if (committedAt != null
+          && (current.lastModifiedAt == null || committedAt.isAfter(current.lastModifiedAt))) {
+        entries.put(userIdx, new Entry(current.snapshot, committedAt, current.expiresAt));
+      }
+    }
+  }
+
+  // 한도를 넘으면 오래 사용하지 않은 사용자부터 제거한다 (방금 사용한 사용자는 마지막까지 남김)
+  private void evictOverBudget(Long keepUserIdx) {
+    Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+    while (memoryBytes > maxMemoryBytes && iterator.hasNext()) {
+      Map.Entry<Long, Entry> eldest = iterator.next();
+      if (eldest.getKey().equals(keepUserIdx) && entries.size() > 1) {
+        continue;
+      }
+      memoryBytes -= eldest.getValue().snapshot.memoryBytes();
+      iterator.remove();
+      evictions.incrementAndGet();
+    }
+  }
+
+  private void remove(Long userIdx) {
+    Entry removed = entries.remove(userIdx);
+    if (removed != null) {
+      memoryBytes -= removed.snapshot.memoryBytes();
+    }
+  }
+
+  private record Entry(LedgerColumnarSnapshot snapshot, LocalDateTime lastModifiedAt, long expiresAt) {}
+
+  /**
+   * 스냅샷 저장소 현황
+   *
+   * @param hits 스냅샷으로 바로 계산한 횟수
+   * @param builds DB 에서 읽어 만든 횟수
+   * @param evictions 메모리 한도, TTL 또는 DB 변경 감지로 제거한 횟수
+   * @param patches 커밋된 변경을 반영한 횟수
+   * @param users 보관 중인 사용자 수
+   * @param memoryBytes 보관 중인 스냅샷 메모리 (바이트)
+   * @param maxMemoryBytes 메모리 한도 (바이트)
+   */
+  public record Stats(
+      boolean enabled, long hits, long builds, long evictions, long patches, int users,
+      long memoryBytes, long maxMemoryBytes) {}
+}
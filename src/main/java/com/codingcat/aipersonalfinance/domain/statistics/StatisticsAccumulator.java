@@ -0,0 +1,190 @@
+package com.codingcat.aipersonalfinance.domain.statistics;
+
+import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerDailyAgg;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
+import com.codingcat.aipersonalfinance.domain.ledger.PaymentMethod;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.CategorySummary;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.MonthlySummary;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.PaymentMethodSummary;
+import com.codingcat.aipersonalfinance.module.model.Money;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 일간 집계 행을 한 번 순회하면서 여러 통계를 동시에 누적합니다.
+ * 통계 기간(startDate~endDate)과 트렌드 기간(전월~당월)이 다를 수 있으므로 행마다 두 범위를 따로 판단합니다.
+ * 열 기반 스냅샷(LedgerColumnarSnapshot)은 객체 없이 add 로 바로 누적합니다.
+ */
+class StatisticsAccumulator {
+
+  private static final Category[] CATEGORIES = Category.values();
+  private static final PaymentMethod[] PAYMENT_METHODS = PaymentMethod.values();
+
+  private final long startDay;
+  private final long endDay;
+  private final long trendStartDay;
+  private final long trendEndDay;
+
+  // 금액은 1/100 단위 long 으로 누적한다 (Money)
+  private final Map<YearMonth, long[]> monthly = new TreeMap<>();
+  private final Map<YearMonth, long[]> trendMonthly = new TreeMap<>();
+  // 카테고리/결제수단 ordinal 인덱스
+  private final Accumulated[] categories = new Accumulated[CATEGORIES.length];
+  private final Accumulated[] paymentMethods = new Accumulated[PAYMENT_METHODS.length];
+
+  // 날짜 순서로 들어오는 행은 같은 달이 이어지므로 마지막 달 범위를 기억해서 YearMonth 변환을 줄인다
+  private YearMonth lastMonth;
+  private long lastMonthFirstDay = 1;
+  private long lastMonthLastDay;
+
+  StatisticsAccumulator(
+      LocalDate startDate, LocalDate endDate, LocalDate trendStart, LocalDate trendEnd) {
+    this.startDay = startDate.toEpochDay();
+    this.endDay = endDate.toEpochDay();
+    this.trendStartDay = trendStart.toEpochDay();
+    this.trendEndDay = trendEnd.toEpochDay();
+  }
+
+  /**
+   * 트렌드 없이 한 기간의 통계만 누적합니다.
+   */
+  StatisticsAccumulator(LocalDate startDate, LocalDate endDate) {
+    // 트렌드 범위를 비워 둔다 (시작 > 종료)
+    this(startDate, endDate, LocalDate.MAX, LocalDate.MIN);
+  }
+
+  void accept(LedgerDailyAgg row) {
+    add(
+        row.getAggDate().toEpochDay(),
+        row.getType() == LedgerType.INCOME,
+        row.getCategory().ordinal(),
+        row.getPaymentMethod().ordinal(),
+        Money.toMinor(row.getTotalAmount()),
+        row.getTxCount());
+  }
+
+  /**
+   * 한 행(일간 집계 행 또는 거래 내역 한 건)을 누적합니다.
+   *
+   * @param epochDay 날짜 (epochDay)
+   * @param income 수입이면 true, 지출이면 false
+   * @param category 카테고리 ordinal
+   * @param paymentMethod 결제수단 ordinal
+   * @param amount 금액 (1/100 단위)
+   * @param count 거래 건수
+   */
+  void add(
+      long epochDay, boolean income, int category, int paymentMethod, long amount, long count) {
+    boolean inTrend = epochDay >= trendStartDay && epochDay <= trendEndDay;
+    boolean inRange = epochDay >= startDay && epochDay <= endDay;
+    if (!inTrend && !inRange) {
+      return;
+    }
+    YearMonth month = monthOf(epochDay);
+    if (inTrend) {
+      addMonthly(trendMonthly, month, income, amount);
+    }
+    if (!inRange) {
+      return;
+    }
+
+    addMonthly(monthly, month, income, amount);
+    accumulated(paymentMethods, paymentMethod).add(amount, count);
+    if (!income) {
+      accumulated(categories, category).add(amount, count);
+    }
+  }
+
+  List<MonthlySummary> monthlySummaries() {
+    return toMonthlySummaries(monthly);
+  }
+
+  List<MonthlySummary> trendSummaries() {
+    return toMonthlySummaries(trendMonthly);
+  }
+
+  // 지출 많은 순
+  List<CategorySummary> categorySummaries() {
+    List<CategorySummary> summaries = new ArrayList<>();
+    for (int i = 0; i < categories.length; i++) {
+      if (categories[i] != null) {
+        summaries.add(
+            new CategorySummary(
+                CATEGORIES[i], Money.toAmount(categories[i].amount), categories[i].count));
+      }
+    }
+    summaries.sort(Comparator.comparing(CategorySummary::getTotalAmount).reversed());
+    return summaries;
+  }
+
+  List<PaymentMethodSummary> paymentMethodSummaries() {
+    List<PaymentMethodSummary> summaries = new ArrayList<>();
+    for (int i = 0; i < paymentMethods.length; i++) {
+      if (paymentMethods[i] != null) {
+        summaries.add(
+            new PaymentMethodSummary(
+                PAYMENT_METHODS[i],
+                Money.toAmount(paymentMethods[i].amount),
+                paymentMethods[i].count));
+      }
+    }
+    summaries.sort(Comparator.comparing(PaymentMethodSummary::getTotalAmount).reversed());
+    return summaries;
+  }
+
+  private YearMonth monthOf(long epochDay) {
+    if (epochDay < lastMonthFirstDay || epochDay > lastMonthLastDay) {
+      lastMonth = YearMonth.from(LocalDate.ofEpochDay(epochDay));
+      lastMonthFirstDay = lastMonth.atDay(1).toEpochDay();
+      lastMonthLastDay = lastMonthFirstDay + lastMonth.lengthOfMonth() - 1;
+    }
+    return lastMonth;
+  }
+
+  private static Accumulated accumulated(Accumulated[] target, int ordinal) {
+    Accumulated acc = target[ordinal];
+    if (acc == null) {
+      acc = new Accumulated();
+      target[ordinal] = acc;
+    }
+    return acc;
+  }
+
+  private static void addMonthly(
+      Map<YearMonth, long[]> target, YearMonth month, boolean income, long amount) {
+    // [0] 수입, [1] 지출
+    long[] sums = target.computeIfAbsent(month, key -> new long[2]);
+    int slot = income ? 0 : 1;
+    sums[slot] = Math.addExact(sums[slot], amount);
+  }
+
+  private static List<MonthlySummary> toMonthlySummaries(Map<YearMonth, long[]> source) {
+    List<MonthlySummary> summaries = new ArrayList<>(source.size());
+    source.forEach(
+        (month, sums) ->
+            summaries.add(
+                new MonthlySummary(
+                    month.getYear(),
+                    month.getMonthValue(),
+                    Money.toAmount(sums[0]),
+                    Money.toAmount(sums[1]),
+                    Money.toAmount(Math.subtractExact(sums[0], sums[1])))));
+    return summaries;
+  }
+
+  private static class Accumulated {
+    private long amount;
+    private long count;
+
+    private void add(long amount, long count) {
+      this.amount = Math.addExact(this.amount, amount);
+      this.count += count;
+    }
+  }
+}
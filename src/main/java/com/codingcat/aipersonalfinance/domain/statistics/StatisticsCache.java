@@ -0,0 +1,309 @@
+package com.codingcat.aipersonalfinance.domain.statistics;
+
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerBatchCreatedEvent;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerChangedEvent;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerSnapshot;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 통계 결과 캐시
+ * (사용자, 엔드포인트, 기간, limit) 단위로 계산된 통계를 보관합니다.
+ * 크기 제한(LRU)과 TTL을 함께 적용하고, 거래 내역이 변경되면 해당 날짜를 포함하는 항목만 무효화합니다.
+ * 변경 이벤트는 이 서버의 변경만 받으므로, 조회마다 사용자의 마지막 수정 시각(MAX(modified_at))을
+ * 항목을 계산할 때의 값과 비교해서 다른 서버의 변경이 있으면 다시 계산합니다. (LedgerColumnarStore 와 같은 기준)
+ * 이 서버의 변경을 반영한 뒤에는 남은 항목의 기준을 변경된 행의 수정 시각으로 올려서 무효화 범위 밖의 항목은 유지합니다.
+ * statistics.cache.verify-freshness 를 끄면 다른 서버의 변경은 TTL 이 지나야 반영됩니다.
+ */
+@Slf4j
+@Component
+public class StatisticsCache {
+
+  private final LedgerRepository ledgerRepository;
+  private final boolean verifyFreshness;
+  private final int maxSize;
+  private final long ttlMillis;
+  private final Clock clock;
+
+  // accessOrder = true 로 LRU 순서 유지, 모든 접근은 this 로 동기화
+  private final LinkedHashMap<Key, Entry> entries;
+
+  // 무효화가 일어날 때마다 증가, 계산 도중 무효화가 끼어든 결과는 저장하지 않는다
+  private final AtomicLong generation = new AtomicLong();
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+  private final AtomicLong invalidations = new AtomicLong();
+
+  @Autowired
+  public StatisticsCache(
+      LedgerRepository ledgerRepository,
+      @Value("${statistics.cache.max-size:1000}") int maxSize,
+      @Value("${statistics.cache.ttl:PT5M}") Duration ttl,
+      @Value("${statistics.cache.verify-freshness:true}") boolean verifyFreshness) {
+    this(ledgerRepository, maxSize, ttl, verifyFreshness, Clock.systemUTC());
+  }
+
+  /**
+   * 수정 시각을 확인하지 않는 캐시 (변경 이벤트와 TTL 만 사용)
+   */
+  public StatisticsCache(int maxSize, Duration ttl, Clock clock) {
+    this(null, maxSize, ttl, false, clock);
+  }
+
+  public StatisticsCache(
+      LedgerRepository ledgerRepository,
+      int maxSize,
+      Duration ttl,
+      boolean verifyFreshness,
+      Clock clock) {
+    this.ledgerRepository = ledgerRepository;
+    this.verifyFreshness = verifyFreshness;
+    this.maxSize = maxSize;
+    this.ttlMillis = ttl.toMillis();
+    this.clock = clock;
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            if (size() > StatisticsCache.this.maxSize) {
+              evictions.incrementAndGet();
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  /**
+   * 캐시된 값을 반환하고, 없거나 만료되었거나 DB 의 마지막 수정 시각이 달라졌으면 계산해서 저장합니다.
+   * 계산은 락 밖에서 수행하며, 계산 중 무효화가 발생했다면 결과를 저장하지 않습니다.
+   *
+   * @param key 캐시 키
+   * @param loader 캐시 미스 시 통계를 계산하는 함수
+   * @return 캐시된 값 또는 새로 계산된 값
+   */
+  public Object get(Key key, Supplier<?> loader) {
+    // 계산보다 먼저 읽으므로 계산 중의 변경은 다음 조회에서 다시 감지된다
+    LocalDateTime lastModifiedAt =
+        verifyFreshness ? ledgerRepository.findLastModifiedAt(key.userIdx()) : null;
+    long now = clock.millis();
+    synchronized (this) {
+      Entry entry = entries.get(key);
+      if (entry != null) {
+        if (entry.expiresAt > now && Objects.equals(entry.lastModifiedAt, lastModifiedAt)) {
+          hits.incrementAndGet();
+          return entry.value;
+        }
+        entries.remove(key);
+        evictions.incrementAndGet();
+      }
+    }
+    misses.incrementAndGet();
+
+    long startedGeneration = generation.get();
+    Object value = loader.get();
+
+    synchronized (this) {
+      if (generation.get() == startedGeneration) {
+        entries.put(key, new Entry(value, lastModifiedAt, clock.millis() + ttlMillis));
+      }
+    }
+    return value;
+  }
+
+  /**
+   * 거래 내역 변경 즉시(같은 트랜잭션 안에서) 변경 전/후 날짜를 포함하는 항목을 무효화합니다.
+   */
+  @EventListener
+  public void onLedgerChanged(LedgerChangedEvent event) {
+    invalidate(event);
+  }
+
+  /**
+   * 커밋 이후 한 번 더 무효화합니다.
+   * 커밋 전에 다른 요청이 이전 값을 읽어 다시 채운 항목을 제거하기 위함입니다.
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onLedgerCommitted(LedgerChangedEvent event) {
+    invalidate(event);
+    advanceStamps(
+        event.userIdx(),
+        Stream.of(event.before(), event.after())
+            .filter(Objects::nonNull)
+            .map(LedgerSnapshot::ledgerIdx)
+            .distinct()
+            .toList());
+  }
+
+  /**
+   * 일괄 생성(CSV 가져오기)은 배치에 포함된 날짜를 한 번에 비교해서 무효화합니다.
+   */
+  @EventListener
+  public void onLedgerBatchCreated(LedgerBatchCreatedEvent event) {
+    invalidate(event.userIdx(), event.recordedDates());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onLedgerBatchCommitted(LedgerBatchCreatedEvent event) {
+    invalidate(event.userIdx(), event.recordedDates());
+    advanceStamps(
+        event.userIdx(), event.snapshots().stream().map(LedgerSnapshot::ledgerIdx).toList());
+  }
+
+  /**
+   * 사용자의 캐시 항목을 모두 제거합니다.
+   */
+  public synchronized void invalidateUser(Long userIdx) {
+    generation.incrementAndGet();
+    entries.keySet().removeIf(key -> Objects.equals(key.userIdx(), userIdx));
+  }
+
+  public synchronized Stats stats() {
+    return new Stats(hits.get(), misses.get(), evictions.get(), invalidations.get(), entries.size());
+  }
+
+  private void invalidate(LedgerChangedEvent event) {
+    List<LocalDate> dates = new ArrayList<>(2);
+    if (event.before() != null) {
+      dates.add(event.before().recordedDate());
+    }
+    if (event.after() != null) {
+      dates.add(event.after().recordedDate());
+    }
+    invalidate(event.userIdx(), dates);
+  }
+
+  private synchronized void invalidate(Long userIdx, Collection<LocalDate> dates) {
+    generation.incrementAndGet();
+
+    Iterator<Key> iterator = entries.keySet().iterator();
+    while (iterator.hasNext()) {
+      Key key = iterator.next();
+      if (Objects.equals(key.userIdx(), userIdx) && dates.stream().anyMatch(key::covers)) {
+        iterator.remove();
+        invalidations.incrementAndGet();
+      }
+    }
+  }
+
+  // 무효화하고 남은 항목은 이 변경과 무관하므로, 그 사이 다른 행이 수정되지 않았으면 기준만 변경된 행의 수정 시각으로 올린다
+  // (다른 행이 수정되었으면 그대로 두어 다음 조회에서 다시 계산)
+  private void advanceStamps(Long userIdx, List<Long> ledgerIds) {
+    if (!verifyFreshness || ledgerIds.isEmpty()) {
+      return;
+    }
+    LocalDateTime since;
+    synchronized (this) {
+      since =
+          entries.entrySet().stream()
+              .filter(entry -> Objects.equals(entry.getKey().userIdx(), userIdx))
+              .map(entry -> stampOf(entry.getValue()))
+              .min(LocalDateTime::compareTo)
+              .orElse(null);
+    }
+    if (since == null) {
+      return;
+    }
+
+    LocalDateTime committedAt;
+    try {
+      if (ledgerRepository.countModifiedSinceExcept(userIdx, since, ledgerIds) > 0) {
+        return;
+      }
+      committedAt = ledgerRepository.findLastModifiedAtOf(ledgerIds);
+    } catch (RuntimeException e) {
+      log.warn("통계 캐시 수정 시각 확인 실패, 사용자 항목 제거 : userIdx={}", userIdx, e);
+      invalidateUser(userIdx);
+      return;
+    }
+    if (committedAt == null) {
+      return;
+    }
+
+    synchronized (this) {
+      entries.replaceAll(
+          (key, entry) ->
+              Objects.equals(key.userIdx(), userIdx) && committedAt.isAfter(stampOf(entry))
+                  ? new Entry(entry.value, committedAt, entry.expiresAt)
+                  : entry);
+    }
+  }
+
+  private static LocalDateTime stampOf(Entry entry) {
+    return entry.lastModifiedAt != null ? entry.lastModifiedAt : LedgerColumnarStore.NO_LEDGER;
+  }
+
+  private record Entry(Object value, LocalDateTime lastModifiedAt, long expiresAt) {}
+
+  /**
+   * 캐시 키
+   * 결과에 영향을 주는 날짜 범위를 모두 포함해야 무효화가 정확하게 동작합니다.
+   *
+   * @param userIdx 사용자 ID
+   * @param endpoint 통계 종류 (monthly, category, ...)
+   * @param startDate 통계 시작일 (트렌드 전용이면 null)
+   * @param endDate 통계 종료일 (트렌드 전용이면 null)
+   * @param trendMonth 트렌드 기준 월 (전월~당월이 결과에 영향, 없으면 null)
+   * @param limit Top N 개수 (없으면 0)
+   */
+  public record Key(
+      Long userIdx,
+      String endpoint,
+      LocalDate startDate,
+      LocalDate endDate,
+      YearMonth trendMonth,
+      int limit) {
+
+    public static Key ofRange(
+        Long userIdx, String endpoint, LocalDate startDate, LocalDate endDate, int limit) {
+      return new Key(userIdx, endpoint, startDate, endDate, null, limit);
+    }
+
+    public static Key ofTrend(Long userIdx, LocalDate targetMonth) {
+      return new Key(userIdx, "trend", null, null, YearMonth.from(targetMonth), 0);
+    }
+
+    boolean covers(LocalDate date) {
+      if (date == null) {
+        return false;
+      }
+      if (startDate != null && !date.isBefore(startDate) && !date.isAfter(endDate)) {
+        return true;
+      }
+      if (trendMonth != null) {
+        LocalDate trendStart = trendMonth.minusMonths(1).atDay(1);
+        LocalDate trendEnd = trendMonth.atEndOfMonth();
+        return !date.isBefore(trendStart) && !date.isAfter(trendEnd);
+      }
+      return false;
+    }
+  }
+
+  /**
+   * 캐시 통계
+   */
+  public record Stats(long hits, long misses, long evictions, long invalidations, int size) {}
+}
@@ -1,5 +1,8 @@
 package com.codingcat.aipersonalfinance.domain.statistics;
 
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerArchiveYearRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerDailyAgg;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerDailyAggRepository;
 import com.codingcat.aipersonalfinance.domain.ledger.LedgerRepository;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.CategorySummary;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.MonthlySummary;
@@ -7,13 +10,14 @@ import com.codingcat.aipersonalfinance.domain.ledger.dto.PaymentMethodSummary;
 import com.codingcat.aipersonalfinance.domain.user.User;
 import com.codingcat.aipersonalfinance.domain.user.UserRepository;
 import com.codingcat.aipersonalfinance.module.exception.CustomException;
-import com.codingcat.aipersonalfinance.module.response.ApiResponseUtil;
+import com.codingcat.aipersonalfinance.module.model.Money;
 import com.codingcat.aipersonalfinance.module.security.AuthDto;
 
 import static com.codingcat.aipersonalfinance.module.response.ApiResponseUtil.sendApiOK;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -31,120 +35,301 @@ import org.springframework.transaction.annotation.Transactional;
 public class StatisticsService {
 
   private final LedgerRepository ledgerRepository;
+  private final LedgerDailyAggRepository ledgerDailyAggRepository;
+  private final LedgerArchiveYearRepository ledgerArchiveYearRepository;
   private final UserRepository userRepository;
+  private final StatisticsCache statisticsCache;
+  private final LedgerColumnarStore ledgerColumnarStore;
 
   public ResponseEntity<?> getMonthlyStatistics(
       AuthDto authDto, LocalDate startDate, LocalDate endDate) {
-    User user = findUserByEmail(authDto.getEmail());
-
-    List<MonthlySummary> summaries = ledgerRepository.getMonthlySummary(user, startDate, endDate);
-
-    List<MonthlyStatsResponse> responses =
-        summaries.stream()
-            .map(
-                summary ->
-                    MonthlyStatsResponse.builder()
-                        .year(summary.getYear())
-                        .month(summary.getMonth())
-                        .totalIncome(summary.getTotalIncome())
-                        .totalExpense(summary.getTotalExpense())
-                        .netAmount(summary.getNetAmount())
-                        .build())
-            .collect(Collectors.toList());
-
-    return sendApiOK( responses);
+    User user = getUserReference(authDto);
+
+    StatisticsCache.Key key =
+        StatisticsCache.Key.ofRange(user.getIdx(), "monthly", startDate, endDate, 0);
+
+    return sendApiOK(
+        statisticsCache.get(
+            key,
+            () -> {
+              StatisticsAccumulator accumulator = scanSnapshot(user, startDate, endDate);
+              return toMonthlyStats(
+                  accumulator != null
+                      ? accumulator.monthlySummaries()
+                      : ledgerRepository.getMonthlySummary(user, startDate, endDate));
+            }));
   }
 
   // 카테고리별 통계 조회
   public ResponseEntity<?> getCategoryStatistics(
       AuthDto authDto, LocalDate startDate, LocalDate endDate) {
-    User user = findUserByEmail(authDto.getEmail());
-
-    List<CategorySummary> summaries =
-        ledgerRepository.getCategorySummary(user, startDate, endDate);
-
-    if (summaries.isEmpty()) return ApiResponseUtil.sendApiOK(List.of());
-
-    // 전체 지출 합계 계산
-    BigDecimal totalExpense =
-        summaries.stream()
-            .map(CategorySummary::getTotalAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-    // 각 카테고리별 비율 계산
-    List<CategoryStatsResponse> responses =
-        summaries.stream()
-            .map(
-                summary -> {
-                  BigDecimal percentage = BigDecimal.ZERO;
-                  if (totalExpense.compareTo(BigDecimal.ZERO) > 0) {
-                    percentage =
-                        summary
-                            .getTotalAmount()
-                            .divide(totalExpense, 4, RoundingMode.HALF_UP)
-                            .multiply(new BigDecimal("100"))
-                            .setScale(2, RoundingMode.HALF_UP);
-                  }
-
-                  return CategoryStatsResponse.builder()
-                      .category(summary.getCategory())
-                      .totalAmount(summary.getTotalAmount())
-                      .transactionCount(summary.getTransactionCount())
-                      .percentage(percentage)
-                      .build();
-                })
-            .collect(Collectors.toList());
-
-    return sendApiOK( responses);
+    User user = getUserReference(authDto);
+
+    StatisticsCache.Key key =
+        StatisticsCache.Key.ofRange(user.getIdx(), "category", startDate, endDate, 0);
+
+    return sendApiOK(
+        statisticsCache.get(
+            key,
+            () -> {
+              StatisticsAccumulator accumulator = scanSnapshot(user, startDate, endDate);
+              return toCategoryStats(
+                  accumulator != null
+                      ? accumulator.categorySummaries()
+                      : ledgerRepository.getCategorySummary(user, startDate, endDate));
+            }));
   }
 
   public ResponseEntity<?> getPaymentMethodStatistics(
       AuthDto authDto, LocalDate startDate, LocalDate endDate) {
-    User user = findUserByEmail(authDto.getEmail());
-
-    List<PaymentMethodSummary> summaries =
-        ledgerRepository.getPaymentMethodSummary(user, startDate, endDate);
-
-    List<PaymentMethodStatsResponse> responses =
-        summaries.stream()
-            .map(
-                summary ->
-                    PaymentMethodStatsResponse.builder()
-                        .paymentMethod(summary.getPaymentMethod())
-                        .totalAmount(summary.getTotalAmount())
-                        .transactionCount(summary.getTransactionCount())
-                        .build())
-            .collect(Collectors.toList());
-
-    return sendApiOK( responses);
+    User user = getUserReference(authDto);
+
+    StatisticsCache.Key key =
+        StatisticsCache.Key.ofRange(user.getIdx(), "payment-method", startDate, endDate, 0);
+
+    return sendApiOK(
+        statisticsCache.get(
+            key,
+            () -> {
+              StatisticsAccumulator accumulator = scanSnapshot(user, startDate, endDate);
+              return toPaymentMethodStats(
+                  accumulator != null
+                      ? accumulator.paymentMethodSummaries()
+                      : ledgerRepository.getPaymentMethodSummary(user, startDate, endDate));
+            }));
   }
 
   public ResponseEntity<?> getTrendAnalysis(AuthDto authDto, LocalDate currentMonth) {
-    User user = findUserByEmail(authDto.getEmail());
+    User user = getUserReference(authDto);
 
     // 전월과 당월의 첫날/마지막날 계산
-    LocalDate currentStart = currentMonth.withDayOfMonth(1);
     LocalDate currentEnd = currentMonth.withDayOfMonth(currentMonth.lengthOfMonth());
+    LocalDate previousStart = currentMonth.withDayOfMonth(1).minusMonths(1);
+
+    // 두 달의 통계 조회 (같은 달의 요청은 하나의 캐시 항목을 공유)
+    StatisticsCache.Key key = StatisticsCache.Key.ofTrend(user.getIdx(), currentMonth);
+
+    return sendApiOK(
+        statisticsCache.get(
+            key,
+            () -> {
+              StatisticsAccumulator accumulator = scanSnapshot(user, previousStart, currentEnd);
+              return buildTrend(
+                  accumulator != null
+                      ? accumulator.monthlySummaries()
+                      : ledgerRepository.getMonthlySummary(user, previousStart, currentEnd),
+                  currentMonth);
+            }));
+  }
+
+  public ResponseEntity<?> getTopCategories(
+      AuthDto authDto, LocalDate startDate, LocalDate endDate, int limit) {
+    User user = getUserReference(authDto);
+
+    StatisticsCache.Key key =
+        StatisticsCache.Key.ofRange(user.getIdx(), "top-categories", startDate, endDate, limit);
+
+    return sendApiOK(
+        statisticsCache.get(
+            key,
+            () -> {
+              StatisticsAccumulator accumulator = scanSnapshot(user, startDate, endDate);
+              if (accumulator == null) {
+                return toCategoryStats(
+                    ledgerRepository.getTopCategories(user, startDate, endDate, limit));
+              }
+              List<CategorySummary> summaries = accumulator.categorySummaries();
+              return toCategoryStats(summaries.subList(0, Math.min(limit, summaries.size())));
+            }));
+  }
+
+  /**
+   * 대시보드 통계 조회
+   * 통계 기간과 트렌드 기간(전월~당월)의 일간 집계를 한 번씩만 읽고 (겹치거나 맞닿으면 한 번에),
+   * 월별/카테고리별/결제수단별/트렌드/Top N 통계를 메모리에서 함께 계산합니다.
+   */
+  public ResponseEntity<?> getDashboard(
+      AuthDto authDto, LocalDate startDate, LocalDate endDate, LocalDate targetMonth, int limit) {
+    User user = getUserReference(authDto);
+
+    StatisticsCache.Key key =
+        new StatisticsCache.Key(
+            user.getIdx(), "dashboard", startDate, endDate, YearMonth.from(targetMonth), limit);
+
+    return sendApiOK(
+        statisticsCache.get(
+            key, () -> buildDashboard(user, startDate, endDate, targetMonth, limit)));
+  }
+
+  /**
+   * 통계 캐시 적중/미스/축출/무효화 건수 조회
+   */
+  public ResponseEntity<?> getCacheStats() {
+    return sendApiOK(statisticsCache.stats());
+  }
+
+  /**
+   * 거래 내역 스냅샷 저장소 현황 조회
+   */
+  public ResponseEntity<?> getColumnarStats() {
+    return sendApiOK(ledgerColumnarStore.stats());
+  }
+
+  // === Private Helper Methods ===
+
+  // dbTimeMs 는 집계 행(또는 스냅샷) 조회에 걸린 시간 (캐시 적중 시에는 최초 계산 당시 값)
+  private DashboardResponse buildDashboard(
+      User user, LocalDate startDate, LocalDate endDate, LocalDate targetMonth, int limit) {
+    long dbStarted = System.nanoTime();
+    LocalDate trendStart = targetMonth.withDayOfMonth(1).minusMonths(1);
+    LocalDate trendEnd = targetMonth.withDayOfMonth(targetMonth.lengthOfMonth());
+    LocalDate scanStart = startDate.isBefore(trendStart) ? startDate : trendStart;
+    LocalDate scanEnd = endDate.isAfter(trendEnd) ? endDate : trendEnd;
+
+    StatisticsAccumulator accumulator =
+        new StatisticsAccumulator(startDate, endDate, trendStart, trendEnd);
+    LedgerColumnarSnapshot snapshot = snapshotOf(user, scanStart);
+    // 두 기간이 겹치거나 맞닿으면 한 번에 읽고, 떨어져 있으면 사이 구간을 읽지 않도록 날짜 순으로 따로 읽는다
+    boolean contiguous =
+        !startDate.isAfter(trendEnd.plusDays(1)) && !trendStart.isAfter(endDate.plusDays(1));
+    if (contiguous) {
+      scanRange(user, snapshot, scanStart, scanEnd, accumulator);
+    } else if (startDate.isBefore(trendStart)) {
+      scanRange(user, snapshot, startDate, endDate, accumulator);
+      scanRange(user, snapshot, trendStart, trendEnd, accumulator);
+    } else {
+      scanRange(user, snapshot, trendStart, trendEnd, accumulator);
+      scanRange(user, snapshot, startDate, endDate, accumulator);
+    }
+    long dbTimeMs = (System.nanoTime() - dbStarted) / 1_000_000;
+
+    List<CategorySummary> categorySummaries = accumulator.categorySummaries();
+    List<CategorySummary> topSummaries =
+        categorySummaries.subList(0, Math.min(limit, categorySummaries.size()));
+
+    return DashboardResponse.builder()
+        .monthly(toMonthlyStats(accumulator.monthlySummaries()))
+        .categories(toCategoryStats(categorySummaries))
+        .paymentMethods(toPaymentMethodStats(accumulator.paymentMethodSummaries()))
+        .trend(buildTrend(accumulator.trendSummaries(), targetMonth))
+        .topCategories(toCategoryStats(topSummaries))
+        .dbTimeMs(dbTimeMs)
+        .build();
+  }
+
+  // 스냅샷이 있으면 메모리에서, 없으면 일간 집계 행을 읽어 기간을 누적한다
+  private void scanRange(
+      User user,
+      LedgerColumnarSnapshot snapshot,
+      LocalDate startDate,
+      LocalDate endDate,
+      StatisticsAccumulator accumulator) {
+    if (snapshot != null) {
+      snapshot.scan(startDate, endDate, accumulator);
+      return;
+    }
+    List<LedgerDailyAgg> rows =
+        ledgerDailyAggRepository.findRowsInRange(user.getIdx(), startDate, endDate);
+    rows.forEach(accumulator::accept);
+  }
+
+  // 사용자의 거래 내역 스냅샷이 있으면 기간을 메모리에서 누적한다 (사용하지 않으면 null)
+  private StatisticsAccumulator scanSnapshot(User user, LocalDate startDate, LocalDate endDate) {
+    LedgerColumnarSnapshot snapshot = snapshotOf(user, startDate);
+    if (snapshot == null) {
+      return null;
+    }
+    StatisticsAccumulator accumulator = new StatisticsAccumulator(startDate, endDate);
+    snapshot.scan(startDate, endDate, accumulator);
+    return accumulator;
+  }
+
+  // 스냅샷은 ledger 의 거래만 담으므로, 기간이 보관 연도에 걸치면 사용하지 않고 일간 집계를 읽는다
+  private LedgerColumnarSnapshot snapshotOf(User user, LocalDate startDate) {
+    if (!ledgerColumnarStore.isEnabled()) {
+      return null;
+    }
+    LocalDate archivedBefore = ledgerArchiveYearRepository.findArchivedBefore(user.getIdx());
+    if (archivedBefore != null && startDate.isBefore(archivedBefore)) {
+      return null;
+    }
+    return ledgerColumnarStore.snapshotOf(user.getIdx());
+  }
+
+  // 토큰의 userIdx 로 사용자 참조를 가져온다 (사용자 테이블 조회 없음)
+  private User getUserReference(AuthDto authDto) {
+    if (authDto == null || authDto.getUserIdx() == null) {
+      throw new CustomException(
+          HttpStatus.BAD_REQUEST,
+          "sm.common.fail.user_not_found",
+          "올바르지 않은 사용자 정보입니다.");
+    }
+    return userRepository.getReferenceById(authDto.getUserIdx());
+  }
+
+  private List<MonthlyStatsResponse> toMonthlyStats(List<MonthlySummary> summaries) {
+    return summaries.stream().map(this::toMonthlyStats).collect(Collectors.toList());
+  }
+
+  private MonthlyStatsResponse toMonthlyStats(MonthlySummary summary) {
+    return MonthlyStatsResponse.builder()
+        .year(summary.getYear())
+        .month(summary.getMonth())
+        .totalIncome(summary.getTotalIncome())
+        .totalExpense(summary.getTotalExpense())
+        .netAmount(summary.getNetAmount())
+        .build();
+  }
+
+  // 각 카테고리별 비율 계산 (전달된 목록의 합계 기준)
+  private List<CategoryStatsResponse> toCategoryStats(List<CategorySummary> summaries) {
+    // 전체 지출 합계 계산 (1/100 단위 long)
+    long[] amounts = new long[summaries.size()];
+    long totalExpense = 0;
+    for (int i = 0; i < amounts.length; i++) {
+      amounts[i] = Money.toMinor(summaries.get(i).getTotalAmount());
+      totalExpense = Math.addExact(totalExpense, amounts[i]);
+    }
+
+    List<CategoryStatsResponse> responses = new ArrayList<>(summaries.size());
+    for (int i = 0; i < amounts.length; i++) {
+      CategorySummary summary = summaries.get(i);
+      BigDecimal percentage =
+          totalExpense > 0 ? Money.percentage(amounts[i], totalExpense) : BigDecimal.ZERO;
+
+      responses.add(
+          CategoryStatsResponse.builder()
+              .category(summary.getCategory())
+              .totalAmount(summary.getTotalAmount())
+              .transactionCount(summary.getTransactionCount())
+              .percentage(percentage)
+              .build());
+    }
+    return responses;
+  }
 
-    LocalDate previousStart = currentStart.minusMonths(1);
-    LocalDate previousEnd = previousStart.withDayOfMonth(previousStart.lengthOfMonth());
+  private List<PaymentMethodStatsResponse> toPaymentMethodStats(
+      List<PaymentMethodSummary> summaries) {
+    return summaries.stream()
+        .map(
+            summary ->
+                PaymentMethodStatsResponse.builder()
+                    .paymentMethod(summary.getPaymentMethod())
+                    .totalAmount(summary.getTotalAmount())
+                    .transactionCount(summary.getTransactionCount())
+                    .build())
+        .collect(Collectors.toList());
+  }
 
-    // 두 달의 통계 조회
-    List<MonthlySummary> summaries =
-        ledgerRepository.getMonthlySummary(user, previousStart, currentEnd);
+  // 전월/당월 월별 요약으로 트렌드 응답 생성
+  private TrendResponse buildTrend(List<MonthlySummary> summaries, LocalDate currentMonth) {
+    LocalDate previousStart = currentMonth.withDayOfMonth(1).minusMonths(1);
 
     MonthlyStatsResponse currentStats = null;
     MonthlyStatsResponse previousStats = null;
 
     for (MonthlySummary summary : summaries) {
-      MonthlyStatsResponse stats =
-          MonthlyStatsResponse.builder()
-              .year(summary.getYear())
-              .month(summary.getMonth())
-              .totalIncome(summary.getTotalIncome())
-              .totalExpense(summary.getTotalExpense())
-              .netAmount(summary.getNetAmount())
-              .build();
+      MonthlyStatsResponse stats = toMonthlyStats(summary);
 
       if (summary.getYear().equals(currentMonth.getYear())
           && summary.getMonth().equals(currentMonth.getMonthValue())) {
@@ -168,67 +353,12 @@ public class StatisticsService {
     BigDecimal incomeChangeRate =
         calculateChangeRate(previousStats.getTotalIncome(), currentStats.getTotalIncome());
 
-    TrendResponse response =
-        TrendResponse.builder()
-            .currentMonth(currentStats)
-            .previousMonth(previousStats)
-            .expenseChangeRate(expenseChangeRate)
-            .incomeChangeRate(incomeChangeRate)
-            .build();
-
-    return sendApiOK( response);
-  }
-
-  public ResponseEntity<?> getTopCategories(
-      AuthDto authDto, LocalDate startDate, LocalDate endDate, int limit) {
-    User user = findUserByEmail(authDto.getEmail());
-
-    List<CategorySummary> summaries =
-        ledgerRepository.getTopCategories(user, startDate, endDate, limit);
-
-    // 전체 합계 계산 (비율 계산용)
-    BigDecimal totalExpense =
-        summaries.stream()
-            .map(CategorySummary::getTotalAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-    List<CategoryStatsResponse> responses =
-        summaries.stream()
-            .map(
-                summary -> {
-                  BigDecimal percentage = BigDecimal.ZERO;
-                  if (totalExpense.compareTo(BigDecimal.ZERO) > 0) {
-                    percentage =
-                        summary
-                            .getTotalAmount()
-                            .divide(totalExpense, 4, RoundingMode.HALF_UP)
-                            .multiply(new BigDecimal("100"))
-                            .setScale(2, RoundingMode.HALF_UP);
-                  }
-
-                  return CategoryStatsResponse.builder()
-                      .category(summary.getCategory())
-                      .totalAmount(summary.getTotalAmount())
-                      .transactionCount(summary.getTransactionCount())
-                      .percentage(percentage)
-                      .build();
-                })
-            .collect(Collectors.toList());
-
-    return sendApiOK( responses);
-  }
-
-  // === Private Helper Methods ===
-
-  private User findUserByEmail(String email) {
-    return userRepository
-        .findByEmail(email)
-        .orElseThrow(
-            () ->
-                new CustomException(
-                    HttpStatus.BAD_REQUEST,
-                    "sm.common.fail.user_not_found",
-                    "올바르지 않은 사용자 정보입니다."));
+    return TrendResponse.builder()
+        .currentMonth(currentStats)
+        .previousMonth(previousStats)
+        .expenseChangeRate(expenseChangeRate)
+        .incomeChangeRate(incomeChangeRate)
+        .build();
   }
 
   private MonthlyStatsResponse createEmptyStats(int year, int month) {
@@ -245,14 +375,10 @@ public class StatisticsService {
    * 증감율 계산 ((현재 - 이전) / 이전 * 100)
    */
   private BigDecimal calculateChangeRate(BigDecimal previous, BigDecimal current) {
-    if (previous.compareTo(BigDecimal.ZERO) == 0) {
+    if (previous.signum() == 0) {
       return BigDecimal.ZERO;
     }
 
-    return current
-        .subtract(previous)
-        .divide(previous, 4, RoundingMode.HALF_UP)
-        .multiply(new BigDecimal("100"))
-        .setScale(2, RoundingMode.HALF_UP);
+    return Money.changeRate(Money.toMinor(previous), Money.toMinor(current));
   }
 }
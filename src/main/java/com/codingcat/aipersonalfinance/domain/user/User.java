@@ -38,6 +38,10 @@ public class User extends BaseEntity {
   @Column(nullable = true)
   private String role;
 
+  // 액세스 토큰 버전, 올리면 이전에 발급된 토큰은 모두 거부된다 (정지, 탈퇴, 전체 로그아웃)
+  @Column(name = "token_version", nullable = false)
+  private int tokenVersion;
+
   /*
   서비스코드에서 업데이트 기능을 사용할려면 서비스 메서드에 반드시 @Transactional을 붙여야함
   */
@@ -45,6 +49,15 @@ public class User extends BaseEntity {
     this.nickname = nickname;
   }
 
+  /**
+   * 지금까지 발급된 토큰을 모두 무효화합니다.
+   *
+   * @return 새 토큰 버전 (이 버전 미만의 토큰은 거부)
+   */
+  public int revokeTokens(){
+    return ++this.tokenVersion;
+  }
+
   public static User createTestUser() {
     User user = new User();
     user.email = "test@test.com";
@@ -68,6 +81,7 @@ public class User extends BaseEntity {
       .serviceType(ServiceType.USER)
       .userIdx(idx)
       .email(email)
+      .tokenVersion(tokenVersion)
       .build();
   }
 }
@@ -1,12 +1,18 @@
 package com.codingcat.aipersonalfinance.domain.user;
 
+import java.util.List;
 import java.util.Optional;
 import javax.xml.validation.Schema;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
   Optional<User> findByNickname(String nickname);
   Optional<User>  findByEmail(String email);
+
+  // 토큰이 무효화된 적 있거나 탈퇴한 사용자 (토큰 폐기 목록 갱신용)
+  @Query("select u from User u where u.tokenVersion > 0 or u.deletedAt is not null")
+  List<User> findTokenRevokedUsers();
 }
\ No newline at end of file
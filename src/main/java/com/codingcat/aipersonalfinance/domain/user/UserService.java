@@ -4,12 +4,16 @@ import com.codingcat.aipersonalfinance.module.exception.CustomException;
 import com.codingcat.aipersonalfinance.module.response.ApiResponseUtil;
 import com.codingcat.aipersonalfinance.module.response.ApiResponseVo;
 import com.codingcat.aipersonalfinance.module.security.AuthService;
+import com.codingcat.aipersonalfinance.module.security.token.TokenRevocationRegistry;
+import com.codingcat.aipersonalfinance.module.shard.ShardContext;
+import com.codingcat.aipersonalfinance.module.shard.ShardRouter;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
@@ -17,6 +21,7 @@ public class UserService {
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
   private final AuthService authService;
+  private final TokenRevocationRegistry tokenRevocationRegistry;
 
   /* 회원가입 */
   public ResponseEntity<ApiResponseVo<?>> signUp(AddUserRequest request){
@@ -52,6 +57,23 @@ public class UserService {
     return ApiResponseUtil.sendApiResponse(HttpStatus.OK, "sm.common.success.default", "success", user, null);
   }
 
+  /*
+  사용자의 토큰 전체 무효화 (계정 정지, 분실 기기 로그아웃)
+  토큰 버전을 올리고 이 서버의 폐기 목록에 바로 반영, 다른 서버는 주기적 갱신 때 반영
+  사용자 원본은 shard-0 에 있으므로 로그인한 사용자의 샤드와 무관하게 shard-0 에서 변경 (첫 쿼리 시점에 연결이 정해짐)
+  */
+  @Transactional
+  public ResponseEntity<ApiResponseVo<?>> revokeTokens(Long idx) {
+    User user =
+        ShardContext.callOn(ShardRouter.HOME_SHARD, () -> userRepository.findById(idx).orElse(null));
+    if(user == null){
+      throw new CustomException(HttpStatus.NOT_FOUND, "sm.common.fail.invalid_invalid_request","존재하지 않는 유저입니다.");
+    }
+    int tokenVersion = user.revokeTokens();
+    tokenRevocationRegistry.revoke(user.getIdx(), tokenVersion);
+    return ApiResponseUtil.sendApiResponse(HttpStatus.OK, "sm.common.success.default", "success", tokenVersion, null);
+  }
+
   public ResponseEntity<ApiResponseVo<?>> refresh(
     String refreshToken
   ) {
@@ -0,0 +1,85 @@
+package com.codingcat.aipersonalfinance.module.config;
+
+import com.codingcat.aipersonalfinance.module.datasource.DataSourceRoutingProperties;
+import com.codingcat.aipersonalfinance.module.datasource.ReadReplicaRoutingDataSource;
+import com.codingcat.aipersonalfinance.module.datasource.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 읽기 복제본 라우팅 DataSource 설정
+ * datasource.routing.enabled=true 일 때만 기본 DataSource 를 대신하며, 아니면 스프링 부트 기본 설정을 그대로 사용합니다.
+ * 사용자 샤딩(datasource.sharding.enabled)을 함께 켜면 샤딩 설정을 사용합니다.
+ */
+@Configuration
+@ConditionalOnExpression(
+        "${datasource.routing.enabled:false} and !${datasource.sharding.enabled:false}")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource routingDataSource(
+            HikariDataSource primaryDataSource, DataSourceRoutingProperties properties) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : properties.getReplicas()) {
+            replicas.add(createReplica(primaryDataSource, replica, replicas.size()));
+        }
+        return new ReadReplicaRoutingDataSource(
+                primaryDataSource,
+                replicas,
+                properties.getReadYourWritesWindow(),
+                properties.getHealthCheckTimeout(),
+                Clock.systemUTC());
+    }
+
+    // 쓰기 커밋 시각을 클라이언트에 돌려주고 다시 받아서, 다른 서버로 간 요청도 원본에서 읽게 한다
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(DataSourceRoutingProperties properties) {
+        return new ReadYourWritesFilter(properties.getReadYourWritesWindow());
+    }
+
+    // 트랜잭션의 읽기 전용 여부가 정해진 뒤(첫 쿼리 시점)에 실제 연결을 고르도록 지연 프록시로 감싼다
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            ReadReplicaRoutingDataSource routingDataSource, HikariDataSource primaryDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(routingDataSource);
+        proxy.setDefaultAutoCommit(primaryDataSource.isAutoCommit());
+        return proxy;
+    }
+
+    // 원본 연결 풀 설정(data-source-properties 포함)을 복사하고 주소와 계정만 바꾼다
+    private HikariDataSource createReplica(
+            HikariDataSource primary, DataSourceRoutingProperties.Replica replica, int index) {
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setPoolName("replica-" + index);
+        config.setJdbcUrl(replica.getUrl());
+        if (replica.getUsername() != null) {
+            config.setUsername(replica.getUsername());
+        }
+        if (replica.getPassword() != null) {
+            config.setPassword(replica.getPassword());
+        }
+        config.setReadOnly(true);
+        // 복제본이 내려가 있어도 애플리케이션은 시작하고, 원본으로 읽는다
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,73 @@
+package com.codingcat.aipersonalfinance.module.config;
+
+import com.codingcat.aipersonalfinance.module.shard.ShardRouter;
+import com.codingcat.aipersonalfinance.module.shard.ShardRoutingDataSource;
+import com.codingcat.aipersonalfinance.module.shard.ShardingProperties;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 사용자 샤딩 DataSource 설정
+ * datasource.sharding.enabled=true 일 때만 기본 DataSource 를 대신합니다.
+ * spring.datasource 가 shard-0 이고, datasource.sharding.shards 가 순서대로 shard-1, shard-2, ... 입니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.sharding.enabled", havingValue = "true")
+public class ShardDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(
+            HikariDataSource primaryDataSource, ShardRouter shardRouter, ShardingProperties properties) {
+        Map<String, DataSource> shards = new LinkedHashMap<>();
+        shards.put(ShardRouter.HOME_SHARD, primaryDataSource);
+        List<ShardingProperties.Shard> extraShards = properties.getShards();
+        for (int i = 0; i < extraShards.size(); i++) {
+            String shardId = shardRouter.shardIds().get(i + 1);
+            shards.put(shardId, createShard(primaryDataSource, extraShards.get(i), shardId));
+        }
+        return new ShardRoutingDataSource(shardRouter, shards);
+    }
+
+    // 사용자(샤드)가 정해진 뒤(첫 쿼리 시점)에 실제 연결을 고르도록 지연 프록시로 감싼다
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            ShardRoutingDataSource shardRoutingDataSource, HikariDataSource primaryDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+        proxy.setDefaultAutoCommit(primaryDataSource.isAutoCommit());
+        return proxy;
+    }
+
+    // shard-0 연결 풀 설정(data-source-properties 포함)을 복사하고 주소와 계정만 바꾼다
+    private HikariDataSource createShard(
+            HikariDataSource primary, ShardingProperties.Shard shard, String shardId) {
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setPoolName(shardId);
+        config.setJdbcUrl(shard.getUrl());
+        if (shard.getUsername() != null) {
+            config.setUsername(shard.getUsername());
+        }
+        if (shard.getPassword() != null) {
+            config.setPassword(shard.getPassword());
+        }
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,43 @@
+package com.codingcat.aipersonalfinance.module.datasource;
+
+import java.util.function.LongConsumer;
+
+/**
+ * 요청을 처리하는 스레드에 묶인 클라이언트의 마지막 쓰기 시각
+ * ReadYourWritesFilter 가 요청마다 묶고 풀며, ReadReplicaRoutingDataSource 가 읽기 경로를 정할 때와
+ * 쓰기 커밋을 클라이언트에 돌려줄 때 사용합니다.
+ */
+final class ClientLastWrite {
+
+  private static final ThreadLocal<Binding> CURRENT = new ThreadLocal<>();
+
+  private ClientLastWrite() {}
+
+  static void bind(Long lastWriteAt, LongConsumer onWrite) {
+    CURRENT.set(new Binding(lastWriteAt, onWrite));
+  }
+
+  static void clear() {
+    CURRENT.remove();
+  }
+
+  static boolean isBound() {
+    return CURRENT.get() != null;
+  }
+
+  // 클라이언트가 돌려준 마지막 쓰기 커밋 시각 (밀리초, 없으면 null)
+  static Long lastWriteAt() {
+    Binding binding = CURRENT.get();
+    return binding != null ? binding.lastWriteAt : null;
+  }
+
+  // 이 요청의 쓰기 커밋 시각을 클라이언트에 돌려준다
+  static void recordWrite(long writtenAt) {
+    Binding binding = CURRENT.get();
+    if (binding != null) {
+      binding.onWrite.accept(writtenAt);
+    }
+  }
+
+  private record Binding(Long lastWriteAt, LongConsumer onWrite) {}
+}
@@ -0,0 +1,33 @@
+package com.codingcat.aipersonalfinance.module.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 복제본 라우팅 설정 (datasource.routing)
+ * 복제본 연결 풀은 원본(spring.datasource.hikari) 설정을 그대로 쓰고 주소와 계정만 바꿉니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+  private boolean enabled;
+  // 사용자의 쓰기 커밋 후 그 사용자의 읽기를 원본으로 보내는 시간 (복제 지연보다 길게)
+  private Duration readYourWritesWindow = Duration.ofSeconds(5);
+  private Duration healthCheckTimeout = Duration.ofSeconds(2);
+  private List<Replica> replicas = new ArrayList<>();
+
+  @Getter
+  @Setter
+  public static class Replica {
+    private String url;
+    private String username;
+    private String password;
+  }
+}
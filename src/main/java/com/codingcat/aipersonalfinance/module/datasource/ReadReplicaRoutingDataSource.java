@@ -0,0 +1,227 @@
+package com.codingcat.aipersonalfinance.module.datasource;
+
+import com.codingcat.aipersonalfinance.module.security.UserPrincipal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 DataSource
+ * 읽기 전용 트랜잭션은 정상 상태인 복제본을 돌아가며(round-robin) 사용하고, 그 외에는 모두 원본을 사용합니다.
+ * 복제본 연결에 실패하면 해당 복제본을 제외하고 다음 복제본, 마지막에는 원본으로 넘어가며,
+ * 제외된 복제본은 주기적인 상태 확인에서 연결되면 다시 사용합니다.
+ * 사용자가 쓰기 트랜잭션을 커밋한 뒤 일정 시간(read-your-writes 구간) 동안은 그 사용자의 읽기도 원본을 사용해서
+ * 복제 지연으로 방금 쓴 값이 보이지 않는 일이 없게 합니다.
+ * 이 기록은 서버마다 따로 있으므로, 다른 서버로 간 요청은 ReadYourWritesFilter 가 클라이언트에 돌려준
+ * 마지막 쓰기 시각(헤더/쿠키)으로 같은 구간을 적용합니다.
+ * 트랜잭션의 읽기 전용 여부는 첫 쿼리 시점에 결정되므로 LazyConnectionDataSourceProxy 로 감싸서 사용해야 합니다.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+  private final DataSource primary;
+  private final List<Replica> replicas;
+  private final long readYourWritesMillis;
+  private final int healthCheckTimeoutSeconds;
+  private final Clock clock;
+
+  private final AtomicInteger cursor = new AtomicInteger();
+  // 사용자 ID -> 마지막 쓰기 커밋 시각 (밀리초)
+  private final Map<Long, Long> lastWrites = new ConcurrentHashMap<>();
+
+  private final AtomicLong primaryConnections = new AtomicLong();
+  private final AtomicLong replicaConnections = new AtomicLong();
+  private final AtomicLong failovers = new AtomicLong();
+
+  public ReadReplicaRoutingDataSource(
+      DataSource primary,
+      List<DataSource> replicas,
+      Duration readYourWritesWindow,
+      Duration healthCheckTimeout,
+      Clock clock) {
+    this.primary = primary;
+    this.replicas =
+        IntStream.range(0, replicas.size())
+            .mapToObj(i -> new Replica("replica-" + i, replicas.get(i)))
+            .toList();
+    this.readYourWritesMillis = readYourWritesWindow.toMillis();
+    this.healthCheckTimeoutSeconds = (int) Math.max(healthCheckTimeout.toSeconds(), 1);
+    this.clock = clock;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    Long userIdx = currentUserIdx();
+    if (!isReadOnlyTransaction()) {
+      trackWrite(userIdx);
+      return primaryConnection();
+    }
+    if (isWithinReadYourWrites(userIdx)) {
+      return primaryConnection();
+    }
+
+    for (int attempt = 0; attempt < replicas.size(); attempt++) {
+      Replica replica = replicas.get(Math.floorMod(cursor.getAndIncrement(), replicas.size()));
+      if (!replica.healthy) {
+        continue;
+      }
+      try {
+        Connection connection = replica.dataSource.getConnection();
+        replicaConnections.incrementAndGet();
+        return connection;
+      } catch (SQLException e) {
+        replica.healthy = false;
+        failovers.incrementAndGet();
+        log.warn("복제본 연결 실패로 제외 : {}", replica.name, e);
+      }
+    }
+    // 사용할 수 있는 복제본이 없으면 원본에서 읽는다
+    return primaryConnection();
+  }
+
+  // 복제본 계정은 설정으로만 정하므로, 계정을 지정한 연결은 원본에서 얻는다
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    primaryConnections.incrementAndGet();
+    return primary.getConnection(username, password);
+  }
+
+  /**
+   * 복제본 연결 상태를 확인해서 제외/복귀시키고, 지난 read-your-writes 기록을 정리합니다.
+   */
+  @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval:PT10S}")
+  public void checkHealth() {
+    for (Replica replica : replicas) {
+      boolean healthy;
+      try (Connection connection = replica.dataSource.getConnection()) {
+        healthy = connection.isValid(healthCheckTimeoutSeconds);
+      } catch (SQLException e) {
+        healthy = false;
+      }
+      if (healthy != replica.healthy) {
+        log.info("복제본 상태 변경 : {} {}", replica.name, healthy ? "복귀" : "제외");
+        replica.healthy = healthy;
+      }
+    }
+    long expiredBefore = clock.millis() - readYourWritesMillis;
+    lastWrites.values().removeIf(writtenAt -> writtenAt < expiredBefore);
+  }
+
+  public Stats stats() {
+    return new Stats(
+        primaryConnections.get(),
+        replicaConnections.get(),
+        failovers.get(),
+        (int) replicas.stream().filter(replica -> replica.healthy).count(),
+        replicas.size());
+  }
+
+  /**
+   * 복제본 연결 풀을 닫습니다. (원본은 별도 빈으로 관리)
+   */
+  @Override
+  public void close() throws Exception {
+    for (Replica replica : replicas) {
+      if (replica.dataSource instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+
+  private Connection primaryConnection() throws SQLException {
+    primaryConnections.incrementAndGet();
+    return primary.getConnection();
+  }
+
+  private boolean isReadOnlyTransaction() {
+    return TransactionSynchronizationManager.isActualTransactionActive()
+        && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+  }
+
+  private boolean isWithinReadYourWrites(Long userIdx) {
+    long now = clock.millis();
+    // 다른 서버가 기록한 시각이라 시계 차이로 조금 앞설 수 있다 (구간보다 먼 미래 값은 무시)
+    Long clientWrittenAt = ClientLastWrite.lastWriteAt();
+    if (clientWrittenAt != null && Math.abs(now - clientWrittenAt) < readYourWritesMillis) {
+      return true;
+    }
+    Long writtenAt = userIdx != null ? lastWrites.get(userIdx) : null;
+    return writtenAt != null && now - writtenAt < readYourWritesMillis;
+  }
+
+  // 쓰기 트랜잭션이 커밋되면 그 시각부터 read-your-writes 구간을 시작하고, 클라이언트에도 돌려준다
+  private void trackWrite(Long userIdx) {
+    if (readYourWritesMillis <= 0 || (userIdx == null && !ClientLastWrite.isBound())) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      recordWrite(userIdx);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            recordWrite(userIdx);
+          }
+        });
+  }
+
+  private void recordWrite(Long userIdx) {
+    long writtenAt = clock.millis();
+    if (userIdx != null) {
+      lastWrites.put(userIdx, writtenAt);
+    }
+    ClientLastWrite.recordWrite(writtenAt);
+  }
+
+  // 요청한 사용자 ID (인증되지 않은 요청, 예약 작업이면 null)
+  private static Long currentUserIdx() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null
+        && authentication.getPrincipal() instanceof UserPrincipal principal
+        && principal.getAuthDto() != null) {
+      return principal.getAuthDto().getUserIdx();
+    }
+    return null;
+  }
+
+  private static final class Replica {
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+
+    private Replica(String name, DataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+    }
+  }
+
+  /**
+   * 라우팅 현황
+   *
+   * @param primaryConnections 원본 연결 수
+   * @param replicaConnections 복제본 연결 수
+   * @param failovers 복제본 연결 실패로 넘어간 횟수
+   * @param healthyReplicas 사용 중인 복제본 수
+   * @param replicas 전체 복제본 수
+   */
+  public record Stats(
+      long primaryConnections, long replicaConnections, long failovers, int healthyReplicas,
+      int replicas) {}
+}
@@ -0,0 +1,69 @@
+package com.codingcat.aipersonalfinance.module.datasource;
+
+import com.codingcat.aipersonalfinance.module.CookieUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 서버 간 read-your-writes 필터
+ * 쓰기 트랜잭션이 커밋되면 커밋 시각을 응답 헤더(X-Last-Write-At)와 쿠키(last_write_at)로 돌려주고,
+ * 다음 요청이 헤더나 쿠키로 그 시각을 다시 보내면 어느 서버로 가든 read-your-writes 구간 동안 원본에서 읽게 합니다.
+ * 서버마다 따로 두는 기록(ReadReplicaRoutingDataSource 의 lastWrites)은 같은 서버로 온 요청에만 적용되기 때문입니다.
+ * 서버 사이의 시계 차이는 구간(read-your-writes-window)보다 충분히 작아야 합니다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+  public static final String HEADER = "X-Last-Write-At";
+  public static final String COOKIE = "last_write_at";
+
+  private final int cookieMaxAgeSeconds;
+
+  public ReadYourWritesFilter(Duration readYourWritesWindow) {
+    this.cookieMaxAgeSeconds = (int) Math.max(readYourWritesWindow.toSeconds() + 1, 1);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    ClientLastWrite.bind(
+        lastWriteAt(request),
+        writtenAt -> {
+          if (!response.isCommitted()) {
+            response.setHeader(HEADER, String.valueOf(writtenAt));
+            CookieUtil.addCookie(response, COOKIE, String.valueOf(writtenAt), cookieMaxAgeSeconds);
+          }
+        });
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      ClientLastWrite.clear();
+    }
+  }
+
+  // 헤더를 먼저 보고 없으면 쿠키를 본다 (형식이 잘못되었으면 무시)
+  private static Long lastWriteAt(HttpServletRequest request) {
+    String value = request.getHeader(HEADER);
+    if (value == null && request.getCookies() != null) {
+      for (Cookie cookie : request.getCookies()) {
+        if (COOKIE.equals(cookie.getName())) {
+          value = cookie.getValue();
+        }
+      }
+    }
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
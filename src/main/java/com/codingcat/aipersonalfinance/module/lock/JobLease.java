@@ -0,0 +1,22 @@
+package com.codingcat.aipersonalfinance.module.lock;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 서버 중 임대를 얻은 한 서버에서만 실행할 메서드에 붙입니다. (주로 @Scheduled 작업)
+ * 임대를 얻지 못하면 메서드를 실행하지 않고 null 을 반환하므로 반환값이 없는 메서드에 사용합니다.
+ * 트랜잭션보다 바깥에서 동작하므로 @Transactional 과 함께 쓰면 커밋이 끝난 뒤 임대를 반납합니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface JobLease {
+
+  /** 작업 이름 (서버 간 공유되는 키) */
+  String name();
+
+  /** 임대 기간 (ISO-8601, 예: PT10M) */
+  String leaseFor() default "PT10M";
+}
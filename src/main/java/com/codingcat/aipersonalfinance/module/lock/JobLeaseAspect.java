@@ -0,0 +1,42 @@
+package com.codingcat.aipersonalfinance.module.lock;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * @JobLease 가 붙은 메서드를 임대를 얻은 경우에만 실행합니다.
+ * 트랜잭션 어드바이스보다 먼저 실행되도록 가장 높은 우선순위를 둡니다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class JobLeaseAspect {
+
+  private final JobLockService jobLockService;
+
+  @Around("@annotation(jobLease)")
+  public Object runWithLease(ProceedingJoinPoint joinPoint, JobLease jobLease) throws Throwable {
+    Duration leaseFor = Duration.parse(jobLease.leaseFor());
+    if (!jobLockService.tryAcquire(jobLease.name(), leaseFor)) {
+      log.debug("작업 임대 획득 실패로 건너뜀 : job={}", jobLease.name());
+      return null;
+    }
+    ScheduledFuture<?> heartbeat = jobLockService.startHeartbeat(jobLease.name(), leaseFor);
+    try {
+      return joinPoint.proceed();
+    } finally {
+      heartbeat.cancel(false);
+      jobLockService.release(jobLease.name());
+    }
+  }
+}
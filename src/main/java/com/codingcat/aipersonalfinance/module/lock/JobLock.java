@@ -0,0 +1,43 @@
+package com.codingcat.aipersonalfinance.module.lock;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예약 작업 임대(lease) 엔티티
+ * 작업 이름마다 한 행이며, lease_until 이 지나기 전까지는 owner 서버만 작업을 실행합니다.
+ * 실행 중인 서버는 heartbeat 로 lease_until 을 계속 늘리고, 서버가 죽으면 만료된 뒤 다른 서버가 가져갑니다.
+ */
+@Entity
+@Table(name = "job_lock")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobLock {
+
+  @Id
+  @Column(name = "job_name", length = 100)
+  @Schema(description = "작업 이름")
+  private String name;
+
+  @Column(length = 100)
+  @Schema(description = "임대 중인 서버 (마지막 실행 서버)")
+  private String owner;
+
+  @Column(name = "lease_until", nullable = false)
+  @Schema(description = "임대 만료 시각 (이 시각이 지나면 다른 서버가 가져갈 수 있음)")
+  private LocalDateTime leaseUntil;
+
+  @Column(name = "heartbeat_at")
+  @Schema(description = "마지막 획득/연장 시각")
+  private LocalDateTime heartbeatAt;
+}
@@ -0,0 +1,70 @@
+package com.codingcat.aipersonalfinance.module.lock;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JobLock 엔티티에 대한 Repository
+ * 획득/연장/반납은 모두 조건부 UPDATE 한 번이며, 반영된 행 수(0 또는 1)로 성공 여부를 판단합니다.
+ */
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+  /**
+   * 임대가 만료된 작업만 이 서버 소유로 바꿉니다.
+   *
+   * @return 획득했으면 1, 다른 서버가 임대 중이거나 행이 없으면 0
+   */
+  @Modifying
+  @Query(
+      """
+      UPDATE JobLock JOB_LOCK
+      SET JOB_LOCK.owner = :owner, JOB_LOCK.leaseUntil = :leaseUntil, JOB_LOCK.heartbeatAt = :now
+      WHERE JOB_LOCK.name = :name
+        AND JOB_LOCK.leaseUntil <= :now
+      """)
+  int acquire(
+      @Param("name") String name,
+      @Param("owner") String owner,
+      @Param("now") LocalDateTime now,
+      @Param("leaseUntil") LocalDateTime leaseUntil);
+
+  /**
+   * 이 서버가 소유한 임대의 만료 시각을 늘립니다. (heartbeat)
+   *
+   * @return 연장했으면 1, 다른 서버가 가져갔으면 0
+   */
+  @Modifying
+  @Query(
+      """
+      UPDATE JobLock JOB_LOCK
+      SET JOB_LOCK.leaseUntil = :leaseUntil, JOB_LOCK.heartbeatAt = :now
+      WHERE JOB_LOCK.name = :name
+        AND JOB_LOCK.owner = :owner
+      """)
+  int renew(
+      @Param("name") String name,
+      @Param("owner") String owner,
+      @Param("now") LocalDateTime now,
+      @Param("leaseUntil") LocalDateTime leaseUntil);
+
+  /**
+   * 이 서버가 소유한 임대를 즉시 만료시킵니다.
+   *
+   * @return 반납했으면 1, 이미 다른 서버가 가져갔으면 0
+   */
+  @Modifying
+  @Query(
+      """
+      UPDATE JobLock JOB_LOCK
+      SET JOB_LOCK.leaseUntil = :now
+      WHERE JOB_LOCK.name = :name
+        AND JOB_LOCK.owner = :owner
+      """)
+  int release(
+      @Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,194 @@
+package com.codingcat.aipersonalfinance.module.lock;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 예약 작업 임대 서비스
+ * 여러 서버가 같은 예약 작업을 동시에 실행하지 않도록 job_lock 테이블의 임대를 관리합니다.
+ * 획득은 만료된 임대에 대한 조건부 UPDATE 한 번이며, 실행 중에는 임대 기간의 1/3 마다 heartbeat 로 연장하고
+ * 끝나면 즉시 반납합니다. 서버가 죽어서 heartbeat 가 멈추면 임대가 만료되어 다른 서버가 가져갑니다.
+ * 만료 판단은 각 서버의 시계를 쓰므로 임대 기간은 서버 간 시계 오차보다 충분히 길어야 합니다.
+ * 임대 갱신은 작업의 트랜잭션과 무관하게 바로 커밋됩니다. (REQUIRES_NEW)
+ */
+@Slf4j
+@Service
+public class JobLockService implements DisposableBean {
+
+  private static final LocalDateTime NEVER_LEASED = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  private final JobLockRepository jobLockRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final ScheduledThreadPoolExecutor heartbeatExecutor;
+  private final String owner;
+
+  // 행이 있는 것으로 확인된 작업 (이후에는 획득 시 UPDATE 한 번만 실행)
+  private final Set<String> knownJobs = ConcurrentHashMap.newKeySet();
+  // heartbeat 연장에 실패한 작업 (다시 획득하면 지운다)
+  private final Set<String> lostLeases = ConcurrentHashMap.newKeySet();
+
+  public JobLockService(
+      JobLockRepository jobLockRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${job.lock.owner:}") String owner) {
+    this.jobLockRepository = jobLockRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(
+        TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.owner = owner.isBlank() ? defaultOwner() : owner;
+
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("job-lease-");
+    threadFactory.setDaemon(true);
+    this.heartbeatExecutor = new ScheduledThreadPoolExecutor(1, threadFactory);
+    this.heartbeatExecutor.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * 임대를 얻은 경우에만 작업을 실행합니다.
+   *
+   * @param jobName 작업 이름 (서버 간 공유되는 키)
+   * @param leaseFor 임대 기간 (heartbeat 없이 서버가 죽었을 때 다른 서버가 기다리는 최대 시간)
+   * @return 이 서버에서 실행했으면 true, 다른 서버가 실행 중이라 건너뛰었으면 false
+   */
+  public boolean runExclusively(String jobName, Duration leaseFor, Runnable job) {
+    if (!tryAcquire(jobName, leaseFor)) {
+      log.debug("작업 임대 획득 실패로 건너뜀 : job={}", jobName);
+      return false;
+    }
+    ScheduledFuture<?> heartbeat = startHeartbeat(jobName, leaseFor);
+    try {
+      job.run();
+    } finally {
+      heartbeat.cancel(false);
+      release(jobName);
+    }
+    return true;
+  }
+
+  /**
+   * 임대가 만료된 경우 이 서버 소유로 가져옵니다.
+   * 처음 쓰는 작업 이름이면 만료된 상태의 행을 만든 뒤 한 번 더 시도합니다.
+   *
+   * @return 획득했으면 true
+   */
+  public boolean tryAcquire(String jobName, Duration leaseFor) {
+    if (acquire(jobName, leaseFor)) {
+      return true;
+    }
+    if (knownJobs.contains(jobName)) {
+      return false;
+    }
+    createIfAbsent(jobName);
+    knownJobs.add(jobName);
+    return acquire(jobName, leaseFor);
+  }
+
+  /**
+   * 이 서버가 소유한 임대를 즉시 만료시켜 다음 실행 때 어느 서버든 가져갈 수 있게 합니다.
+   */
+  public void release(String jobName) {
+    LocalDateTime now = LocalDateTime.now();
+    Integer released =
+        transactionTemplate.execute(status -> jobLockRepository.release(jobName, owner, now));
+    if (released == null || released == 0) {
+      log.warn("작업 임대 반납 실패 (이미 다른 서버가 가져감) : job={}, owner={}", jobName, owner);
+    }
+  }
+
+  /**
+   * 임대 기간의 1/3 마다 임대를 연장합니다. 반환된 Future 를 취소하면 멈춥니다.
+   */
+  public ScheduledFuture<?> startHeartbeat(String jobName, Duration leaseFor) {
+    long periodMillis = Math.max(leaseFor.toMillis() / 3, 1);
+    return heartbeatExecutor.scheduleAtFixedRate(
+        () -> renew(jobName, leaseFor), periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * heartbeat 연장에 실패해 다른 서버가 가져간 임대인지 확인합니다.
+   * 임대를 잡은 채 오래 실행하는 작업이 중간에 멈출지 판단할 때 사용합니다.
+   */
+  public boolean isLost(String jobName) {
+    return lostLeases.contains(jobName);
+  }
+
+  public String getOwner() {
+    return owner;
+  }
+
+  @Override
+  public void destroy() {
+    heartbeatExecutor.shutdownNow();
+  }
+
+  private boolean acquire(String jobName, Duration leaseFor) {
+    LocalDateTime now = LocalDateTime.now();
+    Integer acquired =
+        transactionTemplate.execute(
+            status -> jobLockRepository.acquire(jobName, owner, now, now.plus(leaseFor)));
+    if (acquired != null && acquired == 1) {
+      lostLeases.remove(jobName);
+      return true;
+    }
+    return false;
+  }
+
+  private void renew(String jobName, Duration leaseFor) {
+    try {
+      LocalDateTime now = LocalDateTime.now();
+      Integer renewed =
+          transactionTemplate.execute(
+              status -> jobLockRepository.renew(jobName, owner, now, now.plus(leaseFor)));
+      if (renewed == null || renewed == 0) {
+        lostLeases.add(jobName);
+        log.warn("작업 임대 연장 실패 (다른 서버가 가져감) : job={}, owner={}", jobName, owner);
+      }
+    } catch (RuntimeException e) {
+      // 예외로 끝나면 이후 heartbeat 가 실행되지 않으므로 로그만 남기고 다음 주기에 다시 시도한다
+      log.error("작업 임대 연장 중 오류 : job={}", jobName, e);
+    }
+  }
+
+  // 동시에 두 서버가 만들면 한쪽은 키 중복으로 실패하지만 행은 있으므로 무시한다
+  private void createIfAbsent(String jobName) {
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            if (!jobLockRepository.existsById(jobName)) {
+              jobLockRepository.saveAndFlush(
+                  JobLock.builder().name(jobName).leaseUntil(NEVER_LEASED).build());
+            }
+          });
+    } catch (DataAccessException e) {
+      log.debug("작업 임대 행이 이미 생성됨 : job={}", jobName);
+    }
+  }
+
+  private static String defaultOwner() {
+    String host;
+    try {
+      host = InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      host = "unknown";
+    }
+    // 같은 호스트에서 재시작한 서버도 다른 소유자로 구분한다
+    return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+  }
+}
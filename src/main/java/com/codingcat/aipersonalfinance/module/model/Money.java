@@ -0,0 +1,137 @@
+package com.codingcat.aipersonalfinance.module.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 금액 값 타입 (소수점 2자리까지를 long 정수(1/100 단위)로 보관)
+ * 집계, 비율 계산처럼 금액을 반복해서 더하는 경로에서 BigDecimal 연산마다 생기는 객체 생성을 없애기 위해 사용합니다.
+ * 엔티티와 응답 DTO 는 BigDecimal 을 그대로 쓰고, 경계에서 of / toBigDecimal 로 바꿉니다.
+ * 누적이 잦은 곳은 Money 객체 대신 toMinor 로 바꾼 long 과 정적 메서드를 사용합니다.
+ * 모든 연산은 long 범위를 넘으면 ArithmeticException 을 던집니다. (DB 금액 precision 15 는 넉넉히 수용)
+ */
+public final class Money implements Comparable<Money> {
+
+  public static final Money ZERO = new Money(0);
+
+  private static final int SCALE = 2;
+  // 비율은 소수점 4자리(= 퍼센트 소수점 2자리)까지 계산한다
+  private static final long RATIO_UNIT = 10_000;
+  private static final long OVERFLOW_GUARD = Long.MAX_VALUE / RATIO_UNIT;
+  private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+  private final long minor;
+
+  private Money(long minor) {
+    this.minor = minor;
+  }
+
+  /**
+   * BigDecimal 금액을 소수점 2자리로 반올림(HALF_UP)해서 만듭니다.
+   */
+  public static Money of(BigDecimal amount) {
+    return ofMinor(toMinor(amount));
+  }
+
+  /**
+   * 1/100 단위 정수로 만듭니다.
+   */
+  public static Money ofMinor(long minor) {
+    return minor == 0 ? ZERO : new Money(minor);
+  }
+
+  public Money plus(Money other) {
+    return ofMinor(Math.addExact(minor, other.minor));
+  }
+
+  public Money minus(Money other) {
+    return ofMinor(Math.subtractExact(minor, other.minor));
+  }
+
+  public long minor() {
+    return minor;
+  }
+
+  public int signum() {
+    return Long.signum(minor);
+  }
+
+  public BigDecimal toBigDecimal() {
+    return toAmount(minor);
+  }
+
+  @Override
+  public int compareTo(Money other) {
+    return Long.compare(minor, other.minor);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o || (o instanceof Money other && minor == other.minor);
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(minor);
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+
+  // ===== long(1/100 단위) 연산 =====
+
+  /**
+   * BigDecimal 금액을 1/100 단위 정수로 바꿉니다. 소수점 2자리 금액은 반올림 없이 바로 바꿉니다.
+   */
+  public static long toMinor(BigDecimal amount) {
+    return amount.setScale(SCALE, RoundingMode.HALF_UP).scaleByPowerOfTen(SCALE).longValueExact();
+  }
+
+  /**
+   * 1/100 단위 정수를 소수점 2자리 BigDecimal 로 바꿉니다.
+   */
+  public static BigDecimal toAmount(long minor) {
+    return BigDecimal.valueOf(minor, SCALE);
+  }
+
+  /**
+   * part / whole 의 백분율을 소수점 2자리로 계산합니다.
+   * 비율을 소수점 4자리에서 반올림(HALF_UP)한 뒤 100 을 곱하는 기존 BigDecimal 계산과 결과가 같습니다.
+   *
+   * @param part 부분 금액 (1/100 단위)
+   * @param whole 전체 금액 (1/100 단위, 0 이 아니어야 함)
+   * @return 백분율 (예: 12.35)
+   */
+  public static BigDecimal percentage(long part, long whole) {
+    if (whole == 0) {
+      throw new ArithmeticException("Division by zero");
+    }
+    if (part > OVERFLOW_GUARD || part < -OVERFLOW_GUARD) {
+      // long 으로 계산할 수 없는 큰 금액은 BigDecimal 로 계산
+      return BigDecimal.valueOf(part)
+          .divide(BigDecimal.valueOf(whole), 4, RoundingMode.HALF_UP)
+          .multiply(HUNDRED)
+          .setScale(SCALE, RoundingMode.HALF_UP);
+    }
+    long numerator = part * RATIO_UNIT;
+    long quotient = numerator / whole;
+    long remainder = Math.abs(numerator % whole);
+    // 나머지가 절반 이상이면 0 에서 먼 쪽으로 반올림 (HALF_UP)
+    if (remainder >= Math.abs(whole) - remainder) {
+      quotient += Long.signum(numerator) * Long.signum(whole);
+    }
+    return BigDecimal.valueOf(quotient, SCALE);
+  }
+
+  /**
+   * 이전 대비 증감율 ((현재 - 이전) / 이전 * 100)을 소수점 2자리로 계산합니다.
+   *
+   * @param previous 이전 금액 (1/100 단위, 0 이 아니어야 함)
+   * @param current 현재 금액 (1/100 단위)
+   */
+  public static BigDecimal changeRate(long previous, long current) {
+    return percentage(Math.subtractExact(current, previous), previous);
+  }
+}
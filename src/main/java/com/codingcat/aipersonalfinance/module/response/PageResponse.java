@@ -26,9 +26,15 @@ public class PageResponse<T> {
   @Schema(description = "실제 데이터 목록")
   private List<T> data;
 
-  @Schema(description = "페이징 정보")
+  @Schema(description = "페이징 정보 (커서 페이징 시에는 null)")
   private PageInfo page;
 
+  @Schema(description = "다음 페이지 커서 (커서 페이징 시에만 사용, 마지막 페이지면 null)")
+  private String nextCursor;
+
+  @Schema(description = "다음 페이지 존재 여부 (커서 페이징 시에만 사용)")
+  private Boolean hasNext;
+
   /**
    * 페이징 정보 DTO
    */
@@ -71,6 +77,18 @@ public class PageResponse<T> {
         .build();
   }
 
+  /**
+   * 커서 페이징 결과로 PageResponse를 생성합니다.
+   * 전체 개수를 세지 않으므로 page 정보는 포함하지 않습니다.
+   */
+  public static <T> PageResponse<T> ofCursor(List<T> data, String nextCursor) {
+    return PageResponse.<T>builder()
+        .data(data)
+        .nextCursor(nextCursor)
+        .hasNext(nextCursor != null)
+        .build();
+  }
+
   // Pageable에서 정렬 조건 추출
   public static <T> List<OrderSpecifier<?>> getOrderSpecifiers(
     Pageable pageable,
@@ -13,6 +13,7 @@ public class AuthDto {
   private Long adminIdx;
   private String email;
   private ServiceType serviceType;
+  private Integer tokenVersion;
   public String getAuthId(){
     return email;
   }
@@ -32,6 +32,7 @@ public class AuthService {
   /*** 유저 이메일로 유저 정보 가져오기*/
   public User findByEmail(String email) {
     return userRepository.findByEmail(email)
+      .filter(user -> !user.isDeleted())
       .orElseThrow(() -> new CustomException(HttpStatus.NOT_FOUND, "sm.common.fail.invalid_invalid_request","로그인 할 수없는 계정입니다."));
   }
 
@@ -76,6 +77,7 @@ public class AuthService {
       .orElseThrow(() -> new CustomException(HttpStatus.BAD_REQUEST, "sm.common.fail.invalid_token_db", "올바르지 않은 토큰 정보입니다."));
 
     User user = userRepository.findById(dbRefreshToken.getUserIdx())
+      .filter(found -> !found.isDeleted())
       .orElseThrow(() -> new CustomException(HttpStatus.BAD_REQUEST, "sm.common.fail.invalid_user", "존재하지 않는 유저입니다."));
 
     Timestamp currentTimestamp = Timestamp.valueOf(LocalDateTime.now());
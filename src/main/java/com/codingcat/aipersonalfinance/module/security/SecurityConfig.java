@@ -10,6 +10,7 @@ import com.codingcat.aipersonalfinance.module.security.handler.JwtAccessDeniedHa
 import com.codingcat.aipersonalfinance.module.security.handler.JwtAuthenticationEntryPoint;
 import com.codingcat.aipersonalfinance.module.security.token.RefreshTokenRepository;
 import com.codingcat.aipersonalfinance.module.security.token.TokenProvider;
+import com.codingcat.aipersonalfinance.module.security.token.TokenRevocationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
@@ -38,8 +39,7 @@ public class SecurityConfig {
   private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
   private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
   private final TokenProvider tokenProvider;
-  private final CustomUserDetailsService userDetailsService;
-  private final AdminDetailService adminDetailService;
+  private final TokenRevocationRegistry tokenRevocationRegistry;
   private final Oauth2UserCustomService oAuth2UserCustomService;
   private final Oauth2SuccessHandler oauth2SuccessHandler;
 
@@ -71,6 +71,8 @@ public class SecurityConfig {
         .requestMatchers(
           "/api/public/**"
         ).permitAll()
+        // 관리자 API 는 관리자 토큰(AdminPrincipal 의 "admin" 권한)만 허용, 사용자 토큰은 403
+        .requestMatchers("/api/v1/admin/**").hasAuthority("admin")
         .anyRequest().authenticated()
       )
       // Oauth2에 필요한 정보를 세션이 아닌 쿠키에 저장해서 쓸수 있도록 설정
@@ -91,7 +93,7 @@ public class SecurityConfig {
         .accessDeniedHandler(jwtAccessDeniedHandler))
 
       // JWT 토큰을 감지하는 필터를 추가
-      .addFilterBefore(new JwtFilter(tokenProvider, adminDetailService,userDetailsService), UsernamePasswordAuthenticationFilter.class)
+      .addFilterBefore(new JwtFilter(tokenProvider, tokenRevocationRegistry), UsernamePasswordAuthenticationFilter.class)
     ;
     return http.build();
   }
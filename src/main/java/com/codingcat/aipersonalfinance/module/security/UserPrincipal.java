@@ -16,10 +16,19 @@ public class UserPrincipal implements UserDetails {
   private final AuthDto authDto;
 
   public UserPrincipal(String id, String password, String auth) {
+    this(id, password, auth, null);
+  }
+
+  // 토큰 클레임으로 생성 (DB 조회 없이 인증할 때 사용)
+  public UserPrincipal(AuthDto authDto, String auth) {
+    this(authDto.getEmail(), "", auth, authDto);
+  }
+
+  private UserPrincipal(String id, String password, String auth, AuthDto authDto) {
     this.id = id;
     this.password = password;
     this.auth = auth;
-    this.authDto = null; // TODO: Phase 2 이후 User 엔티티로부터 생성하도록 수정
+    this.authDto = authDto;
   }
 
   // 사용자가 가지고 있는 권한을 반환
@@ -60,6 +69,6 @@ public class UserPrincipal implements UserDetails {
 
   // 엔티티를 받아서 Principal 생성
   public static UserPrincipal from(User user) {
-    return new UserPrincipal(user.getEmail(), user.getPassword(), user.getRole());
+    return new UserPrincipal(user.getEmail(), user.getPassword(), user.getRole(), user.toAuth());
   }
 }
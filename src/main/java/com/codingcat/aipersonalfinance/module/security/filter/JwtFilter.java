@@ -1,11 +1,10 @@
 package com.codingcat.aipersonalfinance.module.security.filter;
 
 import com.codingcat.aipersonalfinance.module.model.ServiceType;
-import com.codingcat.aipersonalfinance.module.security.AdminDetailService;
-import com.codingcat.aipersonalfinance.module.security.AdminPrincipal;
-import com.codingcat.aipersonalfinance.module.security.UserPrincipal;
 import com.codingcat.aipersonalfinance.module.security.token.TokenProvider;
 import com.codingcat.aipersonalfinance.module.security.token.TokenProvider.JWT_STATUS;
+import com.codingcat.aipersonalfinance.module.security.token.TokenProvider.ParsedToken;
+import com.codingcat.aipersonalfinance.module.security.token.TokenRevocationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,10 +14,8 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -26,8 +23,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
   private final TokenProvider tokenProvider;
-  private final AdminDetailService adminDetailService;
-  private final UserDetailsService userDetailsService;
+  private final TokenRevocationRegistry tokenRevocationRegistry;
   // =================================================================================
 
   /**
@@ -66,8 +62,9 @@ public class JwtFilter extends OncePerRequestFilter {
       }
     }
 
-    // ***** 2. 토큰을 검증한다
-    JWT_STATUS jwtStatus = tokenProvider.validateToken(token.get());
+    // ***** 2. 토큰을 검증하고 serviceType 과 authIdx 를 꺼낸다 (한 번의 파싱, 같은 토큰은 캐시 사용)
+    ParsedToken parsedToken = tokenProvider.verify(token.get());
+    JWT_STATUS jwtStatus = parsedToken.status();
     if(jwtStatus.equals(JWT_STATUS.EXPIRED)) {
       log.error("API_AUTH_FAIL : 만료된 토큰입니다. servletPath : "+servletPath);
       response.setStatus(HttpStatus.UNAUTHORIZED.value());
@@ -79,55 +76,28 @@ public class JwtFilter extends OncePerRequestFilter {
       response.getWriter().write("sm.auth.fail.invalid_token");
       return;
     }
-    
-    // ***** 4. wserviceCode와 wuserIdx 정보를 토큰에서 꺼낸다
-    try {
-      SERVICE_TYPE = tokenProvider.getServiceTypeByToken(token.get());
-      USER_IDX = tokenProvider.getAuthIdxFromToken(token.get());
 
-      if (SERVICE_TYPE == null || USER_IDX == null) {
-        log.error("API_AUTH_FAIL : 토큰에 필수 정보가 누락됐습니다.");
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
-        response.getWriter().write("sm.auth.fail.missing_required_information_token");
-        return;
-      }
-    } catch(Exception e) {
-      log.error("API_AUTH_FAIL : 토큰을 읽는 과정에서 오류가 발생했습니다: ", e);
+    SERVICE_TYPE = parsedToken.serviceType();
+    USER_IDX = parsedToken.authIdx();
+    if (SERVICE_TYPE == null || USER_IDX == null) {
+      log.error("API_AUTH_FAIL : 토큰에 필수 정보가 누락됐습니다.");
       response.setStatus(HttpStatus.UNAUTHORIZED.value());
-      response.getWriter().write("sm.auth.fail.read_token");
+      response.getWriter().write("sm.auth.fail.missing_required_information_token");
       return;
     }
 
-    try{
-      // 토큰에 저장된 정보를 토대로 해당 웹서비스에 맞는 User->Principal->Authentication 객체를 불러와서 Filter에 넘긴다.
-      Authentication authObject = null;
-      if(SERVICE_TYPE.equals(ServiceType.ADMIN)) {
-        AdminPrincipal adminPrincipal = (AdminPrincipal) adminDetailService.loadUserByUsername(USER_IDX.toString());
-        authObject = new UsernamePasswordAuthenticationToken(
-          adminPrincipal,
-          adminPrincipal.getPassword(),
-          adminPrincipal.getAuthorities()
-        );
-      }else if(SERVICE_TYPE.equals(ServiceType.USER)) {
-        UserPrincipal userPrincipal = (UserPrincipal) userDetailsService.loadUserByUsername(USER_IDX.toString());
-        authObject = new UsernamePasswordAuthenticationToken(
-          userPrincipal,
-          userPrincipal.getPassword(),
-          userPrincipal.getAuthorities()
-        );
-      } else{
-        log.error("API_AUTH_FAIL : 정의되지 않은 서비스 타입입니다.");
-        response.setStatus(HttpStatus.FORBIDDEN.value());
-        response.getWriter().write("sm.auth.fail.undefined_service_type");
-        return;
-      }
-      SecurityContextHolder.getContext().setAuthentication(authObject);
-    }catch (Exception e){
-      log.error("처리 중 예외 발생", e);
-      response.setStatus(HttpStatus.FORBIDDEN.value());
-      response.getWriter().write("sm.api.fail.exception");
+    // ***** 3. 정지/탈퇴 등으로 폐기된 토큰인지 확인한다 (메모리 조회)
+    if (tokenRevocationRegistry.isRevoked(parsedToken)) {
+      log.error("API_AUTH_FAIL : 폐기된 토큰입니다. authIdx : " + USER_IDX);
+      response.setStatus(HttpStatus.UNAUTHORIZED.value());
+      response.getWriter().write("sm.auth.fail.revoked_token");
       return;
     }
+
+    // ***** 4. 토큰 클레임만으로 Principal 을 만들어 SecurityContext 에 넣는다 (사용자 테이블 조회 없음)
+    Authentication authObject = tokenProvider.getAuthentication(parsedToken);
+    SecurityContextHolder.getContext().setAuthentication(authObject);
+
     filterChain.doFilter(request, response);
   }
 
@@ -1,31 +1,36 @@
 package com.codingcat.aipersonalfinance.module.security.token;
 
 import com.codingcat.aipersonalfinance.module.model.ServiceType;
+import com.codingcat.aipersonalfinance.module.security.AdminPrincipal;
 import com.codingcat.aipersonalfinance.module.security.AuthDto;
 import com.codingcat.aipersonalfinance.module.security.UserPrincipal;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.time.Instant;
-import java.util.Collections;
 import java.util.Date;
-import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 public class TokenProvider implements InitializingBean{
   @Autowired TokenProperties tokenProperties;
+  @Autowired VerifiedTokenCache verifiedTokenCache;
 
   private static final int REFRESH_TOKEN_USE_LIMIT = 5;
 
@@ -36,11 +41,22 @@ public class TokenProvider implements InitializingBean{
   private Key ADMIN_KEY;
   private Key USER_KEY;
 
+  // 헤더의 SERVICE_TYPE 으로 서명 키를 고르는 파서 (thread-safe 이므로 한 번만 생성)
+  private JwtParser parser;
+
   @Override
   public void afterPropertiesSet(){
     // 비밀값과 함께 HS256 방식으로 암호화
     this.ADMIN_KEY = Keys.hmacShaKeyFor(tokenProperties.getADMIN_SECRET().getBytes(StandardCharsets.UTF_8));
     this.USER_KEY = Keys.hmacShaKeyFor(tokenProperties.getUSER_SECRET().getBytes(StandardCharsets.UTF_8));
+    this.parser = Jwts.parserBuilder()
+      .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+          return getSecretKeyByServiceType(serviceTypeOf(header));
+        }
+      })
+      .build();
   }
   // ****************************************************************************
 
@@ -75,6 +91,27 @@ public class TokenProvider implements InitializingBean{
     Instant expiresAt
   ) {}
 
+  /**
+   * 한 번의 파싱으로 얻은 토큰 검증 결과
+   * 검증에 실패하면 status 외의 값은 모두 null 입니다.
+   */
+  public record ParsedToken(
+    JWT_STATUS status,
+    ServiceType serviceType,
+    Long authIdx,
+    String subject,
+    int tokenVersion,
+    Instant expiresAt
+  ) {
+    static ParsedToken failed(JWT_STATUS status) {
+      return new ParsedToken(status, null, null, null, 0, null);
+    }
+
+    public boolean isValid() {
+      return status == JWT_STATUS.VALID;
+    }
+  }
+
   /**
    * 토큰 생성
    * @param tokenType
@@ -102,6 +139,7 @@ public class TokenProvider implements InitializingBean{
       .setIssuedAt(new Date(curTimestamp))
       .setSubject(auth.getAuthId())
       .claim("IDX", String.valueOf(auth.getAuthIdx()))
+      .claim("VER", auth.getTokenVersion() == null ? 0 : auth.getTokenVersion())
       .setExpiration(Date.from(expiresAt))
       .signWith(secretKey)
       .compact();
@@ -124,6 +162,82 @@ public class TokenProvider implements InitializingBean{
     }
   }
 
+  /**
+   * 토큰을 검증하고 서비스 타입, authIdx, subject 를 함께 반환합니다.
+   * 같은 토큰이 다시 들어오면 캐시된 결과를 사용해서 서명 검증과 파싱을 생략합니다.
+   */
+  public ParsedToken verify(String jwt) {
+    ParsedToken cached = verifiedTokenCache.get(jwt);
+    if (cached != null) {
+      return cached;
+    }
+    ParsedToken parsed = parse(jwt);
+    verifiedTokenCache.put(jwt, parsed);
+    return parsed;
+  }
+
+  /**
+   * 서명 검증과 클레임 파싱을 한 번에 수행합니다. (캐시 사용 안 함)
+   */
+  public ParsedToken parse(String jwt) {
+    try {
+      Jws<Claims> jws = parser.parseClaimsJws(jwt);
+      Claims claims = jws.getBody();
+      Date expiration = claims.getExpiration();
+      return new ParsedToken(
+        JWT_STATUS.VALID,
+        serviceTypeOf(jws.getHeader()),
+        toAuthIdx(claims.get("IDX")),
+        claims.getSubject(),
+        toTokenVersion(claims.get("VER")),
+        expiration == null ? null : expiration.toInstant()
+      );
+    } catch (ExpiredJwtException e) {
+      logTokenError(e);
+      return ParsedToken.failed(JWT_STATUS.EXPIRED);
+    } catch (io.jsonwebtoken.security.SecurityException e) {
+      logTokenError(e);
+      return ParsedToken.failed(JWT_STATUS.INVALID_SIGNATURE);
+    } catch (UnsupportedJwtException e) {
+      logTokenError(e);
+      return ParsedToken.failed(JWT_STATUS.UNSUPPORTED);
+    } catch (JwtException | IllegalArgumentException e) {
+      logTokenError(e);
+      return ParsedToken.failed(JWT_STATUS.MALFORMED);
+    }
+  }
+
+  private static ServiceType serviceTypeOf(JwsHeader<?> header) {
+    Object serviceType = header.get("SERVICE_TYPE");
+    if (serviceType == null) {
+      throw new MalformedJwtException("SERVICE_TYPE 헤더가 없습니다");
+    }
+    return ServiceType.valueOf(serviceType.toString());
+  }
+
+  // IDX 는 문자열로 발급하므로 숫자/문자열 모두 허용
+  private static Long toAuthIdx(Object idx) {
+    if (idx == null) {
+      return null;
+    }
+    if (idx instanceof Number number) {
+      return number.longValue();
+    }
+    try {
+      return Long.valueOf(idx.toString());
+    } catch (NumberFormatException e) {
+      throw new MalformedJwtException("IDX 클레임이 숫자가 아닙니다: " + idx);
+    }
+  }
+
+  // VER 클레임이 없는 (이전에 발급된) 토큰은 0 버전으로 본다
+  private static int toTokenVersion(Object version) {
+    if (version instanceof Number number) {
+      return number.intValue();
+    }
+    return 0;
+  }
+
   private void logTokenError(Exception e) {
     log.error("올바른 JWT 토큰이 아닙니다", e);
   }
@@ -166,21 +280,23 @@ public class TokenProvider implements InitializingBean{
     return ServiceType.valueOf(Jwts.parserBuilder().build().parseClaimsJwt(jwtWithoutSignature).getHeader().get("SERVICE_TYPE").toString());
   }
 
-  // 토큰에서 인증 객체 가져오기
-  public UsernamePasswordAuthenticationToken  getAuthentication(ServiceType serviceType, String token){
-    String role = "";
-    Claims claims = getClaims(token).getBody();
-
-    if (serviceType.equals(ServiceType.USER)){
-      role = "ROLE_USER";
-    }else{
-      role = "ROLE_ADMIN";
+  /**
+   * 검증된 토큰의 클레임만으로 인증 객체를 만듭니다. (사용자 조회 없음)
+   * UserPrincipal 의 AuthDto 에 userIdx, email, serviceType, tokenVersion 이 채워집니다.
+   */
+  public UsernamePasswordAuthenticationToken getAuthentication(ParsedToken parsed){
+    UserDetails principal;
+    if (parsed.serviceType() == ServiceType.ADMIN) {
+      principal = new AdminPrincipal(parsed.subject(), "", ServiceType.ADMIN.name());
+    } else {
+      AuthDto authDto = AuthDto.builder()
+        .serviceType(ServiceType.USER)
+        .userIdx(parsed.authIdx())
+        .email(parsed.subject())
+        .tokenVersion(parsed.tokenVersion())
+        .build();
+      principal = new UserPrincipal(authDto, ServiceType.USER.name());
     }
-    Set<SimpleGrantedAuthority> authorities = Collections.singleton(new SimpleGrantedAuthority(role));
-
-    // UserPrincipal 생성 (user의 인증 정보를 포함)
-    UserPrincipal userPrincipal = new UserPrincipal(claims.getSubject(), "", role);
-
-    return new UsernamePasswordAuthenticationToken(userPrincipal, token, authorities);
+    return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
   }
 }
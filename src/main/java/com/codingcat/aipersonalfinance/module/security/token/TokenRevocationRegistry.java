@@ -0,0 +1,83 @@
+package com.codingcat.aipersonalfinance.module.security.token;
+
+import com.codingcat.aipersonalfinance.domain.user.User;
+import com.codingcat.aipersonalfinance.domain.user.UserRepository;
+import com.codingcat.aipersonalfinance.module.model.ServiceType;
+import com.codingcat.aipersonalfinance.module.security.token.TokenProvider.ParsedToken;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 액세스 토큰 폐기 목록
+ * 사용자별로 유효한 최소 토큰 버전을 메모리에 두고, 토큰의 VER 클레임이 그보다 낮으면 거부합니다.
+ * 요청마다 사용자 테이블을 조회하지 않기 위해 시작 시점과 주기적으로만 DB 에서 다시 읽습니다.
+ * 다른 서버에서 무효화된 토큰은 다음 갱신(jwt.revocation.refresh-interval)까지 허용될 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationRegistry {
+
+  // 탈퇴한 사용자는 모든 버전을 거부
+  private static final int ALL_VERSIONS = Integer.MAX_VALUE;
+
+  private final UserRepository userRepository;
+
+  // userIdx → 유효한 최소 토큰 버전, 읽기는 락 없이 하고 변경 시 통째로 교체한다
+  private volatile Map<Long, Integer> minimumVersions = Map.of();
+
+  /**
+   * 토큰이 폐기되었는지 확인합니다. (사용자 토큰만 대상)
+   */
+  public boolean isRevoked(ParsedToken parsed) {
+    if (parsed.serviceType() != ServiceType.USER) {
+      return false;
+    }
+    Integer minimumVersion = minimumVersions.get(parsed.authIdx());
+    return minimumVersion != null && parsed.tokenVersion() < minimumVersion;
+  }
+
+  /**
+   * 이 서버에서 즉시 폐기를 반영합니다.
+   *
+   * @param minimumVersion 이 버전 미만의 토큰은 거부
+   */
+  public synchronized void revoke(Long userIdx, int minimumVersion) {
+    Map<Long, Integer> updated = new HashMap<>(minimumVersions);
+    updated.merge(userIdx, minimumVersion, Math::max);
+    minimumVersions = Map.copyOf(updated);
+  }
+
+  /**
+   * DB 의 토큰 버전과 탈퇴 여부를 폐기 목록에 반영합니다.
+   * 토큰 버전은 증가만 하므로 기존 값과 큰 쪽을 남겨서, 읽는 도중 반영된 폐기가 사라지지 않게 합니다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      fixedDelayString = "${jwt.revocation.refresh-interval:PT1M}",
+      initialDelayString = "${jwt.revocation.refresh-interval:PT1M}")
+  public void refresh() {
+    Map<Long, Integer> loaded = new HashMap<>();
+    for (User user : userRepository.findTokenRevokedUsers()) {
+      loaded.put(user.getIdx(), user.isDeleted() ? ALL_VERSIONS : user.getTokenVersion());
+    }
+    synchronized (this) {
+      minimumVersions.forEach((userIdx, version) -> loaded.merge(userIdx, version, Math::max));
+      minimumVersions = Map.copyOf(loaded);
+    }
+    log.debug("토큰 폐기 목록 갱신 : {}명", loaded.size());
+  }
+
+  /**
+   * 탈퇴한 사용자의 토큰을 모두 거부합니다.
+   */
+  public void revokeAll(Long userIdx) {
+    revoke(userIdx, ALL_VERSIONS);
+  }
+}
@@ -0,0 +1,111 @@
+package com.codingcat.aipersonalfinance.module.security.token;
+
+import com.codingcat.aipersonalfinance.module.security.token.TokenProvider.ParsedToken;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증이 끝난 JWT 캐시
+ * 토큰 지문(SHA-256) → 검증된 클레임을 보관해서, 같은 액세스 토큰으로 들어온 요청은
+ * 서명(HMAC) 검증과 JSON 파싱을 건너뜁니다.
+ * 항목은 토큰 자신의 만료 시각(exp)까지만 유효하고, 크기를 넘으면 가장 오래 쓰지 않은 항목부터 제거합니다(LRU).
+ * 원본 토큰 대신 지문을 키로 써서 힙에 베어러 토큰이 남지 않게 합니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  private final int maxSize;
+  private final Clock clock;
+
+  // accessOrder = true 로 LRU 순서 유지, 모든 접근은 this 로 동기화
+  private final LinkedHashMap<String, ParsedToken> entries;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  @Autowired
+  public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") int maxSize) {
+    this(maxSize, Clock.systemUTC());
+  }
+
+  public VerifiedTokenCache(int maxSize, Clock clock) {
+    this.maxSize = maxSize;
+    this.clock = clock;
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, ParsedToken> eldest) {
+            return size() > VerifiedTokenCache.this.maxSize;
+          }
+        };
+  }
+
+  /**
+   * 캐시된 검증 결과를 반환합니다.
+   *
+   * @return 만료 전의 검증 결과 (없거나 만료되었으면 null)
+   */
+  public ParsedToken get(String jwt) {
+    if (maxSize <= 0) {
+      return null;
+    }
+    String fingerprint = fingerprint(jwt);
+    synchronized (this) {
+      ParsedToken parsed = entries.get(fingerprint);
+      if (parsed != null) {
+        if (parsed.expiresAt().isAfter(clock.instant())) {
+          hits.incrementAndGet();
+          return parsed;
+        }
+        entries.remove(fingerprint);
+      }
+    }
+    misses.incrementAndGet();
+    return null;
+  }
+
+  /**
+   * 검증에 성공하고 만료 시각이 있는 토큰만 저장합니다.
+   */
+  public void put(String jwt, ParsedToken parsed) {
+    if (maxSize <= 0 || !parsed.isValid() || parsed.expiresAt() == null) {
+      return;
+    }
+    String fingerprint = fingerprint(jwt);
+    synchronized (this) {
+      entries.put(fingerprint, parsed);
+    }
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  private static String fingerprint(String jwt) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(jwt.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      // 모든 JVM 구현은 SHA-256 을 지원해야 한다
+      throw new IllegalStateException(e);
+    }
+  }
+}
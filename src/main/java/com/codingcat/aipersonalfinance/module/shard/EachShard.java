@@ -0,0 +1,15 @@
+package com.codingcat.aipersonalfinance.module.shard;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 사용자가 없는 예약 작업을 샤드마다 한 번씩 실행할 메서드에 붙입니다.
+ * 각 실행은 ShardContext 로 해당 샤드를 지정한 상태에서 동작하며, 샤딩을 사용하지 않으면 한 번만 실행합니다.
+ * @JobLease 보다 안쪽, 트랜잭션보다 바깥에서 동작하므로 임대 한 번 안에서 샤드별 트랜잭션을 따로 엽니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EachShard {}
@@ -0,0 +1,62 @@
+package com.codingcat.aipersonalfinance.module.shard;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * @EachShard 가 붙은 메서드를 샤드마다 실행합니다.
+ * 한 샤드에서 실패해도 나머지 샤드는 실행하고, 끝난 뒤 처음 실패한 예외를 다시 던집니다.
+ * @JobLease(가장 높은 우선순위) 바로 다음, 트랜잭션 어드바이스보다 먼저 실행됩니다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class EachShardAspect {
+
+  private final ShardRouter shardRouter;
+
+  @Around("@annotation(com.codingcat.aipersonalfinance.module.shard.EachShard)")
+  public Object runOnEachShard(ProceedingJoinPoint joinPoint) throws Throwable {
+    if (!shardRouter.isEnabled() || ShardContext.current() != null) {
+      return joinPoint.proceed();
+    }
+    Throwable firstFailure = null;
+    for (String shardId : shardRouter.shardIds()) {
+      try {
+        ShardContext.callOn(shardId, () -> proceed(joinPoint));
+      } catch (ShardFailure e) {
+        log.error("샤드 작업 실패 : shard={}, method={}", shardId, joinPoint.getSignature(), e.getCause());
+        if (firstFailure == null) {
+          firstFailure = e.getCause();
+        }
+      }
+    }
+    if (firstFailure != null) {
+      throw firstFailure;
+    }
+    return null;
+  }
+
+  private static Object proceed(ProceedingJoinPoint joinPoint) {
+    try {
+      return joinPoint.proceed();
+    } catch (Throwable e) {
+      throw new ShardFailure(e);
+    }
+  }
+
+  // ShardContext.callOn 의 Supplier 밖으로 검사 예외를 옮기기 위한 포장
+  private static final class ShardFailure extends RuntimeException {
+    private ShardFailure(Throwable cause) {
+      super(cause);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.codingcat.aipersonalfinance.module.shard;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 사용할 샤드를 직접 지정합니다.
+ * 사용자 요청은 인증된 사용자의 샤드로 자동 라우팅되므로, 사용자가 없는 예약 작업이나
+ * 샤드 이동 도구처럼 특정 샤드를 골라야 하는 곳에서만 사용합니다.
+ */
+public final class ShardContext {
+
+  private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+  private ShardContext() {}
+
+  /**
+   * 지정된 샤드 (없으면 null)
+   */
+  public static String current() {
+    return CURRENT.get();
+  }
+
+  public static void runOn(String shardId, Runnable task) {
+    callOn(
+        shardId,
+        () -> {
+          task.run();
+          return null;
+        });
+  }
+
+  /**
+   * 지정한 샤드에서 실행하고, 끝나면 이전 지정으로 되돌립니다. (중첩 가능)
+   */
+  public static <T> T callOn(String shardId, Supplier<T> task) {
+    String previous = CURRENT.get();
+    CURRENT.set(shardId);
+    try {
+      return task.get();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.codingcat.aipersonalfinance.module.shard;
+
+import com.codingcat.aipersonalfinance.module.shard.ShardRouter.Placement;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용자 샤드 디렉터리(user_shard) 관리 서비스
+ * 디렉터리는 shard-0 에만 있으며, 시작할 때와 주기적으로 전체를 읽어 ShardRouter 에 반영합니다.
+ * 다른 서버의 변경은 다음 갱신 때 반영되므로, 샤드 이동은 갱신 주기보다 길게 기다린 뒤 다음 단계로 넘어갑니다.
+ * 샤딩을 사용하지 않으면 아무것도 하지 않습니다.
+ */
+@Slf4j
+@Service
+public class ShardDirectoryService implements SmartInitializingSingleton {
+
+  private final UserShardRepository userShardRepository;
+  private final ShardRouter shardRouter;
+  private final TransactionTemplate readTemplate;
+  private final TransactionTemplate writeTemplate;
+
+  public ShardDirectoryService(
+      UserShardRepository userShardRepository,
+      ShardRouter shardRouter,
+      PlatformTransactionManager transactionManager) {
+    this.userShardRepository = userShardRepository;
+    this.shardRouter = shardRouter;
+    this.readTemplate = new TransactionTemplate(transactionManager);
+    this.readTemplate.setReadOnly(true);
+    // 디렉터리 변경은 호출한 쪽의 트랜잭션과 무관하게 바로 커밋한다
+    this.writeTemplate = new TransactionTemplate(transactionManager);
+    this.writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    refresh();
+  }
+
+  /**
+   * 디렉터리 전체를 다시 읽어 교체합니다.
+   */
+  @Scheduled(fixedDelayString = "${datasource.sharding.directory-refresh-interval:PT5S}")
+  public void refresh() {
+    if (!shardRouter.isEnabled()) {
+      return;
+    }
+    List<UserShard> rows =
+        ShardContext.callOn(
+            ShardRouter.HOME_SHARD, () -> readTemplate.execute(status -> userShardRepository.findAll()));
+    Map<Long, Placement> placements = new HashMap<>();
+    rows.forEach(
+        row -> placements.put(row.getUserIdx(), new Placement(row.getShardId(), row.isMigrating())));
+    shardRouter.replaceDirectory(placements);
+  }
+
+  /**
+   * 사용자의 샤드와 이동 중 여부를 저장하고 이 서버에는 바로 반영합니다.
+   */
+  public void assign(Long userIdx, String shardId, boolean migrating) {
+    ShardContext.runOn(
+        ShardRouter.HOME_SHARD,
+        () ->
+            writeTemplate.executeWithoutResult(
+                status ->
+                    userShardRepository.save(
+                        UserShard.builder()
+                            .userIdx(userIdx)
+                            .shardId(shardId)
+                            .migrating(migrating)
+                            .updatedAt(LocalDateTime.now())
+                            .build())));
+    shardRouter.updateDirectory(userIdx, new Placement(shardId, migrating));
+    log.info("사용자 샤드 변경 : userIdx={}, shard={}, migrating={}", userIdx, shardId, migrating);
+  }
+}
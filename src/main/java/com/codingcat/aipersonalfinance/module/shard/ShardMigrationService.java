@@ -0,0 +1,294 @@
+package com.codingcat.aipersonalfinance.module.shard;
+
+import com.codingcat.aipersonalfinance.AiPersonalFinanceApplication;
+import com.codingcat.aipersonalfinance.module.exception.CustomException;
+import com.codingcat.aipersonalfinance.module.lock.JobLease;
+import com.codingcat.aipersonalfinance.module.lock.JobLockService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용자 샤드 이동 서비스 (서비스 중단 없이 한 사용자씩)
+ * 1. 사용자를 이동 중으로 표시하고 모든 서버가 디렉터리를 다시 읽을 때까지 기다립니다. 이후 그 사용자의 쓰기는 거부됩니다.
+ * 2. 대상 샤드에 사용자의 행을 keyset 페이지로 복사하고, 테이블별 행 수가 원본과 같은지 확인한 뒤 한 번에 커밋합니다.
+ * 3. 디렉터리를 대상 샤드로 바꾸고 다시 기다린 뒤 원본 샤드의 행을 지웁니다.
+ * 복사 중 실패하면 대상 샤드는 롤백되고 사용자는 원본 샤드로 되돌아갑니다.
+ * 행의 ID 를 그대로 옮기므로 샤드마다 ID 범위가 겹치지 않아야 합니다. (겹치면 sm.shard.fail.conflict)
+ * 사용자 없이 여러 사용자의 행을 바꾸는 예약 작업은 이동하는 동안 실행되지 않도록 그 작업들의 임대를 잡아 둡니다.
+ * 잡아 둔 임대는 heartbeat 로 연장하고, 연장에 실패해 다른 서버가 가져가면 복사를 커밋하기 전에 이동을 중단합니다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "datasource.sharding.enabled", havingValue = "true")
+public class ShardMigrationService {
+
+  private static final Duration PAUSE_LEASE = Duration.ofMinutes(30);
+  private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+  private static final String USER_COLUMN = "user_idx";
+
+  // 이동하는 동안 멈춰 둘 예약 작업 (애플리케이션의 모든 @JobLease 이름)
+  private final List<String> pausedJobs;
+  private final ShardRouter shardRouter;
+  private final ShardDirectoryService shardDirectoryService;
+  private final ShardRoutingDataSource shardRoutingDataSource;
+  private final JobLockService jobLockService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final List<ShardingProperties.MigrationTable> tables;
+  private final Duration freezeWait;
+  private final int batchSize;
+
+  public ShardMigrationService(
+      ShardRouter shardRouter,
+      ShardDirectoryService shardDirectoryService,
+      ShardRoutingDataSource shardRoutingDataSource,
+      JobLockService jobLockService,
+      ApplicationEventPublisher eventPublisher,
+      ShardingProperties properties) {
+    this.shardRouter = shardRouter;
+    this.shardDirectoryService = shardDirectoryService;
+    this.shardRoutingDataSource = shardRoutingDataSource;
+    this.jobLockService = jobLockService;
+    this.eventPublisher = eventPublisher;
+    this.tables = List.copyOf(properties.getMigrationTables());
+    this.freezeWait = properties.getMigrationFreezeWait();
+    this.batchSize = properties.getMigrationBatchSize();
+    this.pausedJobs = jobLeaseNames(AiPersonalFinanceApplication.class.getPackageName());
+    tables.forEach(
+        table -> {
+          if (!IDENTIFIER.matcher(table.getName()).matches()
+              || !IDENTIFIER.matcher(table.getIdColumn()).matches()) {
+            throw new IllegalStateException("잘못된 샤드 이동 테이블 설정 : " + table.getName());
+          }
+        });
+  }
+
+  /**
+   * 사용자를 일관된 해시 링이 정한 샤드로 옮깁니다.
+   */
+  public MigrationResult rebalance(Long userIdx) {
+    return migrate(userIdx, shardRouter.placementOf(userIdx));
+  }
+
+  /**
+   * 사용자를 대상 샤드로 옮깁니다.
+   *
+   * @param userIdx 사용자 ID
+   * @param targetShard 대상 샤드 ID
+   * @return 이동 결과 (테이블별 복사 행 수)
+   */
+  public MigrationResult migrate(Long userIdx, String targetShard) {
+    if (!shardRouter.isKnownShard(targetShard)) {
+      throw new CustomException(HttpStatus.BAD_REQUEST, "sm.shard.fail.unknown_shard", "존재하지 않는 샤드입니다.");
+    }
+    String sourceShard = shardRouter.shardOf(userIdx);
+    if (sourceShard.equals(targetShard)) {
+      throw new CustomException(HttpStatus.BAD_REQUEST, "sm.shard.fail.same_shard", "이미 대상 샤드에 있는 사용자입니다.");
+    }
+
+    List<String> paused = new ArrayList<>();
+    List<ScheduledFuture<?>> heartbeats = new ArrayList<>();
+    try {
+      for (String job : pausedJobs) {
+        if (!jobLockService.tryAcquire(job, PAUSE_LEASE)) {
+          throw new CustomException(
+              HttpStatus.CONFLICT, "sm.shard.fail.job_running", "예약 작업이 실행 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        paused.add(job);
+        heartbeats.add(jobLockService.startHeartbeat(job, PAUSE_LEASE));
+      }
+      return move(userIdx, sourceShard, targetShard, paused);
+    } finally {
+      heartbeats.forEach(heartbeat -> heartbeat.cancel(false));
+      paused.forEach(jobLockService::release);
+    }
+  }
+
+  /**
+   * 패키지 아래 클래스에 선언된 @JobLease 이름을 이름순으로 찾습니다.
+   * 빈이 아닌 클래스 경로를 읽으므로 이 서버에서 꺼 둔(@ConditionalOnProperty) 작업도 포함되어
+   * 다른 서버에서 도는 작업까지 멈춰 두고, 새 작업을 추가해도 목록을 따로 고칠 필요가 없습니다.
+   */
+  static List<String> jobLeaseNames(String basePackage) {
+    ClassPathScanningCandidateComponentProvider scanner =
+        new ClassPathScanningCandidateComponentProvider(false);
+    scanner.addIncludeFilter(
+        (reader, factory) ->
+            reader.getAnnotationMetadata().hasAnnotatedMethods(JobLease.class.getName()));
+    Set<String> names = new TreeSet<>();
+    for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+      AnnotationMetadata metadata = ((AnnotatedBeanDefinition) candidate).getMetadata();
+      for (MethodMetadata method : metadata.getAnnotatedMethods(JobLease.class.getName())) {
+        names.add((String) method.getAnnotationAttributes(JobLease.class.getName()).get("name"));
+      }
+    }
+    return List.copyOf(names);
+  }
+
+  private MigrationResult move(
+      Long userIdx, String sourceShard, String targetShard, List<String> paused) {
+    long started = System.nanoTime();
+    JdbcTemplate source = new JdbcTemplate(shardRoutingDataSource.shard(sourceShard));
+    DataSource targetDataSource = shardRoutingDataSource.shard(targetShard);
+    JdbcTemplate target = new JdbcTemplate(targetDataSource);
+
+    shardDirectoryService.assign(userIdx, sourceShard, true);
+    Map<String, Long> copied;
+    try {
+      awaitDirectoryRefresh();
+      copied =
+          new TransactionTemplate(new DataSourceTransactionManager(targetDataSource))
+              .execute(status -> copy(userIdx, source, target, paused));
+    } catch (DuplicateKeyException e) {
+      shardDirectoryService.assign(userIdx, sourceShard, false);
+      throw new CustomException(
+          HttpStatus.CONFLICT, "sm.shard.fail.conflict", "대상 샤드에 같은 ID 의 데이터가 있습니다.");
+    } catch (RuntimeException e) {
+      shardDirectoryService.assign(userIdx, sourceShard, false);
+      throw e;
+    }
+
+    shardDirectoryService.assign(userIdx, targetShard, false);
+    // 원본을 읽던 다른 서버가 모두 대상 샤드로 넘어간 뒤에 지운다
+    awaitDirectoryRefresh();
+    try {
+      new TransactionTemplate(new DataSourceTransactionManager(shardRoutingDataSource.shard(sourceShard)))
+          .executeWithoutResult(status -> deleteRows(source, userIdx));
+    } catch (RuntimeException e) {
+      // 디렉터리는 이미 대상 샤드이므로 남은 원본 행은 보이지 않는다
+      log.error("샤드 이동 후 원본 행 삭제 실패 : userIdx={}, shard={}", userIdx, sourceShard, e);
+    }
+
+    eventPublisher.publishEvent(new UserShardMovedEvent(userIdx, sourceShard, targetShard));
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    log.info(
+        "사용자 샤드 이동 완료 : userIdx={}, {} -> {}, {}, {}ms",
+        userIdx, sourceShard, targetShard, copied, elapsedMillis);
+    return new MigrationResult(userIdx, sourceShard, targetShard, copied, elapsedMillis);
+  }
+
+  // 대상 샤드 트랜잭션 안에서 실행: 이전 시도의 잔여 행을 지우고 복사한 뒤 행 수를 확인한다
+  // 테이블마다 임대를 확인하므로, 임대를 잃으면 대상 샤드는 커밋 전에 롤백된다
+  private Map<String, Long> copy(
+      Long userIdx, JdbcTemplate source, JdbcTemplate target, List<String> paused) {
+    deleteRows(target, userIdx);
+    Map<String, Long> copied = new LinkedHashMap<>();
+    for (ShardingProperties.MigrationTable table : tables) {
+      if (table.isReference() && countRows(target, table, userIdx) > 0) {
+        copied.put(table.getName(), 0L);
+        continue;
+      }
+      long rows = copyTable(table, userIdx, source, target);
+      long expected = countRows(source, table, userIdx);
+      if (rows != expected || countRows(target, table, userIdx) != expected) {
+        throw new CustomException(
+            HttpStatus.INTERNAL_SERVER_ERROR, "sm.shard.fail.verify",
+            "샤드 이동 검증에 실패했습니다. (" + table.getName() + ")");
+      }
+      copied.put(table.getName(), rows);
+      ensurePaused(paused);
+    }
+    return copied;
+  }
+
+  // 멈춰 둔 예약 작업의 임대를 다른 서버가 가져갔으면 이동을 중단한다
+  private void ensurePaused(List<String> paused) {
+    for (String job : paused) {
+      if (jobLockService.isLost(job)) {
+        throw new CustomException(
+            HttpStatus.CONFLICT, "sm.shard.fail.lease_lost",
+            "예약 작업 임대를 잃어 샤드 이동을 중단했습니다. 잠시 후 다시 시도해주세요.");
+      }
+    }
+  }
+
+  private long copyTable(
+      ShardingProperties.MigrationTable table, Long userIdx, JdbcTemplate source,
+      JdbcTemplate target) {
+    String select =
+        "SELECT * FROM " + table.getName() + " WHERE " + USER_COLUMN + " = ? AND "
+            + table.getIdColumn() + " > ? ORDER BY " + table.getIdColumn() + " LIMIT ?";
+    long copied = 0;
+    Object afterId = Long.MIN_VALUE;
+    while (true) {
+      List<Map<String, Object>> page = source.queryForList(select, userIdx, afterId, batchSize);
+      if (page.isEmpty()) {
+        return copied;
+      }
+      List<String> columns = new ArrayList<>(page.get(0).keySet());
+      String insert =
+          "INSERT INTO " + table.getName() + " (" + String.join(", ", columns) + ") VALUES ("
+              + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+      target.batchUpdate(
+          insert, page.stream().map(row -> columns.stream().map(row::get).toArray()).toList());
+      copied += page.size();
+      if (page.size() < batchSize) {
+        return copied;
+      }
+      afterId = page.get(page.size() - 1).get(table.getIdColumn());
+    }
+  }
+
+  // 외래키 순서의 역순으로 지운다 (참조 테이블은 지우지 않음)
+  private void deleteRows(JdbcTemplate jdbcTemplate, Long userIdx) {
+    for (int i = tables.size() - 1; i >= 0; i--) {
+      ShardingProperties.MigrationTable table = tables.get(i);
+      if (!table.isReference()) {
+        jdbcTemplate.update("DELETE FROM " + table.getName() + " WHERE " + USER_COLUMN + " = ?", userIdx);
+      }
+    }
+  }
+
+  private static long countRows(
+      JdbcTemplate jdbcTemplate, ShardingProperties.MigrationTable table, Long userIdx) {
+    Long count =
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM " + table.getName() + " WHERE " + USER_COLUMN + " = ?",
+            Long.class, userIdx);
+    return count != null ? count : 0;
+  }
+
+  private void awaitDirectoryRefresh() {
+    try {
+      Thread.sleep(freezeWait.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("샤드 이동 대기 중 중단되었습니다.", e);
+    }
+  }
+
+  /**
+   * 샤드 이동 결과
+   *
+   * @param userIdx 사용자 ID
+   * @param fromShard 이전 샤드
+   * @param toShard 새 샤드
+   * @param copiedRows 테이블별 복사한 행 수 (참조 테이블은 대상에 이미 있으면 0)
+   * @param elapsedMillis 소요 시간 (대기 포함)
+   */
+  public record MigrationResult(
+      Long userIdx, String fromShard, String toShard, Map<String, Long> copiedRows,
+      long elapsedMillis) {}
+}
@@ -0,0 +1,50 @@
+package com.codingcat.aipersonalfinance.module.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 사용자 ID 를 샤드에 배치하는 일관된 해시(consistent hash) 링
+ * 샤드마다 가상 노드를 여러 개 두어 고르게 나누고, 샤드를 추가해도 약 1/N 사용자만 새 샤드로 옮겨지게 합니다.
+ * 샤드 이동 도구가 사용자를 어느 샤드로 옮길지 정할 때 사용하며, 실제 라우팅은 디렉터리(user_shard)를 따릅니다.
+ */
+public class ShardRing {
+
+  private final TreeMap<Long, String> ring = new TreeMap<>();
+
+  public ShardRing(List<String> shardIds, int virtualNodes) {
+    for (String shardId : shardIds) {
+      for (int i = 0; i < virtualNodes; i++) {
+        ring.put(hash(shardId + "#" + i), shardId);
+      }
+    }
+  }
+
+  /**
+   * 사용자가 배치될 샤드
+   */
+  public String shardOf(Long userIdx) {
+    Map.Entry<Long, String> entry = ring.ceilingEntry(mix(userIdx));
+    return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+  }
+
+  // 64비트 FNV-1a 해시를 섞어서 링 위치로 쓴다
+  private static long hash(String key) {
+    long hash = 0xcbf29ce484222325L;
+    for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b;
+      hash *= 0x100000001b3L;
+    }
+    return mix(hash);
+  }
+
+  // 연속된 사용자 ID 가 링 위에 고르게 퍼지도록 비트를 섞는다 (SplitMix64 마무리 단계)
+  private static long mix(long value) {
+    long z = value + 0x9e3779b97f4a7c15L;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
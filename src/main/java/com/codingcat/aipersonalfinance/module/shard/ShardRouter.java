@@ -0,0 +1,138 @@
+package com.codingcat.aipersonalfinance.module.shard;
+
+import com.codingcat.aipersonalfinance.module.security.UserPrincipal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 요청이 사용할 샤드를 정합니다.
+ * ShardContext 로 지정한 샤드가 있으면 그 샤드, 없으면 인증된 사용자의 디렉터리 샤드를 사용합니다.
+ * 디렉터리에 없는 사용자와 인증되지 않은 요청은 shard-0 을 사용하므로, 샤딩을 켜기 전의 데이터는 그대로 동작합니다.
+ * 디렉터리는 서버 메모리에 통째로 두고 ShardDirectoryService 가 주기적으로 교체합니다. (조회는 잠금 없이 맵 조회 한 번)
+ */
+@Component
+public class ShardRouter {
+
+  public static final String HOME_SHARD = "shard-0";
+
+  private final boolean enabled;
+  private final List<String> shardIds;
+  private final ShardRing ring;
+
+  // 사용자 ID -> 배치 (읽기 전용 맵을 통째로 교체)
+  private volatile Map<Long, Placement> directory = Map.of();
+
+  public ShardRouter(ShardingProperties properties) {
+    this.enabled = properties.isEnabled();
+    List<String> ids = new ArrayList<>();
+    ids.add(HOME_SHARD);
+    if (enabled) {
+      IntStream.rangeClosed(1, properties.getShards().size()).forEach(i -> ids.add("shard-" + i));
+    }
+    this.shardIds = Collections.unmodifiableList(ids);
+    this.ring = new ShardRing(shardIds, properties.getVirtualNodes());
+  }
+
+  /**
+   * 현재 스레드가 사용할 샤드
+   */
+  public String currentShard() {
+    String override = ShardContext.current();
+    if (override != null) {
+      return override;
+    }
+    if (!enabled) {
+      return HOME_SHARD;
+    }
+    Long userIdx = currentUserIdx();
+    return userIdx != null ? shardOf(userIdx) : HOME_SHARD;
+  }
+
+  /**
+   * 사용자 데이터가 있는 샤드
+   */
+  public String shardOf(Long userIdx) {
+    Placement placement = directory.get(userIdx);
+    return placement != null ? placement.shardId() : HOME_SHARD;
+  }
+
+  /**
+   * 사용자가 샤드 이동 중인지 (이동 중에는 쓰기 불가)
+   */
+  public boolean isMigrating(Long userIdx) {
+    Placement placement = directory.get(userIdx);
+    return placement != null && placement.migrating();
+  }
+
+  /**
+   * 현재 인증된 사용자가 샤드 이동 중인지
+   */
+  public boolean isCurrentUserMigrating() {
+    if (!enabled || ShardContext.current() != null) {
+      return false;
+    }
+    Long userIdx = currentUserIdx();
+    return userIdx != null && isMigrating(userIdx);
+  }
+
+  /**
+   * 일관된 해시 링 기준으로 사용자를 둘 샤드 (샤드 이동 도구의 기본 대상)
+   */
+  public String placementOf(Long userIdx) {
+    return ring.shardOf(userIdx);
+  }
+
+  /** 전체 샤드 ID (샤딩을 사용하지 않으면 shard-0 하나) */
+  public List<String> shardIds() {
+    return shardIds;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public boolean isKnownShard(String shardId) {
+    return shardIds.contains(shardId);
+  }
+
+  /** 샤드별 디렉터리 사용자 수 (shard-0 은 디렉터리에 있는 사용자만) */
+  public Map<String, Integer> directorySizes() {
+    Map<String, Integer> sizes = new HashMap<>();
+    shardIds.forEach(shardId -> sizes.put(shardId, 0));
+    directory.values().forEach(placement -> sizes.merge(placement.shardId(), 1, Integer::sum));
+    return sizes;
+  }
+
+  synchronized void replaceDirectory(Map<Long, Placement> placements) {
+    directory = Map.copyOf(placements);
+  }
+
+  synchronized void updateDirectory(Long userIdx, Placement placement) {
+    Map<Long, Placement> next = new HashMap<>(directory);
+    next.put(userIdx, placement);
+    directory = Map.copyOf(next);
+  }
+
+  // 요청한 사용자 ID (인증되지 않은 요청, 예약 작업이면 null)
+  private static Long currentUserIdx() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null
+        && authentication.getPrincipal() instanceof UserPrincipal principal
+        && principal.getAuthDto() != null) {
+      return principal.getAuthDto().getUserIdx();
+    }
+    return null;
+  }
+
+  /**
+   * 디렉터리의 사용자 배치
+   */
+  record Placement(String shardId, boolean migrating) {}
+}
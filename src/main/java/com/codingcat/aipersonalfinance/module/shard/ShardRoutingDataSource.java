@@ -0,0 +1,131 @@
+package com.codingcat.aipersonalfinance.module.shard;
+
+import com.codingcat.aipersonalfinance.module.exception.CustomException;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자 샤드별 DataSource
+ * ShardRouter 가 정한 샤드의 연결 풀에서 연결을 가져오고, 샤드 이동 중인 사용자의 쓰기는 거부합니다.
+ * 샤드는 첫 쿼리 시점에 정해지므로 LazyConnectionDataSourceProxy 로 감싸서 사용해야 합니다.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+  private final ShardRouter shardRouter;
+  private final Map<String, DataSource> shards;
+  private final Map<String, AtomicLong> connections = new ConcurrentHashMap<>();
+  private final AtomicLong rejectedWrites = new AtomicLong();
+
+  /**
+   * @param shards 샤드 ID -> 연결 풀 (shard-0 포함)
+   */
+  public ShardRoutingDataSource(ShardRouter shardRouter, Map<String, DataSource> shards) {
+    this.shardRouter = shardRouter;
+    this.shards = new LinkedHashMap<>(shards);
+    setTargetDataSources(new LinkedHashMap<>(shards));
+    setDefaultTargetDataSource(shards.get(ShardRouter.HOME_SHARD));
+    // 모르는 샤드를 shard-0 으로 보내지 않는다
+    setLenientFallback(false);
+    shards.keySet().forEach(shardId -> connections.put(shardId, new AtomicLong()));
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (!isReadOnlyTransaction() && shardRouter.isCurrentUserMigrating()) {
+      rejectedWrites.incrementAndGet();
+      throw new CustomException(
+          HttpStatus.SERVICE_UNAVAILABLE, "sm.shard.fail.migrating", "데이터를 옮기는 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+    Connection connection = super.getConnection();
+    connections.get(determineCurrentLookupKey()).incrementAndGet();
+    return connection;
+  }
+
+  @Override
+  protected String determineCurrentLookupKey() {
+    return shardRouter.currentShard();
+  }
+
+  /**
+   * 샤드의 연결 풀 (샤드 이동 도구처럼 샤드를 직접 다룰 때 사용)
+   */
+  public DataSource shard(String shardId) {
+    DataSource dataSource = shards.get(shardId);
+    if (dataSource == null) {
+      throw new CustomException(HttpStatus.BAD_REQUEST, "sm.shard.fail.unknown_shard", "존재하지 않는 샤드입니다.");
+    }
+    return dataSource;
+  }
+
+  /**
+   * 샤드별 연결 현황 (연결 풀이 Hikari 면 풀 상태 포함)
+   */
+  public List<ShardStats> stats() {
+    Map<String, Integer> directorySizes = shardRouter.directorySizes();
+    return shards.entrySet().stream()
+        .map(
+            entry -> {
+              HikariPoolMXBean pool =
+                  entry.getValue() instanceof HikariDataSource hikari
+                      ? hikari.getHikariPoolMXBean()
+                      : null;
+              return new ShardStats(
+                  entry.getKey(),
+                  directorySizes.getOrDefault(entry.getKey(), 0),
+                  connections.get(entry.getKey()).get(),
+                  pool != null ? pool.getActiveConnections() : 0,
+                  pool != null ? pool.getIdleConnections() : 0,
+                  pool != null ? pool.getTotalConnections() : 0,
+                  pool != null ? pool.getThreadsAwaitingConnection() : 0);
+            })
+        .toList();
+  }
+
+  public long rejectedWrites() {
+    return rejectedWrites.get();
+  }
+
+  /**
+   * shard-1 이후의 연결 풀을 닫습니다. (shard-0 은 별도 빈으로 관리)
+   */
+  @Override
+  public void close() throws Exception {
+    for (Map.Entry<String, DataSource> entry : shards.entrySet()) {
+      if (!ShardRouter.HOME_SHARD.equals(entry.getKey())
+          && entry.getValue() instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+
+  private boolean isReadOnlyTransaction() {
+    return TransactionSynchronizationManager.isActualTransactionActive()
+        && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+  }
+
+  /**
+   * 샤드 현황
+   *
+   * @param shardId 샤드 ID
+   * @param directoryUsers 디렉터리에 이 샤드로 등록된 사용자 수
+   * @param connections 이 샤드로 보낸 연결 수
+   * @param activeConnections 사용 중인 연결 수
+   * @param idleConnections 대기 중인 연결 수
+   * @param totalConnections 풀의 전체 연결 수
+   * @param awaitingThreads 연결을 기다리는 스레드 수
+   */
+  public record ShardStats(
+      String shardId, int directoryUsers, long connections, int activeConnections,
+      int idleConnections, int totalConnections, int awaitingThreads) {}
+}
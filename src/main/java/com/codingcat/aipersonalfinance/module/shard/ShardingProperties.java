@@ -0,0 +1,47 @@
+package com.codingcat.aipersonalfinance.module.shard;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 샤딩 설정 (datasource.sharding)
+ * spring.datasource 가 shard-0(디렉터리 샤드)이고, shards 에 적은 순서대로 shard-1, shard-2, ... 가 됩니다.
+ * 샤드 연결 풀은 shard-0 설정(spring.datasource.hikari)을 그대로 쓰고 주소와 계정만 바꿉니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.sharding")
+public class ShardingProperties {
+  private boolean enabled;
+  // 일관된 해시 링의 샤드당 가상 노드 수
+  private int virtualNodes = 128;
+  // 다른 서버의 디렉터리 변경이 반영되기까지 기다리는 시간 (디렉터리 갱신 주기보다 길게)
+  private Duration migrationFreezeWait = Duration.ofSeconds(6);
+  private int migrationBatchSize = 1000;
+  private List<Shard> shards = new ArrayList<>();
+  // 샤드 이동 대상 테이블 (외래키 순서, 삭제는 역순)
+  private List<MigrationTable> migrationTables = new ArrayList<>();
+
+  @Getter
+  @Setter
+  public static class Shard {
+    private String url;
+    private String username;
+    private String password;
+  }
+
+  @Getter
+  @Setter
+  public static class MigrationTable {
+    private String name;
+    private String idColumn;
+    // 원본이 shard-0 에 있고 다른 샤드에는 외래키용 사본만 두는 테이블 (users)
+    private boolean reference;
+  }
+}
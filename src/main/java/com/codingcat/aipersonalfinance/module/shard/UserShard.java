@@ -0,0 +1,43 @@
+package com.codingcat.aipersonalfinance.module.shard;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 샤드 디렉터리 엔티티 (shard-0 에만 존재)
+ * 다른 샤드로 옮긴 사용자만 행을 가지며, 행이 없는 사용자는 shard-0 을 사용합니다.
+ * migrating 인 동안에는 모든 서버가 그 사용자의 쓰기를 막습니다.
+ */
+@Entity
+@Table(name = "user_shard")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserShard {
+
+  @Id
+  @Column(name = "user_idx")
+  @Schema(description = "사용자 ID")
+  private Long userIdx;
+
+  @Column(name = "shard_id", nullable = false, length = 50)
+  @Schema(description = "사용자 데이터가 있는 샤드")
+  private String shardId;
+
+  @Column(name = "is_migrating", nullable = false)
+  @Schema(description = "샤드 이동 중 여부 (이동 중에는 쓰기 불가)")
+  private boolean migrating;
+
+  @Column(name = "updated_at", nullable = false)
+  @Schema(description = "마지막 변경 시각")
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,11 @@
+package com.codingcat.aipersonalfinance.module.shard;
+
+/**
+ * 사용자 샤드 이동 완료 이벤트
+ * 샤드 이동을 실행한 서버에서만 발행되며, 다른 서버의 메모리 상태는 각자의 주기적인 DB 대조로 맞춰집니다.
+ *
+ * @param userIdx 사용자 ID
+ * @param fromShard 이전 샤드
+ * @param toShard 새 샤드
+ */
+public record UserShardMovedEvent(Long userIdx, String fromShard, String toShard) {}
@@ -0,0 +1,11 @@
+package com.codingcat.aipersonalfinance.module.shard;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * UserShard 엔티티에 대한 Repository
+ * 항상 shard-0 에서 조회/저장해야 하므로 ShardRouter 를 통해서만 사용합니다.
+ */
+@Repository
+public interface UserShardRepository extends JpaRepository<UserShard, Long> {}
@@ -0,0 +1,86 @@
+package com.codingcat.aipersonalfinance.module.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 레코드씩 읽는 최소한의 CSV 리더 (RFC 4180)
+ * 따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 두 번 쓴 따옴표("")를 처리합니다.
+ * 파일 전체를 메모리에 올리지 않고 호출할 때마다 다음 레코드만 읽습니다.
+ */
+public class CsvReader {
+
+  private final BufferedReader reader;
+  private long lineNumber;
+
+  public CsvReader(BufferedReader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * 다음 레코드를 읽습니다.
+   *
+   * @return 필드 목록 (파일 끝이면 null)
+   */
+  public List<String> readRecord() throws IOException {
+    String line = reader.readLine();
+    if (line == null) {
+      return null;
+    }
+    lineNumber++;
+
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    int i = 0;
+    while (true) {
+      if (i >= line.length()) {
+        if (!quoted) {
+          break;
+        }
+        // 따옴표 안의 줄바꿈 → 다음 줄을 이어서 읽는다
+        String next = reader.readLine();
+        if (next == null) {
+          break;
+        }
+        lineNumber++;
+        field.append('\n');
+        line = next;
+        i = 0;
+        continue;
+      }
+
+      char c = line.charAt(i++);
+      if (quoted) {
+        if (c == '"') {
+          if (i < line.length() && line.charAt(i) == '"') {
+            field.append('"');
+            i++;
+          } else {
+            quoted = false;
+          }
+        } else {
+          field.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  /**
+   * 마지막으로 읽은 레코드가 끝난 줄 번호 (1부터 시작)
+   */
+  public long getLineNumber() {
+    return lineNumber;
+  }
+}
@@ -0,0 +1,17 @@
+-- 사용자 샤드 디렉터리 (MySQL, shard-0 에만 생성)
+-- 다른 샤드로 옮긴 사용자만 행을 가지며, 행이 없는 사용자는 shard-0 을 사용한다.
+-- is_migrating 인 동안에는 모든 서버가 그 사용자의 쓰기를 거부한다.
+CREATE TABLE user_shard (
+  user_idx BIGINT NOT NULL,
+  shard_id VARCHAR(50) NOT NULL,
+  is_migrating BIT(1) NOT NULL,
+  updated_at DATETIME(6) NOT NULL,
+  PRIMARY KEY (user_idx)
+);
+
+-- 샤드를 추가할 때는 샤드마다 ID 가 겹치지 않도록 AUTO_INCREMENT 시작값과 ledger_seq 를 나눠 둔다 (샤드 이동은 ID 를 그대로 옮김)
+-- 예: shard-1 은 1,000,000,000,000 부터
+--   ALTER TABLE recurring_transaction AUTO_INCREMENT = 1000000000000;
+--   ALTER TABLE ledger_daily_agg AUTO_INCREMENT = 1000000000000;
+--   ALTER TABLE budget AUTO_INCREMENT = 1000000000000;
+--   UPDATE ledger_seq SET next_val = 1000000000000 + 50 + 1;  -- pooled(50) 블록 상한이므로 allocationSize 만큼 더한다
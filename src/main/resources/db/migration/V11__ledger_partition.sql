@@ -0,0 +1,52 @@
+-- 거래 내역 월 단위 RANGE 파티션 (MySQL)
+-- 거래 내역 쿼리는 모두 recorded_date 범위 조건을 가지므로 해당 월 파티션만 읽는다 (partition pruning).
+-- 이후 파티션은 LedgerPartitionMaintenanceJob 이 미리 만들고, 보관 기간이 지난 파티션을 정리한다.
+-- MySQL 파티션 테이블은 외래키를 지원하지 않고, 모든 UNIQUE 키(PK 포함)에 파티션 키가 있어야 한다.
+
+-- 1) 외래키 제거 (사용자/정기 거래 참조는 애플리케이션이 보장)
+--    ledger 는 Hibernate 가 만든 테이블이라 외래키 이름이 환경마다 다르므로 information_schema 에서 찾아서 지운다
+SET @drop_ledger_fk = (
+  SELECT CONCAT('ALTER TABLE ledger ',
+                GROUP_CONCAT(CONCAT('DROP FOREIGN KEY `', CONSTRAINT_NAME, '`') SEPARATOR ', '))
+  FROM information_schema.TABLE_CONSTRAINTS
+  WHERE TABLE_SCHEMA = DATABASE()
+    AND TABLE_NAME = 'ledger'
+    AND CONSTRAINT_TYPE = 'FOREIGN KEY'
+);
+SET @drop_ledger_fk = COALESCE(@drop_ledger_fk, 'DO 0');
+PREPARE drop_ledger_fk FROM @drop_ledger_fk;
+EXECUTE drop_ledger_fk;
+DEALLOCATE PREPARE drop_ledger_fk;
+
+-- 2) PK 에 recorded_date 추가 (uk_ledger_recurring_date 는 이미 recorded_date 를 포함)
+ALTER TABLE ledger DROP PRIMARY KEY, ADD PRIMARY KEY (ledger_idx, recorded_date);
+
+-- 3) 월 파티션 (p202412 는 2025년 이전 전체, pmax 는 미리 만든 달 이후의 예약 거래)
+ALTER TABLE ledger PARTITION BY RANGE COLUMNS(recorded_date) (
+  PARTITION p202412 VALUES LESS THAN ('2025-01-01'),
+  PARTITION p202501 VALUES LESS THAN ('2025-02-01'),
+  PARTITION p202502 VALUES LESS THAN ('2025-03-01'),
+  PARTITION p202503 VALUES LESS THAN ('2025-04-01'),
+  PARTITION p202504 VALUES LESS THAN ('2025-05-01'),
+  PARTITION p202505 VALUES LESS THAN ('2025-06-01'),
+  PARTITION p202506 VALUES LESS THAN ('2025-07-01'),
+  PARTITION p202507 VALUES LESS THAN ('2025-08-01'),
+  PARTITION p202508 VALUES LESS THAN ('2025-09-01'),
+  PARTITION p202509 VALUES LESS THAN ('2025-10-01'),
+  PARTITION p202510 VALUES LESS THAN ('2025-11-01'),
+  PARTITION p202511 VALUES LESS THAN ('2025-12-01'),
+  PARTITION p202512 VALUES LESS THAN ('2026-01-01'),
+  PARTITION p202601 VALUES LESS THAN ('2026-02-01'),
+  PARTITION p202602 VALUES LESS THAN ('2026-03-01'),
+  PARTITION p202603 VALUES LESS THAN ('2026-04-01'),
+  PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+  PARTITION p202605 VALUES LESS THAN ('2026-06-01'),
+  PARTITION p202606 VALUES LESS THAN ('2026-07-01'),
+  PARTITION p202607 VALUES LESS THAN ('2026-08-01'),
+  PARTITION p202608 VALUES LESS THAN ('2026-09-01'),
+  PARTITION p202609 VALUES LESS THAN ('2026-10-01'),
+  PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+  PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+  PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+  PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
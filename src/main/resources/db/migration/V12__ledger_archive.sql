@@ -0,0 +1,33 @@
+-- 오래된 거래 내역 보관 테이블 (MySQL)
+-- LedgerArchiveJob 이 ledger 의 행을 ledger_idx 그대로 옮기며, 읽기 전용이므로 (사용자, 날짜) 인덱스 하나만 두고 압축 행 형식을 사용한다.
+-- ledger_archive_year 는 사용자별로 보관된 연도를 기록하며, 조회 기간이 보관 연도에 걸칠 때만 보관 테이블을 함께 읽는다.
+-- 보관된 기간의 일간 집계(ledger_daily_agg)는 지우지 않는다.
+CREATE TABLE ledger_archive (
+  ledger_idx                BIGINT         NOT NULL,
+  user_idx                  BIGINT         NOT NULL,
+  type                      VARCHAR(20)    NOT NULL,
+  amount                    DECIMAL(15, 2) NOT NULL,
+  `desc`                    VARCHAR(255)   NOT NULL,
+  place                     VARCHAR(100)   NULL,
+  category                  VARCHAR(50)    NOT NULL,
+  payment_method            VARCHAR(50)    NOT NULL,
+  recorded_date             DATE           NOT NULL,
+  recorded_year_month       INT            NOT NULL,
+  is_auto_generated         BIT(1)         NOT NULL,
+  recurring_transaction_idx BIGINT         NULL,
+  created_at                DATETIME(6)    NOT NULL,
+  modified_at               DATETIME(6)    NULL,
+  PRIMARY KEY (ledger_idx),
+  INDEX idx_ledger_archive_user_date (user_idx, recorded_date, ledger_idx)
+) ROW_FORMAT = COMPRESSED;
+
+CREATE TABLE ledger_archive_year (
+  ledger_archive_year_idx BIGINT      NOT NULL AUTO_INCREMENT,
+  user_idx                BIGINT      NOT NULL,
+  archive_year            INT         NOT NULL,
+  archived_at             DATETIME(6) NOT NULL,
+  PRIMARY KEY (ledger_archive_year_idx),
+  CONSTRAINT uk_ledger_archive_year UNIQUE (user_idx, archive_year)
+);
+
+-- 샤드를 나눠 쓰고 있다면 ledger_archive_year 의 AUTO_INCREMENT 시작값도 V10 과 같이 샤드마다 나눠 둔다
@@ -0,0 +1,4 @@
+-- 통계 스냅샷(LedgerColumnarStore) 최신 여부 확인용 인덱스 (MySQL)
+-- SELECT MAX(modified_at) FROM ledger WHERE user_idx = ? 를 인덱스 끝값 하나로 읽는다.
+CREATE INDEX idx_ledger_user_modified
+  ON ledger (user_idx, modified_at);
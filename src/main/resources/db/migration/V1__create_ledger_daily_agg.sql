@@ -0,0 +1,15 @@
+-- 사용자별 일간 거래 집계 테이블 (MySQL)
+-- prod는 ddl-auto=validate 이므로 배포 전에 수동으로 적용합니다.
+-- 적용 후 기존 데이터는 --rebuild-ledger-daily-agg 옵션으로 애플리케이션을 한 번 실행해서 백필합니다.
+CREATE TABLE ledger_daily_agg (
+  ledger_daily_agg_idx BIGINT NOT NULL AUTO_INCREMENT,
+  user_idx             BIGINT         NOT NULL,
+  agg_date             DATE           NOT NULL,
+  type                 VARCHAR(20)    NOT NULL,
+  category             VARCHAR(50)    NOT NULL,
+  payment_method       VARCHAR(50)    NOT NULL,
+  total_amount         DECIMAL(17, 2) NOT NULL,
+  tx_count             BIGINT         NOT NULL,
+  PRIMARY KEY (ledger_daily_agg_idx),
+  CONSTRAINT uk_ledger_daily_agg_key UNIQUE (user_idx, agg_date, type, category, payment_method)
+);
@@ -0,0 +1,26 @@
+-- 월별 집계용 연월(yyyyMM) 컬럼 추가 (MySQL)
+-- YEAR(recorded_date), MONTH(recorded_date) 로 그룹핑하면 인덱스를 쓰지 못하고 filesort 가 발생하므로
+-- 연월 값을 컬럼으로 저장하고 (사용자, 유형, 연월) 인덱스를 만든다.
+-- 값은 애플리케이션(Ledger.toYearMonth)이 저장/수정 시 함께 기록한다.
+
+-- 1) ledger
+ALTER TABLE ledger ADD COLUMN recorded_year_month INT NULL;
+
+UPDATE ledger
+SET recorded_year_month = YEAR(recorded_date) * 100 + MONTH(recorded_date)
+WHERE recorded_year_month IS NULL;
+
+ALTER TABLE ledger MODIFY recorded_year_month INT NOT NULL;
+
+CREATE INDEX idx_ledger_user_type_ym ON ledger (user_idx, type, recorded_year_month);
+
+-- 2) ledger_daily_agg
+ALTER TABLE ledger_daily_agg ADD COLUMN agg_year_month INT NULL;
+
+UPDATE ledger_daily_agg
+SET agg_year_month = YEAR(agg_date) * 100 + MONTH(agg_date)
+WHERE agg_year_month IS NULL;
+
+ALTER TABLE ledger_daily_agg MODIFY agg_year_month INT NOT NULL;
+
+CREATE INDEX idx_ledger_daily_agg_user_ym ON ledger_daily_agg (user_idx, agg_year_month, type);
@@ -0,0 +1,14 @@
+-- 거래 내역 조회 경로별 인덱스 (MySQL)
+-- 모든 조회는 user_idx, deleted_at(@SQLRestriction), recorded_date 를 조건으로 사용한다.
+
+-- 목록/기간 조회, 날짜 역순 정렬, 커서 페이징
+CREATE INDEX idx_ledger_user_date
+  ON ledger (user_idx, deleted_at, recorded_date, ledger_idx);
+
+-- 유형별 기간 합계, 카테고리별 합계 (테이블 접근 없이 인덱스만으로 SUM)
+CREATE INDEX idx_ledger_user_type_date_cover
+  ON ledger (user_idx, deleted_at, type, recorded_date, category, payment_method, amount);
+
+-- 카테고리별 조회
+CREATE INDEX idx_ledger_user_category_date
+  ON ledger (user_idx, deleted_at, category, recorded_date);
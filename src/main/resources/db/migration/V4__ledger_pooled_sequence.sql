@@ -0,0 +1,13 @@
+-- 거래 내역 ID 생성 방식 변경 (IDENTITY → pooled 시퀀스) (MySQL)
+-- MySQL 은 시퀀스를 지원하지 않으므로 Hibernate 는 ledger_seq 테이블의 next_val 을 50 단위로 증가시켜 사용한다.
+-- pooled 최적화기는 처음 읽은 값을 블록의 상한으로 보고 (값 - 49) ~ 값 을 발급하므로,
+-- 기존 ID 와 겹치지 않도록 현재 최대값 + allocationSize(50) + 1 로 시작한다.
+CREATE TABLE ledger_seq (
+  next_val BIGINT NOT NULL
+);
+
+INSERT INTO ledger_seq (next_val)
+SELECT COALESCE(MAX(ledger_idx), 0) + 50 + 1 FROM ledger;
+
+-- ID 는 애플리케이션이 지정하므로 AUTO_INCREMENT 는 제거한다
+ALTER TABLE ledger MODIFY ledger_idx BIGINT NOT NULL;
@@ -0,0 +1,4 @@
+-- 사용자별 액세스 토큰 버전 (MySQL)
+-- 토큰의 VER 클레임이 이 값보다 낮으면 폐기된 토큰으로 거부한다. (정지, 전체 로그아웃)
+ALTER TABLE users
+  ADD COLUMN token_version INT NOT NULL DEFAULT 0;
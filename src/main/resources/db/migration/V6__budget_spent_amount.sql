@@ -0,0 +1,16 @@
+-- 예산 지출 누계 (MySQL)
+-- 지출 거래 내역이 변경될 때 BudgetSpentService 가 UPDATE ... SET spent_amount = spent_amount + ? 로 증분 갱신한다.
+ALTER TABLE budget
+  ADD COLUMN spent_amount DECIMAL(15, 2) NOT NULL DEFAULT 0;
+
+-- 기존 예산 백필 (카테고리가 없는 예산은 전체 지출)
+UPDATE budget b
+SET b.spent_amount = (
+  SELECT COALESCE(SUM(l.amount), 0)
+  FROM ledger l
+  WHERE l.user_idx = b.user_idx
+    AND l.deleted_at IS NULL
+    AND l.type = 'EXPENSE'
+    AND l.recorded_date BETWEEN b.start_date AND b.end_date
+    AND (b.category IS NULL OR l.category = b.category))
+WHERE b.deleted_at IS NULL;
@@ -0,0 +1,4 @@
+-- 예산 알림 엔진의 keyset 청크 조회용 인덱스 (MySQL)
+-- WHERE is_alert_sent = false AND is_active = true AND budget_idx > ? ORDER BY budget_idx LIMIT ?
+CREATE INDEX idx_budget_alert_scan
+  ON budget (is_alert_sent, is_active, budget_idx);
@@ -0,0 +1,5 @@
+-- 정기 거래 회차 중복 생성 방지 (MySQL)
+-- RecurringTransactionExecutor 가 같은 날 다시 실행되거나 여러 서버에서 동시에 실행되어도
+-- (정기 거래, 거래 날짜)마다 거래 내역은 하나만 생성된다. 직접 입력한 거래는 recurring_transaction_idx 가 NULL 이라 제약을 받지 않는다.
+ALTER TABLE ledger
+  ADD CONSTRAINT uk_ledger_recurring_date UNIQUE (recurring_transaction_idx, recorded_date);
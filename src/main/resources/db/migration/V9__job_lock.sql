@@ -0,0 +1,10 @@
+-- 예약 작업 임대 테이블 (MySQL)
+-- 작업마다 한 행이며, JobLockService 가 lease_until <= 현재 시각인 행만 조건부 UPDATE 로 가져간다.
+-- 행은 작업이 처음 실행될 때 만들어진다.
+CREATE TABLE job_lock (
+  job_name VARCHAR(100) NOT NULL,
+  owner VARCHAR(100) NULL,
+  lease_until DATETIME(6) NOT NULL,
+  heartbeat_at DATETIME(6) NULL,
+  PRIMARY KEY (job_name)
+);
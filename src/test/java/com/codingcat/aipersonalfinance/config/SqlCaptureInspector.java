@@ -0,0 +1,38 @@
+package com.codingcat.aipersonalfinance.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 테스트용 SQL 수집기
+ * Hibernate 가 실행하는 SELECT 문을 모아 실행 계획(EXPLAIN) 검증에 사용합니다.
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록합니다.
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+  private static final List<String> SELECTS = new ArrayList<>();
+
+  @Override
+  public String inspect(String sql) {
+    if (sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+      synchronized (SELECTS) {
+        SELECTS.add(sql);
+      }
+    }
+    return sql;
+  }
+
+  public static void clear() {
+    synchronized (SELECTS) {
+      SELECTS.clear();
+    }
+  }
+
+  public static List<String> selects() {
+    synchronized (SELECTS) {
+      return List.copyOf(SELECTS);
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.codingcat.aipersonalfinance.controller;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.codingcat.aipersonalfinance.domain.user.UserService;
+import com.codingcat.aipersonalfinance.module.model.ServiceType;
+import com.codingcat.aipersonalfinance.module.security.AuthDto;
+import com.codingcat.aipersonalfinance.module.security.token.TokenProvider;
+import com.codingcat.aipersonalfinance.module.security.token.TokenType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * 관리자 API 권한 테스트
+ * /api/v1/admin/** (토큰 무효화, 샤드 이동, 운영 현황 조회)는 관리자 토큰만 호출할 수 있고,
+ * 로그인한 사용자 토큰은 403 을 받는지 검증합니다.
+ */
+@DisplayName("관리자 API 권한 테스트")
+@SpringBootTest
+@AutoConfigureMockMvc
+class AdminApiAuthorizationTest {
+
+  @Autowired private MockMvc mockMvc;
+  @Autowired private TokenProvider tokenProvider;
+
+  @MockBean private UserService userService;
+
+  @Nested
+  @DisplayName("1. 토큰 무효화 API")
+  class RevokeTokensTests {
+
+    @Test
+    @DisplayName("1-1. 사용자 토큰으로 다른 사용자의 토큰을 무효화하면 403 을 반환한다")
+    void userTokenForbidden() throws Exception {
+      mockMvc
+          .perform(withToken(post("/api/v1/admin/users/2/revoke-tokens"), ServiceType.USER))
+          .andExpect(status().isForbidden());
+
+      verify(userService, never()).revokeTokens(anyLong());
+    }
+
+    @Test
+    @DisplayName("1-2. 관리자 토큰은 토큰을 무효화할 수 있다")
+    void adminTokenAllowed() throws Exception {
+      doReturn(ResponseEntity.ok().build()).when(userService).revokeTokens(2L);
+
+      mockMvc
+          .perform(withToken(post("/api/v1/admin/users/2/revoke-tokens"), ServiceType.ADMIN))
+          .andExpect(status().isOk());
+
+      verify(userService).revokeTokens(2L);
+    }
+  }
+
+  @Nested
+  @DisplayName("2. 운영 관리자 API")
+  class OperationApiTests {
+
+    @Test
+    @DisplayName("2-1. 사용자 토큰으로 샤드 이동을 요청하면 403 을 반환한다")
+    void shardMigrationForbidden() throws Exception {
+      mockMvc
+          .perform(
+              withToken(
+                  post("/api/v1/admin/shards/migrations").param("userIdx", "2"),
+                  ServiceType.USER))
+          .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("2-2. 사용자 토큰으로 샤드/통계/예산 알림/영구 삭제 현황을 조회하면 403 을 반환한다")
+    void statsForbidden() throws Exception {
+      for (String uri :
+          new String[] {
+            "/api/v1/admin/shards",
+            "/api/v1/admin/statistics/cache",
+            "/api/v1/admin/statistics/columnar",
+            "/api/v1/admin/budgets/alerts/stats",
+            "/api/v1/admin/purge/stats"
+          }) {
+        mockMvc
+            .perform(withToken(get(uri), ServiceType.USER))
+            .andExpect(status().isForbidden());
+      }
+    }
+  }
+
+  // ===== Helper Methods =====
+
+  private MockHttpServletRequestBuilder withToken(
+      MockHttpServletRequestBuilder request, ServiceType serviceType) {
+    AuthDto.AuthDtoBuilder auth = AuthDto.builder().email("test@test.com").serviceType(serviceType);
+    if (serviceType == ServiceType.USER) {
+      auth.userIdx(1L);
+    } else {
+      auth.adminIdx(1L);
+    }
+    String token =
+        tokenProvider.makeToken(TokenType.ACCESS, auth.build(), System.currentTimeMillis()).token();
+    return request.header(tokenProvider.HEADER_AUTHORIZATION, tokenProvider.TOKEN_PREFIX + token);
+  }
+}
@@ -0,0 +1,217 @@
+package com.codingcat.aipersonalfinance.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.codingcat.aipersonalfinance.config.SqlCaptureInspector;
+import com.codingcat.aipersonalfinance.config.TestJpaConfig;
+import com.codingcat.aipersonalfinance.domain.budget.Budget;
+import com.codingcat.aipersonalfinance.domain.budget.BudgetPeriod;
+import com.codingcat.aipersonalfinance.domain.budget.BudgetRepository;
+import com.codingcat.aipersonalfinance.domain.budget.BudgetService;
+import com.codingcat.aipersonalfinance.domain.budget.dto.BudgetUpdateRequest;
+import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.domain.ledger.Ledger;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerService;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
+import com.codingcat.aipersonalfinance.domain.ledger.PaymentMethod;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerUpdateRequest;
+import com.codingcat.aipersonalfinance.domain.user.User;
+import com.codingcat.aipersonalfinance.domain.user.UserRepository;
+import com.codingcat.aipersonalfinance.module.config.QueryDslConfig;
+import com.codingcat.aipersonalfinance.module.exception.CustomException;
+import com.codingcat.aipersonalfinance.module.model.ServiceType;
+import com.codingcat.aipersonalfinance.module.security.AuthDto;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 단건 조회 쿼리 수 테스트
+ * 거래 내역/예산의 단건 조회, 수정, 삭제가 소유자 조건을 포함한 SELECT 한 번으로 끝나고
+ * 사용자 테이블을 조회하지 않는지 검증합니다.
+ */
+@DisplayName("단건 조회 쿼리 수 테스트")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestJpaConfig.class, QueryDslConfig.class, LedgerService.class, BudgetService.class})
+@TestPropertySource(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:ownership_query;MODE=MySQL;DB_CLOSE_DELAY=-1",
+      "spring.jpa.hibernate.ddl-auto=create-drop",
+      "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+          + "com.codingcat.aipersonalfinance.config.SqlCaptureInspector"
+    })
+class OwnershipQueryCountTest {
+
+  @Autowired private LedgerService ledgerService;
+  @Autowired private BudgetService budgetService;
+  @Autowired private LedgerRepository ledgerRepository;
+  @Autowired private BudgetRepository budgetRepository;
+  @Autowired private UserRepository userRepository;
+  @Autowired private EntityManager entityManager;
+
+  private AuthDto ownerAuth;
+  private AuthDto otherAuth;
+  private Ledger ledger;
+  private Budget budget;
+
+  @BeforeEach
+  void setUp() {
+    User testUser = userRepository.save(User.createTestUser());
+    User otherUser = userRepository.save(User.createTestOtherUser());
+    ownerAuth = authOf(testUser);
+    otherAuth = authOf(otherUser);
+
+    ledger =
+        ledgerRepository.save(
+            Ledger.builder()
+                .user(testUser)
+                .type(LedgerType.EXPENSE)
+                .amount(new BigDecimal("50000"))
+                .desc("점심 식사")
+                .place("식당")
+                .category(Category.FOOD)
+                .paymentMethod(PaymentMethod.CARD)
+                .recordedDate(LocalDate.of(2026, 1, 15))
+                .isAutoGenerated(false)
+                .build());
+    budget =
+        budgetRepository.save(
+            Budget.builder()
+                .user(testUser)
+                .name("1월 식비 예산")
+                .budgetPeriod(BudgetPeriod.MONTHLY)
+                .startDate(LocalDate.of(2026, 1, 1))
+                .endDate(LocalDate.of(2026, 1, 31))
+                .amount(new BigDecimal("500000"))
+                .category(Category.FOOD)
+                .isActive(true)
+                .build());
+  }
+
+  @Nested
+  @DisplayName("1. 거래 내역")
+  class LedgerTests {
+
+    @Test
+    @DisplayName("1-1. 조회는 SELECT 한 번으로 끝난다")
+    void getLedger() {
+      assertSingleSelect(() -> ledgerService.getLedger(ownerAuth, ledger.getIdx()));
+    }
+
+    @Test
+    @DisplayName("1-2. 수정은 SELECT 한 번으로 끝난다")
+    void updateLedger() {
+      LedgerUpdateRequest request =
+          LedgerUpdateRequest.builder().amount(new BigDecimal("60000")).build();
+      assertSingleSelect(() -> ledgerService.updateLedger(ownerAuth, ledger.getIdx(), request));
+    }
+
+    @Test
+    @DisplayName("1-3. 삭제는 SELECT 한 번으로 끝난다")
+    void deleteLedger() {
+      assertSingleSelect(() -> ledgerService.deleteLedger(ownerAuth, ledger.getIdx()));
+    }
+
+    @Test
+    @DisplayName("1-4. 다른 사용자의 거래는 403, 없는 거래는 404 로 구분한다")
+    void distinguishForbiddenFromNotFound() {
+      assertThatThrownBy(() -> ledgerService.getLedger(otherAuth, ledger.getIdx()))
+          .isInstanceOf(CustomException.class)
+          .hasFieldOrPropertyWithValue("httpStatus", HttpStatus.FORBIDDEN);
+      assertThatThrownBy(() -> ledgerService.getLedger(ownerAuth, ledger.getIdx() + 1000))
+          .isInstanceOf(CustomException.class)
+          .hasFieldOrPropertyWithValue("httpStatus", HttpStatus.NOT_FOUND);
+    }
+  }
+
+  @Nested
+  @DisplayName("2. 예산")
+  class BudgetTests {
+
+    @Test
+    @DisplayName("2-1. 조회는 SELECT 한 번으로 끝난다")
+    void getBudget() {
+      assertSingleSelect(() -> budgetService.getBudget(ownerAuth, budget.getIdx()));
+    }
+
+    @Test
+    @DisplayName("2-2. 사용 현황은 예산 행의 지출 누계만 읽는다 (SELECT 한 번)")
+    void getBudgetUsage() {
+      assertSingleSelect(() -> budgetService.getBudgetUsage(ownerAuth, budget.getIdx()));
+    }
+
+    @Test
+    @DisplayName("2-3. 수정은 SELECT 한 번으로 끝난다")
+    void updateBudget() {
+      // 기간과 카테고리가 그대로면 지출 누계를 다시 계산하지 않는다
+      BudgetUpdateRequest request =
+          BudgetUpdateRequest.builder()
+              .name("1월 식비 예산 (증액)")
+              .budgetPeriod(BudgetPeriod.MONTHLY)
+              .startDate(budget.getStartDate())
+              .endDate(budget.getEndDate())
+              .amount(new BigDecimal("600000"))
+              .category(Category.FOOD)
+              .isActive(true)
+              .build();
+      assertSingleSelect(() -> budgetService.updateBudget(ownerAuth, budget.getIdx(), request));
+    }
+
+    @Test
+    @DisplayName("2-4. 삭제는 SELECT 한 번으로 끝난다")
+    void deleteBudget() {
+      assertSingleSelect(() -> budgetService.sDeleteBudget(ownerAuth, budget.getIdx()));
+    }
+
+    @Test
+    @DisplayName("2-5. 다른 사용자의 예산은 403, 없는 예산은 404 로 구분한다")
+    void distinguishForbiddenFromNotFound() {
+      assertThatThrownBy(() -> budgetService.getBudget(otherAuth, budget.getIdx()))
+          .isInstanceOf(CustomException.class)
+          .hasFieldOrPropertyWithValue("httpStatus", HttpStatus.FORBIDDEN);
+      assertThatThrownBy(() -> budgetService.getBudget(ownerAuth, budget.getIdx() + 1000))
+          .isInstanceOf(CustomException.class)
+          .hasFieldOrPropertyWithValue("httpStatus", HttpStatus.NOT_FOUND);
+    }
+  }
+
+  // === Helper Methods ===
+
+  /**
+   * 영속성 컨텍스트를 비운 뒤 실행해서, 실행된 SELECT 가 사용자 테이블 조인 없이 한 번뿐인지 검증합니다.
+   */
+  private void assertSingleSelect(Runnable action) {
+    entityManager.flush();
+    entityManager.clear();
+    SqlCaptureInspector.clear();
+
+    action.run();
+
+    List<String> selects = SqlCaptureInspector.selects();
+    assertThat(selects).hasSize(1);
+    assertThat(selects.get(0).toLowerCase(Locale.ROOT)).doesNotContain("join").doesNotContain("users");
+  }
+
+  private AuthDto authOf(User user) {
+    return AuthDto.builder()
+        .email(user.getEmail())
+        .serviceType(ServiceType.USER)
+        .userIdx(user.getIdx())
+        .build();
+  }
+}
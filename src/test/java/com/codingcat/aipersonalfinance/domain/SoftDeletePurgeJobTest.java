@@ -0,0 +1,295 @@
+package com.codingcat.aipersonalfinance.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codingcat.aipersonalfinance.domain.SoftDeletePurgeJob.RunResult;
+import com.codingcat.aipersonalfinance.domain.SoftDeletePurgeJob.Stats;
+import com.codingcat.aipersonalfinance.domain.budget.Budget;
+import com.codingcat.aipersonalfinance.domain.budget.BudgetPeriod;
+import com.codingcat.aipersonalfinance.domain.budget.BudgetRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.domain.ledger.Ledger;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerBulkRemovedEvent;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
+import com.codingcat.aipersonalfinance.domain.ledger.PaymentMethod;
+import com.codingcat.aipersonalfinance.domain.recurring.RecurrencePattern;
+import com.codingcat.aipersonalfinance.domain.recurring.RecurringTransaction;
+import com.codingcat.aipersonalfinance.domain.recurring.RecurringTransactionRepository;
+import com.codingcat.aipersonalfinance.domain.user.User;
+import com.codingcat.aipersonalfinance.domain.user.UserRepository;
+import com.codingcat.aipersonalfinance.module.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+/**
+ * 논리 삭제 행 영구 삭제 테스트
+ * 보관 기간이 지난 삭제 행만 묶음 단위로 지우는지, dry-run 과 정기 거래 참조 해제를 검증합니다.
+ */
+@DisplayName("논리 삭제 행 영구 삭제 테스트")
+@DataJpaTest
+@Import(QueryDslConfig.class)
+@TestPropertySource(properties = {"spring.jpa.hibernate.ddl-auto=create-drop"})
+class SoftDeletePurgeJobTest {
+
+  // 보관 기간 30일 → 2026-04-15 12:00 이전에 삭제된 행이 대상
+  private static final LocalDateTime NOW = LocalDateTime.of(2026, 5, 15, 12, 0);
+  private static final LocalDateTime EXPIRED = LocalDateTime.of(2026, 3, 1, 0, 0);
+  private static final LocalDateTime RECENT = LocalDateTime.of(2026, 5, 10, 0, 0);
+
+  @Autowired private LedgerRepository ledgerRepository;
+  @Autowired private BudgetRepository budgetRepository;
+  @Autowired private RecurringTransactionRepository recurringTransactionRepository;
+  @Autowired private UserRepository userRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private EntityManager entityManager;
+
+  private final List<Object> publishedEvents = new ArrayList<>();
+  private User testUser;
+
+  @BeforeEach
+  void setUp() {
+    testUser = userRepository.save(User.createTestUser());
+  }
+
+  @Nested
+  @DisplayName("1. 영구 삭제")
+  class PurgeTests {
+
+    @Test
+    @DisplayName("1-1. 삭제 후 보관 기간이 지난 행만 PK 순서로 묶음 단위로 지운다")
+    void purgesExpiredOnly() {
+      // Given
+      for (int i = 0; i < 3; i++) {
+        markDeleted("ledger", "ledger_idx", createLedger(null).getIdx(), EXPIRED);
+      }
+      Long recentIdx = createLedger(null).getIdx();
+      markDeleted("ledger", "ledger_idx", recentIdx, RECENT);
+      createLedger(null);
+      markDeleted("budget", "budget_idx", createBudget().getIdx(), EXPIRED);
+      createBudget();
+
+      // When
+      RunResult result = purgeJob(false).purge(NOW);
+
+      // Then
+      assertThat(result.cutoff()).isEqualTo(LocalDateTime.of(2026, 4, 15, 12, 0));
+      assertThat(result.purged())
+          .isEqualTo(Map.of("ledger", 3L, "budget", 1L, "recurring_transaction", 0L));
+      // 거래 내역 2회(2건 + 1건), 예산 1회
+      assertThat(result.batches()).isEqualTo(3);
+      assertThat(countRows("ledger")).isEqualTo(2);
+      assertThat(countRows("budget")).isEqualTo(1);
+      assertThat(
+              jdbcTemplate.queryForObject(
+                  "SELECT COUNT(*) FROM ledger WHERE ledger_idx = ?", Long.class, recentIdx))
+          .isEqualTo(1);
+      // 거래 내역을 지운 묶음마다 사용자의 통계 스냅샷을 버리도록 알림
+      assertThat(publishedEvents)
+          .containsExactly(
+              new LedgerBulkRemovedEvent(Set.of(testUser.getIdx())),
+              new LedgerBulkRemovedEvent(Set.of(testUser.getIdx())));
+    }
+
+    @Test
+    @DisplayName("1-2. dry-run 은 대상 수만 세고 아무것도 지우지 않는다")
+    void dryRunDeletesNothing() {
+      // Given
+      markDeleted("ledger", "ledger_idx", createLedger(null).getIdx(), EXPIRED);
+      markDeleted("ledger", "ledger_idx", createLedger(null).getIdx(), EXPIRED);
+
+      // When
+      RunResult result = purgeJob(true).purge(NOW);
+
+      // Then
+      assertThat(result.dryRun()).isTrue();
+      assertThat(result.purged().get("ledger")).isEqualTo(2L);
+      assertThat(countRows("ledger")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("1-3. 지우는 정기 거래를 가리키는 거래 내역은 남기고 참조만 비운다")
+    void clearsRecurringReference() {
+      // Given
+      RecurringTransaction recurring = createRecurring();
+      Long ledgerIdx = createLedger(recurring).getIdx();
+      markDeleted(
+          "recurring_transaction", "recurring_transaction_idx", recurring.getIdx(), EXPIRED);
+
+      // When
+      RunResult result = purgeJob(false).purge(NOW);
+
+      // Then
+      assertThat(result.purged().get("recurring_transaction")).isEqualTo(1L);
+      assertThat(result.clearedReferences()).isEqualTo(1);
+      assertThat(countRows("recurring_transaction")).isZero();
+      assertThat(
+              jdbcTemplate.queryForObject(
+                  "SELECT recurring_transaction_idx FROM ledger WHERE ledger_idx = ?",
+                  Long.class, ledgerIdx))
+          .isNull();
+    }
+  }
+
+  @Nested
+  @DisplayName("2. 지표")
+  class StatsTests {
+
+    @Test
+    @DisplayName("2-1. 테이블별 삭제 건수를 누적하고 dry-run 실행은 더하지 않는다")
+    void accumulatesPurged() {
+      // Given
+      SoftDeletePurgeJob job = purgeJob(false);
+      markDeleted("ledger", "ledger_idx", createLedger(null).getIdx(), EXPIRED);
+      markDeleted("budget", "budget_idx", createBudget().getIdx(), EXPIRED);
+      job.purge(NOW);
+      markDeleted("ledger", "ledger_idx", createLedger(null).getIdx(), EXPIRED);
+      job.purge(NOW);
+
+      // When
+      Stats stats = job.stats();
+
+      // Then
+      assertThat(stats.runs()).isEqualTo(2);
+      assertThat(stats.purged())
+          .isEqualTo(Map.of("ledger", 2L, "budget", 1L, "recurring_transaction", 0L));
+      assertThat(stats.skipped())
+          .isEqualTo(Map.of("ledger", 0L, "budget", 0L, "recurring_transaction", 0L));
+      assertThat(stats.lastRun().purged().get("ledger")).isEqualTo(1L);
+      assertThat(purgeJob(true).stats().runs()).isZero();
+    }
+
+    @Test
+    @DisplayName("2-2. 대상으로 읽은 뒤 삭제 전에 복구된 행은 건너뜀으로 센다")
+    void countsRestoredAsSkipped() {
+      // Given: 묶음 트랜잭션을 시작할 때 첫 번째 거래 내역이 복구됨
+      Long restoredIdx = createLedger(null).getIdx();
+      markDeleted("ledger", "ledger_idx", restoredIdx, EXPIRED);
+      markDeleted("ledger", "ledger_idx", createLedger(null).getIdx(), EXPIRED);
+      SoftDeletePurgeJob job =
+          new SoftDeletePurgeJob(
+              jdbcTemplate, restoringBeforeBatch(restoredIdx), publishedEvents::add, 30, 2,
+              Duration.ZERO, false);
+
+      // When
+      RunResult result = job.purge(NOW);
+
+      // Then
+      assertThat(result.purged().get("ledger")).isEqualTo(1L);
+      assertThat(result.skipped().get("ledger")).isEqualTo(1L);
+      assertThat(job.stats().skipped().get("ledger")).isEqualTo(1L);
+      assertThat(
+              jdbcTemplate.queryForObject(
+                  "SELECT COUNT(*) FROM ledger WHERE ledger_idx = ?", Long.class, restoredIdx))
+          .isEqualTo(1);
+    }
+  }
+
+  // ===== Helper Methods =====
+
+  private SoftDeletePurgeJob purgeJob(boolean dryRun) {
+    return new SoftDeletePurgeJob(
+        jdbcTemplate, transactionManager, publishedEvents::add, 30, 2, Duration.ZERO, dryRun);
+  }
+
+  // 대상 조회와 삭제 사이의 복구를 흉내 내려고 묶음 트랜잭션 시작 시 거래 내역을 복구한다
+  private PlatformTransactionManager restoringBeforeBatch(Long ledgerIdx) {
+    return new PlatformTransactionManager() {
+      @Override
+      public TransactionStatus getTransaction(TransactionDefinition definition) {
+        jdbcTemplate.update("UPDATE ledger SET deleted_at = NULL WHERE ledger_idx = ?", ledgerIdx);
+        return transactionManager.getTransaction(definition);
+      }
+
+      @Override
+      public void commit(TransactionStatus status) {
+        transactionManager.commit(status);
+      }
+
+      @Override
+      public void rollback(TransactionStatus status) {
+        transactionManager.rollback(status);
+      }
+    };
+  }
+
+  private Ledger createLedger(RecurringTransaction recurring) {
+    return ledgerRepository.save(
+        Ledger.builder()
+            .user(testUser)
+            .type(LedgerType.EXPENSE)
+            .amount(new BigDecimal("10000"))
+            .desc("Test Transaction")
+            .category(Category.FOOD)
+            .paymentMethod(PaymentMethod.CARD)
+            .recordedDate(LocalDate.of(2026, 1, 10))
+            .isAutoGenerated(recurring != null)
+            .recurringTransaction(recurring)
+            .build());
+  }
+
+  private Budget createBudget() {
+    return budgetRepository.save(
+        Budget.builder()
+            .user(testUser)
+            .name("1월 식비 예산")
+            .budgetPeriod(BudgetPeriod.MONTHLY)
+            .startDate(LocalDate.of(2026, 1, 1))
+            .endDate(LocalDate.of(2026, 1, 31))
+            .amount(new BigDecimal("500000"))
+            .category(Category.FOOD)
+            .isActive(true)
+            .build());
+  }
+
+  private RecurringTransaction createRecurring() {
+    return recurringTransactionRepository.save(
+        RecurringTransaction.builder()
+            .user(testUser)
+            .name("정기 지출")
+            .type(LedgerType.EXPENSE)
+            .amount(new BigDecimal("10000"))
+            .description("정기 지출")
+            .category(Category.ETC)
+            .paymentMethod(PaymentMethod.CARD)
+            .recurrencePattern(RecurrencePattern.MONTHLY)
+            .startDate(LocalDate.of(2026, 1, 10))
+            .nextExecutionDate(LocalDate.of(2026, 2, 10))
+            .executionDayOfMonth(10)
+            .build());
+  }
+
+  // 삭제 시각을 지정하려고 엔티티 대신 SQL 로 deleted_at 을 쓴다
+  private void markDeleted(String table, String idColumn, Long idx, LocalDateTime deletedAt) {
+    entityManager.flush();
+    jdbcTemplate.update(
+        "UPDATE " + table + " SET deleted_at = ? WHERE " + idColumn + " = ?",
+        Timestamp.valueOf(deletedAt), idx);
+  }
+
+  private long countRows(String table) {
+    entityManager.flush();
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+  }
+}
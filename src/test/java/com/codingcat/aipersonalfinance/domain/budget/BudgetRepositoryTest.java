@@ -3,12 +3,21 @@ package com.codingcat.aipersonalfinance.domain.budget;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.codingcat.aipersonalfinance.config.TestJpaConfig;
+import com.codingcat.aipersonalfinance.domain.budget.dto.BudgetAlertCandidate;
+import com.codingcat.aipersonalfinance.domain.budget.dto.BudgetUpdateRequest;
 import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.domain.ledger.Ledger;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerArchiveRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
+import com.codingcat.aipersonalfinance.domain.ledger.PaymentMethod;
 import com.codingcat.aipersonalfinance.domain.user.User;
 import com.codingcat.aipersonalfinance.domain.user.UserRepository;
 import com.codingcat.aipersonalfinance.module.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 
 /**
  * BudgetRepository 테스트
@@ -29,6 +39,9 @@ class BudgetRepositoryTest {
 
   @Autowired private BudgetRepository budgetRepository;
   @Autowired private UserRepository userRepository;
+  @Autowired private LedgerRepository ledgerRepository;
+  @Autowired private LedgerArchiveRepository ledgerArchiveRepository;
+  @Autowired private EntityManager entityManager;
 
   private User testUser;
   private User otherUser;
@@ -378,5 +391,222 @@ class BudgetRepositoryTest {
       assertThat(budgets).hasSize(1);
       assertThat(budgets.get(0).getName()).isEqualTo("활성 예산");
     }
+
+    @Test
+    @DisplayName("5-3. 알림 대상 예산을 예산 ID 순서로 청크 단위 조회할 수 있다 (keyset)")
+    void findAlertCandidates() {
+      // Given: 알림 대상 예산 3건
+      List<Long> ids = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        ids.add(
+            budgetRepository
+                .save(
+                    Budget.builder()
+                        .user(testUser)
+                        .name("알림 대상 예산 " + i)
+                        .budgetPeriod(BudgetPeriod.MONTHLY)
+                        .startDate(LocalDate.of(2024, 2, 1))
+                        .endDate(LocalDate.of(2024, 2, 29))
+                        .amount(new BigDecimal("500000"))
+                        .build())
+                .getIdx());
+      }
+      LocalDate today = LocalDate.of(2024, 2, 15);
+
+      // When: 청크 크기 2로 이어서 조회
+      List<BudgetAlertCandidate> first =
+          budgetRepository.findAlertCandidates(today, 0L, PageRequest.of(0, 2));
+      List<BudgetAlertCandidate> second =
+          budgetRepository.findAlertCandidates(
+              today, first.get(first.size() - 1).budgetIdx(), PageRequest.of(0, 2));
+
+      // Then
+      assertThat(first)
+          .extracting(BudgetAlertCandidate::budgetIdx)
+          .containsExactly(ids.get(0), ids.get(1));
+      assertThat(second)
+          .extracting(BudgetAlertCandidate::budgetIdx)
+          .containsExactly(ids.get(2));
+      assertThat(first.get(0).userIdx()).isEqualTo(testUser.getIdx());
+    }
+
+    @Test
+    @DisplayName("5-4. 알림 발송 표시는 아직 발송하지 않은 예산에만 한 번 적용된다")
+    void markAlertSentIfNotSent() {
+      // Given
+      Budget budget =
+          budgetRepository.save(
+              Budget.builder()
+                  .user(testUser)
+                  .name("알림 예산")
+                  .budgetPeriod(BudgetPeriod.MONTHLY)
+                  .startDate(LocalDate.of(2024, 2, 1))
+                  .endDate(LocalDate.of(2024, 2, 29))
+                  .amount(new BigDecimal("500000"))
+                  .build());
+
+      // When: 두 번 표시 시도
+      int first = budgetRepository.markAlertSentIfNotSent(budget.getIdx());
+      int second = budgetRepository.markAlertSentIfNotSent(budget.getIdx());
+      entityManager.clear();
+
+      // Then: 처음 한 번만 성공
+      assertThat(first).isEqualTo(1);
+      assertThat(second).isZero();
+      assertThat(budgetRepository.findById(budget.getIdx()).orElseThrow().getIsAlertSent()).isTrue();
+    }
+  }
+
+  @Nested
+  @DisplayName("6. 지출 누계 테스트")
+  class SpentAmountTests {
+
+    @Test
+    @DisplayName("6-1. 날짜와 카테고리가 맞는 예산에만 지출이 누적된다")
+    void addSpent() {
+      // Given: 2월 식비 예산, 2월 전체 예산, 2월 쇼핑 예산, 3월 식비 예산
+      Budget food = budgetRepository.save(budget(Category.FOOD, 2));
+      Budget total = budgetRepository.save(budget(null, 2));
+      Budget shopping = budgetRepository.save(budget(Category.SHOPPING, 2));
+      Budget march = budgetRepository.save(budget(Category.FOOD, 3));
+
+      // When: 2월 식비 지출 8,000원 후 3,000원 취소
+      int updated =
+          budgetRepository.addSpent(
+              testUser.getIdx(), Category.FOOD, LocalDate.of(2024, 2, 10), new BigDecimal("8000"));
+      budgetRepository.addSpent(
+          testUser.getIdx(), Category.FOOD, LocalDate.of(2024, 2, 10), new BigDecimal("-3000"));
+      entityManager.clear();
+
+      // Then
+      assertThat(updated).isEqualTo(2);
+      assertThat(spentOf(food)).isEqualByComparingTo("5000");
+      assertThat(spentOf(total)).isEqualByComparingTo("5000");
+      assertThat(spentOf(shopping)).isEqualByComparingTo("0");
+      assertThat(spentOf(march)).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("6-2. 보정 작업은 거래 내역 합계와 다른 누계만 다시 쓴다")
+    void reconcileSpent() {
+      // Given: 2월 식비 지출 10,000원 (삭제된 지출과 수입은 제외)
+      ledgerRepository.save(ledger(LedgerType.EXPENSE, Category.FOOD, "10000"));
+      ledgerRepository.save(ledger(LedgerType.INCOME, Category.FOOD, "50000"));
+      Ledger deleted = ledgerRepository.save(ledger(LedgerType.EXPENSE, Category.FOOD, "7000"));
+      deleted.sDelete();
+
+      Budget drifted = budget(Category.FOOD, 2);
+      drifted.resetSpentAmount(new BigDecimal("3000"));
+      budgetRepository.save(drifted);
+      Budget correct = budget(null, 2);
+      correct.resetSpentAmount(new BigDecimal("10000"));
+      budgetRepository.save(correct);
+      entityManager.flush();
+
+      // When
+      LocalDate since = LocalDate.of(2024, 1, 1);
+      LocalDate from = budgetRepository.findEarliestStartDate(since);
+      int repaired = budgetRepository.reconcileSpent(LedgerType.EXPENSE, since, from);
+      entityManager.clear();
+
+      // Then
+      assertThat(from).isEqualTo(LocalDate.of(2024, 2, 1));
+      assertThat(repaired).isEqualTo(1);
+      assertThat(spentOf(drifted)).isEqualByComparingTo("10000");
+      assertThat(spentOf(correct)).isEqualByComparingTo("10000");
+    }
+
+    @Test
+    @DisplayName("6-3. 예산을 읽은 뒤 더해진 지출 누계와 알림 표시는 예산 수정 flush 로 덮어써지지 않는다")
+    void entityFlushKeepsConcurrentUpdates() {
+      // Given: 예산을 읽어 둔 상태
+      Budget saved = budgetRepository.save(budget(Category.FOOD, 2));
+      entityManager.flush();
+      entityManager.clear();
+      Budget loaded = budgetRepository.findById(saved.getIdx()).orElseThrow();
+
+      // 읽은 뒤 다른 요청이 지출을 더하고 알림을 표시 (벌크 UPDATE 는 읽어 둔 엔티티를 바꾸지 않음)
+      budgetRepository.addSpent(
+          testUser.getIdx(), Category.FOOD, LocalDate.of(2024, 2, 10), new BigDecimal("8000"));
+      budgetRepository.markAlertSentIfNotSent(saved.getIdx());
+
+      // When: 기간과 카테고리는 그대로 두고 이름과 금액만 수정
+      loaded.update(
+          BudgetUpdateRequest.builder()
+              .name("2월 식비 예산 (수정)")
+              .budgetPeriod(BudgetPeriod.MONTHLY)
+              .startDate(loaded.getStartDate())
+              .endDate(loaded.getEndDate())
+              .amount(new BigDecimal("600000"))
+              .category(Category.FOOD)
+              .alertThreshold(new BigDecimal("80.00"))
+              .isActive(true)
+              .build());
+      entityManager.flush();
+      entityManager.clear();
+
+      // Then
+      Budget reloaded = budgetRepository.findById(saved.getIdx()).orElseThrow();
+      assertThat(reloaded.getName()).isEqualTo("2월 식비 예산 (수정)");
+      assertThat(reloaded.getAmount()).isEqualByComparingTo("600000");
+      assertThat(reloaded.getSpentAmount()).isEqualByComparingTo("8000");
+      assertThat(reloaded.getIsAlertSent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("6-4. 보정 작업은 보관 테이블로 옮겨진 지출도 합계에 포함한다")
+    void reconcileSpentIncludesArchive() {
+      // Given: 2월 식비 지출 10,000원 중 4,000원은 보관 테이블로 옮겨진 상태
+      ledgerRepository.save(ledger(LedgerType.EXPENSE, Category.FOOD, "6000"));
+      Ledger archived = ledgerRepository.save(ledger(LedgerType.EXPENSE, Category.FOOD, "4000"));
+      Budget budget = budget(Category.FOOD, 2);
+      budget.resetSpentAmount(new BigDecimal("10000"));
+      budgetRepository.save(budget);
+      entityManager.flush();
+      ledgerArchiveRepository.copyFromLedger(List.of(archived.getIdx()));
+      ledgerArchiveRepository.deleteLedgers(List.of(archived.getIdx()));
+      entityManager.clear();
+
+      // When
+      LocalDate since = LocalDate.of(2024, 1, 1);
+      int repaired =
+          budgetRepository.reconcileSpent(
+              LedgerType.EXPENSE, since, budgetRepository.findEarliestStartDate(since));
+      entityManager.clear();
+
+      // Then: 누계가 ledger 에 남은 6,000원으로 줄어들지 않음
+      assertThat(repaired).isZero();
+      assertThat(spentOf(budget)).isEqualByComparingTo("10000");
+    }
+
+    private Budget budget(Category category, int month) {
+      LocalDate startDate = LocalDate.of(2024, month, 1);
+      return Budget.builder()
+          .user(testUser)
+          .name(month + "월 예산")
+          .budgetPeriod(BudgetPeriod.MONTHLY)
+          .startDate(startDate)
+          .endDate(startDate.withDayOfMonth(startDate.lengthOfMonth()))
+          .amount(new BigDecimal("500000"))
+          .category(category)
+          .build();
+    }
+
+    private Ledger ledger(LedgerType type, Category category, String amount) {
+      return Ledger.builder()
+          .user(testUser)
+          .type(type)
+          .amount(new BigDecimal(amount))
+          .desc("테스트 거래")
+          .category(category)
+          .paymentMethod(PaymentMethod.CARD)
+          .recordedDate(LocalDate.of(2024, 2, 10))
+          .isAutoGenerated(false)
+          .build();
+    }
+
+    private BigDecimal spentOf(Budget budget) {
+      return budgetRepository.findById(budget.getIdx()).orElseThrow().getSpentAmount();
+    }
   }
 }
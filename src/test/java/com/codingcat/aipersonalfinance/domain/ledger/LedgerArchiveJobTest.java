@@ -0,0 +1,291 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerArchiveJob.RunResult;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.CategorySummary;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerCursor;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerExportRow;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerSearchRequest;
+import com.codingcat.aipersonalfinance.domain.user.User;
+import com.codingcat.aipersonalfinance.domain.user.UserRepository;
+import com.codingcat.aipersonalfinance.module.config.QueryDslConfig;
+import com.codingcat.aipersonalfinance.module.exception.CustomException;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 거래 내역 보관 테스트
+ * 보관 작업(LedgerArchiveJob)으로 오래된 거래 내역을 옮긴 뒤 목록/커서/내보내기/통계 조회가
+ * 보관 전과 같은 결과를 주는지 검증합니다.
+ */
+@DisplayName("거래 내역 보관 테스트")
+@DataJpaTest
+@Import({QueryDslConfig.class, LedgerDailyAggService.class})
+@TestPropertySource(properties = {"spring.jpa.hibernate.ddl-auto=create-drop"})
+class LedgerArchiveJobTest {
+
+  // min-age 2년 → 2024-05-15 가 속한 2024년 이전(2023년까지)을 보관
+  private static final LocalDate TODAY = LocalDate.of(2026, 5, 15);
+  private static final LocalDate ARCHIVED_BEFORE = LocalDate.of(2024, 1, 1);
+
+  @Autowired private LedgerRepository ledgerRepository;
+  @Autowired private LedgerArchiveRepository ledgerArchiveRepository;
+  @Autowired private LedgerArchiveYearRepository ledgerArchiveYearRepository;
+  @Autowired private LedgerDailyAggService ledgerDailyAggService;
+  @Autowired private UserRepository userRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private EntityManager entityManager;
+
+  private final List<Object> publishedEvents = new ArrayList<>();
+  private User testUser;
+  private LedgerArchiveJob ledgerArchiveJob;
+
+  @BeforeEach
+  void setUp() {
+    testUser = userRepository.save(User.createTestUser());
+    ledgerArchiveJob =
+        new LedgerArchiveJob(
+            ledgerArchiveRepository,
+            ledgerArchiveYearRepository,
+            transactionManager,
+            publishedEvents::add,
+            Period.ofYears(2),
+            2);
+  }
+
+  @Nested
+  @DisplayName("1. 보관 작업")
+  class ArchiveTests {
+
+    @Test
+    @DisplayName("1-1. min-age 보다 오래된 연도의 거래 내역을 묶음 단위로 옮기고 보관 연도를 기록한다")
+    void archivesOldYears() {
+      // Given
+      createLedger("1000", LocalDate.of(2022, 7, 1));
+      createLedger("2000", LocalDate.of(2023, 3, 1));
+      createLedger("3000", LocalDate.of(2023, 12, 31));
+      createLedger("4000", LocalDate.of(2024, 6, 1));
+
+      // When
+      RunResult result = ledgerArchiveJob.archive(TODAY);
+
+      // Then
+      assertThat(result.archiveBefore()).isEqualTo(ARCHIVED_BEFORE);
+      assertThat(result.archived()).isEqualTo(3);
+      assertThat(result.batches()).isEqualTo(2);
+      assertThat(ledgerRepository.findByUser(testUser))
+          .extracting(Ledger::getRecordedDate)
+          .containsExactly(LocalDate.of(2024, 6, 1));
+      assertThat(ledgerArchiveRepository.count()).isEqualTo(3);
+      assertThat(ledgerArchiveYearRepository.findArchivedBefore(testUser.getIdx()))
+          .isEqualTo(ARCHIVED_BEFORE);
+      // 묶음마다 옮긴 사용자의 통계 스냅샷을 버리도록 알림
+      assertThat(publishedEvents)
+          .hasSize(2)
+          .allSatisfy(
+              event ->
+                  assertThat(((LedgerBulkRemovedEvent) event).userIdxs())
+                      .containsExactly(testUser.getIdx()));
+    }
+
+    @Test
+    @DisplayName("1-2. 삭제된 거래 내역은 옮기지 않고, 다시 실행하면 옮길 거래 내역이 없다")
+    void skipsDeletedAndIdempotent() {
+      // Given
+      createLedger("1000", LocalDate.of(2023, 3, 1));
+      Ledger deleted = createLedger("2000", LocalDate.of(2023, 4, 1));
+      deleted.sDelete();
+      flushAndClear();
+
+      // When
+      RunResult first = ledgerArchiveJob.archive(TODAY);
+      RunResult second = ledgerArchiveJob.archive(TODAY);
+
+      // Then
+      assertThat(first.archived()).isEqualTo(1);
+      assertThat(second.archived()).isZero();
+      assertThat(ledgerArchiveRepository.findAll())
+          .extracting(LedgerArchive::getAmount)
+          .usingElementComparator(BigDecimal::compareTo)
+          .containsExactly(new BigDecimal("1000"));
+    }
+
+    @Test
+    @DisplayName("1-3. 보관 연도의 일간 집계는 그대로 남고, 재구축해도 보관된 거래 내역으로 같은 집계를 만든다")
+    void keepsDailyAgg() {
+      // Given
+      createLedger("1000", LocalDate.of(2023, 3, 1));
+      createLedger("2000", LocalDate.of(2023, 3, 1));
+
+      // When
+      ledgerArchiveJob.archive(TODAY);
+      List<CategorySummary> archived = summary2023();
+      ledgerDailyAggService.rebuild(testUser.getIdx());
+      List<CategorySummary> rebuilt = summary2023();
+
+      // Then
+      assertThat(archived).hasSize(1);
+      assertThat(archived.get(0).getTotalAmount()).isEqualByComparingTo("3000");
+      assertThat(rebuilt.get(0).getTotalAmount()).isEqualByComparingTo("3000");
+      assertThat(rebuilt.get(0).getTransactionCount()).isEqualTo(2L);
+    }
+  }
+
+  @Nested
+  @DisplayName("2. 합쳐서 조회")
+  class ReadTests {
+
+    @BeforeEach
+    void archive() {
+      createLedger("1000", LocalDate.of(2023, 3, 1));
+      createLedger("2000", LocalDate.of(2023, 12, 31));
+      createLedger("3000", LocalDate.of(2024, 6, 1));
+      createLedger("4000", LocalDate.of(2026, 1, 10));
+      ledgerArchiveJob.archive(TODAY);
+      flushAndClear();
+    }
+
+    @Test
+    @DisplayName("2-1. 목록 조회는 두 테이블을 정렬 순서대로 합쳐서 페이지를 자르고 전체 건수를 더한다")
+    void pageMergesArchive() {
+      // When
+      Page<Ledger> first =
+          ledgerRepository.findByPageInLedger(
+              testUser, null, PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "recordedDate")));
+      Page<Ledger> second =
+          ledgerRepository.findByPageInLedger(
+              testUser, null, PageRequest.of(1, 3, Sort.by(Sort.Direction.DESC, "recordedDate")));
+      Page<Ledger> byAmount =
+          ledgerRepository.findByPageInLedger(
+              testUser, null, PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "amount")));
+
+      // Then
+      assertThat(first.getTotalElements()).isEqualTo(4);
+      assertAmounts(first.getContent(), "4000", "3000", "2000");
+      assertAmounts(second.getContent(), "1000");
+      assertAmounts(byAmount.getContent(), "1000", "2000");
+      // 보관된 거래도 생성 시각을 유지한다
+      assertThat(first.getContent().get(2).getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("2-2. 검색 기간이 보관 경계 이후이면 최근 거래 내역만 조회한다")
+    void pageWithoutArchive() {
+      // When
+      Page<Ledger> result =
+          ledgerRepository.findByPageInLedger(
+              testUser,
+              LedgerSearchRequest.builder()
+                  .startDate(ARCHIVED_BEFORE)
+                  .endDate(LocalDate.of(2026, 12, 31))
+                  .build(),
+              PageRequest.of(0, 10));
+
+      // Then
+      assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("2-3. 커서 조회는 최근 거래 다음에 보관 거래를 (날짜, ID) 역순으로 이어서 조회한다")
+    void sliceContinuesIntoArchive() {
+      // Given
+      LedgerSearchRequest condition = LedgerSearchRequest.builder().build();
+
+      // When
+      List<Ledger> first = ledgerRepository.findBySliceInLedger(testUser, condition, null, 3);
+      LedgerCursor cursor = LedgerCursor.from(first.get(2));
+      List<Ledger> second = ledgerRepository.findBySliceInLedger(testUser, condition, cursor, 3);
+
+      // Then
+      assertAmounts(first, "4000", "3000", "2000");
+      assertAmounts(second, "1000");
+    }
+
+    @Test
+    @DisplayName("2-4. 보관 거래 내역 내보내기는 (날짜, ID) 순서로 스트리밍한다")
+    void streamsArchivedRows() {
+      // When
+      List<BigDecimal> amounts;
+      try (Stream<LedgerExportRow> rows =
+          ledgerArchiveRepository.streamExportRows(
+              testUser.getIdx(), LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31))) {
+        amounts = rows.map(LedgerExportRow::amount).toList();
+      }
+
+      // Then
+      assertThat(amounts)
+          .usingElementComparator(BigDecimal::compareTo)
+          .containsExactly(new BigDecimal("1000"), new BigDecimal("2000"));
+    }
+
+    @Test
+    @DisplayName("2-5. 보관 기간이 포함된 목록 조회를 문자열/열거형 속성으로 정렬하면 거절한다")
+    void rejectsCollationDependentSort() {
+      for (String property : new String[] {"category", "desc"}) {
+        assertThatThrownBy(
+                () ->
+                    ledgerRepository.findByPageInLedger(
+                        testUser, null, PageRequest.of(0, 3, Sort.by(property))))
+            .isInstanceOf(CustomException.class)
+            .hasMessageContaining("정렬만 지원합니다");
+      }
+    }
+  }
+
+  // ===== Helper Methods =====
+
+  private Ledger createLedger(String amount, LocalDate recordedDate) {
+    Ledger ledger =
+        ledgerRepository.save(
+            Ledger.builder()
+                .user(testUser)
+                .type(LedgerType.EXPENSE)
+                .amount(new BigDecimal(amount))
+                .desc("Test Transaction")
+                .place("Test Place")
+                .category(Category.FOOD)
+                .paymentMethod(PaymentMethod.CARD)
+                .recordedDate(recordedDate)
+                .isAutoGenerated(false)
+                .build());
+    // 통계는 일간 집계를 읽으므로 서비스와 동일하게 변경 이벤트를 반영한다
+    ledgerDailyAggService.onLedgerChanged(LedgerChangedEvent.created(ledger));
+    return ledger;
+  }
+
+  private List<CategorySummary> summary2023() {
+    return ledgerRepository.getCategorySummary(
+        testUser, LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31));
+  }
+
+  private void flushAndClear() {
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  private static void assertAmounts(List<Ledger> ledgers, String... amounts) {
+    assertThat(ledgers)
+        .extracting(Ledger::getAmount)
+        .usingElementComparator(BigDecimal::compareTo)
+        .containsExactly(Stream.of(amounts).map(BigDecimal::new).toArray(BigDecimal[]::new));
+  }
+}
@@ -0,0 +1,212 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerPartitionMaintenanceJob.ExpiredAction;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerPartitionMaintenanceJob.RunResult;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * LedgerPartitionMaintenanceJob 테스트
+ * H2 는 파티션을 지원하지 않으므로, 파티션 목록은 메모리에 두고 삭제/보관은 날짜 범위의 행을 직접 옮기는
+ * DDL 전략(H2LedgerPartitionDdl)을 끼워서 H2 MySQL 모드에서 작업의 동작을 검증합니다.
+ */
+@DisplayName("LedgerPartitionMaintenanceJob 테스트")
+class LedgerPartitionMaintenanceJobTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2026, 5, 15);
+
+  private final List<Object> publishedEvents = new ArrayList<>();
+  private JdbcTemplate jdbcTemplate;
+  private H2LedgerPartitionDdl partitionDdl;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate =
+        new JdbcTemplate(
+            new DriverManagerDataSource(
+                "jdbc:h2:mem:ledger_partition;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+    jdbcTemplate.execute("DROP ALL OBJECTS");
+    jdbcTemplate.execute(
+        "CREATE TABLE ledger (ledger_idx BIGINT PRIMARY KEY, recorded_date DATE NOT NULL)");
+    jdbcTemplate.execute(
+        "CREATE TABLE ledger_archive (ledger_idx BIGINT PRIMARY KEY, recorded_date DATE NOT NULL)");
+    partitionDdl = new H2LedgerPartitionDdl(jdbcTemplate);
+  }
+
+  @Nested
+  @DisplayName("1. 파티션 미리 만들기")
+  class CreateTests {
+
+    @Test
+    @DisplayName("1-1. 이번 달부터 months-ahead 개월 뒤까지 없는 파티션만 MAXVALUE 앞에 만든다")
+    void createsAhead() {
+      partitionDdl.partitions.add(LedgerPartition.ofMonth(YearMonth.of(2026, 5)));
+      partitionDdl.partitions.add(new LedgerPartition(LedgerPartition.MAX_PARTITION, null));
+
+      RunResult result = job(2, 0, ExpiredAction.DROP).maintain(TODAY);
+
+      assertThat(result.created()).containsExactly("p202606", "p202607");
+      assertThat(partitionDdl.names()).containsExactly("p202605", "p202606", "p202607", "pmax");
+    }
+
+    @Test
+    @DisplayName("1-2. 같은 날 다시 실행하면 아무것도 만들지 않는다")
+    void idempotent() {
+      partitionDdl.partitions.add(new LedgerPartition(LedgerPartition.MAX_PARTITION, null));
+      LedgerPartitionMaintenanceJob job = job(3, 0, ExpiredAction.DROP);
+
+      job.maintain(TODAY);
+      RunResult second = job.maintain(TODAY);
+
+      assertThat(second.created()).isEmpty();
+      assertThat(partitionDdl.names())
+          .containsExactly("p202605", "p202606", "p202607", "p202608", "pmax");
+    }
+
+    @Test
+    @DisplayName("1-3. 작업이 한동안 실행되지 않았으면 비어 있는 달부터 채운다")
+    void fillsGap() {
+      partitionDdl.partitions.add(LedgerPartition.ofMonth(YearMonth.of(2026, 2)));
+
+      RunResult result = job(0, 0, ExpiredAction.DROP).maintain(TODAY);
+
+      assertThat(result.created()).containsExactly("p202603", "p202604", "p202605");
+    }
+
+    @Test
+    @DisplayName("1-4. 파티션되어 있지 않은 테이블이면 건너뛴다")
+    void skipsUnpartitioned() {
+      RunResult result = job(3, 1, ExpiredAction.DROP).maintain(TODAY);
+
+      assertThat(result.created()).isEmpty();
+      assertThat(result.expired()).isEmpty();
+      assertThat(partitionDdl.partitions).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("2. 보관 기간이 지난 파티션")
+  class ExpireTests {
+
+    @BeforeEach
+    void setUpPartitions() {
+      for (int month = 1; month <= 5; month++) {
+        partitionDdl.partitions.add(LedgerPartition.ofMonth(YearMonth.of(2026, month)));
+        insertLedger(month, LocalDate.of(2026, month, 10));
+      }
+      partitionDdl.partitions.add(new LedgerPartition(LedgerPartition.MAX_PARTITION, null));
+    }
+
+    @Test
+    @DisplayName("2-1. 보관 기간이 0 이면 정리하지 않는다")
+    void keepsWithoutRetention() {
+      RunResult result = job(0, 0, ExpiredAction.DROP).maintain(TODAY);
+
+      assertThat(result.expired()).isEmpty();
+      assertThat(countLedger("ledger")).isEqualTo(5);
+      assertThat(publishedEvents).isEmpty();
+    }
+
+    @Test
+    @DisplayName("2-2. DROP 은 보관 기간보다 오래된 월 파티션과 거래 내역을 지운다")
+    void dropsExpired() {
+      RunResult result = job(0, 2, ExpiredAction.DROP).maintain(TODAY);
+
+      // 5월 기준 2개월 보관이면 3월부터 남는다
+      assertThat(result.expired()).containsExactly("p202601", "p202602");
+      assertThat(partitionDdl.names()).containsExactly("p202603", "p202604", "p202605", "pmax");
+      assertThat(countLedger("ledger")).isEqualTo(3);
+      // 모든 사용자의 통계 스냅샷을 버리도록 알림
+      assertThat(publishedEvents).containsExactly(LedgerBulkRemovedEvent.allUsers());
+    }
+
+    @Test
+    @DisplayName("2-3. ARCHIVE 는 거래 내역을 보관 테이블로 옮긴다")
+    void archivesExpired() {
+      RunResult result = job(0, 3, ExpiredAction.ARCHIVE).maintain(TODAY);
+
+      assertThat(result.expired()).containsExactly("p202601");
+      assertThat(countLedger("ledger")).isEqualTo(4);
+      assertThat(countLedger("ledger_archive")).isEqualTo(1);
+    }
+  }
+
+  // ===== Helper Methods =====
+
+  private LedgerPartitionMaintenanceJob job(
+      int monthsAhead, int retentionMonths, ExpiredAction expiredAction) {
+    return new LedgerPartitionMaintenanceJob(
+        partitionDdl, publishedEvents::add, monthsAhead, retentionMonths, expiredAction);
+  }
+
+  private void insertLedger(long idx, LocalDate recordedDate) {
+    jdbcTemplate.update(
+        "INSERT INTO ledger (ledger_idx, recorded_date) VALUES (?, ?)", idx, recordedDate);
+  }
+
+  private int countLedger(String table) {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+  }
+
+  /**
+   * 파티션을 흉내 내는 H2 용 DDL 전략
+   * 파티션 목록은 메모리에 두고, 삭제/보관은 해당 파티션 날짜 범위의 행을 지우거나 옮깁니다.
+   */
+  static class H2LedgerPartitionDdl implements LedgerPartitionDdl {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<LedgerPartition> partitions = new ArrayList<>();
+
+    H2LedgerPartitionDdl(JdbcTemplate jdbcTemplate) {
+      this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<LedgerPartition> listPartitions() {
+      return List.copyOf(partitions);
+    }
+
+    @Override
+    public void addPartition(LedgerPartition partition) {
+      boolean hasMaxValue =
+          !partitions.isEmpty() && partitions.get(partitions.size() - 1).isMaxValue();
+      partitions.add(hasMaxValue ? partitions.size() - 1 : partitions.size(), partition);
+    }
+
+    @Override
+    public void dropPartition(LedgerPartition partition) {
+      jdbcTemplate.update(
+          "DELETE FROM ledger WHERE recorded_date >= ? AND recorded_date < ?",
+          lowerBound(partition), partition.upperBound());
+      partitions.remove(partition);
+    }
+
+    @Override
+    public void archivePartition(LedgerPartition partition) {
+      jdbcTemplate.update(
+          "INSERT INTO ledger_archive SELECT * FROM ledger WHERE recorded_date >= ? AND recorded_date < ?",
+          lowerBound(partition), partition.upperBound());
+      dropPartition(partition);
+    }
+
+    List<String> names() {
+      return partitions.stream().map(LedgerPartition::name).toList();
+    }
+
+    // 바로 앞 파티션의 상한 (첫 파티션이면 처음부터)
+    private LocalDate lowerBound(LedgerPartition partition) {
+      int index = partitions.indexOf(partition);
+      return index == 0 ? LocalDate.of(1, 1, 1) : partitions.get(index - 1).upperBound();
+    }
+  }
+}
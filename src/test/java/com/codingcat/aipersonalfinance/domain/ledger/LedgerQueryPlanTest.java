@@ -0,0 +1,408 @@
+package com.codingcat.aipersonalfinance.domain.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codingcat.aipersonalfinance.config.SqlCaptureInspector;
+import com.codingcat.aipersonalfinance.config.TestJpaConfig;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerCursor;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerSearchRequest;
+import com.codingcat.aipersonalfinance.domain.user.User;
+import com.codingcat.aipersonalfinance.domain.user.UserRepository;
+import com.codingcat.aipersonalfinance.module.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 거래 내역 쿼리 실행 계획 테스트
+ * H2 MySQL 모드에서 LedgerRepository / LedgerRepositoryImpl 의 모든 쿼리를 실행하고,
+ * Hibernate 가 만든 SELECT 문을 EXPLAIN 해서 전체 테이블 스캔이 없고 선언한 인덱스를 사용하는지 검증합니다.
+ * H2 는 외래키마다 user_idx 인덱스를 자동으로 만들어 선언한 인덱스가 없어도 스캔을 피하므로,
+ * 운영(V11, 파티션 테이블)과 같이 ledger 의 외래키를 지운 뒤 검증합니다.
+ */
+@DisplayName("거래 내역 쿼리 실행 계획 테스트")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestJpaConfig.class, QueryDslConfig.class})
+@TestPropertySource(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:ledger_plan;MODE=MySQL;DB_CLOSE_DELAY=-1",
+      "spring.jpa.hibernate.ddl-auto=create-drop",
+      "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+          + "com.codingcat.aipersonalfinance.config.SqlCaptureInspector"
+    })
+class LedgerQueryPlanTest {
+
+  private static final LocalDate START = LocalDate.of(2026, 1, 1);
+  private static final LocalDate END = LocalDate.of(2026, 1, 31);
+
+  // 목록/기간 조회, 커버링, 카테고리 인덱스 (Ledger @Table)
+  private static final String USER_DATE = "idx_ledger_user_date";
+  private static final String TYPE_COVER = "idx_ledger_user_type_date_cover";
+  private static final String CATEGORY_DATE = "idx_ledger_user_category_date";
+  private static final String TYPE_YEAR_MONTH = "idx_ledger_user_type_ym";
+  // 일간 집계 키와 연월 인덱스 (LedgerDailyAgg @Table)
+  private static final String AGG_KEY = "uk_ledger_daily_agg_key";
+  private static final String AGG_YEAR_MONTH = "idx_ledger_daily_agg_user_ym";
+
+  @Autowired private LedgerRepository ledgerRepository;
+  @Autowired private UserRepository userRepository;
+  @Autowired private EntityManager entityManager;
+
+  private User testUser;
+
+  @BeforeEach
+  void setUp() {
+    dropLedgerForeignKeys();
+    testUser = userRepository.save(User.createTestUser());
+  }
+
+  @Nested
+  @DisplayName("1. LedgerRepository 쿼리")
+  class DerivedQueryTests {
+
+    @Test
+    @DisplayName("1-1. findByUser")
+    void findByUser() {
+      assertUsesIndex(
+          "ledger",
+          () -> ledgerRepository.findByUser(testUser),
+          USER_DATE, TYPE_COVER, CATEGORY_DATE, TYPE_YEAR_MONTH);
+    }
+
+    @Test
+    @DisplayName("1-2. findByUserAndRecordedDateBetween")
+    void findByUserAndRecordedDateBetween() {
+      assertUsesIndex(
+          "ledger",
+          () -> ledgerRepository.findByUserAndRecordedDateBetween(testUser, START, END),
+          USER_DATE);
+    }
+
+    @Test
+    @DisplayName("1-3. findByUserAndCategory")
+    void findByUserAndCategory() {
+      assertUsesIndex(
+          "ledger",
+          () -> ledgerRepository.findByUserAndCategory(testUser, Category.FOOD),
+          CATEGORY_DATE);
+    }
+
+    @Test
+    @DisplayName("1-4. findByUserAndType")
+    void findByUserAndType() {
+      assertUsesIndex(
+          "ledger",
+          () -> ledgerRepository.findByUserAndType(testUser, LedgerType.EXPENSE),
+          TYPE_COVER, TYPE_YEAR_MONTH);
+    }
+
+    @Test
+    @DisplayName("1-5. findByUserAndCategoryAndRecordedDateBetween")
+    void findByUserAndCategoryAndRecordedDateBetween() {
+      assertUsesIndex(
+          "ledger",
+          () ->
+              ledgerRepository.findByUserAndCategoryAndRecordedDateBetween(
+                  testUser, Category.FOOD, START, END),
+          CATEGORY_DATE);
+    }
+
+    @Test
+    @DisplayName("1-6. findByUserOrderByRecordedDateDesc")
+    void findByUserOrderByRecordedDateDesc() {
+      assertUsesIndex(
+          "ledger", () -> ledgerRepository.findByUserOrderByRecordedDateDesc(testUser), USER_DATE);
+    }
+
+    @Test
+    @DisplayName("1-7. calculateTotalByCategory")
+    void calculateTotalByCategory() {
+      assertUsesIndex(
+          "ledger",
+          () -> ledgerRepository.calculateTotalByCategory(testUser, LedgerType.EXPENSE, START, END),
+          TYPE_COVER);
+    }
+
+    @Test
+    @DisplayName("1-8. calculateTotalByTypeAndDateRange")
+    void calculateTotalByTypeAndDateRange() {
+      assertUsesIndex(
+          "ledger",
+          () ->
+              ledgerRepository.calculateTotalByTypeAndDateRange(
+                  testUser, LedgerType.EXPENSE, START, END),
+          TYPE_COVER);
+    }
+  }
+
+  @Nested
+  @DisplayName("2. LedgerRepositoryImpl 쿼리")
+  class QueryDslTests {
+
+    @Test
+    @DisplayName("2-1. findByPageInLedger (목록 + count)")
+    void findByPageInLedger() {
+      LedgerSearchRequest condition =
+          LedgerSearchRequest.builder()
+              .type(LedgerType.EXPENSE)
+              .startDate(START)
+              .endDate(END)
+              .build();
+      assertUsesIndex(
+          "ledger",
+          () ->
+              ledgerRepository.findByPageInLedger(
+                  testUser,
+                  condition,
+                  PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "recordedDate"))),
+          USER_DATE, TYPE_COVER);
+    }
+
+    @Test
+    @DisplayName("2-2. findBySliceInLedger (커서)")
+    void findBySliceInLedger() {
+      LedgerCursor cursor = new LedgerCursor(END, 100L);
+      assertUsesIndex(
+          "ledger",
+          () ->
+              ledgerRepository.findBySliceInLedger(
+                  testUser, LedgerSearchRequest.builder().cursor("").build(), cursor, 11),
+          USER_DATE);
+    }
+
+    @Test
+    @DisplayName("2-3. getMonthlySummary")
+    void getMonthlySummary() {
+      assertUsesIndex(
+          "ledger_daily_agg",
+          () -> ledgerRepository.getMonthlySummary(testUser, START, END),
+          AGG_YEAR_MONTH, AGG_KEY);
+    }
+
+    @Test
+    @DisplayName("2-4. getCategorySummary")
+    void getCategorySummary() {
+      assertUsesIndex(
+          "ledger_daily_agg",
+          () -> ledgerRepository.getCategorySummary(testUser, START, END),
+          AGG_KEY);
+    }
+
+    @Test
+    @DisplayName("2-5. getPaymentMethodSummary")
+    void getPaymentMethodSummary() {
+      assertUsesIndex(
+          "ledger_daily_agg",
+          () -> ledgerRepository.getPaymentMethodSummary(testUser, START, END),
+          AGG_KEY);
+    }
+
+    @Test
+    @DisplayName("2-6. getTopCategories")
+    void getTopCategories() {
+      assertUsesIndex(
+          "ledger_daily_agg",
+          () -> ledgerRepository.getTopCategories(testUser, START, END, 5),
+          AGG_KEY);
+    }
+
+    @Test
+    @DisplayName("2-7. getMonthlySummary 는 YEAR()/MONTH() 없이 연월 컬럼으로 거르고 그룹핑한다")
+    void getMonthlySummaryGroupsOnYearMonth() {
+      assertGroupsOnYearMonth(() -> ledgerRepository.getMonthlySummary(testUser, START, END));
+    }
+
+    @Test
+    @DisplayName("2-8. 트렌드 조회 (전월~당월 getMonthlySummary)")
+    void getMonthlySummaryForTrend() {
+      // StatisticsService.getTrendAnalysis 와 같은 기간 (전월 1일 ~ 당월 말일)
+      assertGroupsOnYearMonth(
+          () -> ledgerRepository.getMonthlySummary(testUser, START.minusMonths(1), END));
+    }
+  }
+
+  @Nested
+  @DisplayName("3. 파티션 프루닝")
+  class PartitionPruningTests {
+
+    @Test
+    @DisplayName("3-1. findByUserAndRecordedDateBetween")
+    void findByUserAndRecordedDateBetween() {
+      assertPrunable(() -> ledgerRepository.findByUserAndRecordedDateBetween(testUser, START, END));
+    }
+
+    @Test
+    @DisplayName("3-2. calculateTotalByCategory")
+    void calculateTotalByCategory() {
+      assertPrunable(
+          () -> ledgerRepository.calculateTotalByCategory(testUser, LedgerType.EXPENSE, START, END));
+    }
+
+    @Test
+    @DisplayName("3-3. calculateTotalByTypeAndDateRange")
+    void calculateTotalByTypeAndDateRange() {
+      assertPrunable(
+          () ->
+              ledgerRepository.calculateTotalByTypeAndDateRange(
+                  testUser, LedgerType.EXPENSE, START, END));
+    }
+
+    @Test
+    @DisplayName("3-4. findByPageInLedger (기간 조건)")
+    void findByPageInLedger() {
+      LedgerSearchRequest condition =
+          LedgerSearchRequest.builder().startDate(START).endDate(END).build();
+      assertPrunable(
+          () -> ledgerRepository.findByPageInLedger(testUser, condition, PageRequest.of(0, 10)));
+    }
+
+    @Test
+    @DisplayName("3-5. findBySliceInLedger (커서)")
+    void findBySliceInLedger() {
+      LedgerCursor cursor = new LedgerCursor(END, 100L);
+      assertPrunable(
+          () ->
+              ledgerRepository.findBySliceInLedger(
+                  testUser, LedgerSearchRequest.builder().cursor("").build(), cursor, 11));
+    }
+  }
+
+  // === Helper Methods ===
+
+  /**
+   * 쿼리를 실행하면서 발생한 SELECT 문을 모두 EXPLAIN 하고, 테이블 스캔이 없는지 검증합니다.
+   * 대상 테이블을 읽는 SELECT 문은 주어진 인덱스 중 하나를 사용해야 합니다.
+   */
+  private void assertUsesIndex(String table, Runnable query, String... indexes) {
+    entityManager.flush();
+    entityManager.clear();
+    SqlCaptureInspector.clear();
+
+    query.run();
+
+    List<String> selects = SqlCaptureInspector.selects();
+    assertThat(selects).isNotEmpty();
+    boolean readTable = false;
+    for (String sql : selects) {
+      String plan = explain(sql);
+      assertThat(plan).as(sql).doesNotContain("tablescan");
+      if (sql.toLowerCase(Locale.ROOT).matches("(?s).*\\bfrom " + table + "\\b.*")) {
+        readTable = true;
+        assertThat(plan).as(sql).containsAnyOf(indexes);
+      }
+    }
+    assertThat(readTable).as(table + " 을 읽는 SELECT 문").isTrue();
+  }
+
+  /**
+   * 월별/트렌드 조회가 만든 ledger_daily_agg SELECT 문이 인덱스를 쓰고,
+   * 날짜 함수 없이 연월 컬럼으로 거르고 그룹핑하는지 검증합니다.
+   */
+  private void assertGroupsOnYearMonth(Runnable query) {
+    assertUsesIndex("ledger_daily_agg", query, AGG_YEAR_MONTH, AGG_KEY);
+
+    List<String> selects =
+        SqlCaptureInspector.selects().stream()
+            .map(sql -> sql.toLowerCase(Locale.ROOT))
+            .filter(sql -> sql.matches("(?s).*\\bfrom ledger_daily_agg\\b.*"))
+            .toList();
+    assertThat(selects).isNotEmpty();
+    for (String sql : selects) {
+      assertThat(sql)
+          .as(sql)
+          .containsPattern("\\.agg_year_month\\s+between\\s+\\?")
+          .containsPattern("group by \\w+\\.agg_year_month")
+          .doesNotContain("year(")
+          .doesNotContain("month(")
+          .doesNotContain("extract(");
+    }
+  }
+
+  /**
+   * 쿼리가 만든 ledger SELECT 문의 WHERE 절이 recorded_date 를 상수와 직접 비교하는지 검증합니다.
+   * MySQL 은 파티션 키를 함수로 감싸거나 다른 테이블 컬럼과 비교하면 파티션을 고르지 못하고 모두 읽습니다.
+   */
+  private void assertPrunable(Runnable query) {
+    entityManager.flush();
+    entityManager.clear();
+    SqlCaptureInspector.clear();
+
+    query.run();
+
+    List<String> selects =
+        SqlCaptureInspector.selects().stream()
+            .map(sql -> sql.toLowerCase(Locale.ROOT))
+            .filter(sql -> sql.matches("(?s).*\\bfrom ledger\\b.*"))
+            .toList();
+    assertThat(selects).isNotEmpty();
+    for (String sql : selects) {
+      String where = sql.substring(sql.indexOf(" where "));
+      assertThat(where)
+          .as(sql)
+          .containsPattern("\\.recorded_date\\s*(between|>=|<=|<|>)\\s*\\?")
+          .doesNotContainPattern("\\w+\\([^()]*recorded_date");
+    }
+  }
+
+  // H2 는 외래키마다 인덱스를 만들므로, 운영과 같이 외래키를 지워 선언한 인덱스만 남긴다
+  private void dropLedgerForeignKeys() {
+    entityManager
+        .unwrap(Session.class)
+        .doWork(
+            connection -> {
+              List<String> constraints = new ArrayList<>();
+              try (PreparedStatement statement =
+                      connection.prepareStatement(
+                          "SELECT CONSTRAINT_NAME FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS"
+                              + " WHERE UPPER(TABLE_NAME) = 'LEDGER' AND CONSTRAINT_TYPE = 'FOREIGN KEY'");
+                  ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                  constraints.add(resultSet.getString(1));
+                }
+              }
+              for (String constraint : constraints) {
+                try (Statement statement = connection.createStatement()) {
+                  statement.execute("ALTER TABLE ledger DROP CONSTRAINT \"" + constraint + "\"");
+                }
+              }
+            });
+  }
+
+  // 인덱스 선택은 바인딩 값과 무관하므로 파라미터는 NULL 로 채운다 (LIMIT/OFFSET 은 제거)
+  private String explain(String sql) {
+    String target = sql.replaceAll("(?i)\\s+(offset \\? rows|fetch first \\? rows only|limit \\?(\\s*,\\s*\\?)?|offset \\?)", "");
+    return entityManager
+        .unwrap(Session.class)
+        .doReturningWork(
+            connection -> {
+              try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + target)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                  statement.setObject(i, null);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                  resultSet.next();
+                  return resultSet.getString(1).toLowerCase(Locale.ROOT);
+                }
+              }
+            });
+  }
+}
@@ -3,11 +3,14 @@ package com.codingcat.aipersonalfinance.domain.ledger;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.codingcat.aipersonalfinance.domain.ledger.dto.CategorySummary;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerCursor;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerSearchRequest;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.MonthlySummary;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.PaymentMethodSummary;
 import com.codingcat.aipersonalfinance.domain.user.User;
 import com.codingcat.aipersonalfinance.domain.user.UserRepository;
 import com.codingcat.aipersonalfinance.module.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -25,7 +28,7 @@ import org.springframework.test.context.TestPropertySource;
  * QueryDSL을 사용한 통계 쿼리 테스트
  */
 @DataJpaTest
-@Import(QueryDslConfig.class)
+@Import({QueryDslConfig.class, LedgerDailyAggService.class})
 @TestPropertySource(properties = {
         "spring.jpa.hibernate.ddl-auto=create-drop"
 })
@@ -37,6 +40,12 @@ class LedgerRepositoryCustomTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private LedgerDailyAggService ledgerDailyAggService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private User testUser;
     private User otherUser;
 
@@ -321,6 +330,174 @@ class LedgerRepositoryCustomTest {
         }
     }
 
+    @Nested
+    @DisplayName("일간 집계 증분 갱신")
+    class LedgerDailyAggTest {
+
+        @Test
+        @DisplayName("수정으로 날짜/금액이 바뀌면 이전 집계에서 빠지고 새 집계에 더해진다")
+        void onLedgerChanged_MovesAmountOnUpdate() {
+            // Given
+            createLedger(testUser, LedgerType.EXPENSE, new BigDecimal("10000"),
+                    Category.FOOD, LocalDate.of(2026, 1, 10));
+            Ledger ledger = ledgerRepository.findByUser(testUser).get(0);
+            LedgerSnapshot before = LedgerSnapshot.of(ledger);
+
+            // When: 2월로 이동하면서 금액 변경
+            ledger.update(null, new BigDecimal("15000"), null, null, null, null,
+                    LocalDate.of(2026, 2, 5));
+            ledgerDailyAggService.onLedgerChanged(LedgerChangedEvent.updated(before, ledger));
+
+            // Then
+            List<CategorySummary> jan = ledgerRepository.getCategorySummary(
+                    testUser, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+            List<CategorySummary> feb = ledgerRepository.getCategorySummary(
+                    testUser, LocalDate.of(2026, 2, 1), LocalDate.of(2026, 2, 28));
+            assertThat(jan).isEmpty();
+            assertThat(feb).hasSize(1);
+            assertThat(feb.get(0).getTotalAmount()).isEqualByComparingTo(new BigDecimal("15000"));
+            assertThat(feb.get(0).getTransactionCount()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("삭제하면 집계에서 빠지고, 재구축 결과도 동일하다")
+        void onLedgerChanged_SubtractsOnDeleteAndRebuildMatches() {
+            // Given
+            createLedger(testUser, LedgerType.EXPENSE, new BigDecimal("10000"),
+                    Category.FOOD, LocalDate.of(2026, 1, 10));
+            createLedger(testUser, LedgerType.EXPENSE, new BigDecimal("5000"),
+                    Category.FOOD, LocalDate.of(2026, 1, 10));
+            Ledger ledger = ledgerRepository.findByUser(testUser).get(0);
+
+            // When
+            ledger.sDelete();
+            ledgerRepository.flush();
+            ledgerDailyAggService.onLedgerChanged(LedgerChangedEvent.deleted(ledger));
+            List<CategorySummary> incremental = ledgerRepository.getCategorySummary(
+                    testUser, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+            ledgerDailyAggService.rebuild(testUser.getIdx());
+            List<CategorySummary> rebuilt = ledgerRepository.getCategorySummary(
+                    testUser, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+
+            // Then
+            assertThat(incremental).hasSize(1);
+            assertThat(incremental.get(0).getTransactionCount()).isEqualTo(1L);
+            assertThat(rebuilt.get(0).getTotalAmount())
+                    .isEqualByComparingTo(incremental.get(0).getTotalAmount());
+            assertThat(rebuilt.get(0).getTransactionCount()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("같은 키의 첫 반영이 겹쳐도 집계 행을 중복 삽입하지 않고 누적한다")
+        void upsert_AccumulatesOnSameKey() {
+            // Given: 아직 집계 행이 없는 키
+            Ledger first = ledgerRepository.save(ledgerOf(new BigDecimal("10000")));
+            Ledger second = ledgerRepository.save(ledgerOf(new BigDecimal("5000")));
+            Ledger third = ledgerRepository.save(ledgerOf(new BigDecimal("3000")));
+
+            // When: 일괄 반영과 단건 반영이 같은 키에 차례로 들어온다
+            ledgerDailyAggService.onLedgerBatchCreated(new LedgerBatchCreatedEvent(
+                    testUser.getIdx(), List.of(LedgerSnapshot.of(first), LedgerSnapshot.of(second))));
+            ledgerDailyAggService.onLedgerChanged(LedgerChangedEvent.created(third));
+
+            // Then
+            List<CategorySummary> summaries = ledgerRepository.getCategorySummary(
+                    testUser, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+            assertThat(summaries).hasSize(1);
+            assertThat(summaries.get(0).getTotalAmount()).isEqualByComparingTo(new BigDecimal("18000"));
+            assertThat(summaries.get(0).getTransactionCount()).isEqualTo(3L);
+            assertThat(entityManager
+                    .createQuery("SELECT COUNT(a) FROM LedgerDailyAgg a WHERE a.userIdx = :userIdx",
+                            Long.class)
+                    .setParameter("userIdx", testUser.getIdx())
+                    .getSingleResult()).isEqualTo(1L);
+        }
+
+        private Ledger ledgerOf(BigDecimal amount) {
+            return Ledger.builder()
+                    .user(testUser)
+                    .type(LedgerType.EXPENSE)
+                    .amount(amount)
+                    .desc("Test Transaction")
+                    .category(Category.FOOD)
+                    .paymentMethod(PaymentMethod.CARD)
+                    .recordedDate(LocalDate.of(2026, 1, 10))
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("연월 컬럼 기반 월별 집계")
+    class RecordedYearMonthTest {
+
+        @Test
+        @DisplayName("저장과 수정 시 거래 연월 컬럼이 거래 날짜와 함께 갱신된다")
+        void recordedYearMonth_SyncedWithRecordedDate() {
+            // Given
+            createLedger(testUser, LedgerType.EXPENSE, new BigDecimal("10000"),
+                    Category.FOOD, LocalDate.of(2026, 1, 31));
+            Ledger ledger = ledgerRepository.findByUser(testUser).get(0);
+            assertThat(ledger.getRecordedYearMonth()).isEqualTo(202601);
+
+            // When
+            ledger.update(null, null, null, null, null, null, LocalDate.of(2026, 2, 1));
+            ledgerRepository.flush();
+
+            // Then
+            assertThat(ledger.getRecordedYearMonth()).isEqualTo(202602);
+        }
+    }
+
+    @Nested
+    @DisplayName("커서 페이징 조회")
+    class FindBySliceInLedgerTest {
+
+        @Test
+        @DisplayName("커서 이후의 거래만 (날짜, ID) 역순으로 조회한다")
+        void findBySliceInLedger_SeeksAfterCursor() {
+            // Given: 같은 날짜 2건 포함 4건
+            createLedger(testUser, LedgerType.EXPENSE, new BigDecimal("1000"),
+                    Category.FOOD, LocalDate.of(2026, 1, 10));
+            createLedger(testUser, LedgerType.EXPENSE, new BigDecimal("2000"),
+                    Category.FOOD, LocalDate.of(2026, 1, 20));
+            createLedger(testUser, LedgerType.EXPENSE, new BigDecimal("3000"),
+                    Category.FOOD, LocalDate.of(2026, 1, 20));
+            createLedger(testUser, LedgerType.EXPENSE, new BigDecimal("4000"),
+                    Category.FOOD, LocalDate.of(2026, 1, 30));
+            LedgerSearchRequest condition = LedgerSearchRequest.builder().cursor("").build();
+
+            // When: 첫 페이지 2건 조회 후 마지막 행을 커서로 다음 페이지 조회
+            List<Ledger> first = ledgerRepository.findBySliceInLedger(testUser, condition, null, 2);
+            LedgerCursor cursor = LedgerCursor.decode(LedgerCursor.from(first.get(1)).encode());
+            List<Ledger> second = ledgerRepository.findBySliceInLedger(testUser, condition, cursor, 2);
+
+            // Then: 중복/누락 없이 이어진다
+            assertThat(first).extracting(Ledger::getAmount)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactly(new BigDecimal("4000"), new BigDecimal("3000"));
+            assertThat(second).extracting(Ledger::getAmount)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactly(new BigDecimal("2000"), new BigDecimal("1000"));
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 데이터는 포함하지 않는다")
+        void findBySliceInLedger_FiltersByUser() {
+            // Given
+            createLedger(testUser, LedgerType.EXPENSE, new BigDecimal("1000"),
+                    Category.FOOD, LocalDate.of(2026, 1, 10));
+            createLedger(otherUser, LedgerType.EXPENSE, new BigDecimal("2000"),
+                    Category.FOOD, LocalDate.of(2026, 1, 10));
+
+            // When
+            List<Ledger> result = ledgerRepository.findBySliceInLedger(
+                    testUser, LedgerSearchRequest.builder().build(), null, 10);
+
+            // Then
+            assertThat(result).hasSize(1);
+        }
+    }
+
     // === Helper Methods ===
 
     private void createLedger(User user, LedgerType type, BigDecimal amount,
@@ -341,6 +518,7 @@ class LedgerRepositoryCustomTest {
                 .recordedDate(recordedDate)
                 .isAutoGenerated(false)
                 .build();
-        ledgerRepository.save(ledger);
+        // 통계는 일간 집계를 읽으므로 서비스와 동일하게 변경 이벤트를 반영한다
+        ledgerDailyAggService.onLedgerChanged(LedgerChangedEvent.created(ledgerRepository.save(ledger)));
     }
 }
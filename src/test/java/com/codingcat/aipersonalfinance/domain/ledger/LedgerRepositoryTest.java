@@ -3,6 +3,7 @@ package com.codingcat.aipersonalfinance.domain.ledger;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.codingcat.aipersonalfinance.config.TestJpaConfig;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerExportRow;
 import com.codingcat.aipersonalfinance.domain.user.User;
 import com.codingcat.aipersonalfinance.domain.user.UserRepository;
 import com.codingcat.aipersonalfinance.module.config.QueryDslConfig;
@@ -11,6 +12,8 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -497,6 +500,43 @@ class LedgerRepositoryTest {
     }
   }
 
+  @Nested
+  @DisplayName("9. 내보내기 스트리밍 테스트")
+  class ExportStreamTests {
+
+    @Test
+    @DisplayName("9-1. 기간 내 본인 거래만 (날짜, ID) 순으로 스트리밍하고 삭제된 거래는 제외한다")
+    void streamExportRows() {
+      // Given: 본인 3건(1건 삭제), 다른 사용자 1건
+      ledgerRepository.save(
+          createExpenseWithDate(testUser, "둘째", new BigDecimal("2000"), LocalDate.of(2026, 1, 20)));
+      ledgerRepository.save(
+          createExpenseWithDate(testUser, "첫째", new BigDecimal("1000"), LocalDate.of(2026, 1, 10)));
+      Ledger deleted =
+          ledgerRepository.save(
+              createExpenseWithDate(
+                  testUser, "삭제됨", new BigDecimal("3000"), LocalDate.of(2026, 1, 15)));
+      deleted.sDelete();
+      ledgerRepository.save(
+          createExpenseWithDate(otherUser, "남의 것", new BigDecimal("4000"), LocalDate.of(2026, 1, 12)));
+      entityManager.flush();
+      entityManager.clear();
+
+      // When
+      List<LedgerExportRow> rows;
+      try (Stream<LedgerExportRow> stream =
+          ledgerRepository.streamExportRows(
+              testUser.getIdx(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31))) {
+        rows = stream.toList();
+      }
+
+      // Then: 엔티티가 영속성 컨텍스트에 올라오지 않는다
+      assertThat(rows).extracting(LedgerExportRow::desc).containsExactly("첫째", "둘째");
+      assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount())
+          .isZero();
+    }
+  }
+
   // ===== Helper Methods =====
 
   private Ledger createLedger(User user, String desc, BigDecimal amount) {
@@ -0,0 +1,117 @@
+package com.codingcat.aipersonalfinance.domain.recurring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RecurringDueHeap 테스트
+ */
+@DisplayName("RecurringDueHeap 테스트")
+class RecurringDueHeapTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2024, 3, 1);
+
+  @Nested
+  @DisplayName("1. 꺼내기")
+  class PollTests {
+
+    @Test
+    @DisplayName("1-1. 기준일 이전 정기 거래만 실행일, ID 순서로 꺼낸다")
+    void pollsInOrder() {
+      RecurringDueHeap heap = new RecurringDueHeap();
+      heap.put(3L, TODAY);
+      heap.put(1L, TODAY);
+      heap.put(2L, TODAY.minusDays(2));
+      heap.put(4L, TODAY.plusDays(1));
+
+      assertThat(heap.pollDue(TODAY, 10)).containsExactly(2L, 1L, 3L);
+      assertThat(heap.size()).isEqualTo(1);
+      assertThat(heap.peekNextDate()).isEqualTo(TODAY.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("1-2. limit 개까지만 꺼내고 나머지는 남긴다")
+    void respectsLimit() {
+      RecurringDueHeap heap = new RecurringDueHeap();
+      for (long idx = 1; idx <= 5; idx++) {
+        heap.put(idx, TODAY);
+      }
+
+      assertThat(heap.pollDue(TODAY, 2)).containsExactly(1L, 2L);
+      assertThat(heap.pollDue(TODAY, 2)).containsExactly(3L, 4L);
+      assertThat(heap.pollDue(TODAY, 2)).containsExactly(5L);
+      assertThat(heap.pollDue(TODAY, 2)).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("2. 변경")
+  class ChangeTests {
+
+    @Test
+    @DisplayName("2-1. 실행일을 바꾸면 이전 실행일로는 꺼내지 않는다")
+    void rescheduleSkipsStaleEntry() {
+      RecurringDueHeap heap = new RecurringDueHeap();
+      heap.put(1L, TODAY);
+      heap.put(1L, TODAY.plusMonths(1));
+
+      assertThat(heap.pollDue(TODAY, 10)).isEmpty();
+      assertThat(heap.nextDateOf(1L)).isEqualTo(TODAY.plusMonths(1));
+      assertThat(heap.pollDue(TODAY.plusMonths(1), 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("2-2. 제외한 정기 거래는 꺼내지 않는다")
+    void removedIsSkipped() {
+      RecurringDueHeap heap = new RecurringDueHeap();
+      heap.put(1L, TODAY);
+      heap.put(2L, TODAY);
+
+      heap.remove(1L);
+
+      assertThat(heap.nextDateOf(1L)).isNull();
+      assertThat(heap.pollDue(TODAY, 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("2-3. 지연 삭제된 원소가 쌓이면 힙을 다시 만들어 살아 있는 원소의 두 배를 넘지 않는다")
+    void compactsStaleEntries() {
+      RecurringDueHeap heap = new RecurringDueHeap();
+      for (long idx = 1; idx <= 100; idx++) {
+        heap.put(idx, TODAY);
+      }
+      for (int round = 1; round <= 10; round++) {
+        for (long idx = 1; idx <= 100; idx++) {
+          heap.put(idx, TODAY.plusDays(round));
+        }
+      }
+
+      assertThat(heap.size()).isEqualTo(100);
+      assertThat(heap.heapEntries()).isLessThanOrEqualTo(200);
+      assertThat(heap.pollDue(TODAY.plusDays(9), 1000)).isEmpty();
+      assertThat(heap.pollDue(TODAY.plusDays(10), 1000)).hasSize(100);
+    }
+  }
+
+  @Nested
+  @DisplayName("3. 메모리")
+  class MemoryTests {
+
+    @Test
+    @DisplayName("3-1. 정기 거래 100만 건을 40MB 이내로 보관한다")
+    void millionSchedulesFitInMemoryBudget() {
+      RecurringDueHeap heap = new RecurringDueHeap(1_000_000);
+      for (long idx = 1; idx <= 1_000_000; idx++) {
+        heap.put(idx, TODAY.plusDays(idx % 365));
+      }
+
+      assertThat(heap.size()).isEqualTo(1_000_000);
+      assertThat(heap.memoryBytes()).isLessThan(40L * 1024 * 1024);
+      assertThat(heap.pollDue(TODAY, 10)).hasSize(10);
+    }
+  }
+}
@@ -0,0 +1,223 @@
+package com.codingcat.aipersonalfinance.domain.recurring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codingcat.aipersonalfinance.config.TestJpaConfig;
+import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.domain.ledger.Ledger;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
+import com.codingcat.aipersonalfinance.domain.ledger.PaymentMethod;
+import com.codingcat.aipersonalfinance.domain.recurring.RecurringTransactionExecutor.RunResult;
+import com.codingcat.aipersonalfinance.domain.user.User;
+import com.codingcat.aipersonalfinance.domain.user.UserRepository;
+import com.codingcat.aipersonalfinance.module.config.QueryDslConfig;
+import com.codingcat.aipersonalfinance.module.shard.ShardRouter;
+import com.codingcat.aipersonalfinance.module.shard.ShardingProperties;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * RecurringTransactionExecutor 테스트
+ * 페이지 크기를 2 로 줄여서 여러 페이지에 걸친 실행을 검증합니다.
+ */
+@DisplayName("RecurringTransactionExecutor 테스트")
+@DataJpaTest
+@Import({
+  TestJpaConfig.class,
+  QueryDslConfig.class,
+  RecurringTransactionExecutor.class,
+  RecurringDueIndex.class,
+  ShardRouter.class,
+  ShardingProperties.class
+})
+@TestPropertySource(properties = "recurring.execution.page-size=2")
+class RecurringTransactionExecutorTest {
+
+  @Autowired private RecurringTransactionExecutor executor;
+  @Autowired private RecurringDueIndex dueIndex;
+  @Autowired private RecurringTransactionRepository recurringTransactionRepository;
+  @Autowired private LedgerRepository ledgerRepository;
+  @Autowired private UserRepository userRepository;
+  @Autowired private EntityManager entityManager;
+
+  private User testUser;
+
+  @BeforeEach
+  void setUp() {
+    testUser = userRepository.save(User.createTestUser());
+  }
+
+  @Nested
+  @DisplayName("1. 밀린 회차 실행")
+  class CatchUpTests {
+
+    @Test
+    @DisplayName("1-1. 멈춰 있던 기간의 회차를 모두 만들고, 말일 기준 월 반복은 짧은 달의 말일로 맞춘다")
+    void catchUpMonthly() {
+      // Given: 매월 31일 실행, 1월 31일부터 실행되지 않음
+      RecurringTransaction rent =
+          save(RecurrencePattern.MONTHLY, LocalDate.of(2024, 1, 31), null, 31);
+
+      // When: 4월 15일에 실행
+      RunResult result = execute(LocalDate.of(2024, 4, 15));
+
+      // Then: 1/31, 2/29, 3/31 세 회차가 생성되고 다음 실행일은 4/30
+      assertThat(result.ledgersGenerated()).isEqualTo(3);
+      assertThat(generatedDates(rent))
+          .containsExactly(
+              LocalDate.of(2024, 1, 31), LocalDate.of(2024, 2, 29), LocalDate.of(2024, 3, 31));
+      RecurringTransaction reloaded = reload(rent);
+      assertThat(reloaded.getLastExecutionDate()).isEqualTo(LocalDate.of(2024, 3, 31));
+      assertThat(reloaded.getNextExecutionDate()).isEqualTo(LocalDate.of(2024, 4, 30));
+    }
+
+    @Test
+    @DisplayName("1-2. 종료일이 지났어도 종료일 이전의 밀린 회차까지는 만든다")
+    void catchUpUntilEndDate() {
+      // Given: 3/1 ~ 3/2 매일
+      RecurringTransaction daily =
+          save(RecurrencePattern.DAILY, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2), null);
+
+      // When
+      execute(LocalDate.of(2024, 3, 10));
+
+      // Then
+      assertThat(generatedDates(daily))
+          .containsExactly(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2));
+      assertThat(reload(daily).isDueOn(LocalDate.of(2024, 3, 10))).isFalse();
+    }
+
+    @Test
+    @DisplayName("1-3. 여러 페이지에 걸친 정기 거래를 모두 실행한다")
+    void executeAcrossPages() {
+      // Given: 페이지 크기 2, 정기 거래 5건
+      for (int i = 0; i < 5; i++) {
+        save(RecurrencePattern.WEEKLY, LocalDate.of(2024, 3, 1), null, null);
+      }
+
+      // When
+      RunResult result = execute(LocalDate.of(2024, 3, 1));
+
+      // Then
+      assertThat(result.recurringProcessed()).isEqualTo(5);
+      assertThat(result.ledgersGenerated()).isEqualTo(5);
+      assertThat(result.failedPages()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("2. 중복 방지")
+  class IdempotencyTests {
+
+    @Test
+    @DisplayName("2-1. 같은 날 다시 실행해도 거래 내역을 다시 만들지 않는다")
+    void rerunSameDay() {
+      // Given
+      RecurringTransaction daily =
+          save(RecurrencePattern.DAILY, LocalDate.of(2024, 3, 1), null, null);
+      LocalDate today = LocalDate.of(2024, 3, 3);
+      execute(today);
+
+      // When
+      RunResult rerun = execute(today);
+
+      // Then
+      assertThat(rerun.recurringProcessed()).isZero();
+      assertThat(generatedDates(daily)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("2-2. 이미 생성된 회차는 (삭제되었어도) 다시 만들지 않고 다음 실행일만 옮긴다")
+    void skipGeneratedOccurrence() {
+      // Given: 3/2 회차가 이미 생성된 뒤 사용자가 삭제함
+      RecurringTransaction daily =
+          save(RecurrencePattern.DAILY, LocalDate.of(2024, 3, 1), null, null);
+      Ledger deleted = daily.createLedgerFromRecurring(LocalDate.of(2024, 3, 2));
+      deleted.sDelete();
+      ledgerRepository.save(deleted);
+      entityManager.flush();
+
+      // When
+      RunResult result = execute(LocalDate.of(2024, 3, 3));
+
+      // Then: 3/1, 3/3 만 새로 생성
+      assertThat(result.ledgersGenerated()).isEqualTo(2);
+      assertThat(generatedDates(daily))
+          .containsExactly(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 3));
+      assertThat(reload(daily).getNextExecutionDate()).isEqualTo(LocalDate.of(2024, 3, 4));
+    }
+
+    @Test
+    @DisplayName("2-3. 비활성화된 정기 거래는 실행하지 않는다")
+    void skipInactive() {
+      // Given
+      RecurringTransaction daily =
+          save(RecurrencePattern.DAILY, LocalDate.of(2024, 3, 1), null, null);
+      daily.deactivate();
+      recurringTransactionRepository.save(daily);
+
+      // When
+      RunResult result = execute(LocalDate.of(2024, 3, 3));
+
+      // Then
+      assertThat(result.recurringProcessed()).isZero();
+      assertThat(generatedDates(daily)).isEmpty();
+    }
+  }
+
+  // ===== Helper Methods =====
+
+  // 테스트 트랜잭션은 커밋되지 않아 대기열의 커밋 후 반영이 일어나지 않으므로, 실행 전에 DB 에서 다시 읽는다
+  private RunResult execute(LocalDate today) {
+    dueIndex.reload();
+    return executor.execute(today);
+  }
+
+  private RecurringTransaction save(
+      RecurrencePattern pattern, LocalDate startDate, LocalDate endDate, Integer dayOfMonth) {
+    return recurringTransactionRepository.save(
+        RecurringTransaction.builder()
+            .user(testUser)
+            .name("정기 지출")
+            .type(LedgerType.EXPENSE)
+            .amount(new BigDecimal("10000"))
+            .description("정기 지출")
+            .category(Category.ETC)
+            .paymentMethod(PaymentMethod.CARD)
+            .recurrencePattern(pattern)
+            .startDate(startDate)
+            .endDate(endDate)
+            .nextExecutionDate(startDate)
+            .executionDayOfMonth(dayOfMonth)
+            .build());
+  }
+
+  private RecurringTransaction reload(RecurringTransaction recurring) {
+    entityManager.clear();
+    return recurringTransactionRepository.findById(recurring.getIdx()).orElseThrow();
+  }
+
+  // 삭제되지 않은 생성 거래 내역의 날짜 (날짜순)
+  private List<LocalDate> generatedDates(RecurringTransaction recurring) {
+    entityManager.flush();
+    entityManager.clear();
+    return entityManager
+        .createQuery(
+            "SELECT l.recordedDate FROM Ledger l "
+                + "WHERE l.recurringTransaction.idx = :idx ORDER BY l.recordedDate",
+            LocalDate.class)
+        .setParameter("idx", recurring.getIdx())
+        .getResultList();
+  }
+}
@@ -0,0 +1,153 @@
+package com.codingcat.aipersonalfinance.domain.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerSnapshot;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
+import com.codingcat.aipersonalfinance.domain.ledger.PaymentMethod;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.CategorySummary;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.MonthlySummary;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LedgerColumnarSnapshot 테스트
+ */
+@DisplayName("LedgerColumnarSnapshot 테스트")
+class LedgerColumnarSnapshotTest {
+
+  private static final LocalDate JAN_1 = LocalDate.of(2026, 1, 1);
+
+  @Nested
+  @DisplayName("1. 기간 누적")
+  class ScanTests {
+
+    @Test
+    @DisplayName("1-1. 시작일, 종료일을 포함한 기간의 거래만 누적한다")
+    void scansInclusiveRange() {
+      LedgerColumnarSnapshot snapshot = new LedgerColumnarSnapshot();
+      snapshot.upsert(expense(1L, JAN_1.minusDays(1), "100"));
+      snapshot.upsert(expense(2L, JAN_1, "200"));
+      snapshot.upsert(expense(3L, JAN_1.plusDays(30), "300.50"));
+      snapshot.upsert(expense(4L, JAN_1.plusDays(31), "400"));
+
+      List<MonthlySummary> monthly = scan(snapshot, JAN_1, JAN_1.plusDays(30)).monthlySummaries();
+
+      assertThat(monthly).hasSize(1);
+      assertThat(monthly.get(0).getTotalExpense()).isEqualByComparingTo("500.50");
+    }
+
+    @Test
+    @DisplayName("1-2. 같은 날짜의 거래는 모두 누적하고 건수를 센다")
+    void countsSameDay() {
+      LedgerColumnarSnapshot snapshot = new LedgerColumnarSnapshot();
+      for (long idx = 1; idx <= 3; idx++) {
+        snapshot.upsert(expense(idx, JAN_1, "1000"));
+      }
+
+      List<CategorySummary> categories = scan(snapshot, JAN_1, JAN_1).categorySummaries();
+
+      assertThat(categories).hasSize(1);
+      assertThat(categories.get(0).getTransactionCount()).isEqualTo(3L);
+      assertThat(categories.get(0).getTotalAmount()).isEqualByComparingTo("3000");
+    }
+  }
+
+  @Nested
+  @DisplayName("2. 변경 반영")
+  class PatchTests {
+
+    @Test
+    @DisplayName("2-1. 같은 거래를 다시 넣으면 값만 바뀐다")
+    void upsertIsIdempotent() {
+      LedgerColumnarSnapshot snapshot = new LedgerColumnarSnapshot();
+      snapshot.upsert(expense(1L, JAN_1, "1000"));
+      snapshot.upsert(expense(1L, JAN_1, "2500"));
+
+      assertThat(snapshot.size()).isEqualTo(1);
+      assertThat(scan(snapshot, JAN_1, JAN_1).monthlySummaries().get(0).getTotalExpense())
+          .isEqualByComparingTo("2500");
+    }
+
+    @Test
+    @DisplayName("2-2. 날짜 변경은 이전 날짜에서 빼고 새 날짜에 넣는다")
+    void moveDate() {
+      LedgerColumnarSnapshot snapshot = new LedgerColumnarSnapshot();
+      snapshot.upsert(expense(1L, JAN_1, "1000"));
+      snapshot.upsert(expense(2L, JAN_1.plusDays(5), "2000"));
+
+      snapshot.remove(expense(1L, JAN_1, "1000"));
+      snapshot.upsert(expense(1L, JAN_1.plusDays(10), "1000"));
+      // 같은 변경을 다시 적용해도 결과는 같다
+      snapshot.remove(expense(1L, JAN_1, "1000"));
+      snapshot.upsert(expense(1L, JAN_1.plusDays(10), "1000"));
+
+      assertThat(snapshot.size()).isEqualTo(2);
+      assertThat(scan(snapshot, JAN_1, JAN_1.plusDays(4)).monthlySummaries()).isEmpty();
+      assertThat(scan(snapshot, JAN_1.plusDays(10), JAN_1.plusDays(10)).monthlySummaries())
+          .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("2-3. 일괄 추가는 기존 거래와 날짜 순서로 병합하고 중복은 바꾼다")
+    void mergeBatch() {
+      LedgerColumnarSnapshot snapshot = new LedgerColumnarSnapshot();
+      for (long idx = 1; idx <= 40; idx += 2) {
+        snapshot.upsert(expense(idx, JAN_1.plusDays(idx % 28), "100"));
+      }
+      List<LedgerSnapshot> batch = new ArrayList<>();
+      for (long idx = 40; idx >= 1; idx--) {
+        batch.add(expense(idx, JAN_1.plusDays(idx % 28), "100"));
+      }
+
+      snapshot.upsertAll(batch);
+
+      assertThat(snapshot.size()).isEqualTo(40);
+      assertThat(scan(snapshot, JAN_1, JAN_1.plusDays(30)).categorySummaries().get(0))
+          .satisfies(
+              summary -> {
+                assertThat(summary.getTransactionCount()).isEqualTo(40L);
+                assertThat(summary.getTotalAmount()).isEqualByComparingTo("4000");
+              });
+    }
+  }
+
+  @Nested
+  @DisplayName("3. 메모리")
+  class MemoryTests {
+
+    @Test
+    @DisplayName("3-1. 거래 100만 건은 정리 후 한 건당 23바이트를 사용한다")
+    void compactAfterLoad() {
+      LedgerColumnarSnapshot snapshot = new LedgerColumnarSnapshot();
+      for (long idx = 1; idx <= 1_000_000; idx++) {
+        snapshot.upsert(expense(idx, JAN_1.plusDays(idx / 1000), "1000"));
+      }
+      snapshot.trimToSize();
+
+      assertThat(snapshot.memoryBytes())
+          .isEqualTo(1_000_000L * LedgerColumnarSnapshot.BYTES_PER_ROW);
+    }
+  }
+
+  // ===== Helper Methods =====
+
+  private static StatisticsAccumulator scan(
+      LedgerColumnarSnapshot snapshot, LocalDate startDate, LocalDate endDate) {
+    StatisticsAccumulator accumulator = new StatisticsAccumulator(startDate, endDate);
+    snapshot.scan(startDate, endDate, accumulator);
+    return accumulator;
+  }
+
+  private static LedgerSnapshot expense(Long idx, LocalDate recordedDate, String amount) {
+    return new LedgerSnapshot(
+        idx, 1L, LedgerType.EXPENSE, Category.FOOD, PaymentMethod.CARD, recordedDate,
+        new BigDecimal(amount));
+  }
+}
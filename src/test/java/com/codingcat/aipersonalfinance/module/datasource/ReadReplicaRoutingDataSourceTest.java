@@ -0,0 +1,310 @@
+package com.codingcat.aipersonalfinance.module.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codingcat.aipersonalfinance.module.config.DataSourceConfig;
+import com.codingcat.aipersonalfinance.module.model.ServiceType;
+import com.codingcat.aipersonalfinance.module.security.AuthDto;
+import com.codingcat.aipersonalfinance.module.security.UserPrincipal;
+import jakarta.servlet.http.Cookie;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ReadReplicaRoutingDataSource 테스트
+ * 서로 다른 H2 데이터베이스를 원본과 복제본으로 두고, 각 DB 의 node 테이블 값으로 어느 쪽에서 읽었는지 확인합니다.
+ * 실제 설정과 같이 JPA 트랜잭션 매니저와 지연 연결 프록시를 거칩니다.
+ */
+@DisplayName("ReadReplicaRoutingDataSource 테스트")
+class ReadReplicaRoutingDataSourceTest {
+
+  private static final String PRIMARY_URL = dbUrl("routing_primary");
+  private static final String REPLICA_A_URL = dbUrl("routing_replica_a");
+  private static final String REPLICA_B_URL = dbUrl("routing_replica_b");
+  // 열려 있지 않은 포트 (연결 실패)
+  private static final String DOWN_URL = "jdbc:h2:tcp://localhost:1/routing_down";
+
+  private ConfigurableApplicationContext context;
+  // 같은 DB 를 쓰는 두 번째 서버
+  private ConfigurableApplicationContext otherContext;
+
+  @BeforeAll
+  static void createDatabases() {
+    createNode(PRIMARY_URL, "primary");
+    createNode(REPLICA_A_URL, "replica-a");
+    createNode(REPLICA_B_URL, "replica-b");
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+    if (context != null) {
+      context.close();
+    }
+    if (otherContext != null) {
+      otherContext.close();
+    }
+  }
+
+  @Nested
+  @DisplayName("1. 라우팅")
+  class RoutingTests {
+
+    @Test
+    @DisplayName("1-1. 읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 원본에서 실행한다")
+    void routesByReadOnly() {
+      context = start("PT5S", REPLICA_A_URL);
+
+      assertThat(readNode(true)).isEqualTo("replica-a");
+      assertThat(readNode(false)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("1-2. 복제본이 여러 개면 돌아가며 사용한다")
+    void roundRobin() {
+      context = start("PT5S", REPLICA_A_URL, REPLICA_B_URL);
+
+      List<String> nodes = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        nodes.add(readNode(true));
+      }
+
+      assertThat(nodes).containsExactlyInAnyOrder("replica-a", "replica-b", "replica-a", "replica-b");
+      assertThat(nodes.get(0)).isNotEqualTo(nodes.get(1));
+    }
+
+    @Test
+    @DisplayName("1-3. 계정을 지정한 연결은 원본에 위임한다")
+    void credentialConnectionUsesPrimary() throws Exception {
+      ReadReplicaRoutingDataSource routing =
+          new ReadReplicaRoutingDataSource(
+              new DriverManagerDataSource(PRIMARY_URL),
+              List.of(new DriverManagerDataSource(REPLICA_A_URL, "sa", "")),
+              Duration.ofSeconds(5), Duration.ofSeconds(1), Clock.systemUTC());
+
+      try (Connection connection = routing.getConnection("sa", "");
+          Statement statement = connection.createStatement();
+          ResultSet resultSet = statement.executeQuery("SELECT name FROM node")) {
+        resultSet.next();
+        assertThat(resultSet.getString(1)).isEqualTo("primary");
+      }
+      assertThat(routing.stats().primaryConnections()).isEqualTo(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("2. read-your-writes")
+  class ReadYourWritesTests {
+
+    @Test
+    @DisplayName("2-1. 쓰기를 커밋한 사용자는 구간 동안 원본에서 읽고, 다른 사용자는 복제본에서 읽는다")
+    void ownWritesFromPrimary() throws InterruptedException {
+      context = start("PT0.5S", REPLICA_A_URL);
+      loginAs(1L);
+
+      transaction(false).executeWithoutResult(
+          status -> jdbcTemplate().update("UPDATE node SET name = name"));
+
+      assertThat(readNode(true)).isEqualTo("primary");
+      loginAs(2L);
+      assertThat(readNode(true)).isEqualTo("replica-a");
+
+      // 구간이 지나면 다시 복제본
+      loginAs(1L);
+      Thread.sleep(600);
+      assertThat(readNode(true)).isEqualTo("replica-a");
+    }
+
+    @Test
+    @DisplayName("2-2. 롤백된 쓰기는 구간을 시작하지 않는다")
+    void rollbackDoesNotPin() {
+      context = start("PT5S", REPLICA_A_URL);
+      loginAs(1L);
+
+      transaction(false).executeWithoutResult(
+          status -> {
+            jdbcTemplate().update("UPDATE node SET name = name");
+            status.setRollbackOnly();
+          });
+
+      assertThat(readNode(true)).isEqualTo("replica-a");
+    }
+
+    @Test
+    @DisplayName("2-3. 다른 서버로 간 다음 요청도 클라이언트가 돌려준 쓰기 시각으로 원본에서 읽는다")
+    void ownWritesAcrossServers() throws Exception {
+      context = start("PT5S", REPLICA_A_URL);
+      otherContext = start("PT5S", REPLICA_A_URL);
+      loginAs(1L);
+
+      // 첫 번째 서버에서 쓰기
+      MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+      context.getBean(ReadYourWritesFilter.class).doFilter(
+          new MockHttpServletRequest(), writeResponse,
+          (request, response) -> transaction(context, false).executeWithoutResult(
+              status -> jdbcTemplate(context).update("UPDATE node SET name = name")));
+      String lastWriteAt = writeResponse.getHeader(ReadYourWritesFilter.HEADER);
+      assertThat(lastWriteAt).isNotNull();
+      assertThat(writeResponse.getCookie(ReadYourWritesFilter.COOKIE).getValue())
+          .isEqualTo(lastWriteAt);
+
+      // 두 번째 서버: 쿠키를 돌려준 요청은 원본, 돌려주지 않은 요청은 복제본
+      ReadYourWritesFilter otherFilter = otherContext.getBean(ReadYourWritesFilter.class);
+      MockHttpServletRequest withCookie = new MockHttpServletRequest();
+      withCookie.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, lastWriteAt));
+      List<String> nodes = new ArrayList<>();
+      otherFilter.doFilter(withCookie, new MockHttpServletResponse(),
+          (request, response) -> nodes.add(readNode(otherContext, true)));
+      otherFilter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+          (request, response) -> nodes.add(readNode(otherContext, true)));
+
+      assertThat(nodes).containsExactly("primary", "replica-a");
+    }
+  }
+
+  @Nested
+  @DisplayName("3. 장애 처리")
+  class FailoverTests {
+
+    @Test
+    @DisplayName("3-1. 연결되지 않는 복제본은 제외하고 다른 복제본에서 읽는다")
+    void skipsDownReplica() {
+      context = start("PT5S", DOWN_URL, REPLICA_A_URL);
+
+      for (int i = 0; i < 3; i++) {
+        assertThat(readNode(true)).isEqualTo("replica-a");
+      }
+
+      ReadReplicaRoutingDataSource.Stats stats = routingDataSource().stats();
+      assertThat(stats.failovers()).isEqualTo(1);
+      assertThat(stats.healthyReplicas()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("3-2. 사용할 복제본이 없으면 원본에서 읽고, 상태 확인에서도 제외 상태를 유지한다")
+    void fallbackToPrimary() {
+      context = start("PT5S", DOWN_URL);
+
+      assertThat(readNode(true)).isEqualTo("primary");
+      routingDataSource().checkHealth();
+
+      assertThat(readNode(true)).isEqualTo("primary");
+      assertThat(routingDataSource().stats().healthyReplicas()).isZero();
+      assertThat(routingDataSource().stats().failovers()).isEqualTo(1);
+    }
+  }
+
+  // ===== Helper Methods =====
+
+  private static String dbUrl(String name) {
+    return "jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+  }
+
+  private static void createNode(String url, String name) {
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+    jdbcTemplate.update("DELETE FROM node");
+    jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+  }
+
+  private static ConfigurableApplicationContext start(
+      String readYourWritesWindow, String... replicaUrls) {
+    List<String> args = new ArrayList<>(List.of(
+        "--spring.datasource.url=" + PRIMARY_URL,
+        "--spring.datasource.hikari.connection-timeout=250",
+        "--spring.jpa.hibernate.ddl-auto=none",
+        "--spring.jpa.show-sql=false",
+        "--datasource.routing.enabled=true",
+        "--datasource.routing.read-your-writes-window=" + readYourWritesWindow));
+    for (int i = 0; i < replicaUrls.length; i++) {
+      args.add("--datasource.routing.replicas[" + i + "].url=" + replicaUrls[i]);
+    }
+    return new SpringApplicationBuilder(NodeConfig.class)
+        .web(WebApplicationType.NONE)
+        .run(args.toArray(String[]::new));
+  }
+
+  private String readNode(boolean readOnly) {
+    return readNode(context, readOnly);
+  }
+
+  private static String readNode(ConfigurableApplicationContext context, boolean readOnly) {
+    return transaction(context, readOnly).execute(
+        status -> jdbcTemplate(context).queryForObject("SELECT name FROM node", String.class));
+  }
+
+  private TransactionTemplate transaction(boolean readOnly) {
+    return transaction(context, readOnly);
+  }
+
+  private static TransactionTemplate transaction(
+      ConfigurableApplicationContext context, boolean readOnly) {
+    TransactionTemplate template =
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    template.setReadOnly(readOnly);
+    return template;
+  }
+
+  private JdbcTemplate jdbcTemplate() {
+    return jdbcTemplate(context);
+  }
+
+  private static JdbcTemplate jdbcTemplate(ConfigurableApplicationContext context) {
+    return context.getBean(JdbcTemplate.class);
+  }
+
+  private ReadReplicaRoutingDataSource routingDataSource() {
+    return context.getBean(ReadReplicaRoutingDataSource.class);
+  }
+
+  private static void loginAs(Long userIdx) {
+    AuthDto authDto =
+        AuthDto.builder().userIdx(userIdx).email("user" + userIdx + "@test.com")
+            .serviceType(ServiceType.USER).build();
+    UserPrincipal principal = new UserPrincipal(authDto, "user");
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+  }
+
+  /**
+   * 라우팅 DataSource 와 JPA 트랜잭션 매니저만 올리는 최소 구성
+   * 다른 테스트의 컴포넌트 스캔에 잡히지 않도록 @Configuration 을 붙이지 않습니다.
+   */
+  @ImportAutoConfiguration({
+    ConfigurationPropertiesAutoConfiguration.class,
+    DataSourceAutoConfiguration.class,
+    JdbcTemplateAutoConfiguration.class,
+    HibernateJpaAutoConfiguration.class,
+    TransactionAutoConfiguration.class
+  })
+  @Import({DataSourceConfig.class, DataSourceRoutingProperties.class})
+  static class NodeConfig {}
+}
@@ -0,0 +1,253 @@
+package com.codingcat.aipersonalfinance.module.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JobLockService 테스트
+ * 하나의 H2 데이터베이스를 공유하는 두 애플리케이션 컨텍스트를 두 서버로 보고 임대 동작을 검증합니다.
+ */
+@DisplayName("JobLockService 테스트")
+class JobLockServiceTest {
+
+  private static final String DB_URL = "jdbc:h2:mem:job_lock;MODE=MySQL;DB_CLOSE_DELAY=-1";
+  private static final String JOB = "test-job";
+
+  private ConfigurableApplicationContext nodeA;
+  private ConfigurableApplicationContext nodeB;
+
+  @BeforeEach
+  void setUp() {
+    nodeA = startNode("node-a");
+    nodeB = startNode("node-b");
+  }
+
+  @AfterEach
+  void tearDown() {
+    nodeB.getBean(JdbcTemplate.class).update("DELETE FROM job_lock");
+    nodeA.close();
+    nodeB.close();
+  }
+
+  @Nested
+  @DisplayName("1. 획득과 반납")
+  class AcquireTests {
+
+    @Test
+    @DisplayName("1-1. 한 서버가 임대 중이면 다른 서버는 획득하지 못한다")
+    void exclusive() {
+      assertThat(lockService(nodeA).tryAcquire(JOB, Duration.ofMinutes(1))).isTrue();
+      assertThat(lockService(nodeB).tryAcquire(JOB, Duration.ofMinutes(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("1-2. 반납하면 다른 서버가 바로 획득할 수 있다")
+    void release() {
+      lockService(nodeA).tryAcquire(JOB, Duration.ofMinutes(1));
+
+      lockService(nodeA).release(JOB);
+
+      assertThat(lockService(nodeB).tryAcquire(JOB, Duration.ofMinutes(1))).isTrue();
+      assertThat(ownerOf(JOB)).isEqualTo("node-b");
+    }
+
+    @Test
+    @DisplayName("1-3. 서버가 죽어 heartbeat 가 멈추면 임대 만료 후 다른 서버가 가져간다")
+    void takeoverAfterExpiry() throws InterruptedException {
+      // Given: node-a 가 획득한 뒤 반납 없이 종료
+      lockService(nodeA).tryAcquire(JOB, Duration.ofSeconds(1));
+      nodeA.close();
+
+      // When & Then
+      assertThat(lockService(nodeB).tryAcquire(JOB, Duration.ofMinutes(1))).isFalse();
+      Thread.sleep(1200);
+      assertThat(lockService(nodeB).tryAcquire(JOB, Duration.ofMinutes(1))).isTrue();
+      assertThat(ownerOf(JOB)).isEqualTo("node-b");
+    }
+  }
+
+  @Nested
+  @DisplayName("2. 작업 실행")
+  class RunTests {
+
+    @Test
+    @DisplayName("2-1. 실행 중에는 heartbeat 로 임대가 연장되어 임대 기간이 지나도 다른 서버가 가져가지 못한다")
+    void heartbeatKeepsLease() throws Exception {
+      ExecutorService executor = Executors.newSingleThreadExecutor();
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch finish = new CountDownLatch(1);
+      try {
+        Future<Boolean> running =
+            executor.submit(
+                () ->
+                    lockService(nodeA)
+                        .runExclusively(
+                            JOB,
+                            Duration.ofMillis(300),
+                            () -> {
+                              started.countDown();
+                              await(finish);
+                            }));
+        started.await(5, TimeUnit.SECONDS);
+
+        // 임대 기간(300ms)의 두 배가 지나도 node-a 가 임대 중
+        Thread.sleep(600);
+        assertThat(lockService(nodeB).tryAcquire(JOB, Duration.ofMinutes(1))).isFalse();
+
+        finish.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(lockService(nodeB).tryAcquire(JOB, Duration.ofMinutes(1))).isTrue();
+      } finally {
+        finish.countDown();
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    @DisplayName("2-2. @JobLease 메서드는 두 서버에서 동시에 호출되어도 한 번만 실행된다")
+    void annotationGuardsMethod() throws Exception {
+      LeasedJob jobA = nodeA.getBean(LeasedJob.class);
+      LeasedJob jobB = nodeB.getBean(LeasedJob.class);
+      ExecutorService executor = Executors.newSingleThreadExecutor();
+      try {
+        Future<?> running = executor.submit(jobA::run);
+        jobA.awaitStarted();
+
+        jobB.run();
+
+        jobA.finish();
+        running.get(5, TimeUnit.SECONDS);
+        assertThat(jobA.executions()).isEqualTo(1);
+        assertThat(jobB.executions()).isZero();
+      } finally {
+        jobA.finish();
+        executor.shutdownNow();
+      }
+    }
+
+    @Test
+    @DisplayName("2-3. 다른 서버가 가져가 heartbeat 연장에 실패하면 임대를 잃은 것으로 표시하고, 다시 얻으면 지운다")
+    void lostLeaseAfterTakeover() throws InterruptedException {
+      // Given: node-a 의 임대가 만료된 사이 node-b 가 가져감
+      lockService(nodeA).tryAcquire(JOB, Duration.ofMillis(200));
+      Thread.sleep(300);
+      assertThat(lockService(nodeB).tryAcquire(JOB, Duration.ofMinutes(1))).isTrue();
+
+      // When
+      ScheduledFuture<?> heartbeat = lockService(nodeA).startHeartbeat(JOB, Duration.ofMillis(300));
+      try {
+        Thread.sleep(400);
+      } finally {
+        heartbeat.cancel(false);
+      }
+
+      // Then
+      assertThat(lockService(nodeA).isLost(JOB)).isTrue();
+      lockService(nodeB).release(JOB);
+      assertThat(lockService(nodeA).tryAcquire(JOB, Duration.ofMinutes(1))).isTrue();
+      assertThat(lockService(nodeA).isLost(JOB)).isFalse();
+    }
+  }
+
+  // ===== Helper Methods =====
+
+  private static ConfigurableApplicationContext startNode(String owner) {
+    return new SpringApplicationBuilder(NodeConfig.class)
+        .web(WebApplicationType.NONE)
+        .run(
+            "--spring.datasource.url=" + DB_URL,
+            "--spring.jpa.hibernate.ddl-auto=update",
+            "--spring.jpa.show-sql=false",
+            "--job.lock.owner=" + owner);
+  }
+
+  private static JobLockService lockService(ConfigurableApplicationContext node) {
+    return node.getBean(JobLockService.class);
+  }
+
+  private String ownerOf(String jobName) {
+    return nodeB
+        .getBean(JdbcTemplate.class)
+        .queryForObject("SELECT owner FROM job_lock WHERE job_name = ?", String.class, jobName);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * 임대 관련 빈만 올리는 최소 서버 구성
+   * 다른 테스트의 컴포넌트 스캔에 잡히지 않도록 @Configuration 을 붙이지 않습니다.
+   */
+  @ImportAutoConfiguration({
+    DataSourceAutoConfiguration.class,
+    JdbcTemplateAutoConfiguration.class,
+    HibernateJpaAutoConfiguration.class,
+    TransactionAutoConfiguration.class,
+    AopAutoConfiguration.class
+  })
+  @EntityScan(basePackageClasses = JobLock.class)
+  @EnableJpaRepositories(basePackageClasses = JobLock.class)
+  @Import({JobLockService.class, JobLeaseAspect.class, LeasedJob.class})
+  static class NodeConfig {}
+
+  /**
+   * 실행이 끝나지 않은 상태를 만들 수 있는 예약 작업
+   * 프록시를 거쳐도 상태를 읽을 수 있도록 필드 대신 메서드로 접근합니다.
+   */
+  static class LeasedJob {
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch finish = new CountDownLatch(1);
+
+    @JobLease(name = "leased-job", leaseFor = "PT1M")
+    public void run() {
+      executions.incrementAndGet();
+      started.countDown();
+      await(finish);
+    }
+
+    public void awaitStarted() {
+      await(started);
+    }
+
+    public void finish() {
+      finish.countDown();
+    }
+
+    public int executions() {
+      return executions.get();
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.codingcat.aipersonalfinance.module.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Money 테스트
+ */
+@DisplayName("Money 테스트")
+class MoneyTest {
+
+  @Nested
+  @DisplayName("1. 변환과 연산")
+  class ArithmeticTests {
+
+    @Test
+    @DisplayName("1-1. BigDecimal 을 소수점 2자리로 반올림해서 1/100 단위로 바꾸고, 다시 소수점 2자리 BigDecimal 로 돌려준다")
+    void convertsScale() {
+      assertThat(Money.toMinor(new BigDecimal("12.345"))).isEqualTo(1235L);
+      assertThat(Money.toMinor(new BigDecimal("3000000"))).isEqualTo(300_000_000L);
+      assertThat(Money.of(new BigDecimal("-0.005")).minor()).isEqualTo(-1L);
+      assertThat(Money.toAmount(300_000_000L)).isEqualTo(new BigDecimal("3000000.00"));
+    }
+
+    @Test
+    @DisplayName("1-2. 더하기, 빼기, 비교")
+    void plusMinus() {
+      Money a = Money.of(new BigDecimal("1500.50"));
+      Money b = Money.of(new BigDecimal("499.50"));
+
+      assertThat(a.plus(b).toBigDecimal()).isEqualTo(new BigDecimal("2000.00"));
+      assertThat(b.minus(a).signum()).isNegative();
+      assertThat(a.compareTo(b)).isPositive();
+      assertThat(a.minus(a)).isSameAs(Money.ZERO);
+    }
+
+    @Test
+    @DisplayName("1-3. long 범위를 넘으면 ArithmeticException")
+    void overflow() {
+      Money max = Money.ofMinor(Long.MAX_VALUE);
+
+      assertThatThrownBy(() -> max.plus(Money.ofMinor(1))).isInstanceOf(ArithmeticException.class);
+      assertThatThrownBy(() -> Money.ofMinor(Long.MIN_VALUE).minus(Money.ofMinor(1)))
+          .isInstanceOf(ArithmeticException.class);
+      assertThatThrownBy(() -> Money.toMinor(new BigDecimal("1E+20")))
+          .isInstanceOf(ArithmeticException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("2. 비율")
+  class RatioTests {
+
+    @Test
+    @DisplayName("2-1. 백분율은 기존 BigDecimal 계산(소수점 4자리 반올림 후 x100)과 같다")
+    void percentageMatchesBigDecimal() {
+      Random random = new Random(42);
+      for (int i = 0; i < 100_000; i++) {
+        long part = random.nextLong() % 10_000_000_000L;
+        long whole = random.nextLong() % 10_000_000_000L;
+        if (whole == 0) {
+          continue;
+        }
+        assertThat(Money.percentage(part, whole)).isEqualTo(legacyPercentage(part, whole));
+      }
+    }
+
+    @Test
+    @DisplayName("2-2. 반올림 경계와 음수는 0 에서 먼 쪽으로 반올림한다 (HALF_UP)")
+    void halfUp() {
+      // 1/8 = 0.125 → 12.50, 1/3 = 0.33333 → 33.33, 2/3 → 66.67
+      assertThat(Money.percentage(1, 8)).isEqualTo(new BigDecimal("12.50"));
+      assertThat(Money.percentage(1, 3)).isEqualTo(new BigDecimal("33.33"));
+      assertThat(Money.percentage(2, 3)).isEqualTo(new BigDecimal("66.67"));
+      assertThat(Money.percentage(-2, 3)).isEqualTo(new BigDecimal("-66.67"));
+      // 0.00005 → 0.0001 → 0.01%
+      assertThat(Money.percentage(1, 20_000)).isEqualTo(new BigDecimal("0.01"));
+    }
+
+    @Test
+    @DisplayName("2-3. 증감율과 큰 금액")
+    void changeRateAndLargeAmounts() {
+      assertThat(Money.changeRate(200_000, 150_000)).isEqualTo(new BigDecimal("-25.00"));
+      assertThat(Money.percentage(Long.MAX_VALUE / 2, Long.MAX_VALUE))
+          .isEqualTo(legacyPercentage(Long.MAX_VALUE / 2, Long.MAX_VALUE));
+      assertThatThrownBy(() -> Money.percentage(1, 0)).isInstanceOf(ArithmeticException.class);
+    }
+  }
+
+  // ===== Helper Methods =====
+
+  private static BigDecimal legacyPercentage(long part, long whole) {
+    return BigDecimal.valueOf(part, 2)
+        .divide(BigDecimal.valueOf(whole, 2), 4, RoundingMode.HALF_UP)
+        .multiply(new BigDecimal("100"))
+        .setScale(2, RoundingMode.HALF_UP);
+  }
+}
@@ -0,0 +1,73 @@
+package com.codingcat.aipersonalfinance.module.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ShardRing 테스트
+ */
+@DisplayName("ShardRing 테스트")
+class ShardRingTest {
+
+  private static final int USERS = 100_000;
+
+  @Nested
+  @DisplayName("1. 배치")
+  class PlacementTests {
+
+    @Test
+    @DisplayName("1-1. 연속된 사용자 ID 를 샤드에 고르게 나눈다 (평균의 ±15%)")
+    void distributesEvenly() {
+      ShardRing ring = new ShardRing(List.of("shard-0", "shard-1", "shard-2", "shard-3"), 128);
+
+      Map<String, Integer> counts = new HashMap<>();
+      for (long userIdx = 1; userIdx <= USERS; userIdx++) {
+        counts.merge(ring.shardOf(userIdx), 1, Integer::sum);
+      }
+
+      assertThat(counts).hasSize(4);
+      assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(21_250, 28_750));
+    }
+
+    @Test
+    @DisplayName("1-2. 같은 샤드 구성이면 항상 같은 샤드를 고른다")
+    void deterministic() {
+      ShardRing first = new ShardRing(List.of("shard-0", "shard-1"), 64);
+      ShardRing second = new ShardRing(List.of("shard-0", "shard-1"), 64);
+
+      for (long userIdx = 1; userIdx <= 1000; userIdx++) {
+        assertThat(first.shardOf(userIdx)).isEqualTo(second.shardOf(userIdx));
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("2. 샤드 추가")
+  class AddShardTests {
+
+    @Test
+    @DisplayName("2-1. 샤드를 추가하면 새 샤드로 가는 사용자만 옮겨지고, 그 수는 약 1/N 이다")
+    void movesOnlyToNewShard() {
+      ShardRing before = new ShardRing(List.of("shard-0", "shard-1", "shard-2"), 128);
+      ShardRing after = new ShardRing(List.of("shard-0", "shard-1", "shard-2", "shard-3"), 128);
+
+      int moved = 0;
+      for (long userIdx = 1; userIdx <= USERS; userIdx++) {
+        String from = before.shardOf(userIdx);
+        String to = after.shardOf(userIdx);
+        if (!from.equals(to)) {
+          assertThat(to).isEqualTo("shard-3");
+          moved++;
+        }
+      }
+
+      assertThat(moved).isBetween(USERS / 4 - USERS / 20, USERS / 4 + USERS / 20);
+    }
+  }
+}
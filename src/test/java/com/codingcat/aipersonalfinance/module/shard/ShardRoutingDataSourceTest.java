@@ -0,0 +1,343 @@
+package com.codingcat.aipersonalfinance.module.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.codingcat.aipersonalfinance.module.config.ShardDataSourceConfig;
+import com.codingcat.aipersonalfinance.module.exception.CustomException;
+import com.codingcat.aipersonalfinance.module.lock.JobLock;
+import com.codingcat.aipersonalfinance.module.lock.JobLockService;
+import com.codingcat.aipersonalfinance.module.model.ServiceType;
+import com.codingcat.aipersonalfinance.module.security.AuthDto;
+import com.codingcat.aipersonalfinance.module.security.UserPrincipal;
+import com.codingcat.aipersonalfinance.module.shard.ShardMigrationService.MigrationResult;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용자 샤딩 테스트 (ShardRoutingDataSource, ShardMigrationService)
+ * 서로 다른 H2 데이터베이스 세 개를 shard-0 ~ shard-2 로 두고, 실제 설정과 같이 JPA 트랜잭션 매니저와
+ * 지연 연결 프록시를 거쳐 사용자별 라우팅과 샤드 이동을 검증합니다.
+ */
+@DisplayName("사용자 샤딩 테스트")
+class ShardRoutingDataSourceTest {
+
+  private static final List<String> SHARD_URLS =
+      List.of(dbUrl("shard_0"), dbUrl("shard_1"), dbUrl("shard_2"));
+
+  private ConfigurableApplicationContext context;
+
+  @BeforeEach
+  void setUp() {
+    SHARD_URLS.forEach(ShardRoutingDataSourceTest::createTables);
+    context = start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+    context.close();
+    JdbcTemplate home = shardJdbc("shard-0");
+    home.execute("DROP TABLE IF EXISTS user_shard");
+    home.execute("DROP TABLE IF EXISTS job_lock");
+  }
+
+  @Nested
+  @DisplayName("1. 라우팅")
+  class RoutingTests {
+
+    @Test
+    @DisplayName("1-1. 로그인한 사용자는 디렉터리의 샤드, 디렉터리에 없는 사용자는 shard-0 을 사용한다")
+    void routesByDirectory() {
+      insertLedger("shard-1", 10L, 7L, 1000);
+      insertLedger("shard-0", 11L, 8L, 2000);
+      directory().assign(7L, "shard-1", false);
+
+      loginAs(7L);
+      assertThat(sumAmount()).isEqualTo(1000);
+      loginAs(8L);
+      assertThat(sumAmount()).isEqualTo(2000);
+
+      assertThat(routingDataSource().stats())
+          .filteredOn(stats -> stats.shardId().equals("shard-1"))
+          .singleElement()
+          .satisfies(stats -> assertThat(stats.directoryUsers()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("1-2. ShardContext 로 지정한 샤드가 로그인한 사용자의 샤드보다 우선한다")
+    void contextOverridesUser() {
+      insertLedger("shard-2", 10L, 7L, 3000);
+      loginAs(7L);
+
+      assertThat(ShardContext.callOn("shard-2", ShardRoutingDataSourceTest.this::sumAmount))
+          .isEqualTo(3000);
+      assertThat(sumAmount()).isZero();
+    }
+
+    @Test
+    @DisplayName("1-3. @EachShard 메서드는 샤드마다 한 번씩 실행된다")
+    void eachShard() {
+      ShardJob job = context.getBean(ShardJob.class);
+
+      job.run();
+
+      assertThat(job.shards()).containsExactly("shard-0", "shard-1", "shard-2");
+    }
+  }
+
+  @Nested
+  @DisplayName("2. 샤드 이동")
+  class MigrationTests {
+
+    @Test
+    @DisplayName("2-1. 사용자의 행을 대상 샤드로 옮기고 원본에서 지우며, users 는 사본만 만든다")
+    void migratesUser() {
+      insertUser("shard-0", 1L);
+      for (long idx = 1; idx <= 5; idx++) {
+        insertLedger("shard-0", idx, 1L, 100);
+      }
+      insertUser("shard-0", 2L);
+      insertLedger("shard-0", 6L, 2L, 100);
+
+      MigrationResult result = migrationService().migrate(1L, "shard-2");
+
+      assertThat(result.copiedRows()).containsEntry("users", 1L).containsEntry("ledger", 5L);
+      assertThat(countLedger("shard-2", 1L)).isEqualTo(5);
+      assertThat(countLedger("shard-0", 1L)).isZero();
+      assertThat(countLedger("shard-0", 2L)).isEqualTo(1);
+      assertThat(shardJdbc("shard-0").queryForObject("SELECT COUNT(*) FROM users", Integer.class))
+          .isEqualTo(2);
+
+      loginAs(1L);
+      assertThat(sumAmount()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("2-2. 이동 중인 사용자의 쓰기는 거부하고 읽기는 허용한다")
+    void rejectsWritesWhileMigrating() {
+      insertLedger("shard-0", 1L, 5L, 100);
+      directory().assign(5L, "shard-0", true);
+      loginAs(5L);
+
+      assertThatThrownBy(
+              () ->
+                  transaction(false).executeWithoutResult(
+                      status -> jdbcTemplate().update("UPDATE ledger SET amount = 200")))
+          .isInstanceOfSatisfying(
+              CustomException.class,
+              e -> assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+      assertThat(sumAmount()).isEqualTo(100);
+      assertThat(routingDataSource().rejectedWrites()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("2-3. 대상 샤드에 같은 ID 가 있으면 롤백하고 사용자는 원본 샤드에 남는다")
+    void conflictKeepsSource() {
+      insertUser("shard-0", 1L);
+      insertLedger("shard-0", 1L, 1L, 100);
+      insertLedger("shard-0", 2L, 1L, 100);
+      insertLedger("shard-1", 2L, 9L, 100);
+
+      assertThatThrownBy(() -> migrationService().migrate(1L, "shard-1"))
+          .isInstanceOfSatisfying(
+              CustomException.class,
+              e -> assertThat(e.getCustomCode()).isEqualTo("sm.shard.fail.conflict"));
+
+      assertThat(countLedger("shard-0", 1L)).isEqualTo(2);
+      assertThat(countLedger("shard-1", 1L)).isZero();
+      assertThat(context.getBean(ShardRouter.class).shardOf(1L)).isEqualTo("shard-0");
+      assertThat(context.getBean(ShardRouter.class).isMigrating(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("2-4. 예약 작업이 실행 중이면 이동하지 않는다")
+    void rejectsWhileJobRunning() {
+      insertUser("shard-0", 1L);
+      JobLockService jobLockService = context.getBean(JobLockService.class);
+      jobLockService.tryAcquire("recurring-execution", Duration.ofMinutes(1));
+      // 다른 서버가 가진 임대로 만든다
+      shardJdbc("shard-0").update("UPDATE job_lock SET owner = 'other'");
+
+      assertThatThrownBy(() -> migrationService().migrate(1L, "shard-1"))
+          .isInstanceOfSatisfying(
+              CustomException.class,
+              e -> assertThat(e.getCustomCode()).isEqualTo("sm.shard.fail.job_running"));
+      assertThat(context.getBean(ShardRouter.class).shardOf(1L)).isEqualTo("shard-0");
+    }
+
+    @Test
+    @DisplayName("2-5. 멈춰 둘 예약 작업은 모든 @JobLease 이름이며, 이 서버에서 꺼진 작업도 포함한다")
+    void pausesEveryJobLease() {
+      assertThat(ShardMigrationService.jobLeaseNames("com.codingcat.aipersonalfinance"))
+          .contains(
+              "recurring-execution",
+              "budget-spent-reconcile",
+              "budget-alert-evaluate",
+              "ledger-archive",
+              "soft-delete-purge",
+              "ledger-partition-maintenance");
+    }
+  }
+
+  // ===== Helper Methods =====
+
+  private static String dbUrl(String name) {
+    return "jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+  }
+
+  private static void createTables(String url) {
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+    jdbcTemplate.execute("DROP TABLE IF EXISTS ledger");
+    jdbcTemplate.execute("DROP TABLE IF EXISTS users");
+    jdbcTemplate.execute("CREATE TABLE users (user_idx BIGINT PRIMARY KEY, email VARCHAR(50))");
+    jdbcTemplate.execute(
+        "CREATE TABLE ledger (ledger_idx BIGINT PRIMARY KEY, user_idx BIGINT NOT NULL, amount INT)");
+  }
+
+  private static ConfigurableApplicationContext start() {
+    return new SpringApplicationBuilder(ShardConfig.class)
+        .web(WebApplicationType.NONE)
+        .run(
+            "--spring.datasource.url=" + SHARD_URLS.get(0),
+            "--spring.jpa.hibernate.ddl-auto=update",
+            "--spring.jpa.show-sql=false",
+            "--datasource.sharding.enabled=true",
+            "--datasource.sharding.migration-freeze-wait=PT0.05S",
+            "--datasource.sharding.migration-batch-size=2",
+            "--datasource.sharding.shards[0].url=" + SHARD_URLS.get(1),
+            "--datasource.sharding.shards[1].url=" + SHARD_URLS.get(2),
+            "--datasource.sharding.migration-tables[0].name=users",
+            "--datasource.sharding.migration-tables[0].id-column=user_idx",
+            "--datasource.sharding.migration-tables[0].reference=true",
+            "--datasource.sharding.migration-tables[1].name=ledger",
+            "--datasource.sharding.migration-tables[1].id-column=ledger_idx");
+  }
+
+  private static JdbcTemplate shardJdbc(String shardId) {
+    int index = Integer.parseInt(shardId.substring("shard-".length()));
+    return new JdbcTemplate(new DriverManagerDataSource(SHARD_URLS.get(index), "sa", ""));
+  }
+
+  private static void insertUser(String shardId, Long userIdx) {
+    shardJdbc(shardId).update(
+        "INSERT INTO users (user_idx, email) VALUES (?, ?)", userIdx, "user" + userIdx + "@test.com");
+  }
+
+  private static void insertLedger(String shardId, Long ledgerIdx, Long userIdx, int amount) {
+    shardJdbc(shardId).update(
+        "INSERT INTO ledger (ledger_idx, user_idx, amount) VALUES (?, ?, ?)",
+        ledgerIdx, userIdx, amount);
+  }
+
+  private static int countLedger(String shardId, Long userIdx) {
+    return shardJdbc(shardId).queryForObject(
+        "SELECT COUNT(*) FROM ledger WHERE user_idx = ?", Integer.class, userIdx);
+  }
+
+  private int sumAmount() {
+    return transaction(true).execute(
+        status ->
+            jdbcTemplate().queryForObject("SELECT COALESCE(SUM(amount), 0) FROM ledger", Integer.class));
+  }
+
+  private TransactionTemplate transaction(boolean readOnly) {
+    TransactionTemplate template =
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    template.setReadOnly(readOnly);
+    return template;
+  }
+
+  private JdbcTemplate jdbcTemplate() {
+    return context.getBean(JdbcTemplate.class);
+  }
+
+  private ShardDirectoryService directory() {
+    return context.getBean(ShardDirectoryService.class);
+  }
+
+  private ShardMigrationService migrationService() {
+    return context.getBean(ShardMigrationService.class);
+  }
+
+  private ShardRoutingDataSource routingDataSource() {
+    return context.getBean(ShardRoutingDataSource.class);
+  }
+
+  private static void loginAs(Long userIdx) {
+    AuthDto authDto =
+        AuthDto.builder().userIdx(userIdx).email("user" + userIdx + "@test.com")
+            .serviceType(ServiceType.USER).build();
+    UserPrincipal principal = new UserPrincipal(authDto, "user");
+    SecurityContextHolder.getContext().setAuthentication(
+        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+  }
+
+  /**
+   * 샤드마다 실행된 샤드를 기록하는 예약 작업
+   */
+  static class ShardJob {
+    private final List<String> shards = new CopyOnWriteArrayList<>();
+
+    @EachShard
+    public void run() {
+      shards.add(ShardContext.current());
+    }
+
+    public List<String> shards() {
+      return shards;
+    }
+  }
+
+  /**
+   * 샤딩 관련 빈만 올리는 최소 구성
+   * 다른 테스트의 컴포넌트 스캔에 잡히지 않도록 @Configuration 을 붙이지 않습니다.
+   */
+  @ImportAutoConfiguration({
+    ConfigurationPropertiesAutoConfiguration.class,
+    DataSourceAutoConfiguration.class,
+    JdbcTemplateAutoConfiguration.class,
+    HibernateJpaAutoConfiguration.class,
+    TransactionAutoConfiguration.class,
+    AopAutoConfiguration.class
+  })
+  @EntityScan(basePackageClasses = {UserShard.class, JobLock.class})
+  @EnableJpaRepositories(basePackageClasses = {UserShard.class, JobLock.class})
+  @Import({
+    ShardDataSourceConfig.class,
+    ShardingProperties.class,
+    ShardRouter.class,
+    ShardDirectoryService.class,
+    ShardMigrationService.class,
+    EachShardAspect.class,
+    JobLockService.class,
+    ShardJob.class
+  })
+  static class ShardConfig {}
+}
@@ -0,0 +1,138 @@
+package com.codingcat.aipersonalfinance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.codingcat.aipersonalfinance.domain.budget.BudgetAlertEngine;
+import com.codingcat.aipersonalfinance.domain.budget.BudgetAlertEngine.RunResult;
+import com.codingcat.aipersonalfinance.domain.budget.BudgetAlertEvent;
+import com.codingcat.aipersonalfinance.domain.budget.BudgetRepository;
+import com.codingcat.aipersonalfinance.domain.budget.dto.BudgetAlertCandidate;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * BudgetAlertEngine 테스트
+ */
+@DisplayName("BudgetAlertEngine 테스트")
+@ExtendWith(MockitoExtension.class)
+class BudgetAlertEngineTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2024, 2, 15);
+
+  @Mock private BudgetRepository budgetRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private BudgetAlertEngine budgetAlertEngine;
+
+  @BeforeEach
+  void setUp() {
+    budgetAlertEngine =
+        new BudgetAlertEngine(budgetRepository, eventPublisher, transactionManager, 2, 2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    budgetAlertEngine.destroy();
+  }
+
+  @Nested
+  @DisplayName("1. 알림 평가")
+  class EvaluateTests {
+
+    @Test
+    @DisplayName("1-1. 예산 ID 기준 keyset 청크로 끝까지 읽고, 임계값에 도달한 예산만 표시한다")
+    void evaluateInChunks() {
+      // Given: 청크 크기 2, 대상 3건 (90%, 10%, 85%)
+      given(budgetRepository.findAlertCandidates(TODAY, 0L, PageRequest.of(0, 2)))
+          .willReturn(List.of(candidate(1L, "450000"), candidate(2L, "50000")));
+      given(budgetRepository.findAlertCandidates(TODAY, 2L, PageRequest.of(0, 2)))
+          .willReturn(List.of(candidate(3L, "425000")));
+      given(budgetRepository.markAlertSentIfNotSent(any())).willReturn(1);
+
+      // When
+      RunResult result = budgetAlertEngine.evaluate(TODAY);
+
+      // Then
+      assertThat(result.budgetsScanned()).isEqualTo(3);
+      assertThat(result.chunks()).isEqualTo(2);
+      assertThat(result.alertsSent()).isEqualTo(2);
+      verify(budgetRepository).markAlertSentIfNotSent(1L);
+      verify(budgetRepository, never()).markAlertSentIfNotSent(2L);
+      verify(budgetRepository).markAlertSentIfNotSent(3L);
+
+      ArgumentCaptor<BudgetAlertEvent> captor = ArgumentCaptor.forClass(BudgetAlertEvent.class);
+      verify(eventPublisher, times(2)).publishEvent(captor.capture());
+      assertThat(captor.getAllValues())
+          .extracting(BudgetAlertEvent::budgetIdx)
+          .containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("1-2. 다른 노드가 먼저 표시한 예산은 알림을 보내지 않는다")
+    void skipAlreadyMarked() {
+      // Given
+      given(budgetRepository.findAlertCandidates(TODAY, 0L, PageRequest.of(0, 2)))
+          .willReturn(List.of(candidate(1L, "500000")));
+      given(budgetRepository.markAlertSentIfNotSent(1L)).willReturn(0);
+
+      // When
+      RunResult result = budgetAlertEngine.evaluate(TODAY);
+
+      // Then
+      assertThat(result.alertsSent()).isZero();
+      verify(eventPublisher, never()).publishEvent(any(BudgetAlertEvent.class));
+    }
+
+    @Test
+    @DisplayName("1-3. 실행 결과가 누적 지표에 반영된다")
+    void statsAccumulate() {
+      // Given
+      given(budgetRepository.findAlertCandidates(eq(TODAY), eq(0L), any()))
+          .willReturn(List.of(candidate(1L, "100000")));
+
+      // When
+      budgetAlertEngine.evaluate(TODAY);
+      budgetAlertEngine.evaluate(TODAY);
+
+      // Then
+      BudgetAlertEngine.Stats stats = budgetAlertEngine.stats();
+      assertThat(stats.runs()).isEqualTo(2);
+      assertThat(stats.budgetsScanned()).isEqualTo(2);
+      assertThat(stats.chunksProcessed()).isEqualTo(2);
+      assertThat(stats.alertsSent()).isZero();
+      assertThat(stats.lastRun().today()).isEqualTo(TODAY);
+    }
+  }
+
+  // ===== Helper Methods =====
+
+  // 예산 500,000원, 임계값 80%
+  private static BudgetAlertCandidate candidate(Long budgetIdx, String spentAmount) {
+    return new BudgetAlertCandidate(
+        budgetIdx,
+        1L,
+        new BigDecimal("500000"),
+        new BigDecimal(spentAmount),
+        new BigDecimal("80.00"));
+  }
+}
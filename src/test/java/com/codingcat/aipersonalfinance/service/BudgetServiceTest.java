@@ -3,6 +3,8 @@ package com.codingcat.aipersonalfinance.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -16,7 +18,8 @@ import com.codingcat.aipersonalfinance.domain.budget.Budget;
 import com.codingcat.aipersonalfinance.domain.budget.BudgetPeriod;
 import com.codingcat.aipersonalfinance.domain.budget.BudgetRepository;
 import com.codingcat.aipersonalfinance.domain.ledger.Category;
-import com.codingcat.aipersonalfinance.domain.ledger.LedgerRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerDailyAggRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
 import com.codingcat.aipersonalfinance.domain.user.User;
 import com.codingcat.aipersonalfinance.domain.user.UserRepository;
 import com.codingcat.aipersonalfinance.module.exception.CustomException;
@@ -35,7 +38,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * BudgetService 테스트
@@ -46,7 +51,7 @@ class BudgetServiceTest {
 
   @Mock private BudgetRepository budgetRepository;
   @Mock private UserRepository userRepository;
-  @Mock private LedgerRepository ledgerRepository;
+  @Mock private LedgerDailyAggRepository ledgerDailyAggRepository;
 
   @InjectMocks private BudgetService budgetService;
 
@@ -56,6 +61,7 @@ class BudgetServiceTest {
   @BeforeEach
   void setUp() {
     testUser = User.createTestUser();
+    ReflectionTestUtils.setField(testUser, "idx", 1L);
 
     testBudget =
         Budget.builder()
@@ -93,11 +99,16 @@ class BudgetServiceTest {
               .category(Category.FOOD)
               .build();
 
-      given(userRepository.findByEmail("test@test.com")).willReturn(Optional.of(testUser));
+      given(userRepository.getReferenceById(1L)).willReturn(testUser);
       given(budgetRepository.findByUserAndCategoryAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
               any(), any(), any(), any()))
           .willReturn(Optional.empty()); // 기간 겹침 없음
-      given(budgetRepository.save(any(Budget.class))).willReturn(testBudget);
+      given(budgetRepository.save(any(Budget.class))).willAnswer(invocation -> invocation.getArgument(0));
+      // 기존 식비 지출 300,000원, 다른 카테고리 지출은 누계에서 제외
+      givenFebruaryExpenses(
+          expense(LocalDate.of(2024, 2, 3), Category.FOOD, "200000"),
+          expense(LocalDate.of(2024, 2, 10), Category.FOOD, "100000"),
+          expense(LocalDate.of(2024, 2, 10), Category.SHOPPING, "50000"));
 
       // When
       ResponseEntity<?> result = budgetService.createBudget(authDto, request);
@@ -108,6 +119,7 @@ class BudgetServiceTest {
       assertThat(response).isNotNull();
       assertThat(response.getName()).isEqualTo("2024년 2월 식비 예산");
       assertThat(response.getAmount()).isEqualByComparingTo(new BigDecimal("500000"));
+      assertThat(response.getSpentAmount()).isEqualByComparingTo(new BigDecimal("300000"));
       verify(budgetRepository).save(any(Budget.class));
     }
 
@@ -130,7 +142,7 @@ class BudgetServiceTest {
               .category(Category.FOOD)
               .build();
 
-      given(userRepository.findByEmail("test@test.com")).willReturn(Optional.of(testUser));
+      given(userRepository.getReferenceById(1L)).willReturn(testUser);
       given(budgetRepository.findByUserAndCategoryAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
               any(), any(), any(), any()))
           .willReturn(Optional.of(testBudget)); // 기간 겹침 발견
@@ -143,13 +155,12 @@ class BudgetServiceTest {
     }
 
     @Test
-    @DisplayName("1-3. 존재하지 않는 사용자로 예산 생성 시 예외가 발생한다")
+    @DisplayName("1-3. 인증 정보에 사용자 식별자가 없으면 예산 생성 시 예외가 발생한다")
     void createBudget_UserNotFound() {
       // Given
       AuthDto authDto = AuthDto.builder()
           .email("invalid@test.com")
           .serviceType(ServiceType.USER)
-          .userIdx(999L)
           .build();
       BudgetCreateRequest request =
           BudgetCreateRequest.builder()
@@ -160,8 +171,6 @@ class BudgetServiceTest {
               .amount(new BigDecimal("500000"))
               .build();
 
-      given(userRepository.findByEmail("invalid@test.com")).willReturn(Optional.empty());
-
       // When & Then
       assertThatThrownBy(() -> budgetService.createBudget(authDto, request))
           .isInstanceOf(CustomException.class);
@@ -183,7 +192,8 @@ class BudgetServiceTest {
           .userIdx(testUser.getIdx())
           .build();
 
-      given(budgetRepository.findById(budgetId)).willReturn(Optional.of(testBudget));
+      given(budgetRepository.findByIdxAndUser_Idx(budgetId, testUser.getIdx()))
+          .willReturn(Optional.of(testBudget));
 
       // When
       ResponseEntity<?> result = budgetService.getBudget(authDto, budgetId);
@@ -206,11 +216,14 @@ class BudgetServiceTest {
           .userIdx(testUser.getIdx())
           .build();
 
-      given(budgetRepository.findById(budgetId)).willReturn(Optional.empty());
+      given(budgetRepository.findByIdxAndUser_Idx(budgetId, testUser.getIdx()))
+          .willReturn(Optional.empty());
+      given(budgetRepository.existsById(budgetId)).willReturn(false);
 
       // When & Then
       assertThatThrownBy(() -> budgetService.getBudget(authDto, budgetId))
-          .isInstanceOf(CustomException.class);
+          .isInstanceOf(CustomException.class)
+          .hasFieldOrPropertyWithValue("httpStatus", HttpStatus.NOT_FOUND);
     }
 
     @Test
@@ -224,11 +237,13 @@ class BudgetServiceTest {
           .userIdx(999L)
           .build();
 
-      given(budgetRepository.findById(budgetId)).willReturn(Optional.of(testBudget));
+      given(budgetRepository.findByIdxAndUser_Idx(budgetId, 999L)).willReturn(Optional.empty());
+      given(budgetRepository.existsById(budgetId)).willReturn(true);
 
       // When & Then
       assertThatThrownBy(() -> budgetService.getBudget(authDto, budgetId))
-          .isInstanceOf(CustomException.class);
+          .isInstanceOf(CustomException.class)
+          .hasFieldOrPropertyWithValue("httpStatus", HttpStatus.FORBIDDEN);
     }
   }
 
@@ -247,10 +262,10 @@ class BudgetServiceTest {
           .userIdx(testUser.getIdx())
           .build();
 
-      given(budgetRepository.findById(budgetId)).willReturn(Optional.of(testBudget));
+      given(budgetRepository.findByIdxAndUser_Idx(budgetId, testUser.getIdx()))
+          .willReturn(Optional.of(testBudget));
       // 300,000원 지출 (예산의 60%)
-      given(ledgerRepository.calculateTotalByTypeAndDateRange(any(), any(), any(), any()))
-          .willReturn(new BigDecimal("300000"));
+      testBudget.resetSpentAmount(new BigDecimal("300000"));
 
       // When
       ResponseEntity<?> result = budgetService.getBudgetUsage(authDto, budgetId);
@@ -276,10 +291,10 @@ class BudgetServiceTest {
           .userIdx(testUser.getIdx())
           .build();
 
-      given(budgetRepository.findById(budgetId)).willReturn(Optional.of(testBudget));
+      given(budgetRepository.findByIdxAndUser_Idx(budgetId, testUser.getIdx()))
+          .willReturn(Optional.of(testBudget));
       // 600,000원 지출 (예산의 120%)
-      given(ledgerRepository.calculateTotalByTypeAndDateRange(any(), any(), any(), any()))
-          .willReturn(new BigDecimal("600000"));
+      testBudget.resetSpentAmount(new BigDecimal("600000"));
 
       // When
       ResponseEntity<?> result = budgetService.getBudgetUsage(authDto, budgetId);
@@ -306,10 +321,10 @@ class BudgetServiceTest {
           .build();
       // 알림 임계값 80%
 
-      given(budgetRepository.findById(budgetId)).willReturn(Optional.of(testBudget));
+      given(budgetRepository.findByIdxAndUser_Idx(budgetId, testUser.getIdx()))
+          .willReturn(Optional.of(testBudget));
       // 450,000원 지출 (예산의 90%)
-      given(ledgerRepository.calculateTotalByTypeAndDateRange(any(), any(), any(), any()))
-          .willReturn(new BigDecimal("450000"));
+      testBudget.resetSpentAmount(new BigDecimal("450000"));
 
       // When
       ResponseEntity<?> result = budgetService.getBudgetUsage(authDto, budgetId);
@@ -320,6 +335,45 @@ class BudgetServiceTest {
       assertThat(response.getUsagePercentage()).isEqualByComparingTo(new BigDecimal("90.00"));
       assertThat(response.getShouldAlert()).isTrue(); // 90% > 80%
     }
+
+    @Test
+    @DisplayName("3-4. 활성 예산 전체의 사용 현황을 지출 누계로 계산한다 (집계 조회 없음)")
+    void getBudgetUsageList_FromSpentAmount() {
+      // Given
+      AuthDto authDto = AuthDto.builder()
+          .email("test@test.com")
+          .serviceType(ServiceType.USER)
+          .userIdx(testUser.getIdx())
+          .build();
+      Budget totalBudget =
+          Budget.builder()
+              .user(testUser)
+              .name("2024년 2월 전체 예산")
+              .budgetPeriod(BudgetPeriod.MONTHLY)
+              .startDate(LocalDate.of(2024, 2, 1))
+              .endDate(LocalDate.of(2024, 2, 29))
+              .amount(new BigDecimal("1000000"))
+              .spentAmount(new BigDecimal("250000"))
+              .isActive(true)
+              .build();
+      testBudget.resetSpentAmount(new BigDecimal("150000"));
+
+      given(userRepository.getReferenceById(1L)).willReturn(testUser);
+      given(budgetRepository.findByUserAndIsActiveTrue(testUser))
+          .willReturn(List.of(testBudget, totalBudget));
+
+      // When
+      ResponseEntity<?> result = budgetService.getBudgetUsageList(authDto);
+      ApiResponseVo<?> apiResponse = (ApiResponseVo<?>) result.getBody();
+      @SuppressWarnings("unchecked")
+      List<BudgetUsageResponse> responses = (List<BudgetUsageResponse>) apiResponse.getContent();
+
+      // Then
+      assertThat(responses).hasSize(2);
+      assertThat(responses.get(0).getUsagePercentage()).isEqualByComparingTo(new BigDecimal("30.00"));
+      assertThat(responses.get(1).getUsagePercentage()).isEqualByComparingTo(new BigDecimal("25.00"));
+      verify(ledgerDailyAggRepository, never()).sumByDateAndCategory(any(), any(), any(), any());
+    }
   }
 
   @Nested
@@ -337,9 +391,18 @@ class BudgetServiceTest {
           .userIdx(testUser.getIdx())
           .build();
       BudgetUpdateRequest request =
-          BudgetUpdateRequest.builder().amount(new BigDecimal("600000")).build();
+          BudgetUpdateRequest.builder()
+              .name("2024년 2월 식비 예산")
+              .budgetPeriod(BudgetPeriod.MONTHLY)
+              .startDate(LocalDate.of(2024, 2, 1))
+              .endDate(LocalDate.of(2024, 2, 29))
+              .amount(new BigDecimal("600000"))
+              .category(Category.FOOD)
+              .isActive(true)
+              .build();
 
-      given(budgetRepository.findById(budgetId)).willReturn(Optional.of(testBudget));
+      given(budgetRepository.findByIdxAndUser_Idx(budgetId, testUser.getIdx()))
+          .willReturn(Optional.of(testBudget));
 
       // When
       ResponseEntity<?> result = budgetService.updateBudget(authDto, budgetId, request);
@@ -348,7 +411,9 @@ class BudgetServiceTest {
 
       // Then
       assertThat(response).isNotNull();
-      verify(budgetRepository).findById(budgetId);
+      verify(budgetRepository).findByIdxAndUser_Idx(budgetId, testUser.getIdx());
+      // 기간과 카테고리가 그대로면 지출 누계를 다시 계산하지 않는다
+      verify(ledgerDailyAggRepository, never()).sumByDateAndCategory(any(), any(), any(), any());
     }
 
     @Test
@@ -364,11 +429,51 @@ class BudgetServiceTest {
       BudgetUpdateRequest request =
           BudgetUpdateRequest.builder().amount(new BigDecimal("600000")).build();
 
-      given(budgetRepository.findById(budgetId)).willReturn(Optional.of(testBudget));
+      given(budgetRepository.findByIdxAndUser_Idx(budgetId, 999L)).willReturn(Optional.empty());
+      given(budgetRepository.existsById(budgetId)).willReturn(true);
 
       // When & Then
       assertThatThrownBy(() -> budgetService.updateBudget(authDto, budgetId, request))
-          .isInstanceOf(CustomException.class);
+          .isInstanceOf(CustomException.class)
+          .hasFieldOrPropertyWithValue("httpStatus", HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    @DisplayName("4-3. 카테고리가 바뀌면 지출 누계를 다시 계산해서 UPDATE 쿼리로 쓴다")
+    void updateBudget_ScopeChanged() {
+      // Given: 식비 예산을 전체 예산으로 변경
+      Long budgetId = 1L;
+      ReflectionTestUtils.setField(testBudget, "idx", budgetId);
+      AuthDto authDto = AuthDto.builder()
+          .email("test@test.com")
+          .serviceType(ServiceType.USER)
+          .userIdx(testUser.getIdx())
+          .build();
+      BudgetUpdateRequest request =
+          BudgetUpdateRequest.builder()
+              .name("2024년 2월 전체 예산")
+              .budgetPeriod(BudgetPeriod.MONTHLY)
+              .startDate(LocalDate.of(2024, 2, 1))
+              .endDate(LocalDate.of(2024, 2, 29))
+              .amount(new BigDecimal("500000"))
+              .category(null)
+              .isActive(true)
+              .build();
+
+      given(budgetRepository.findByIdxAndUser_Idx(budgetId, testUser.getIdx()))
+          .willReturn(Optional.of(testBudget));
+      givenFebruaryExpenses(
+          expense(LocalDate.of(2024, 2, 3), Category.FOOD, "200000"),
+          expense(LocalDate.of(2024, 2, 10), Category.SHOPPING, "150000"));
+
+      // When
+      ResponseEntity<?> result = budgetService.updateBudget(authDto, budgetId, request);
+      BudgetResponse response = (BudgetResponse) ((ApiResponseVo<?>) result.getBody()).getContent();
+
+      // Then: 누계 컬럼은 엔티티 flush 로 쓰지 않으므로 쿼리로 다시 쓴다
+      verify(budgetRepository)
+          .resetSpent(eq(budgetId), argThat(spent -> spent.compareTo(new BigDecimal("350000")) == 0));
+      assertThat(response.getSpentAmount()).isEqualByComparingTo("350000");
     }
   }
 
@@ -387,13 +492,14 @@ class BudgetServiceTest {
           .userIdx(testUser.getIdx())
           .build();
 
-      given(budgetRepository.findById(budgetId)).willReturn(Optional.of(testBudget));
+      given(budgetRepository.findByIdxAndUser_Idx(budgetId, testUser.getIdx()))
+          .willReturn(Optional.of(testBudget));
 
       // When
       budgetService.sDeleteBudget(authDto, budgetId);
 
       // Then
-      verify(budgetRepository).findById(budgetId);
+      verify(budgetRepository).findByIdxAndUser_Idx(budgetId, testUser.getIdx());
       assertThat(testBudget.getDeletedAt()).isNotNull();
     }
 
@@ -408,11 +514,13 @@ class BudgetServiceTest {
           .userIdx(999L)
           .build();
 
-      given(budgetRepository.findById(budgetId)).willReturn(Optional.of(testBudget));
+      given(budgetRepository.findByIdxAndUser_Idx(budgetId, 999L)).willReturn(Optional.empty());
+      given(budgetRepository.existsById(budgetId)).willReturn(true);
 
       // When & Then
       assertThatThrownBy(() -> budgetService.sDeleteBudget(authDto, budgetId))
-          .isInstanceOf(CustomException.class);
+          .isInstanceOf(CustomException.class)
+          .hasFieldOrPropertyWithValue("httpStatus", HttpStatus.FORBIDDEN);
     }
   }
 
@@ -430,7 +538,7 @@ class BudgetServiceTest {
           .userIdx(testUser.getIdx())
           .build();
 
-      given(userRepository.findByEmail("test@test.com")).willReturn(Optional.of(testUser));
+      given(userRepository.getReferenceById(1L)).willReturn(testUser);
       given(budgetRepository.findByUserAndIsActiveTrue(testUser)).willReturn(List.of(testBudget));
 
       // When
@@ -445,4 +553,17 @@ class BudgetServiceTest {
       assertThat(response.get(0).getName()).isEqualTo("2024년 2월 식비 예산");
     }
   }
+
+  // ===== Helper Methods =====
+
+  private void givenFebruaryExpenses(Object[]... rows) {
+    given(
+            ledgerDailyAggRepository.sumByDateAndCategory(
+                1L, LedgerType.EXPENSE, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29)))
+        .willReturn(List.of(rows));
+  }
+
+  private static Object[] expense(LocalDate date, Category category, String amount) {
+    return new Object[] {date, category, new BigDecimal(amount)};
+  }
 }
@@ -0,0 +1,163 @@
+package com.codingcat.aipersonalfinance.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.codingcat.aipersonalfinance.domain.budget.BudgetRepository;
+import com.codingcat.aipersonalfinance.domain.budget.BudgetSpentService;
+import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerBatchCreatedEvent;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerChangedEvent;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerSnapshot;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
+import com.codingcat.aipersonalfinance.domain.ledger.PaymentMethod;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * BudgetSpentService 테스트
+ */
+@DisplayName("BudgetSpentService 테스트")
+@ExtendWith(MockitoExtension.class)
+class BudgetSpentServiceTest {
+
+  private static final LocalDate DATE = LocalDate.of(2024, 2, 10);
+
+  @Mock private BudgetRepository budgetRepository;
+
+  private BudgetSpentService budgetSpentService;
+
+  @BeforeEach
+  void setUp() {
+    budgetSpentService = new BudgetSpentService(budgetRepository, 90);
+  }
+
+  @Nested
+  @DisplayName("1. 거래 내역 변경 이벤트")
+  class LedgerChangedTests {
+
+    @Test
+    @DisplayName("1-1. 지출 생성 시 누계에 금액을 더한다")
+    void created() {
+      budgetSpentService.onLedgerChanged(
+          new LedgerChangedEvent(null, expense(Category.FOOD, DATE, "8000")));
+
+      verify(budgetRepository).addSpent(1L, Category.FOOD, DATE, new BigDecimal("8000"));
+    }
+
+    @Test
+    @DisplayName("1-2. 수입은 누계에 반영하지 않는다")
+    void incomeIgnored() {
+      LedgerSnapshot income =
+          new LedgerSnapshot(
+              1L, 1L, LedgerType.INCOME, Category.ETC, PaymentMethod.TRANSFER, DATE,
+              new BigDecimal("3000000"));
+
+      budgetSpentService.onLedgerChanged(new LedgerChangedEvent(null, income));
+
+      verifyNoInteractions(budgetRepository);
+    }
+
+    @Test
+    @DisplayName("1-3. 카테고리나 날짜가 바뀌면 이전 값을 빼고 새 값을 더한다")
+    void moved() {
+      LocalDate nextMonth = DATE.plusMonths(1);
+
+      budgetSpentService.onLedgerChanged(
+          new LedgerChangedEvent(
+              expense(Category.FOOD, DATE, "8000"), expense(Category.CAFE, nextMonth, "9000")));
+
+      verify(budgetRepository).addSpent(1L, Category.FOOD, DATE, new BigDecimal("-8000"));
+      verify(budgetRepository).addSpent(1L, Category.CAFE, nextMonth, new BigDecimal("9000"));
+    }
+
+    @Test
+    @DisplayName("1-4. 금액, 카테고리, 날짜가 같으면 갱신하지 않는다")
+    void unchanged() {
+      budgetSpentService.onLedgerChanged(
+          new LedgerChangedEvent(
+              expense(Category.FOOD, DATE, "8000"), expense(Category.FOOD, DATE, "8000.00")));
+
+      verifyNoInteractions(budgetRepository);
+    }
+
+    @Test
+    @DisplayName("1-5. 지출 삭제 시 누계에서 금액을 뺀다")
+    void deleted() {
+      budgetSpentService.onLedgerChanged(
+          new LedgerChangedEvent(expense(Category.FOOD, DATE, "8000"), null));
+
+      verify(budgetRepository).addSpent(1L, Category.FOOD, DATE, new BigDecimal("-8000"));
+    }
+  }
+
+  @Nested
+  @DisplayName("2. 일괄 생성 이벤트")
+  class LedgerBatchCreatedTests {
+
+    @Test
+    @DisplayName("2-1. (날짜, 카테고리)별로 합산해서 한 번씩만 반영한다")
+    void batchCreated() {
+      LedgerBatchCreatedEvent event =
+          new LedgerBatchCreatedEvent(
+              1L,
+              List.of(
+                  expense(Category.FOOD, DATE, "8000"),
+                  expense(Category.FOOD, DATE, "4500"),
+                  expense(Category.CAFE, DATE, "3000")));
+
+      budgetSpentService.onLedgerBatchCreated(event);
+
+      verify(budgetRepository).addSpent(1L, Category.FOOD, DATE, new BigDecimal("12500"));
+      verify(budgetRepository).addSpent(1L, Category.CAFE, DATE, new BigDecimal("3000"));
+    }
+  }
+
+  @Nested
+  @DisplayName("3. 보정 작업")
+  class ReconcileTests {
+
+    @Test
+    @DisplayName("3-1. 조회 기간 안에 끝나는 예산만 지출 합계로 보정한다")
+    void reconcile() {
+      LocalDate since = LocalDate.now().minusDays(90);
+      LocalDate from = since.minusMonths(1);
+      given(budgetRepository.findEarliestStartDate(since)).willReturn(from);
+      given(budgetRepository.reconcileSpent(LedgerType.EXPENSE, since, from)).willReturn(2);
+
+      budgetSpentService.reconcile();
+
+      verify(budgetRepository).reconcileSpent(eq(LedgerType.EXPENSE), eq(since), eq(from));
+      verify(budgetRepository, never()).addSpent(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("3-2. 대상 예산이 없으면 보정 쿼리를 실행하지 않는다")
+    void reconcileWithoutBudgets() {
+      given(budgetRepository.findEarliestStartDate(any())).willReturn(null);
+
+      budgetSpentService.reconcile();
+
+      verify(budgetRepository, never()).reconcileSpent(any(), any(), any());
+    }
+  }
+
+  // ===== Helper Methods =====
+
+  private static LedgerSnapshot expense(Category category, LocalDate date, String amount) {
+    return new LedgerSnapshot(
+        1L, 1L, LedgerType.EXPENSE, category, PaymentMethod.CARD, date, new BigDecimal(amount));
+  }
+}
@@ -0,0 +1,228 @@
+package com.codingcat.aipersonalfinance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerArchiveRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerArchiveYearRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerExportService;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
+import com.codingcat.aipersonalfinance.domain.ledger.PaymentMethod;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerExportRow;
+import com.codingcat.aipersonalfinance.module.exception.CustomException;
+import com.codingcat.aipersonalfinance.module.model.ServiceType;
+import com.codingcat.aipersonalfinance.module.security.AuthDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * LedgerExportService 테스트
+ */
+@DisplayName("LedgerExportService 테스트")
+@ExtendWith(MockitoExtension.class)
+class LedgerExportServiceTest {
+
+  @Mock private LedgerRepository ledgerRepository;
+  @Mock private LedgerArchiveRepository ledgerArchiveRepository;
+  @Mock private LedgerArchiveYearRepository ledgerArchiveYearRepository;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private final ObjectMapper objectMapper =
+      JsonMapper.builder()
+          .addModule(new JavaTimeModule())
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+          .build();
+
+  private LedgerExportService ledgerExportService;
+  private AuthDto authDto;
+
+  @BeforeEach
+  void setUp() {
+    ledgerExportService =
+        new LedgerExportService(
+            ledgerRepository,
+            ledgerArchiveRepository,
+            ledgerArchiveYearRepository,
+            transactionManager,
+            objectMapper);
+    authDto = AuthDto.builder().email("test@test.com").serviceType(ServiceType.USER).userIdx(1L).build();
+  }
+
+  @Nested
+  @DisplayName("1. 내보내기")
+  class ExportTests {
+
+    @Test
+    @DisplayName("1-1. CSV 로 헤더와 행을 쓰고, 특수문자는 이스케이프하며, 스트림을 닫는다")
+    void exportCsv() throws Exception {
+      // Given
+      AtomicBoolean closed = new AtomicBoolean(false);
+      given(ledgerRepository.streamExportRows(eq(1L), eq(LocalDate.of(2026, 1, 1)), eq(LocalDate.of(2026, 1, 31))))
+          .willReturn(
+              Stream.of(
+                      row(1L, "점심, 김밥", "분식\"집\""),
+                      row(2L, "커피", null))
+                  .onClose(() -> closed.set(true)));
+
+      // When
+      ResponseEntity<StreamingResponseBody> response =
+          ledgerExportService.exportLedgers(
+              authDto, "csv", LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31));
+      String body = write(response.getBody());
+
+      // Then
+      assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+          .contains("ledgers.csv");
+      assertThat(body.split("\n"))
+          .containsExactly(
+              "ledger_idx,recorded_date,type,category,payment_method,amount,desc,place,is_auto_generated",
+              "1,2026-01-10,EXPENSE,FOOD,CARD,8000,\"점심, 김밥\",\"분식\"\"집\"\"\",false",
+              "2,2026-01-10,EXPENSE,FOOD,CARD,8000,커피,,false");
+      assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("1-2. NDJSON 은 한 줄에 한 건의 JSON 을 쓴다")
+    void exportNdjson() throws Exception {
+      // Given
+      given(ledgerRepository.streamExportRows(any(), any(), any()))
+          .willReturn(Stream.of(row(1L, "점심", "식당"), row(2L, "저녁", "식당")));
+
+      // When
+      String body = write(ledgerExportService.exportLedgers(authDto, "NDJSON", null, null).getBody());
+
+      // Then
+      String[] lines = body.split("\n");
+      assertThat(lines).hasSize(2);
+      assertThat(objectMapper.readTree(lines[0]).get("desc").asText()).isEqualTo("점심");
+      assertThat(objectMapper.readTree(lines[1]).get("recordedDate").asText()).isEqualTo("2026-01-10");
+    }
+
+    @Test
+    @DisplayName("1-3. 지원하지 않는 형식이면 조회 없이 예외가 발생한다")
+    void exportInvalidFormat() {
+      assertThatThrownBy(() -> ledgerExportService.exportLedgers(authDto, "xlsx", null, null))
+          .isInstanceOf(CustomException.class);
+
+      verify(ledgerRepository, never()).streamExportRows(any(), any(), any());
+    }
+  }
+
+  @Nested
+  @DisplayName("2. 보관 거래 내역")
+  class ArchiveTests {
+
+    @Test
+    @DisplayName("2-1. 기간이 보관 연도에 걸치면 보관 거래 내역을 (날짜, ID) 순서로 합쳐서 쓰고 두 스트림을 닫는다")
+    void mergesArchivedRows() throws Exception {
+      // Given: 2024년까지 보관됨
+      AtomicBoolean archiveClosed = new AtomicBoolean(false);
+      given(ledgerArchiveYearRepository.findArchivedBefore(1L)).willReturn(LocalDate.of(2025, 1, 1));
+      given(ledgerRepository.streamExportRows(any(), any(), any()))
+          .willReturn(
+              Stream.of(
+                  row(5L, LocalDate.of(2024, 6, 1), "늦게 입력한 지난 거래"),
+                  row(3L, LocalDate.of(2025, 3, 1), "최근")));
+      given(ledgerArchiveRepository.streamExportRows(any(), any(), any()))
+          .willReturn(
+              Stream.of(
+                      row(1L, LocalDate.of(2024, 1, 1), "보관 1"),
+                      row(7L, LocalDate.of(2024, 6, 1), "보관 2"))
+                  .onClose(() -> archiveClosed.set(true)));
+
+      // When
+      String body = write(ledgerExportService.exportLedgers(authDto, "ndjson", null, null).getBody());
+
+      // Then
+      assertThat(body.lines().map(line -> readIdx(line)))
+          .containsExactly(1L, 5L, 7L, 3L);
+      assertThat(archiveClosed).isTrue();
+    }
+
+    @Test
+    @DisplayName("2-2. 시작일이 보관 경계 이후이면 보관 테이블을 읽지 않는다")
+    void skipsArchive() throws Exception {
+      // Given
+      given(ledgerArchiveYearRepository.findArchivedBefore(1L)).willReturn(LocalDate.of(2025, 1, 1));
+      given(ledgerRepository.streamExportRows(any(), any(), any()))
+          .willReturn(Stream.of(row(3L, LocalDate.of(2025, 3, 1), "최근")));
+
+      // When
+      write(
+          ledgerExportService
+              .exportLedgers(authDto, "csv", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31))
+              .getBody());
+
+      // Then
+      verify(ledgerArchiveRepository, never()).streamExportRows(any(), any(), any());
+    }
+  }
+
+  // ===== Helper Methods =====
+
+  private String write(StreamingResponseBody body) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    body.writeTo(out);
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  private long readIdx(String json) {
+    try {
+      return objectMapper.readTree(json).get("ledgerIdx").asLong();
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private LedgerExportRow row(Long idx, LocalDate recordedDate, String desc) {
+    return new LedgerExportRow(
+        idx,
+        recordedDate,
+        LedgerType.EXPENSE,
+        Category.FOOD,
+        PaymentMethod.CARD,
+        new BigDecimal("8000"),
+        desc,
+        null,
+        false);
+  }
+
+  private LedgerExportRow row(Long idx, String desc, String place) {
+    return new LedgerExportRow(
+        idx,
+        LocalDate.of(2026, 1, 10),
+        LedgerType.EXPENSE,
+        Category.FOOD,
+        PaymentMethod.CARD,
+        new BigDecimal("8000"),
+        desc,
+        place,
+        false);
+  }
+}
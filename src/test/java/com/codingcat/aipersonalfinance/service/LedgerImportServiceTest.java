@@ -0,0 +1,165 @@
+package com.codingcat.aipersonalfinance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.codingcat.aipersonalfinance.domain.ledger.Ledger;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerBatchCreatedEvent;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerImportService;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerImportResponse;
+import com.codingcat.aipersonalfinance.domain.user.User;
+import com.codingcat.aipersonalfinance.domain.user.UserRepository;
+import com.codingcat.aipersonalfinance.module.exception.CustomException;
+import com.codingcat.aipersonalfinance.module.model.ServiceType;
+import com.codingcat.aipersonalfinance.module.response.ApiResponseVo;
+import com.codingcat.aipersonalfinance.module.security.AuthDto;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * LedgerImportService 테스트
+ */
+@DisplayName("LedgerImportService 테스트")
+@ExtendWith(MockitoExtension.class)
+class LedgerImportServiceTest {
+
+  private static final String HEADER = "recorded_date,type,category,payment_method,amount,desc,place\n";
+
+  @Mock private LedgerRepository ledgerRepository;
+  @Mock private UserRepository userRepository;
+  @Mock private EntityManager entityManager;
+  @Mock private Session session;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private LedgerImportService ledgerImportService;
+  private AuthDto authDto;
+
+  @BeforeEach
+  void setUp() {
+    ledgerImportService =
+        new LedgerImportService(
+            ledgerRepository,
+            userRepository,
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            entityManager,
+            eventPublisher,
+            transactionManager,
+            2);
+    authDto = AuthDto.builder().email("test@test.com").serviceType(ServiceType.USER).userIdx(1L).build();
+  }
+
+  @Nested
+  @DisplayName("1. 가져오기")
+  class ImportTests {
+
+    @Test
+    @DisplayName("1-1. 배치 크기마다 한 번씩 저장하고 배치 이벤트를 발행한다")
+    @SuppressWarnings("unchecked")
+    void importInBatches() {
+      // Given
+      givenUserAndSession();
+      given(ledgerRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+      String csv =
+          HEADER
+              + "2026-01-01,EXPENSE,FOOD,CARD,8000,점심,식당\n"
+              + "2026-01-02,expense,cafe,card,\"4,500\",커피,\n"
+              + "2026-01-03,INCOME,ETC,TRANSFER,3000000,월급,\n";
+
+      // When
+      LedgerImportResponse response = importCsv(csv);
+
+      // Then
+      assertThat(response.getTotalRows()).isEqualTo(3);
+      assertThat(response.getImportedRows()).isEqualTo(3);
+      assertThat(response.getFailedRows()).isZero();
+
+      ArgumentCaptor<List<Ledger>> captor = ArgumentCaptor.forClass(List.class);
+      verify(ledgerRepository, times(2)).saveAll(captor.capture());
+      assertThat(captor.getAllValues()).extracting(List::size).containsExactly(2, 1);
+      assertThat(captor.getAllValues().get(0).get(1).getAmount()).isEqualByComparingTo("4500");
+
+      verify(eventPublisher, times(2)).publishEvent(any(LedgerBatchCreatedEvent.class));
+      verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("1-2. 검증에 실패한 행은 건너뛰고 줄 번호와 사유를 반환한다")
+    void importWithRowErrors() {
+      // Given
+      givenUserAndSession();
+      given(ledgerRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+      String csv =
+          HEADER
+              + "2026-01-01,EXPENSE,FOOD,CARD,8000,점심,식당\n"
+              + "2026/01/02,EXPENSE,FOOD,CARD,8000,저녁,\n"
+              + "\n"
+              + "2026-01-03,EXPENSE,FOOD,CARD,-100,간식,\n"
+              + "2026-01-04,EXPENSE,UNKNOWN,CARD,100,간식,\n";
+
+      // When
+      LedgerImportResponse response = importCsv(csv);
+
+      // Then
+      assertThat(response.getTotalRows()).isEqualTo(4);
+      assertThat(response.getImportedRows()).isEqualTo(1);
+      assertThat(response.getFailedRows()).isEqualTo(3);
+      assertThat(response.getErrorsTruncated()).isFalse();
+      assertThat(response.getErrors())
+          .extracting(LedgerImportResponse.RowError::getLine)
+          .containsExactly(3L, 5L, 6L);
+      assertThat(response.getErrors().get(1).getMessage()).contains("0보다 커야");
+    }
+
+    @Test
+    @DisplayName("1-3. 필수 컬럼이 없는 헤더면 저장 없이 예외가 발생한다")
+    void importInvalidHeader() {
+      // Given
+      MockMultipartFile file =
+          new MockMultipartFile(
+              "file", "ledgers.csv", "text/csv", "date,amount\n2026-01-01,100\n".getBytes(StandardCharsets.UTF_8));
+
+      // When & Then
+      assertThatThrownBy(() -> ledgerImportService.importLedgers(authDto, file))
+          .isInstanceOf(CustomException.class);
+      verify(ledgerRepository, never()).saveAll(anyList());
+    }
+  }
+
+  // ===== Helper Methods =====
+
+  private void givenUserAndSession() {
+    given(userRepository.getReferenceById(1L)).willReturn(User.createTestUser());
+    given(entityManager.unwrap(Session.class)).willReturn(session);
+  }
+
+  private LedgerImportResponse importCsv(String csv) {
+    MockMultipartFile file =
+        new MockMultipartFile("file", "ledgers.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+    ResponseEntity<?> result = ledgerImportService.importLedgers(authDto, file);
+    ApiResponseVo<?> apiResponse = (ApiResponseVo<?>) result.getBody();
+    return (LedgerImportResponse) apiResponse.getContent();
+  }
+}
@@ -14,6 +14,7 @@ import com.codingcat.aipersonalfinance.domain.ledger.dto.LedgerUpdateRequest;
 import com.codingcat.aipersonalfinance.domain.ledger.LedgerService;
 import com.codingcat.aipersonalfinance.domain.ledger.Category;
 import com.codingcat.aipersonalfinance.domain.ledger.Ledger;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerChangedEvent;
 import com.codingcat.aipersonalfinance.domain.ledger.LedgerRepository;
 import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
 import com.codingcat.aipersonalfinance.domain.ledger.PaymentMethod;
@@ -36,11 +37,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
 
 /**
  * LedgerService 테스트
@@ -51,6 +55,7 @@ class LedgerServiceTest {
 
   @Mock private LedgerRepository ledgerRepository;
   @Mock private UserRepository userRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private LedgerService ledgerService;
 
@@ -61,7 +66,9 @@ class LedgerServiceTest {
   @BeforeEach
   void setUp() {
     testUser = User.createTestUser();
+    ReflectionTestUtils.setField(testUser, "idx", 1L);
     otherUser = User.createTestOtherUser();
+    ReflectionTestUtils.setField(otherUser, "idx", 2L);
 
     testLedger =
         Ledger.builder()
@@ -101,7 +108,7 @@ class LedgerServiceTest {
               .recordedDate(LocalDate.now())
               .build();
 
-      given(userRepository.findByEmail("test@test.com")).willReturn(Optional.of(testUser));
+      given(userRepository.getReferenceById(1L)).willReturn(testUser);
       given(ledgerRepository.save(any(Ledger.class))).willReturn(testLedger);
 
       // When
@@ -114,18 +121,18 @@ class LedgerServiceTest {
       assertThat(response.getType()).isEqualTo(LedgerType.EXPENSE);
       assertThat(response.getAmount()).isEqualByComparingTo(new BigDecimal("50000"));
       assertThat(response.getDesc()).isEqualTo("점심 식사");
-      verify(userRepository).findByEmail("test@test.com");
+      verify(userRepository).getReferenceById(1L);
       verify(ledgerRepository).save(any(Ledger.class));
+      verify(eventPublisher).publishEvent(any(LedgerChangedEvent.class));
     }
 
     @Test
-    @DisplayName("1-2. 존재하지 않는 사용자로 거래 생성 시 예외가 발생한다")
+    @DisplayName("1-2. 인증 정보에 사용자 식별자가 없으면 거래 생성 시 예외가 발생한다")
     void createLedger_UserNotFound() {
       // Given
       AuthDto authDto = AuthDto.builder()
           .email("invalid@test.com")
           .serviceType(ServiceType.USER)
-          .userIdx(999L)
           .build();
       LedgerCreateRequest request =
           LedgerCreateRequest.builder()
@@ -137,13 +144,11 @@ class LedgerServiceTest {
               .recordedDate(LocalDate.now())
               .build();
 
-      given(userRepository.findByEmail("invalid@test.com")).willReturn(Optional.empty());
-
       // When & Then
       assertThatThrownBy(() -> ledgerService.createLedger(authDto, request))
           .isInstanceOf(CustomException.class);
 
-      verify(userRepository).findByEmail("invalid@test.com");
+      verify(userRepository, never()).getReferenceById(any());
       verify(ledgerRepository, never()).save(any(Ledger.class));
     }
   }
@@ -163,7 +168,8 @@ class LedgerServiceTest {
           .userIdx(testUser.getIdx())
           .build();
 
-      given(ledgerRepository.findById(ledgerId)).willReturn(Optional.of(testLedger));
+      given(ledgerRepository.findByIdxAndUser_Idx(ledgerId, testUser.getIdx()))
+          .willReturn(Optional.of(testLedger));
 
       // When
       ResponseEntity<?> result = ledgerService.getLedger(authDto, ledgerId);
@@ -173,7 +179,7 @@ class LedgerServiceTest {
       // Then
       assertThat(response).isNotNull();
       assertThat(response.getDesc()).isEqualTo("점심 식사");
-      verify(ledgerRepository).findById(ledgerId);
+      verify(ledgerRepository).findByIdxAndUser_Idx(ledgerId, testUser.getIdx());
     }
 
     @Test
@@ -187,11 +193,14 @@ class LedgerServiceTest {
           .userIdx(testUser.getIdx())
           .build();
 
-      given(ledgerRepository.findById(ledgerId)).willReturn(Optional.empty());
+      given(ledgerRepository.findByIdxAndUser_Idx(ledgerId, testUser.getIdx()))
+          .willReturn(Optional.empty());
+      given(ledgerRepository.existsById(ledgerId)).willReturn(false);
 
       // When & Then
       assertThatThrownBy(() -> ledgerService.getLedger(authDto, ledgerId))
-          .isInstanceOf(CustomException.class);
+          .isInstanceOf(CustomException.class)
+          .hasFieldOrPropertyWithValue("httpStatus", HttpStatus.NOT_FOUND);
     }
 
     @Test
@@ -205,11 +214,13 @@ class LedgerServiceTest {
           .userIdx(999L)
           .build();
 
-      given(ledgerRepository.findById(ledgerId)).willReturn(Optional.of(testLedger));
+      given(ledgerRepository.findByIdxAndUser_Idx(ledgerId, 999L)).willReturn(Optional.empty());
+      given(ledgerRepository.existsById(ledgerId)).willReturn(true);
 
       // When & Then
       assertThatThrownBy(() -> ledgerService.getLedger(authDto, ledgerId))
-          .isInstanceOf(CustomException.class);
+          .isInstanceOf(CustomException.class)
+          .hasFieldOrPropertyWithValue("httpStatus", HttpStatus.FORBIDDEN);
     }
   }
 
@@ -234,7 +245,8 @@ class LedgerServiceTest {
               .place("레스토랑")
               .build();
 
-      given(ledgerRepository.findById(ledgerId)).willReturn(Optional.of(testLedger));
+      given(ledgerRepository.findByIdxAndUser_Idx(ledgerId, testUser.getIdx()))
+          .willReturn(Optional.of(testLedger));
 
       // When
       ResponseEntity<?> result = ledgerService.updateLedger(authDto, ledgerId, request);
@@ -243,7 +255,7 @@ class LedgerServiceTest {
 
       // Then
       assertThat(response).isNotNull();
-      verify(ledgerRepository).findById(ledgerId);
+      verify(ledgerRepository).findByIdxAndUser_Idx(ledgerId, testUser.getIdx());
     }
 
     @Test
@@ -259,11 +271,13 @@ class LedgerServiceTest {
       LedgerUpdateRequest request =
           LedgerUpdateRequest.builder().amount(new BigDecimal("60000")).build();
 
-      given(ledgerRepository.findById(ledgerId)).willReturn(Optional.of(testLedger));
+      given(ledgerRepository.findByIdxAndUser_Idx(ledgerId, 999L)).willReturn(Optional.empty());
+      given(ledgerRepository.existsById(ledgerId)).willReturn(true);
 
       // When & Then
       assertThatThrownBy(() -> ledgerService.updateLedger(authDto, ledgerId, request))
-          .isInstanceOf(CustomException.class);
+          .isInstanceOf(CustomException.class)
+          .hasFieldOrPropertyWithValue("httpStatus", HttpStatus.FORBIDDEN);
     }
 
     @Test
@@ -279,11 +293,14 @@ class LedgerServiceTest {
       LedgerUpdateRequest request =
           LedgerUpdateRequest.builder().amount(new BigDecimal("60000")).build();
 
-      given(ledgerRepository.findById(ledgerId)).willReturn(Optional.empty());
+      given(ledgerRepository.findByIdxAndUser_Idx(ledgerId, testUser.getIdx()))
+          .willReturn(Optional.empty());
+      given(ledgerRepository.existsById(ledgerId)).willReturn(false);
 
       // When & Then
       assertThatThrownBy(() -> ledgerService.updateLedger(authDto, ledgerId, request))
-          .isInstanceOf(CustomException.class);
+          .isInstanceOf(CustomException.class)
+          .hasFieldOrPropertyWithValue("httpStatus", HttpStatus.NOT_FOUND);
     }
   }
 
@@ -302,7 +319,8 @@ class LedgerServiceTest {
           .userIdx(testUser.getIdx())
           .build();
 
-      given(ledgerRepository.findById(ledgerId)).willReturn(Optional.of(testLedger));
+      given(ledgerRepository.findByIdxAndUser_Idx(ledgerId, testUser.getIdx()))
+          .willReturn(Optional.of(testLedger));
 
       // When
       ResponseEntity<?> result = ledgerService.deleteLedger(authDto, ledgerId);
@@ -310,7 +328,7 @@ class LedgerServiceTest {
       // Then
       assertThat(result).isNotNull();
       assertThat(result.getStatusCode().value()).isEqualTo(200);
-      verify(ledgerRepository).findById(ledgerId);
+      verify(ledgerRepository).findByIdxAndUser_Idx(ledgerId, testUser.getIdx());
       // Note: In unit tests with mocked repositories, we verify behavior not state
       // The actual soft delete timestamp would be verified in integration tests
     }
@@ -326,11 +344,13 @@ class LedgerServiceTest {
           .userIdx(999L)
           .build();
 
-      given(ledgerRepository.findById(ledgerId)).willReturn(Optional.of(testLedger));
+      given(ledgerRepository.findByIdxAndUser_Idx(ledgerId, 999L)).willReturn(Optional.empty());
+      given(ledgerRepository.existsById(ledgerId)).willReturn(true);
 
       // When & Then
       assertThatThrownBy(() -> ledgerService.deleteLedger(authDto, ledgerId))
-          .isInstanceOf(CustomException.class);
+          .isInstanceOf(CustomException.class)
+          .hasFieldOrPropertyWithValue("httpStatus", HttpStatus.FORBIDDEN);
     }
   }
 
@@ -351,7 +371,7 @@ class LedgerServiceTest {
       List<Ledger> ledgers = List.of(testLedger);
       Page<Ledger> ledgerPage = new PageImpl<>(ledgers, pageable, 1);
 
-      given(userRepository.findByEmail("test@test.com")).willReturn(Optional.of(testUser));
+      given(userRepository.getReferenceById(1L)).willReturn(testUser);
       given(ledgerRepository.findByPageInLedger(testUser, null, pageable))
           .willReturn(ledgerPage);
 
@@ -385,7 +405,7 @@ class LedgerServiceTest {
       List<Ledger> ledgers = List.of(testLedger);
       Page<Ledger> ledgerPage = new PageImpl<>(ledgers, pageable, 1);
 
-      given(userRepository.findByEmail("test@test.com")).willReturn(Optional.of(testUser));
+      given(userRepository.getReferenceById(1L)).willReturn(testUser);
       given(ledgerRepository.findByPageInLedger(testUser, condition, pageable))
           .willReturn(ledgerPage);
 
@@ -399,5 +419,34 @@ class LedgerServiceTest {
       assertThat(response).isNotNull();
       assertThat(response.getData()).isNotEmpty();
     }
+
+    @Test
+    @DisplayName("5-3. 커서 모드에서는 한 건을 더 조회해서 nextCursor를 만든다")
+    void getLedgerList_CursorMode() {
+      // Given
+      AuthDto authDto = AuthDto.builder()
+          .email("test@test.com")
+          .serviceType(ServiceType.USER)
+          .userIdx(testUser.getIdx())
+          .build();
+      LedgerSearchRequest condition = LedgerSearchRequest.builder().cursor("").build();
+      Pageable pageable = PageRequest.of(0, 1);
+
+      given(userRepository.getReferenceById(1L)).willReturn(testUser);
+      given(ledgerRepository.findBySliceInLedger(testUser, condition, null, 2))
+          .willReturn(List.of(testLedger, testLedger));
+
+      // When
+      ResponseEntity<?> result = ledgerService.getLedgerList(authDto, condition, pageable);
+      ApiResponseVo<?> apiResponse = (ApiResponseVo<?>) result.getBody();
+      @SuppressWarnings("unchecked")
+      PageResponse<LedgerResponse> response = (PageResponse<LedgerResponse>) apiResponse.getContent();
+
+      // Then
+      assertThat(response.getData()).hasSize(1);
+      assertThat(response.getHasNext()).isTrue();
+      assertThat(response.getNextCursor()).isNotNull();
+      verify(ledgerRepository, never()).findByPageInLedger(any(), any(), any());
+    }
   }
 }
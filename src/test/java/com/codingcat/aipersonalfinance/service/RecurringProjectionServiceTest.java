@@ -0,0 +1,266 @@
+package com.codingcat.aipersonalfinance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import com.codingcat.aipersonalfinance.domain.budget.Budget;
+import com.codingcat.aipersonalfinance.domain.budget.BudgetPeriod;
+import com.codingcat.aipersonalfinance.domain.budget.BudgetRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerDailyAggRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
+import com.codingcat.aipersonalfinance.domain.ledger.PaymentMethod;
+import com.codingcat.aipersonalfinance.domain.recurring.RecurrencePattern;
+import com.codingcat.aipersonalfinance.domain.recurring.RecurringProjectionService;
+import com.codingcat.aipersonalfinance.domain.recurring.RecurringTransaction;
+import com.codingcat.aipersonalfinance.domain.recurring.RecurringTransactionRepository;
+import com.codingcat.aipersonalfinance.domain.recurring.dto.CashFlowProjectionResponse;
+import com.codingcat.aipersonalfinance.domain.recurring.dto.DailyCashFlow;
+import com.codingcat.aipersonalfinance.domain.user.User;
+import com.codingcat.aipersonalfinance.domain.user.UserRepository;
+import com.codingcat.aipersonalfinance.module.exception.CustomException;
+import com.codingcat.aipersonalfinance.module.model.ServiceType;
+import com.codingcat.aipersonalfinance.module.response.ApiResponseVo;
+import com.codingcat.aipersonalfinance.module.security.AuthDto;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * RecurringProjectionService 테스트
+ */
+@DisplayName("RecurringProjectionService 테스트")
+@ExtendWith(MockitoExtension.class)
+class RecurringProjectionServiceTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2024, 3, 10);
+
+  @Mock private RecurringTransactionRepository recurringTransactionRepository;
+  @Mock private BudgetRepository budgetRepository;
+  @Mock private LedgerDailyAggRepository ledgerDailyAggRepository;
+  @Mock private UserRepository userRepository;
+
+  @InjectMocks private RecurringProjectionService recurringProjectionService;
+
+  private User testUser;
+  private AuthDto authDto;
+
+  @BeforeEach
+  void setUp() {
+    testUser = User.createTestUser();
+    ReflectionTestUtils.setField(testUser, "idx", 1L);
+    authDto =
+        AuthDto.builder()
+            .email("test@test.com")
+            .serviceType(ServiceType.USER)
+            .userIdx(testUser.getIdx())
+            .build();
+  }
+
+  @Nested
+  @DisplayName("1. 정기 거래 회차")
+  class OccurrenceTests {
+
+    @Test
+    @DisplayName("1-1. 시작 잔액에 기간 내 수입과 확정 지출을 더해 날짜별 예상 잔액을 만든다")
+    void projectsBalance() {
+      // Given: 잔액 1,000,000, 매월 25일 급여 3,000,000, 매월 1일 월세 800,000
+      givenBalance("3000000", "2000000");
+      givenRecurring(
+          recurring(LedgerType.INCOME, "3000000", RecurrencePattern.MONTHLY, 1, LocalDate.of(2024, 3, 25), 25),
+          recurring(LedgerType.EXPENSE, "800000", RecurrencePattern.MONTHLY, 1, LocalDate.of(2024, 4, 1), 1));
+      givenBudgets();
+
+      // When: 2024-03-10 ~ 2024-05-09
+      CashFlowProjectionResponse response = project(2);
+
+      // Then
+      assertThat(response.getToDate()).isEqualTo(LocalDate.of(2024, 5, 9));
+      assertThat(response.getDays()).hasSize(61);
+      assertThat(response.getStartingBalance()).isEqualByComparingTo("1000000");
+      assertThat(response.getTotalIncome()).isEqualByComparingTo("6000000");
+      assertThat(response.getTotalCommittedExpense()).isEqualByComparingTo("1600000");
+      assertThat(response.getEndingBalance()).isEqualByComparingTo("5400000");
+      assertThat(day(response, LocalDate.of(2024, 4, 1)).getBalance()).isEqualByComparingTo("3200000");
+      assertThat(response.getLowestBalance()).isEqualByComparingTo("1000000");
+      assertThat(response.getLowestBalanceDate()).isEqualTo(TODAY);
+    }
+
+    @Test
+    @DisplayName("1-2. 매월 실행 일자가 없는 달은 말일로 맞춘다 (실행 규칙과 동일)")
+    void clampsExecutionDay() {
+      givenBalance("0", "0");
+      givenRecurring(
+          recurring(LedgerType.EXPENSE, "10000", RecurrencePattern.MONTHLY, 1, LocalDate.of(2024, 3, 31), 31));
+      givenBudgets();
+
+      CashFlowProjectionResponse response = project(3);
+
+      assertThat(expenseDates(response))
+          .containsExactly(
+              LocalDate.of(2024, 3, 31), LocalDate.of(2024, 4, 30), LocalDate.of(2024, 5, 31));
+    }
+
+    @Test
+    @DisplayName("1-3. 아직 실행되지 않은 지난 회차는 첫날에 반영하고, 종료일 이후 회차는 만들지 않는다")
+    void overdueAndEndDate() {
+      // Given: 매주 10,000, 다음 실행일 3/1 (3/1, 3/8 밀림), 종료일 3/20
+      givenBalance("0", "0");
+      RecurringTransaction weekly =
+          recurring(LedgerType.EXPENSE, "10000", RecurrencePattern.WEEKLY, 1, LocalDate.of(2024, 3, 1), null);
+      ReflectionTestUtils.setField(weekly, "endDate", LocalDate.of(2024, 3, 20));
+      givenRecurring(weekly);
+      givenBudgets();
+
+      CashFlowProjectionResponse response = project(1);
+
+      assertThat(day(response, TODAY).getCommittedExpense()).isEqualByComparingTo("20000");
+      assertThat(expenseDates(response))
+          .containsExactly(TODAY, LocalDate.of(2024, 3, 15));
+      assertThat(response.getTotalCommittedExpense()).isEqualByComparingTo("30000");
+    }
+  }
+
+  @Nested
+  @DisplayName("2. 예산")
+  class BudgetTests {
+
+    @Test
+    @DisplayName("2-1. 남은 예산에서 확정 지출을 뺀 금액을 남은 기간에 나눠 예상 지출로 더한다")
+    void spreadsRemainingBudget() {
+      // Given: 3월 전체 예산 342,000 중 100,000 사용, 3/20 정기 지출 22,000
+      givenBalance("0", "0");
+      givenRecurring(
+          recurring(LedgerType.EXPENSE, "22000", RecurrencePattern.MONTHLY, 1, LocalDate.of(2024, 3, 20), 20));
+      givenBudgets(budget(null, "342000", "100000", LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)));
+
+      CashFlowProjectionResponse response = project(1);
+
+      // Then: (342,000 - 100,000 - 22,000) / 22일 = 10,000
+      assertThat(day(response, TODAY).getBudgetedExpense()).isEqualByComparingTo("10000");
+      assertThat(day(response, LocalDate.of(2024, 3, 31)).getBudgetedExpense())
+          .isEqualByComparingTo("10000");
+      assertThat(day(response, LocalDate.of(2024, 4, 1)).getBudgetedExpense()).isZero();
+      assertThat(response.getTotalBudgetedExpense()).isEqualByComparingTo("220000");
+      assertThat(response.getEndingBalance()).isEqualByComparingTo("-242000");
+    }
+
+    @Test
+    @DisplayName("2-2. 전체 예산이 있는 날은 카테고리 예산을 더하지 않는다")
+    void overallBudgetTakesPrecedence() {
+      givenBalance("0", "0");
+      givenRecurring();
+      givenBudgets(
+          budget(null, "110000", "0", TODAY, LocalDate.of(2024, 3, 20)),
+          budget(Category.FOOD, "440000", "0", TODAY, LocalDate.of(2024, 3, 31)));
+
+      CashFlowProjectionResponse response = project(1);
+
+      assertThat(day(response, TODAY).getBudgetedExpense()).isEqualByComparingTo("10000");
+      assertThat(day(response, LocalDate.of(2024, 3, 21)).getBudgetedExpense())
+          .isEqualByComparingTo("20000");
+      assertThat(response.getTotalBudgetedExpense()).isEqualByComparingTo("330000");
+    }
+  }
+
+  @Nested
+  @DisplayName("3. 요청 검증")
+  class ValidationTests {
+
+    @Test
+    @DisplayName("3-1. 예측 기간이 1 ~ 24개월을 벗어나면 400 에러")
+    void invalidMonths() {
+      assertThatThrownBy(() -> recurringProjectionService.getProjection(authDto, 0, TODAY))
+          .isInstanceOf(CustomException.class)
+          .extracting("httpStatus")
+          .isEqualTo(HttpStatus.BAD_REQUEST);
+      assertThatThrownBy(() -> recurringProjectionService.getProjection(authDto, 25, TODAY))
+          .isInstanceOf(CustomException.class);
+    }
+  }
+
+  // ===== Helper Methods =====
+
+  private CashFlowProjectionResponse project(int months) {
+    ApiResponseVo<?> apiResponse =
+        (ApiResponseVo<?>) recurringProjectionService.getProjection(authDto, months, TODAY).getBody();
+    return (CashFlowProjectionResponse) apiResponse.getContent();
+  }
+
+  private void givenBalance(String income, String expense) {
+    given(userRepository.getReferenceById(1L)).willReturn(testUser);
+    given(ledgerDailyAggRepository.sumByTypeUntil(1L, TODAY))
+        .willReturn(
+            List.of(
+                new Object[] {LedgerType.INCOME, new BigDecimal(income)},
+                new Object[] {LedgerType.EXPENSE, new BigDecimal(expense)}));
+  }
+
+  private void givenRecurring(RecurringTransaction... recurrings) {
+    given(recurringTransactionRepository.findByUserAndIsActiveTrue(any(User.class)))
+        .willReturn(List.of(recurrings));
+  }
+
+  private void givenBudgets(Budget... budgets) {
+    given(budgetRepository.findByUserAndIsActiveTrue(any(User.class))).willReturn(List.of(budgets));
+  }
+
+  private RecurringTransaction recurring(
+      LedgerType type, String amount, RecurrencePattern pattern, int interval,
+      LocalDate nextExecutionDate, Integer executionDayOfMonth) {
+    return RecurringTransaction.builder()
+        .user(testUser)
+        .name("정기 거래")
+        .type(type)
+        .amount(new BigDecimal(amount))
+        .description("정기 거래")
+        .category(Category.FOOD)
+        .paymentMethod(PaymentMethod.CARD)
+        .recurrencePattern(pattern)
+        .recurrenceInterval(interval)
+        .startDate(nextExecutionDate)
+        .nextExecutionDate(nextExecutionDate)
+        .executionDayOfMonth(executionDayOfMonth)
+        .build();
+  }
+
+  private Budget budget(
+      Category category, String amount, String spent, LocalDate startDate, LocalDate endDate) {
+    return Budget.builder()
+        .user(testUser)
+        .name("예산")
+        .budgetPeriod(BudgetPeriod.MONTHLY)
+        .startDate(startDate)
+        .endDate(endDate)
+        .amount(new BigDecimal(amount))
+        .spentAmount(new BigDecimal(spent))
+        .category(category)
+        .build();
+  }
+
+  private static DailyCashFlow day(CashFlowProjectionResponse response, LocalDate date) {
+    return response.getDays().stream()
+        .filter(day -> day.getDate().equals(date))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private static List<LocalDate> expenseDates(CashFlowProjectionResponse response) {
+    return response.getDays().stream()
+        .filter(day -> day.getCommittedExpense().signum() > 0)
+        .map(DailyCashFlow::getDate)
+        .toList();
+  }
+}
@@ -3,16 +3,29 @@ package com.codingcat.aipersonalfinance.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.codingcat.aipersonalfinance.domain.statistics.CategoryStatsResponse;
+import com.codingcat.aipersonalfinance.domain.statistics.DashboardResponse;
+import com.codingcat.aipersonalfinance.domain.statistics.LedgerColumnarStore;
 import com.codingcat.aipersonalfinance.domain.statistics.MonthlyStatsResponse;
 import com.codingcat.aipersonalfinance.domain.statistics.PaymentMethodStatsResponse;
 import com.codingcat.aipersonalfinance.domain.statistics.TrendResponse;
+import com.codingcat.aipersonalfinance.domain.statistics.StatisticsCache;
 import com.codingcat.aipersonalfinance.domain.statistics.StatisticsService;
 import com.codingcat.aipersonalfinance.domain.ledger.Category;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerDailyAgg;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerArchiveYearRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerDailyAggRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerBulkRemovedEvent;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerChangedEvent;
 import com.codingcat.aipersonalfinance.domain.ledger.LedgerRepository;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerSnapshot;
+import com.codingcat.aipersonalfinance.domain.ledger.LedgerType;
 import com.codingcat.aipersonalfinance.domain.ledger.PaymentMethod;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.CategorySummary;
 import com.codingcat.aipersonalfinance.domain.ledger.dto.MonthlySummary;
@@ -23,10 +36,14 @@ import com.codingcat.aipersonalfinance.module.model.ServiceType;
 import com.codingcat.aipersonalfinance.module.response.ApiResponseVo;
 import com.codingcat.aipersonalfinance.module.security.AuthDto;
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,8 +51,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
 
 /**
  * StatisticsService 테스트
@@ -46,9 +67,22 @@ class StatisticsServiceTest {
     @Mock
     private LedgerRepository ledgerRepository;
 
+    @Mock
+    private LedgerDailyAggRepository ledgerDailyAggRepository;
+
+    @Mock
+    private LedgerArchiveYearRepository ledgerArchiveYearRepository;
+
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private StatisticsCache statisticsCache =
+            new StatisticsCache(100, Duration.ofMinutes(5), Clock.systemUTC());
+
+    @Mock
+    private LedgerColumnarStore ledgerColumnarStore;
+
     @InjectMocks
     private StatisticsService statisticsService;
 
@@ -57,6 +91,7 @@ class StatisticsServiceTest {
     @BeforeEach
     void setUp() {
         testUser = User.createTestUser();
+        ReflectionTestUtils.setField(testUser, "idx", 1L);
     }
 
     @Nested
@@ -92,7 +127,7 @@ class StatisticsServiceTest {
                             .build()
             );
 
-            when(userRepository.findByEmail("test@test.com")).thenReturn(Optional.of(testUser));
+            when(userRepository.getReferenceById(1L)).thenReturn(testUser);
             when(ledgerRepository.getMonthlySummary(eq(testUser), eq(startDate), eq(endDate)))
                     .thenReturn(summaries);
 
@@ -142,7 +177,7 @@ class StatisticsServiceTest {
                             .build()
             );
 
-            when(userRepository.findByEmail("test@test.com")).thenReturn(Optional.of(testUser));
+            when(userRepository.getReferenceById(1L)).thenReturn(testUser);
             when(ledgerRepository.getCategorySummary(eq(testUser), eq(startDate), eq(endDate)))
                     .thenReturn(summaries);
 
@@ -178,7 +213,7 @@ class StatisticsServiceTest {
                     .userIdx(testUser.getIdx())
                     .build();
 
-            when(userRepository.findByEmail("test@test.com")).thenReturn(Optional.of(testUser));
+            when(userRepository.getReferenceById(1L)).thenReturn(testUser);
             when(ledgerRepository.getCategorySummary(eq(testUser), eq(startDate), eq(endDate)))
                     .thenReturn(Arrays.asList());
 
@@ -223,7 +258,7 @@ class StatisticsServiceTest {
                             .build()
             );
 
-            when(userRepository.findByEmail("test@test.com")).thenReturn(Optional.of(testUser));
+            when(userRepository.getReferenceById(1L)).thenReturn(testUser);
             when(ledgerRepository.getPaymentMethodSummary(eq(testUser), eq(startDate), eq(endDate)))
                     .thenReturn(summaries);
 
@@ -275,7 +310,7 @@ class StatisticsServiceTest {
                             .build()
             );
 
-            when(userRepository.findByEmail("test@test.com")).thenReturn(Optional.of(testUser));
+            when(userRepository.getReferenceById(1L)).thenReturn(testUser);
             when(ledgerRepository.getMonthlySummary(eq(testUser), any(LocalDate.class), any(LocalDate.class)))
                     .thenReturn(summaries);
 
@@ -320,7 +355,7 @@ class StatisticsServiceTest {
                             .build()
             );
 
-            when(userRepository.findByEmail("test@test.com")).thenReturn(Optional.of(testUser));
+            when(userRepository.getReferenceById(1L)).thenReturn(testUser);
             when(ledgerRepository.getTopCategories(eq(testUser), eq(startDate), eq(endDate), eq(limit)))
                     .thenReturn(summaries);
 
@@ -338,4 +373,417 @@ class StatisticsServiceTest {
             verify(ledgerRepository).getTopCategories(testUser, startDate, endDate, limit);
         }
     }
+
+    @Nested
+    @DisplayName("대시보드 통계 조회")
+    class GetDashboardTest {
+
+        @Test
+        @DisplayName("한 번의 집계 조회로 모든 섹션을 계산한다")
+        void getDashboard_SinglePass() {
+            // Given: 1월(전월) 지출 1건, 2월(당월) 수입/지출
+            LocalDate startDate = LocalDate.of(2026, 2, 1);
+            LocalDate endDate = LocalDate.of(2026, 2, 28);
+            LocalDate targetMonth = LocalDate.of(2026, 2, 1);
+            AuthDto authDto = AuthDto.builder()
+                    .email("test@test.com")
+                    .serviceType(ServiceType.USER)
+                    .userIdx(testUser.getIdx())
+                    .build();
+
+            List<LedgerDailyAgg> rows = Arrays.asList(
+                    aggRow(LocalDate.of(2026, 1, 20), LedgerType.EXPENSE, Category.FOOD, "100000", 2L),
+                    aggRow(LocalDate.of(2026, 2, 3), LedgerType.EXPENSE, Category.FOOD, "90000", 3L),
+                    aggRow(LocalDate.of(2026, 2, 4), LedgerType.EXPENSE, Category.CAFE, "60000", 1L),
+                    aggRow(LocalDate.of(2026, 2, 25), LedgerType.INCOME, Category.ETC, "3000000", 1L)
+            );
+
+            when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+            when(ledgerDailyAggRepository.findRowsInRange(any(), eq(LocalDate.of(2026, 1, 1)), eq(endDate)))
+                    .thenReturn(rows);
+
+            // When
+            ResponseEntity<?> responseEntity = statisticsService.getDashboard(
+                    authDto, startDate, endDate, targetMonth, 1);
+            ApiResponseVo<?> apiResponse = (ApiResponseVo<?>) responseEntity.getBody();
+            DashboardResponse result = (DashboardResponse) apiResponse.getContent();
+
+            // Then: 통계 기간(2월)만 반영
+            assertThat(result.getMonthly()).hasSize(1);
+            assertThat(result.getMonthly().get(0).getTotalExpense()).isEqualByComparingTo(new BigDecimal("150000"));
+            assertThat(result.getCategories()).hasSize(2);
+            assertThat(result.getCategories().get(0).getCategory()).isEqualTo(Category.FOOD);
+            assertThat(result.getCategories().get(0).getPercentage()).isEqualByComparingTo(new BigDecimal("60.00"));
+            assertThat(result.getPaymentMethods()).hasSize(1);
+            assertThat(result.getTopCategories()).hasSize(1);
+            // 트렌드는 전월 포함: (150000 - 100000) / 100000 * 100 = 50%
+            assertThat(result.getTrend().getExpenseChangeRate()).isEqualByComparingTo(new BigDecimal("50.00"));
+            assertThat(result.getDbTimeMs()).isNotNull();
+
+            verify(ledgerRepository, never()).getMonthlySummary(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("통계 기간과 트렌드 기간이 떨어져 있으면 사이 구간은 읽지 않는다")
+        void getDashboard_DisjointRanges() {
+            // Given: 통계 기간 2025년 6월, 트렌드 기간 2026년 1~2월
+            LocalDate startDate = LocalDate.of(2025, 6, 1);
+            LocalDate endDate = LocalDate.of(2025, 6, 30);
+            LocalDate targetMonth = LocalDate.of(2026, 2, 1);
+            AuthDto authDto = AuthDto.builder()
+                    .email("test@test.com")
+                    .serviceType(ServiceType.USER)
+                    .userIdx(testUser.getIdx())
+                    .build();
+
+            when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+            when(ledgerDailyAggRepository.findRowsInRange(any(), eq(startDate), eq(endDate)))
+                    .thenReturn(List.of(
+                            aggRow(LocalDate.of(2025, 6, 10), LedgerType.EXPENSE, Category.FOOD, "30000", 1L)));
+            when(ledgerDailyAggRepository.findRowsInRange(
+                    any(), eq(LocalDate.of(2026, 1, 1)), eq(LocalDate.of(2026, 2, 28))))
+                    .thenReturn(Arrays.asList(
+                            aggRow(LocalDate.of(2026, 1, 20), LedgerType.EXPENSE, Category.FOOD, "100000", 2L),
+                            aggRow(LocalDate.of(2026, 2, 3), LedgerType.EXPENSE, Category.CAFE, "150000", 3L)));
+
+            // When
+            ResponseEntity<?> responseEntity = statisticsService.getDashboard(
+                    authDto, startDate, endDate, targetMonth, 1);
+            DashboardResponse result = (DashboardResponse) ((ApiResponseVo<?>) responseEntity.getBody()).getContent();
+
+            // Then: 7~12월은 읽지 않고, 각 기간의 통계는 그대로 계산
+            assertThat(result.getMonthly()).hasSize(1);
+            assertThat(result.getMonthly().get(0).getTotalExpense()).isEqualByComparingTo(new BigDecimal("30000"));
+            assertThat(result.getTrend().getExpenseChangeRate()).isEqualByComparingTo(new BigDecimal("50.00"));
+            verify(ledgerDailyAggRepository, times(2)).findRowsInRange(any(), any(), any());
+        }
+
+        private LedgerDailyAgg aggRow(LocalDate date, LedgerType type, Category category,
+                                      String amount, Long count) {
+            return LedgerDailyAgg.builder()
+                    .aggDate(date)
+                    .type(type)
+                    .category(category)
+                    .paymentMethod(PaymentMethod.CARD)
+                    .totalAmount(new BigDecimal(amount))
+                    .txCount(count)
+                    .build();
+        }
+    }
+
+    @Nested
+    @DisplayName("통계 캐시")
+    class StatisticsCacheTest {
+
+        private final LocalDate startDate = LocalDate.of(2026, 1, 1);
+        private final LocalDate endDate = LocalDate.of(2026, 1, 31);
+        private AuthDto authDto;
+
+        @BeforeEach
+        void setUp() {
+            authDto = AuthDto.builder()
+                    .email("test@test.com")
+                    .serviceType(ServiceType.USER)
+                    .userIdx(testUser.getIdx())
+                    .build();
+            when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+            when(ledgerRepository.getMonthlySummary(any(), any(), any())).thenReturn(List.of());
+        }
+
+        @Test
+        @DisplayName("같은 조건의 두 번째 조회는 캐시에서 반환한다")
+        void cacheHit() {
+            statisticsService.getMonthlyStatistics(authDto, startDate, endDate);
+            statisticsService.getMonthlyStatistics(authDto, startDate, endDate);
+
+            verify(ledgerRepository, times(1)).getMonthlySummary(testUser, startDate, endDate);
+            assertThat(statisticsCache.stats().hits()).isEqualTo(1);
+            assertThat(statisticsCache.stats().misses()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("거래 날짜가 캐시 기간 안으로 옮겨지면 해당 항목을 무효화한다")
+        void invalidateOnDateMove() {
+            statisticsService.getMonthlyStatistics(authDto, startDate, endDate);
+
+            // 기간 밖(2월) → 기간 안(1월)으로 이동한 수정
+            statisticsCache.onLedgerChanged(new LedgerChangedEvent(
+                    snapshot(LocalDate.of(2026, 2, 10), "10000"),
+                    snapshot(LocalDate.of(2026, 1, 10), "10000")));
+            statisticsService.getMonthlyStatistics(authDto, startDate, endDate);
+
+            verify(ledgerRepository, times(2)).getMonthlySummary(testUser, startDate, endDate);
+            assertThat(statisticsCache.stats().invalidations()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("기간과 겹치지 않는 변경은 캐시를 유지한다")
+        void keepOnUnrelatedChange() {
+            statisticsService.getMonthlyStatistics(authDto, startDate, endDate);
+
+            statisticsCache.onLedgerChanged(createdEvent(LocalDate.of(2026, 3, 5)));
+            statisticsService.getMonthlyStatistics(authDto, startDate, endDate);
+
+            verify(ledgerRepository, times(1)).getMonthlySummary(testUser, startDate, endDate);
+            assertThat(statisticsCache.stats().invalidations()).isZero();
+        }
+
+        private LedgerChangedEvent createdEvent(LocalDate recordedDate) {
+            return new LedgerChangedEvent(null, snapshot(recordedDate, "5000"));
+        }
+
+        private LedgerSnapshot snapshot(LocalDate recordedDate, String amount) {
+            return new LedgerSnapshot(1L, testUser.getIdx(), LedgerType.EXPENSE, Category.FOOD,
+                    PaymentMethod.CARD, recordedDate, new BigDecimal(amount));
+        }
+    }
+
+    @Nested
+    @DisplayName("통계 캐시 최신 여부 확인 (여러 서버)")
+    class StatisticsCacheFreshnessTest {
+
+        private final LocalDate startDate = LocalDate.of(2026, 1, 1);
+        private final LocalDate endDate = LocalDate.of(2026, 1, 31);
+        private final LocalDateTime cachedAt = LocalDateTime.of(2026, 1, 25, 9, 0);
+        private final LocalDateTime modifiedAt = LocalDateTime.of(2026, 1, 26, 9, 0);
+        private AuthDto authDto;
+        private StatisticsCache cache;
+        private StatisticsService service;
+
+        @BeforeEach
+        void setUp() {
+            authDto = AuthDto.builder()
+                    .email("test@test.com")
+                    .serviceType(ServiceType.USER)
+                    .userIdx(testUser.getIdx())
+                    .build();
+            cache = new StatisticsCache(ledgerRepository, 100, Duration.ofMinutes(5), true,
+                    Clock.systemUTC());
+            service = new StatisticsService(ledgerRepository, ledgerDailyAggRepository,
+                    ledgerArchiveYearRepository, userRepository, cache, ledgerColumnarStore);
+            when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+            when(ledgerRepository.getMonthlySummary(any(), any(), any())).thenReturn(List.of());
+        }
+
+        @Test
+        @DisplayName("다른 서버의 변경으로 마지막 수정 시각이 바뀌면 TTL 전이라도 다시 계산한다")
+        void reloadWhenModifiedElsewhere() {
+            // Given: 세 번째 조회 전에 다른 서버가 거래 내역을 수정 (이 서버에는 이벤트가 오지 않음)
+            when(ledgerRepository.findLastModifiedAt(1L)).thenReturn(cachedAt, cachedAt, modifiedAt);
+
+            // When
+            service.getMonthlyStatistics(authDto, startDate, endDate);
+            service.getMonthlyStatistics(authDto, startDate, endDate);
+            service.getMonthlyStatistics(authDto, startDate, endDate);
+
+            // Then
+            verify(ledgerRepository, times(2)).getMonthlySummary(testUser, startDate, endDate);
+            assertThat(cache.stats().hits()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("이 서버의 변경이 기간 밖이면 기준만 올리고 항목을 유지한다")
+        void keepAfterLocalChangeOutsideRange() {
+            // Given: 이 서버에서 3월 거래를 추가해서 마지막 수정 시각이 바뀜
+            when(ledgerRepository.findLastModifiedAt(1L)).thenReturn(cachedAt, modifiedAt);
+            when(ledgerRepository.countModifiedSinceExcept(1L, cachedAt, List.of(9L))).thenReturn(0L);
+            when(ledgerRepository.findLastModifiedAtOf(List.of(9L))).thenReturn(modifiedAt);
+
+            // When
+            service.getMonthlyStatistics(authDto, startDate, endDate);
+            cache.onLedgerCommitted(new LedgerChangedEvent(null, new LedgerSnapshot(9L,
+                    testUser.getIdx(), LedgerType.EXPENSE, Category.FOOD, PaymentMethod.CARD,
+                    LocalDate.of(2026, 3, 5), new BigDecimal("5000"))));
+            service.getMonthlyStatistics(authDto, startDate, endDate);
+
+            // Then
+            verify(ledgerRepository, times(1)).getMonthlySummary(testUser, startDate, endDate);
+            assertThat(cache.stats().hits()).isEqualTo(1);
+            assertThat(cache.stats().invalidations()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("거래 내역 스냅샷")
+    class ColumnarSnapshotTest {
+
+        private final LocalDate startDate = LocalDate.of(2026, 1, 1);
+        private final LocalDate endDate = LocalDate.of(2026, 1, 31);
+        private AuthDto authDto;
+        private LedgerColumnarStore store;
+        private StatisticsService service;
+
+        @BeforeEach
+        void setUp() {
+            authDto = AuthDto.builder()
+                    .email("test@test.com")
+                    .serviceType(ServiceType.USER)
+                    .userIdx(testUser.getIdx())
+                    .build();
+            store = new LedgerColumnarStore(ledgerRepository, mock(PlatformTransactionManager.class),
+                    true, true, DataSize.ofMegabytes(1), Duration.ofHours(1), Clock.systemUTC());
+            service = new StatisticsService(ledgerRepository, ledgerDailyAggRepository,
+                    ledgerArchiveYearRepository, userRepository, statisticsCache, store);
+            when(userRepository.getReferenceById(1L)).thenReturn(testUser);
+            when(ledgerRepository.streamSnapshots(1L)).thenAnswer(invocation -> Stream.of(
+                    ledger(1L, LedgerType.EXPENSE, Category.FOOD, PaymentMethod.CARD,
+                            LocalDate.of(2025, 12, 31), "9000"),
+                    ledger(2L, LedgerType.EXPENSE, Category.FOOD, PaymentMethod.CARD,
+                            LocalDate.of(2026, 1, 5), "30000"),
+                    ledger(3L, LedgerType.EXPENSE, Category.TRANSPORT, PaymentMethod.CASH,
+                            LocalDate.of(2026, 1, 10), "10000"),
+                    ledger(4L, LedgerType.INCOME, Category.ETC, PaymentMethod.TRANSFER,
+                            LocalDate.of(2026, 1, 25), "3000000")));
+        }
+
+        @Test
+        @DisplayName("스냅샷이 있으면 기간 통계를 DB 집계 조회 없이 계산한다")
+        void categoryFromSnapshot() {
+            ResponseEntity<?> responseEntity = service.getCategoryStatistics(authDto, startDate, endDate);
+            @SuppressWarnings("unchecked")
+            List<CategoryStatsResponse> result =
+                    (List<CategoryStatsResponse>) ((ApiResponseVo<?>) responseEntity.getBody()).getContent();
+
+            assertThat(result).extracting(CategoryStatsResponse::getCategory)
+                    .containsExactly(Category.FOOD, Category.TRANSPORT);
+            assertThat(result.get(0).getTotalAmount()).isEqualByComparingTo(new BigDecimal("30000"));
+            assertThat(result.get(0).getPercentage()).isEqualByComparingTo(new BigDecimal("75.00"));
+            verify(ledgerRepository, never()).getCategorySummary(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("커밋된 변경은 스냅샷을 다시 읽지 않고 반영한다")
+        void patchOnCommit() {
+            service.getMonthlyStatistics(authDto, startDate, endDate);
+
+            LedgerChangedEvent event = new LedgerChangedEvent(null, ledger(5L, LedgerType.EXPENSE,
+                    Category.FOOD, PaymentMethod.CARD, LocalDate.of(2026, 1, 20), "5000"));
+            statisticsCache.onLedgerCommitted(event);
+            store.onLedgerCommitted(event);
+
+            ResponseEntity<?> responseEntity = service.getMonthlyStatistics(authDto, startDate, endDate);
+            @SuppressWarnings("unchecked")
+            List<MonthlyStatsResponse> result =
+                    (List<MonthlyStatsResponse>) ((ApiResponseVo<?>) responseEntity.getBody()).getContent();
+
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getTotalExpense()).isEqualByComparingTo(new BigDecimal("45000"));
+            assertThat(result.get(0).getTotalIncome()).isEqualByComparingTo(new BigDecimal("3000000"));
+            verify(ledgerRepository, times(1)).streamSnapshots(1L);
+            verify(ledgerRepository, never()).getMonthlySummary(any(), any(), any());
+            assertThat(store.stats().patches()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("다른 서버의 변경으로 마지막 수정 시각이 바뀌면 스냅샷을 다시 만든다")
+        void rebuildWhenModifiedElsewhere() {
+            // Given: 두 번째 조회 전에 다른 서버가 거래 내역을 수정
+            when(ledgerRepository.findLastModifiedAt(1L)).thenReturn(
+                    LocalDateTime.of(2026, 1, 25, 9, 0),
+                    LocalDateTime.of(2026, 1, 25, 9, 0),
+                    LocalDateTime.of(2026, 1, 26, 9, 0));
+
+            // When
+            service.getMonthlyStatistics(authDto, startDate, endDate);
+            service.getCategoryStatistics(authDto, startDate, endDate);
+            service.getPaymentMethodStatistics(authDto, startDate, endDate);
+
+            // Then: 첫 조회에서 만들고, 수정 시각이 같은 두 번째는 재사용, 달라진 세 번째는 다시 만든다
+            verify(ledgerRepository, times(2)).streamSnapshots(1L);
+            assertThat(store.stats().hits()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("이 서버의 변경을 반영한 뒤의 조회는 스냅샷을 다시 만들지 않는다")
+        void hitAfterLocalUpdate() {
+            // Given: 이 서버에서 3번 거래를 수정해서 마지막 수정 시각이 그 수정으로 바뀜
+            LocalDateTime built = LocalDateTime.of(2026, 1, 25, 9, 0);
+            LocalDateTime updated = LocalDateTime.of(2026, 1, 26, 9, 0);
+            when(ledgerRepository.findLastModifiedAt(1L)).thenReturn(built, updated);
+            when(ledgerRepository.countModifiedSinceExcept(1L, built, List.of(3L))).thenReturn(0L);
+            when(ledgerRepository.findLastModifiedAtOf(List.of(3L))).thenReturn(updated);
+
+            // When
+            service.getMonthlyStatistics(authDto, startDate, endDate);
+            store.onLedgerCommitted(new LedgerChangedEvent(
+                    ledger(3L, LedgerType.EXPENSE, Category.TRANSPORT, PaymentMethod.CASH,
+                            LocalDate.of(2026, 1, 10), "10000"),
+                    ledger(3L, LedgerType.EXPENSE, Category.TRANSPORT, PaymentMethod.CASH,
+                            LocalDate.of(2026, 1, 10), "12000")));
+            service.getCategoryStatistics(authDto, startDate, endDate);
+
+            // Then: 반영한 수정 시각까지 기준을 올렸으므로 두 번째 조회는 스냅샷을 그대로 사용
+            verify(ledgerRepository, times(1)).streamSnapshots(1L);
+            assertThat(store.stats().builds()).isEqualTo(1);
+            assertThat(store.stats().hits()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("반영하는 사이 다른 서버가 다른 거래를 수정했으면 스냅샷을 다시 만든다")
+        void rebuildWhenModifiedElsewhereDuringPatch() {
+            // Given
+            LocalDateTime built = LocalDateTime.of(2026, 1, 25, 9, 0);
+            when(ledgerRepository.findLastModifiedAt(1L)).thenReturn(built);
+            when(ledgerRepository.countModifiedSinceExcept(1L, built, List.of(5L))).thenReturn(1L);
+
+            // When
+            service.getMonthlyStatistics(authDto, startDate, endDate);
+            store.onLedgerCommitted(new LedgerChangedEvent(null, ledger(5L, LedgerType.EXPENSE,
+                    Category.FOOD, PaymentMethod.CARD, LocalDate.of(2026, 1, 20), "5000")));
+            service.getCategoryStatistics(authDto, startDate, endDate);
+
+            // Then
+            verify(ledgerRepository, times(2)).streamSnapshots(1L);
+            assertThat(store.stats().hits()).isZero();
+        }
+
+        @Test
+        @DisplayName("배치 작업이 거래 내역을 지우면 스냅샷을 버린다")
+        void invalidateOnBulkRemoved() {
+            service.getMonthlyStatistics(authDto, startDate, endDate);
+
+            store.onLedgerBulkRemoved(new LedgerBulkRemovedEvent(Set.of(1L)));
+            service.getMonthlyStatistics(authDto, startDate, endDate);
+
+            verify(ledgerRepository, times(2)).streamSnapshots(1L);
+            assertThat(store.stats().users()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("대시보드는 일간 집계 대신 스냅샷을 한 번 훑는다")
+        void dashboardFromSnapshot() {
+            ResponseEntity<?> responseEntity = service.getDashboard(
+                    authDto, startDate, endDate, LocalDate.of(2026, 1, 1), 1);
+            DashboardResponse result = (DashboardResponse) ((ApiResponseVo<?>) responseEntity.getBody()).getContent();
+
+            assertThat(result.getTopCategories()).extracting(CategoryStatsResponse::getCategory)
+                    .containsExactly(Category.FOOD);
+            // 트렌드 전월(12월)은 통계 기간 밖이어도 포함
+            assertThat(result.getTrend().getPreviousMonth().getTotalExpense())
+                    .isEqualByComparingTo(new BigDecimal("9000"));
+            verify(ledgerDailyAggRepository, never()).findRowsInRange(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("기간이 보관 연도에 걸치면 스냅샷 대신 일간 집계를 읽는다")
+        void archivedRangeFromDailyAgg() {
+            // Given: 2025년까지 보관됨
+            when(ledgerArchiveYearRepository.findArchivedBefore(1L)).thenReturn(LocalDate.of(2026, 1, 1));
+
+            // When
+            service.getCategoryStatistics(authDto, LocalDate.of(2025, 12, 1), endDate);
+            service.getCategoryStatistics(authDto, startDate, endDate);
+
+            // Then: 보관 경계 이후 기간만 스냅샷을 사용
+            verify(ledgerRepository, times(1))
+                    .getCategorySummary(testUser, LocalDate.of(2025, 12, 1), endDate);
+            verify(ledgerRepository, times(1)).streamSnapshots(1L);
+        }
+
+        private LedgerSnapshot ledger(Long idx, LedgerType type, Category category,
+                PaymentMethod paymentMethod, LocalDate recordedDate, String amount) {
+            return new LedgerSnapshot(idx, testUser.getIdx(), type, category, paymentMethod,
+                    recordedDate, new BigDecimal(amount));
+        }
+    }
 }
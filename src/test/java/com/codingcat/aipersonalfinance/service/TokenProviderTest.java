@@ -0,0 +1,238 @@
+package com.codingcat.aipersonalfinance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.codingcat.aipersonalfinance.module.model.ServiceType;
+import com.codingcat.aipersonalfinance.module.security.AuthDto;
+import com.codingcat.aipersonalfinance.module.security.UserPrincipal;
+import com.codingcat.aipersonalfinance.module.security.token.TokenProperties;
+import com.codingcat.aipersonalfinance.module.security.token.TokenProvider;
+import com.codingcat.aipersonalfinance.module.security.token.TokenProvider.JWT_STATUS;
+import com.codingcat.aipersonalfinance.module.security.token.TokenProvider.ParsedToken;
+import com.codingcat.aipersonalfinance.module.security.token.TokenRevocationRegistry;
+import com.codingcat.aipersonalfinance.module.security.token.TokenType;
+import com.codingcat.aipersonalfinance.module.security.token.VerifiedTokenCache;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * TokenProvider 테스트
+ */
+@DisplayName("TokenProvider 테스트")
+class TokenProviderTest {
+
+  private static final long ACCESS_EXPIRE_TIME = 60_000L;
+
+  private TokenProvider tokenProvider;
+  private VerifiedTokenCache verifiedTokenCache;
+
+  @BeforeEach
+  void setUp() {
+    TokenProperties properties = new TokenProperties();
+    properties.setISSUER("test");
+    properties.setADMIN_SECRET("secretAdmin123secretAdmin123secretAdmin123secretAdmin12");
+    properties.setUSER_SECRET("secretUser123secretUser123secretUser123secretUser12");
+    properties.setACCESS_EXPIRE_TIME(ACCESS_EXPIRE_TIME);
+    properties.setREFRESH_EXPIRE_TIME(ACCESS_EXPIRE_TIME);
+
+    verifiedTokenCache = new VerifiedTokenCache(100);
+    tokenProvider = new TokenProvider();
+    ReflectionTestUtils.setField(tokenProvider, "tokenProperties", properties);
+    ReflectionTestUtils.setField(tokenProvider, "verifiedTokenCache", verifiedTokenCache);
+    tokenProvider.afterPropertiesSet();
+  }
+
+  @Nested
+  @DisplayName("1. 토큰 파싱")
+  class ParseTests {
+
+    @Test
+    @DisplayName("1-1. 한 번의 파싱으로 상태, 서비스 타입, authIdx 를 반환한다")
+    void parseValidToken() {
+      // Given
+      String token = issue(ServiceType.USER, 7L, System.currentTimeMillis());
+
+      // When
+      ParsedToken parsed = tokenProvider.parse(token);
+
+      // Then
+      assertThat(parsed.status()).isEqualTo(JWT_STATUS.VALID);
+      assertThat(parsed.serviceType()).isEqualTo(ServiceType.USER);
+      assertThat(parsed.authIdx()).isEqualTo(7L);
+      assertThat(parsed.subject()).isEqualTo("test@test.com");
+      assertThat(parsed.expiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("1-2. 관리자 토큰은 관리자 키로 검증한다")
+    void parseAdminToken() {
+      String token = issue(ServiceType.ADMIN, 3L, System.currentTimeMillis());
+
+      ParsedToken parsed = tokenProvider.parse(token);
+
+      assertThat(parsed.status()).isEqualTo(JWT_STATUS.VALID);
+      assertThat(parsed.serviceType()).isEqualTo(ServiceType.ADMIN);
+      assertThat(parsed.authIdx()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("1-3. 다른 키로 서명된 토큰은 INVALID_SIGNATURE 를 반환한다")
+    void parseForgedToken() {
+      String forged =
+          Jwts.builder()
+              .setHeaderParam("SERVICE_TYPE", ServiceType.USER.name())
+              .setSubject("test@test.com")
+              .claim("IDX", "7")
+              .setExpiration(new Date(System.currentTimeMillis() + ACCESS_EXPIRE_TIME))
+              .signWith(Keys.hmacShaKeyFor("forgedKey123forgedKey123forgedKey123forgedKey12".getBytes(StandardCharsets.UTF_8)))
+              .compact();
+
+      assertThat(tokenProvider.parse(forged).status()).isEqualTo(JWT_STATUS.INVALID_SIGNATURE);
+    }
+
+    @Test
+    @DisplayName("1-4. 만료된 토큰은 EXPIRED 를 반환한다")
+    void parseExpiredToken() {
+      String token = issue(ServiceType.USER, 7L, System.currentTimeMillis() - ACCESS_EXPIRE_TIME * 2);
+
+      assertThat(tokenProvider.parse(token).status()).isEqualTo(JWT_STATUS.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("1-5. 형식이 잘못된 토큰은 MALFORMED 를 반환한다")
+    void parseMalformedToken() {
+      assertThat(tokenProvider.parse("not-a-jwt").status()).isEqualTo(JWT_STATUS.MALFORMED);
+    }
+  }
+
+  @Nested
+  @DisplayName("2. 검증 캐시")
+  class CacheTests {
+
+    @Test
+    @DisplayName("2-1. 같은 토큰의 두 번째 검증은 캐시에서 반환한다")
+    void verifyUsesCache() {
+      // Given
+      String token = issue(ServiceType.USER, 7L, System.currentTimeMillis());
+
+      // When
+      ParsedToken first = tokenProvider.verify(token);
+      ParsedToken second = tokenProvider.verify(token);
+
+      // Then
+      assertThat(second).isSameAs(first);
+      assertThat(verifiedTokenCache.getHits()).isEqualTo(1);
+      assertThat(verifiedTokenCache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("2-2. 검증에 실패한 토큰은 캐시하지 않는다")
+    void verifyDoesNotCacheFailures() {
+      String token = issue(ServiceType.USER, 7L, System.currentTimeMillis() - ACCESS_EXPIRE_TIME * 2);
+
+      tokenProvider.verify(token);
+      tokenProvider.verify(token);
+
+      assertThat(verifiedTokenCache.size()).isZero();
+      assertThat(verifiedTokenCache.getHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("2-3. 캐시 항목은 토큰의 만료 시각이 지나면 사용하지 않는다")
+    void cacheEntryExpiresWithToken() {
+      // Given
+      Instant now = Instant.parse("2026-01-01T00:00:00Z");
+      VerifiedTokenCache cache = new VerifiedTokenCache(100, Clock.fixed(now, ZoneOffset.UTC));
+      ParsedToken parsed =
+          new ParsedToken(JWT_STATUS.VALID, ServiceType.USER, 7L, "test@test.com", 0, now.plusSeconds(1));
+      cache.put("token", parsed);
+
+      // When & Then
+      assertThat(cache.get("token")).isSameAs(parsed);
+
+      VerifiedTokenCache later = new VerifiedTokenCache(100, Clock.fixed(now.plusSeconds(1), ZoneOffset.UTC));
+      later.put("token", parsed);
+      assertThat(later.get("token")).isNull();
+      assertThat(later.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("2-4. 최대 크기를 넘으면 가장 오래 사용하지 않은 토큰부터 제거한다")
+    void cacheEvictsLeastRecentlyUsed() {
+      VerifiedTokenCache cache = new VerifiedTokenCache(2);
+      ParsedToken parsed =
+          new ParsedToken(JWT_STATUS.VALID, ServiceType.USER, 7L, "test@test.com", 0, Instant.now().plusSeconds(60));
+      cache.put("a", parsed);
+      cache.put("b", parsed);
+      cache.get("a");
+      cache.put("c", parsed);
+
+      assertThat(cache.get("a")).isNotNull();
+      assertThat(cache.get("b")).isNull();
+      assertThat(cache.get("c")).isNotNull();
+    }
+  }
+
+  @Nested
+  @DisplayName("3. 클레임 기반 인증")
+  class AuthenticationTests {
+
+    @Test
+    @DisplayName("3-1. 토큰 클레임만으로 AuthDto 가 채워진 UserPrincipal 을 만든다")
+    void authenticationFromClaims() {
+      // Given
+      String token = issue(ServiceType.USER, 7L, System.currentTimeMillis());
+
+      // When
+      UsernamePasswordAuthenticationToken authentication =
+          tokenProvider.getAuthentication(tokenProvider.verify(token));
+
+      // Then
+      UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+      assertThat(principal.getUsername()).isEqualTo("test@test.com");
+      assertThat(principal.getAuthDto().getUserIdx()).isEqualTo(7L);
+      assertThat(principal.getAuthDto().getServiceType()).isEqualTo(ServiceType.USER);
+      assertThat(principal.getAuthDto().getTokenVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("3-2. 토큰 버전이 폐기 목록의 최소 버전보다 낮으면 폐기된 토큰이다")
+    void revokedTokenVersion() {
+      // Given
+      TokenRevocationRegistry registry = new TokenRevocationRegistry(null);
+      ParsedToken parsed = tokenProvider.verify(issue(ServiceType.USER, 7L, System.currentTimeMillis()));
+      assertThat(registry.isRevoked(parsed)).isFalse();
+
+      // When
+      registry.revoke(7L, 1);
+
+      // Then
+      assertThat(registry.isRevoked(parsed)).isTrue();
+      assertThat(registry.isRevoked(tokenProvider.verify(issue(ServiceType.USER, 8L, System.currentTimeMillis()))))
+          .isFalse();
+    }
+  }
+
+  // ===== Helper Methods =====
+
+  private String issue(ServiceType serviceType, Long idx, long issuedAt) {
+    AuthDto.AuthDtoBuilder auth = AuthDto.builder().email("test@test.com").serviceType(serviceType);
+    if (serviceType == ServiceType.USER) {
+      auth.userIdx(idx);
+    } else {
+      auth.adminIdx(idx);
+    }
+    return tokenProvider.makeToken(TokenType.ACCESS, auth.build(), issuedAt).token();
+  }
+}